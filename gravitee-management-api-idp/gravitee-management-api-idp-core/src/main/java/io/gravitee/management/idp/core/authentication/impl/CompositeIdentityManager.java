@@ -20,13 +20,19 @@ import io.gravitee.management.idp.api.identity.IdentityReference;
 import io.gravitee.management.idp.api.identity.SearchableUser;
 import io.gravitee.management.idp.api.identity.User;
 import io.gravitee.management.idp.core.authentication.IdentityManager;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 
 import java.util.*;
-import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.concurrent.*;
 
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
@@ -35,14 +41,43 @@ import static java.util.Optional.of;
  * @author David BRASSELY (david.brassely at graviteesource.com)
  * @author GraviteeSource Team
  */
-public class CompositeIdentityManager implements IdentityManager {
+public class CompositeIdentityManager implements IdentityManager, InitializingBean, DisposableBean {
 
     private final Logger LOGGER = LoggerFactory.getLogger(CompositeIdentityManager.class);
 
     @Autowired
     private ReferenceSerializer referenceSerializer;
 
-    private Collection<IdentityLookup> identityLookups = new ArrayList<>();
+    @Autowired
+    private Environment environment;
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    private final Collection<IdentityLookup> identityLookups = new CopyOnWriteArrayList<>();
+
+    private final Map<IdentityLookup, String> identityLookupNames = new ConcurrentHashMap<>();
+
+    private ThreadPoolExecutor executor;
+
+    private long searchTimeout;
+
+    @Override
+    public void afterPropertiesSet() {
+        int workers = environment.getProperty("security.lookup.workers", Integer.class, 4);
+        int queueCapacity = environment.getProperty("security.lookup.queueCapacity", Integer.class, 100);
+        searchTimeout = environment.getProperty("security.lookup.timeout", Long.class, 2000L);
+
+        executor = new ThreadPoolExecutor(workers, workers, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("gio-idp-lookup-"));
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
 
     @Override
     public Optional<User> lookup(final String reference) {
@@ -65,22 +100,85 @@ public class CompositeIdentityManager implements IdentityManager {
         return empty();
     }
 
+    /**
+     * Searches all the identity providers concurrently. Providers which do not answer within
+     * <code>security.lookup.timeout</code> milliseconds are left out of the result, and their search is cancelled
+     * so that they do not hold a worker for the next searches.
+     */
     @Override
     public Collection<SearchableUser> search(String query) {
-        Set<SearchableUser> users = new HashSet<>();
+        Map<IdentityLookup, Future<Collection<User>>> searches = new LinkedHashMap<>();
+
         for (IdentityLookup identityLookup : identityLookups) {
             if (identityLookup.searchable()) {
-                Collection<User> lookupUsers = identityLookup.search(query);
-                if (lookupUsers != null) {
-                    users.addAll(lookupUsers
-                            .stream()
-                            .map((Function<User, SearchableUser>) DefaultSearchableUser::new)
-                            .collect(Collectors.toSet()));
+                try {
+                    searches.put(identityLookup, executor.submit(() -> search(identityLookup, query)));
+                } catch (RejectedExecutionException ree) {
+                    LOGGER.warn("Too many concurrent searches, skipping identity provider {}", name(identityLookup));
                 }
             }
         }
 
-        return users;
+        Map<String, SearchableUser> users = new LinkedHashMap<>();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(searchTimeout);
+        try {
+            for (Map.Entry<IdentityLookup, Future<Collection<User>>> search : searches.entrySet()) {
+                try {
+                    merge(users, search.getValue().get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS));
+                } catch (TimeoutException te) {
+                    String provider = name(search.getKey());
+                    LOGGER.warn("Identity provider {} did not answer within {}ms, its users are not part of the result",
+                            provider, searchTimeout);
+                    if (meterRegistry != null) {
+                        Counter.builder("identity.lookup.timeouts").tag("provider", provider).register(meterRegistry).increment();
+                    }
+                } catch (ExecutionException ee) {
+                    // Errors are already handled by each search
+                }
+            }
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        } finally {
+            boolean cancelled = false;
+            for (Future<Collection<User>> search : searches.values()) {
+                cancelled |= search.cancel(true);
+            }
+            if (cancelled) {
+                // the cancelled searches still waiting for a worker are removed from the queue
+                executor.purge();
+            }
+        }
+
+        return new HashSet<>(users.values());
+    }
+
+    private Collection<User> search(IdentityLookup identityLookup, String query) {
+        long start = System.nanoTime();
+        try {
+            return identityLookup.search(query);
+        } catch (Exception ex) {
+            LOGGER.error("An error occurs while searching for users from identity provider {}", name(identityLookup), ex);
+            return null;
+        } finally {
+            if (meterRegistry != null) {
+                Timer.builder("identity.lookup.search")
+                        .tag("provider", name(identityLookup))
+                        .register(meterRegistry)
+                        .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    private void merge(Map<String, SearchableUser> users, Collection<User> lookupUsers) {
+        if (lookupUsers != null) {
+            for (User user : lookupUsers) {
+                users.putIfAbsent(user.getSource() + ':' + user.getReference(), new DefaultSearchableUser(user));
+            }
+        }
+    }
+
+    private String name(IdentityLookup identityLookup) {
+        return identityLookupNames.getOrDefault(identityLookup, identityLookup.getClass().getSimpleName());
     }
 
     public void addIdentityLookup(IdentityLookup identityLookup) {
@@ -89,6 +187,13 @@ public class CompositeIdentityManager implements IdentityManager {
         }
     }
 
+    public void addIdentityLookup(String identityProvider, IdentityLookup identityLookup) {
+        if (identityLookup != null) {
+            identityLookupNames.put(identityLookup, identityProvider);
+            identityLookups.add(identityLookup);
+        }
+    }
+
     private class DefaultSearchableUser implements SearchableUser {
         private final User user;
 
@@ -0,0 +1,154 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.idp.core.authentication.impl;
+
+import io.gravitee.management.idp.api.identity.IdentityLookup;
+import io.gravitee.management.idp.api.identity.SearchableUser;
+import io.gravitee.management.idp.api.identity.User;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Spy;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class CompositeIdentityManagerTest {
+
+    private static final String QUERY = "doe";
+
+    @InjectMocks
+    private CompositeIdentityManager identityManager = new CompositeIdentityManager();
+
+    @Spy
+    private MockEnvironment environment = new MockEnvironment().withProperty("security.lookup.timeout", "500");
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @Before
+    public void init() {
+        identityManager.afterPropertiesSet();
+    }
+
+    @After
+    public void close() {
+        release.countDown();
+        identityManager.destroy();
+    }
+
+    @Test
+    public void shouldMergeAndDeduplicateUsers() {
+        User john = user("ldap", "john");
+        IdentityLookup ldap = lookup(Arrays.asList(john, user("ldap", "jane")));
+        IdentityLookup memory = lookup(Arrays.asList(user("memory", "john"), user("ldap", "john")));
+        identityManager.addIdentityLookup("ldap", ldap);
+        identityManager.addIdentityLookup("memory", memory);
+
+        Collection<SearchableUser> users = identityManager.search(QUERY);
+
+        assertEquals(3, users.size());
+    }
+
+    @Test
+    public void shouldReturnPartialResultsWhenProviderIsSlow() {
+        IdentityLookup slow = mock(IdentityLookup.class);
+        when(slow.searchable()).thenReturn(true);
+        when(slow.search(QUERY)).thenAnswer(invocation -> {
+            release.await();
+            return Collections.singletonList(user("ldap", "john"));
+        });
+        identityManager.addIdentityLookup("ldap", slow);
+        identityManager.addIdentityLookup("memory", lookup(Collections.singletonList(user("memory", "jane"))));
+
+        long start = System.currentTimeMillis();
+        Collection<SearchableUser> users = identityManager.search(QUERY);
+
+        assertTrue(System.currentTimeMillis() - start < 2000);
+        assertEquals(1, users.size());
+        assertEquals("jane", users.iterator().next().getLastname());
+    }
+
+    @Test
+    public void shouldCancelSlowProviderSearch() throws Exception {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        IdentityLookup slow = mock(IdentityLookup.class);
+        when(slow.searchable()).thenReturn(true);
+        when(slow.search(QUERY)).thenAnswer(invocation -> {
+            try {
+                release.await();
+            } catch (InterruptedException ie) {
+                interrupted.countDown();
+                throw ie;
+            }
+            return Collections.singletonList(user("ldap", "john"));
+        });
+        identityManager.addIdentityLookup("ldap", slow);
+
+        assertTrue(identityManager.search(QUERY).isEmpty());
+        assertTrue(interrupted.await(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void shouldIgnoreFailingProvider() {
+        IdentityLookup failing = mock(IdentityLookup.class);
+        when(failing.searchable()).thenReturn(true);
+        when(failing.search(QUERY)).thenThrow(new IllegalStateException("unreachable"));
+        identityManager.addIdentityLookup("ldap", failing);
+        identityManager.addIdentityLookup("memory", lookup(Collections.singletonList(user("memory", "jane"))));
+
+        assertEquals(1, identityManager.search(QUERY).size());
+    }
+
+    @Test
+    public void shouldNotSearchNotSearchableProvider() {
+        IdentityLookup notSearchable = mock(IdentityLookup.class);
+        when(notSearchable.searchable()).thenReturn(false);
+        identityManager.addIdentityLookup("repository", notSearchable);
+
+        assertTrue(identityManager.search(QUERY).isEmpty());
+        verify(notSearchable, never()).search(anyString());
+    }
+
+    private IdentityLookup lookup(Collection<User> users) {
+        IdentityLookup identityLookup = mock(IdentityLookup.class);
+        when(identityLookup.searchable()).thenReturn(true);
+        when(identityLookup.search(QUERY)).thenReturn(users);
+        return identityLookup;
+    }
+
+    private User user(String source, String reference) {
+        User user = mock(User.class);
+        when(user.getSource()).thenReturn(source);
+        when(user.getReference()).thenReturn(reference);
+        lenient().when(user.getLastname()).thenReturn(reference);
+        return user;
+    }
+}
@@ -62,6 +62,13 @@ public class LdapContextSourceFactory extends AbstractFactoryBean<LdapContextSou
         }
 
         ldapContextSource = contextSourceBuilder.build();
+
+        // Lookup connections are then pooled by LdapPooledContextSourceFactory, not by JNDI. This must be set before
+        // the JNDI environment is set up in afterPropertiesSet().
+        if (environment.getProperty("context.pool.enabled", boolean.class, false)) {
+            ldapContextSource.setPooled(false);
+        }
+
         return ldapContextSource;
     }
 
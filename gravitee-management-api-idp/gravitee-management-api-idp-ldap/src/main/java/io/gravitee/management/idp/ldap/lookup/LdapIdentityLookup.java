@@ -15,12 +15,19 @@
  */
 package io.gravitee.management.idp.ldap.lookup;
 
+import com.google.common.cache.Cache;
+import com.google.common.base.Throwables;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import io.gravitee.management.idp.api.identity.IdentityLookup;
 import io.gravitee.management.idp.api.identity.IdentityReference;
 import io.gravitee.management.idp.api.identity.User;
 import io.gravitee.management.idp.ldap.LdapIdentityProvider;
 import io.gravitee.management.idp.ldap.lookup.spring.LdapIdentityLookupConfiguration;
 import io.gravitee.management.idp.ldap.utils.LdapUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.InitializingBean;
@@ -43,6 +50,10 @@ import org.springframework.ldap.support.LdapNameBuilder;
 import javax.naming.ldap.LdapName;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 /**
  * @author David BRASSELY (david.brassely at graviteesource.com)
@@ -67,12 +78,23 @@ public class LdapIdentityLookup implements IdentityLookup, InitializingBean {
     @Autowired
     private Environment environment;
 
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
     private String identifierAttribute;
 
     private LdapName baseDn;
 
     private String [] userAttributes;
 
+    private Cache<String, Collection<User>> searches;
+
+    private Cache<String, Optional<User>> users;
+
+    private Timer searchTimer;
+
+    private Timer retrieveTimer;
+
     @Override
     public void afterPropertiesSet() throws Exception {
         String searchFilter = environment.getProperty("lookup.user.filter");
@@ -101,10 +123,58 @@ public class LdapIdentityLookup implements IdentityLookup, InitializingBean {
                 .build();
 
         LOGGER.info("User search is based on DN [{}]", baseDn);
+
+        // Short-lived cache of the lookups, the member search box is searching on each keystroke
+        long cacheTtl = environment.getProperty("lookup.cache.ttl", long.class, 30000L);
+        if (cacheTtl > 0) {
+            long cacheMaxSize = environment.getProperty("lookup.cache.maxSize", long.class, 1000L);
+            searches = CacheBuilder.newBuilder()
+                    .expireAfterWrite(cacheTtl, TimeUnit.MILLISECONDS)
+                    .maximumSize(cacheMaxSize)
+                    .recordStats()
+                    .build();
+            users = CacheBuilder.newBuilder()
+                    .expireAfterWrite(cacheTtl, TimeUnit.MILLISECONDS)
+                    .maximumSize(cacheMaxSize)
+                    .recordStats()
+                    .build();
+        }
+
+        if (meterRegistry != null) {
+            searchTimer = Timer.builder("ldap.requests")
+                    .tag("operation", "search")
+                    .description("LDAP round-trip time of the identity lookup")
+                    .register(meterRegistry);
+            retrieveTimer = Timer.builder("ldap.requests")
+                    .tag("operation", "retrieve")
+                    .description("LDAP round-trip time of the identity lookup")
+                    .register(meterRegistry);
+            if (searches != null) {
+                GuavaCacheMetrics.monitor(meterRegistry, searches, "ldap.lookup.searches");
+                GuavaCacheMetrics.monitor(meterRegistry, users, "ldap.lookup.users");
+            }
+        }
     }
 
     @Override
     public Collection<User> search(String query) {
+        try {
+            return (searches == null) ? doSearch(query) : searches.get(query, () -> doSearch(query));
+        } catch (CommunicationException ce) {
+            LOGGER.error("LDAP server is not reachable.");
+            return Collections.emptyList();
+        } catch (ExecutionException | UncheckedExecutionException ee) {
+            if (ee.getCause() instanceof CommunicationException) {
+                // Nothing has been cached, the next search will reach the LDAP server again
+                LOGGER.error("LDAP server is not reachable.");
+                return Collections.emptyList();
+            }
+            Throwables.throwIfUnchecked(ee.getCause());
+            throw new IllegalStateException(ee.getCause());
+        }
+    }
+
+    private Collection<User> doSearch(String query) {
         ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
         try {
             Thread.currentThread().setContextClassLoader(getClass().getClassLoader());
@@ -124,13 +194,11 @@ public class LdapIdentityLookup implements IdentityLookup, InitializingBean {
                             LDAP_ATTRIBUTE_DISPLAYNAME)
                     .filter(new HardcodedFilter(hardcodedFilter));
 
-            return ldapTemplate.search(ldapQuery, USER_CONTEXT_MAPPER);
+            return Collections.unmodifiableList(
+                    time(searchTimer, () -> ldapTemplate.search(ldapQuery, USER_CONTEXT_MAPPER)));
         } catch(LimitExceededException lee) {
             LOGGER.info("Too much results while searching for [{}]. Returns an empty list.", query);
             return Collections.emptyList();
-        } catch(CommunicationException ce) {
-            LOGGER.error("LDAP server is not reachable.");
-            return Collections.emptyList();
         } finally {
             Thread.currentThread().setContextClassLoader(classLoader);
         }
@@ -143,17 +211,35 @@ public class LdapIdentityLookup implements IdentityLookup, InitializingBean {
 
     @Override
     public User retrieve(IdentityReference identityReference) {
+        if (users == null) {
+            return doRetrieve(identityReference.getReference()).orElse(null);
+        }
+
+        try {
+            return users.get(identityReference.getReference(),
+                    () -> doRetrieve(identityReference.getReference())).orElse(null);
+        } catch (ExecutionException | UncheckedExecutionException ee) {
+            Throwables.throwIfUnchecked(ee.getCause());
+            throw new IllegalStateException(ee.getCause());
+        }
+    }
+
+    private Optional<User> doRetrieve(String reference) {
         ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
         try {
             Thread.currentThread().setContextClassLoader(getClass().getClassLoader());
-            return ldapTemplate.lookup(identityReference.getReference(), userAttributes, USER_CONTEXT_MAPPER);
+            return Optional.of(time(retrieveTimer, () -> ldapTemplate.lookup(reference, userAttributes, USER_CONTEXT_MAPPER)));
         } catch (final NameNotFoundException nnfe) {
-            return null;
+            return Optional.empty();
         } finally {
             Thread.currentThread().setContextClassLoader(classLoader);
         }
     }
 
+    private <T> T time(Timer timer, Supplier<T> supplier) {
+        return (timer == null) ? supplier.get() : timer.record(supplier);
+    }
+
     private final ContextMapper<User> USER_CONTEXT_MAPPER = new AbstractContextMapper<User>() {
 
         @Override
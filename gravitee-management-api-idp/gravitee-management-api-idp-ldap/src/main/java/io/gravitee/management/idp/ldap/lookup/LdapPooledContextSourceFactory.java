@@ -0,0 +1,94 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.idp.ldap.lookup;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.AbstractFactoryBean;
+import org.springframework.core.env.Environment;
+import org.springframework.ldap.core.ContextSource;
+import org.springframework.ldap.core.support.LdapContextSource;
+import org.springframework.ldap.pool2.factory.PoolConfig;
+import org.springframework.ldap.pool2.factory.PooledContextSource;
+import org.springframework.ldap.pool2.validation.DefaultDirContextValidator;
+
+/**
+ * Context source used by the identity lookup: the LDAP context source wrapped into a connection pool when
+ * <code>context.pool.enabled</code> is set, the LDAP context source itself otherwise.
+ *
+ * @author GraviteeSource Team
+ */
+public class LdapPooledContextSourceFactory extends AbstractFactoryBean<ContextSource> {
+
+    @Autowired
+    private Environment environment;
+
+    @Autowired
+    private LdapContextSource ldapContextSource;
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    @Override
+    public Class<?> getObjectType() {
+        return ContextSource.class;
+    }
+
+    @Override
+    protected ContextSource createInstance() throws Exception {
+        if (!environment.getProperty("context.pool.enabled", boolean.class, false)) {
+            return ldapContextSource;
+        }
+
+        PoolConfig poolConfig = new PoolConfig();
+        poolConfig.setMaxTotal(environment.getProperty("context.pool.maxTotal", int.class, 8));
+        poolConfig.setMaxTotalPerKey(environment.getProperty("context.pool.maxTotal", int.class, 8));
+        poolConfig.setMaxIdlePerKey(environment.getProperty("context.pool.maxIdle", int.class, 8));
+        poolConfig.setMinIdlePerKey(environment.getProperty("context.pool.minIdle", int.class, 0));
+        poolConfig.setMaxWaitMillis(environment.getProperty("context.pool.maxWait", long.class, 5000L));
+        poolConfig.setTestOnBorrow(environment.getProperty("context.pool.testOnBorrow", boolean.class, true));
+        poolConfig.setTestWhileIdle(environment.getProperty("context.pool.testWhileIdle", boolean.class, false));
+        poolConfig.setTimeBetweenEvictionRunsMillis(
+                environment.getProperty("context.pool.timeBetweenEvictionRuns", long.class, 60000L));
+        poolConfig.setMinEvictableIdleTimeMillis(
+                environment.getProperty("context.pool.minEvictableIdleTime", long.class, 300000L));
+
+        PooledContextSource pooledContextSource = new PooledContextSource(poolConfig);
+        pooledContextSource.setContextSource(ldapContextSource);
+        pooledContextSource.setDirContextValidator(new DefaultDirContextValidator());
+
+        if (meterRegistry != null) {
+            Gauge.builder("ldap.pool.connections", pooledContextSource, PooledContextSource::getNumActive)
+                    .tag("state", "active")
+                    .register(meterRegistry);
+            Gauge.builder("ldap.pool.connections", pooledContextSource, PooledContextSource::getNumIdle)
+                    .tag("state", "idle")
+                    .register(meterRegistry);
+            Gauge.builder("ldap.pool.waiters", pooledContextSource, PooledContextSource::getNumWaiters)
+                    .register(meterRegistry);
+        }
+
+        return pooledContextSource;
+    }
+
+    @Override
+    protected void destroyInstance(ContextSource contextSource) throws Exception {
+        if (contextSource instanceof PooledContextSource) {
+            ((PooledContextSource) contextSource).destroy();
+        }
+    }
+}
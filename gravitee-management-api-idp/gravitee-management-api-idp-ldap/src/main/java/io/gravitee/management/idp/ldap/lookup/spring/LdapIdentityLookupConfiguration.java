@@ -16,10 +16,12 @@
 package io.gravitee.management.idp.ldap.lookup.spring;
 
 import io.gravitee.management.idp.ldap.lookup.LdapContextSourceFactory;
+import io.gravitee.management.idp.ldap.lookup.LdapPooledContextSourceFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.ldap.core.ContextSource;
 import org.springframework.ldap.core.LdapTemplate;
-import org.springframework.ldap.core.support.LdapContextSource;
 
 /**
  * @author David BRASSELY (david at gravitee.io)
@@ -34,7 +36,12 @@ public class LdapIdentityLookupConfiguration {
     }
 
     @Bean
-    public LdapTemplate ldapTemplate(LdapContextSource contextSource) {
+    public LdapPooledContextSourceFactory lookupContextSourceFactory() {
+        return new LdapPooledContextSourceFactory();
+    }
+
+    @Bean
+    public LdapTemplate ldapTemplate(@Qualifier("lookupContextSourceFactory") ContextSource contextSource) {
         return new LdapTemplate(contextSource);
     }
 }
@@ -0,0 +1,68 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.idp.ldap.lookup;
+
+import org.junit.Test;
+import org.springframework.ldap.core.support.LdapContextSource;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.Hashtable;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.springframework.test.util.ReflectionTestUtils.invokeMethod;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class LdapContextSourceFactoryTest {
+
+    private static final String JNDI_POOL = "com.sun.jndi.ldap.connect.pool";
+
+    private final MockEnvironment environment = new MockEnvironment()
+            .withProperty("context.base", "dc=gravitee,dc=io")
+            .withProperty("context.url", "ldap://localhost:389/dc=gravitee,dc=io")
+            .withProperty("context.username", "cn=admin")
+            .withProperty("context.password", "secret");
+
+    @Test
+    public void shouldNotPoolJndiConnectionsWhenPoolIsEnabled() throws Exception {
+        environment.setProperty("context.pool.enabled", "true");
+
+        Hashtable<String, Object> env = anonymousEnv(contextSource());
+
+        assertFalse(env.containsKey(JNDI_POOL));
+    }
+
+    @Test
+    public void shouldPoolJndiConnectionsByDefault() throws Exception {
+        Hashtable<String, Object> env = anonymousEnv(contextSource());
+
+        assertEquals("true", env.get(JNDI_POOL));
+    }
+
+    private LdapContextSource contextSource() throws Exception {
+        LdapContextSourceFactory factory = new LdapContextSourceFactory();
+        setField(factory, "environment", environment);
+        factory.afterPropertiesSet();
+        return factory.getObject();
+    }
+
+    private static Hashtable<String, Object> anonymousEnv(LdapContextSource contextSource) {
+        return invokeMethod(contextSource, "getAnonymousEnv");
+    }
+}
@@ -0,0 +1,117 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.idp.ldap.lookup;
+
+import io.gravitee.management.idp.api.identity.IdentityReference;
+import io.gravitee.management.idp.api.identity.User;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.ldap.core.ContextMapper;
+import org.springframework.ldap.core.LdapTemplate;
+import org.springframework.ldap.query.LdapQuery;
+import org.springframework.mock.env.MockEnvironment;
+
+import javax.naming.CommunicationException;
+import java.util.Collection;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class LdapIdentityLookupTest {
+
+    private static final String REFERENCE = "uid=jdoe,ou=users,dc=gravitee,dc=io";
+
+    @InjectMocks
+    private LdapIdentityLookup identityLookup = new LdapIdentityLookup();
+
+    @Mock
+    private LdapTemplate ldapTemplate;
+
+    @Spy
+    private MockEnvironment environment = new MockEnvironment().withProperty("context.base", "dc=gravitee,dc=io");
+
+    @Mock
+    private User user;
+
+    @Before
+    public void init() throws Exception {
+        identityLookup.afterPropertiesSet();
+    }
+
+    @Test
+    public void shouldCacheSearch() {
+        when(ldapTemplate.search(any(LdapQuery.class), any(ContextMapper.class))).thenReturn(Collections.singletonList(user));
+
+        Collection<User> first = identityLookup.search("jdo");
+        Collection<User> second = identityLookup.search("jdo");
+
+        assertEquals(1, first.size());
+        assertSame(first, second);
+        verify(ldapTemplate, times(1)).search(any(LdapQuery.class), any(ContextMapper.class));
+    }
+
+    @Test
+    public void shouldNotCacheSearchWhenServerIsNotReachable() {
+        when(ldapTemplate.search(any(LdapQuery.class), any(ContextMapper.class)))
+                .thenThrow(new org.springframework.ldap.CommunicationException(new CommunicationException()))
+                .thenReturn(Collections.singletonList(user));
+
+        assertTrue(identityLookup.search("jdo").isEmpty());
+        assertEquals(1, identityLookup.search("jdo").size());
+    }
+
+    @Test
+    public void shouldCacheRetrieve() {
+        when(ldapTemplate.lookup(eq(REFERENCE), any(String[].class), any(ContextMapper.class))).thenReturn(user);
+
+        IdentityReference reference = new IdentityReference("ldap", REFERENCE);
+        assertSame(user, identityLookup.retrieve(reference));
+        assertSame(user, identityLookup.retrieve(reference));
+
+        verify(ldapTemplate, times(1)).lookup(eq(REFERENCE), any(String[].class), any(ContextMapper.class));
+    }
+
+    @Test
+    public void shouldNotCacheWhenDisabled() throws Exception {
+        environment.setProperty("lookup.cache.ttl", "0");
+        LdapIdentityLookup identityLookup = new LdapIdentityLookup();
+        setField(identityLookup, "ldapTemplate", ldapTemplate);
+        setField(identityLookup, "environment", environment);
+        identityLookup.afterPropertiesSet();
+        when(ldapTemplate.lookup(eq(REFERENCE), any(String[].class), any(ContextMapper.class))).thenReturn(user);
+
+        IdentityReference reference = new IdentityReference("ldap", REFERENCE);
+        identityLookup.retrieve(reference);
+        identityLookup.retrieve(reference);
+
+        verify(ldapTemplate, times(2)).lookup(eq(REFERENCE), any(String[].class), any(ContextMapper.class));
+    }
+}
@@ -0,0 +1,55 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.repository.metrics;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Counts the repository calls made by the current thread between {@link #begin()} and {@link #end()},
+ * typically for the duration of an HTTP request, in order to detect N+1 access patterns.
+ * Nothing is recorded for a thread which has not begun tracking.
+ *
+ * @author GraviteeSource Team
+ */
+public final class RepositoryCallTracker {
+
+    private static final ThreadLocal<Map<String, Integer>> CALLS = new ThreadLocal<>();
+
+    private RepositoryCallTracker() {
+    }
+
+    public static void begin() {
+        CALLS.set(new HashMap<>());
+    }
+
+    /**
+     * @return the number of calls per repository method (e.g. <code>ApiRepository.findById</code>) since {@link #begin()}
+     */
+    public static Map<String, Integer> end() {
+        Map<String, Integer> calls = CALLS.get();
+        CALLS.remove();
+        return calls == null ? Collections.emptyMap() : calls;
+    }
+
+    static void record(String repository, String method) {
+        Map<String, Integer> calls = CALLS.get();
+        if (calls != null) {
+            calls.merge(repository + '.' + method, 1, Integer::sum);
+        }
+    }
+}
@@ -0,0 +1,197 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.repository.metrics;
+
+import io.gravitee.common.data.domain.Page;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Wraps the repositories provided by the repository plugins in order to record, for each method,
+ * the latency, the number of calls and errors and the size of the results. Disabled by default, as each call then
+ * goes through a reflective proxy, see <code>repository.metrics.enabled</code>. Setting a slow call or a request
+ * calls threshold enables it as well, as they rely on the calls being recorded.
+ *
+ * Statistics are published as <code>repository.calls</code> and <code>repository.results</code> meters
+ * when a {@link MeterRegistry} is available, and as MBeans under the <code>io.gravitee.management</code> domain.
+ *
+ * @author GraviteeSource Team
+ */
+@Component
+public class RepositoryInstrumentation implements DisposableBean {
+
+    private final Logger LOGGER = LoggerFactory.getLogger(RepositoryInstrumentation.class);
+
+    private static final String JMX_DOMAIN = "io.gravitee.management";
+
+    @Value("${repository.metrics.enabled:false}")
+    private boolean enabled;
+
+    @Value("${repository.metrics.histogram:false}")
+    private boolean histogram;
+
+    @Value("${repository.metrics.jmx:true}")
+    private boolean jmx;
+
+    @Value("${repository.metrics.slowCallThreshold:0}")
+    private long slowCallThreshold;
+
+    @Value("${repository.metrics.requestCallsThreshold:0}")
+    private int requestCallsThreshold;
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    private final Map<String, RepositoryMethodStatistics> statistics = new ConcurrentHashMap<>();
+
+    private final Set<ObjectName> registeredMBeans = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @return the target itself when instrumentation is disabled or when it does not implement the repository
+     * interface, an instrumented view of the target otherwise
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T instrument(Class<?> repositoryInterface, T target) {
+        if (!isEnabled() || target == null || repositoryInterface == null || !repositoryInterface.isInstance(target)) {
+            return target;
+        }
+
+        LOGGER.debug("Instrument repository {}", repositoryInterface.getSimpleName());
+        return (T) Proxy.newProxyInstance(repositoryInterface.getClassLoader(),
+                new Class<?>[] { repositoryInterface },
+                new InstrumentedRepository(repositoryInterface.getSimpleName(), target));
+    }
+
+    private boolean isEnabled() {
+        return enabled || slowCallThreshold > 0 || requestCallsThreshold > 0;
+    }
+
+    private RepositoryMethodStatistics statistics(String repository, String method) {
+        return statistics.computeIfAbsent(repository + '.' + method, key -> {
+            RepositoryMethodStatistics methodStatistics =
+                    new RepositoryMethodStatistics(repository, method, meterRegistry, histogram);
+            if (jmx) {
+                register(repository, method, methodStatistics);
+            }
+            return methodStatistics;
+        });
+    }
+
+    private void register(String repository, String method, RepositoryMethodStatistics methodStatistics) {
+        try {
+            MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(JMX_DOMAIN + ":type=Repository,repository=" + repository + ",name=" + method);
+            if (mBeanServer.isRegistered(name)) {
+                mBeanServer.unregisterMBean(name);
+            }
+            mBeanServer.registerMBean(methodStatistics, name);
+            registeredMBeans.add(name);
+        } catch (Exception ex) {
+            LOGGER.warn("Unable to register repository statistics {}.{} into JMX", repository, method, ex);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        for (ObjectName name : registeredMBeans) {
+            try {
+                mBeanServer.unregisterMBean(name);
+            } catch (Exception ex) {
+                LOGGER.debug("Unable to unregister {} from JMX", name, ex);
+            }
+        }
+        registeredMBeans.clear();
+    }
+
+    private static int sizeOf(Object result) {
+        if (result instanceof Collection) {
+            return ((Collection) result).size();
+        } else if (result instanceof Map) {
+            return ((Map) result).size();
+        } else if (result instanceof Optional) {
+            return ((Optional) result).isPresent() ? 1 : 0;
+        } else if (result instanceof Page) {
+            Collection content = ((Page) result).getContent();
+            return content == null ? 0 : content.size();
+        }
+        return -1;
+    }
+
+    private class InstrumentedRepository implements InvocationHandler {
+
+        private final String repository;
+        private final Object target;
+        private final Map<Method, RepositoryMethodStatistics> methods = new ConcurrentHashMap<>();
+
+        InstrumentedRepository(String repository, Object target) {
+            this.repository = repository;
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getDeclaringClass() == Object.class) {
+                return method.invoke(target, args);
+            }
+
+            RepositoryMethodStatistics methodStatistics = methods.computeIfAbsent(method, m -> {
+                // methods may be declared by a non public super interface (e.g. CrudRepository)
+                m.setAccessible(true);
+                return statistics(repository, m.getName());
+            });
+            RepositoryCallTracker.record(repository, method.getName());
+
+            long start = System.nanoTime();
+            boolean error = false;
+            Object result = null;
+            try {
+                result = method.invoke(target, args);
+                return result;
+            } catch (InvocationTargetException ite) {
+                error = true;
+                throw ite.getCause();
+            } finally {
+                long duration = System.nanoTime() - start;
+                methodStatistics.record(duration, error, error ? -1 : sizeOf(result));
+
+                if (slowCallThreshold > 0 && TimeUnit.NANOSECONDS.toMillis(duration) >= slowCallThreshold) {
+                    LOGGER.warn("Slow repository call {}.{} took {} ms",
+                            repository, method.getName(), TimeUnit.NANOSECONDS.toMillis(duration));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.repository.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics of a single repository method, shared by all its overloads.
+ * Times are accumulated in nanoseconds, most repository calls taking less than a millisecond.
+ *
+ * @author GraviteeSource Team
+ */
+public class RepositoryMethodStatistics implements RepositoryMethodStatisticsMBean {
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder errorCount = new LongAdder();
+    private final LongAdder totalTimeNanos = new LongAdder();
+    private final LongAccumulator maxTimeNanos = new LongAccumulator(Long::max, 0);
+    private final LongAdder totalResultSize = new LongAdder();
+
+    private final Timer successTimer;
+    private final Timer errorTimer;
+    private final DistributionSummary resultSize;
+
+    RepositoryMethodStatistics(String repository, String method, MeterRegistry meterRegistry, boolean histogram) {
+        if (meterRegistry != null) {
+            successTimer = timer(repository, method, "success", meterRegistry, histogram);
+            errorTimer = timer(repository, method, "error", meterRegistry, histogram);
+            resultSize = DistributionSummary.builder("repository.results")
+                    .tag("repository", repository)
+                    .tag("method", method)
+                    .publishPercentileHistogram(histogram)
+                    .register(meterRegistry);
+        } else {
+            successTimer = null;
+            errorTimer = null;
+            resultSize = null;
+        }
+    }
+
+    private static Timer timer(String repository, String method, String outcome, MeterRegistry meterRegistry, boolean histogram) {
+        return Timer.builder("repository.calls")
+                .tag("repository", repository)
+                .tag("method", method)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram(histogram)
+                .register(meterRegistry);
+    }
+
+    void record(long durationNanos, boolean error, int size) {
+        count.increment();
+        totalTimeNanos.add(durationNanos);
+        maxTimeNanos.accumulate(durationNanos);
+
+        if (error) {
+            errorCount.increment();
+            if (errorTimer != null) {
+                errorTimer.record(durationNanos, TimeUnit.NANOSECONDS);
+            }
+        } else {
+            if (successTimer != null) {
+                successTimer.record(durationNanos, TimeUnit.NANOSECONDS);
+            }
+            if (size >= 0) {
+                totalResultSize.add(size);
+                if (resultSize != null) {
+                    resultSize.record(size);
+                }
+            }
+        }
+    }
+
+    @Override
+    public long getCount() {
+        return count.sum();
+    }
+
+    @Override
+    public long getErrorCount() {
+        return errorCount.sum();
+    }
+
+    @Override
+    public double getTotalTimeMillis() {
+        return toMillis(totalTimeNanos.sum());
+    }
+
+    @Override
+    public double getMeanTimeMillis() {
+        long calls = count.sum();
+        return calls == 0 ? 0 : toMillis(totalTimeNanos.sum()) / calls;
+    }
+
+    @Override
+    public double getMaxTimeMillis() {
+        return toMillis(maxTimeNanos.get());
+    }
+
+    @Override
+    public long getTotalResultSize() {
+        return totalResultSize.sum();
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    @Override
+    public void reset() {
+        count.reset();
+        errorCount.reset();
+        totalTimeNanos.reset();
+        maxTimeNanos.reset();
+        totalResultSize.reset();
+    }
+}
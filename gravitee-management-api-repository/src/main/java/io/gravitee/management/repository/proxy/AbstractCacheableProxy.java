@@ -0,0 +1,59 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.repository.proxy;
+
+import io.gravitee.management.repository.proxy.cache.RepositoryCache;
+import io.gravitee.management.repository.proxy.cache.RepositoryCacheManager;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.function.UnaryOperator;
+
+/**
+ * Proxy of a repository whose slowly changing entities may be cached.
+ * Implementations read through the {@link #cache} and evict the entities they write.
+ *
+ * @author GraviteeSource Team
+ */
+public abstract class AbstractCacheableProxy<T, K, E> extends AbstractProxy<T> implements InitializingBean {
+
+    @Autowired
+    private RepositoryCacheManager cacheManager;
+
+    private final String cacheName;
+
+    private final UnaryOperator<E> copier;
+
+    protected RepositoryCache<K, E> cache;
+
+    protected AbstractCacheableProxy(String cacheName, UnaryOperator<E> copier) {
+        this.cacheName = cacheName;
+        this.copier = copier;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        cache = cacheManager.create(cacheName, copier);
+    }
+
+    @Override
+    public void setTarget(T target) {
+        super.setTarget(target);
+        if (cache != null) {
+            cache.evictAll();
+        }
+    }
+}
@@ -15,15 +15,30 @@
  */
 package io.gravitee.management.repository.proxy;
 
+import io.gravitee.management.repository.metrics.RepositoryInstrumentation;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.ResolvableType;
+
 /**
  * @author David BRASSELY (david.brassely at graviteesource.com)
  * @author GraviteeSource Team
  */
 public abstract class AbstractProxy<T> {
 
+    @Autowired(required = false)
+    private RepositoryInstrumentation instrumentation;
+
     protected T target;
 
     public void setTarget(T target) {
-        this.target = target;
+        this.target = (instrumentation == null) ? target : instrumentation.instrument(repositoryInterface(), target);
+    }
+
+    /**
+     * The repository interface is the type argument of the proxy, resolved through the class hierarchy so that
+     * subclasses (e.g. CGLIB enhanced beans) are supported.
+     */
+    private Class<?> repositoryInterface() {
+        return ResolvableType.forClass(getClass()).as(AbstractProxy.class).getGeneric(0).resolve();
     }
 }
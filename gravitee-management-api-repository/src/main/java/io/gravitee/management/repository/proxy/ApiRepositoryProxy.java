@@ -16,6 +16,7 @@
 package io.gravitee.management.repository.proxy;
 
 import io.gravitee.common.data.domain.Page;
+import io.gravitee.management.repository.proxy.cache.RepositoryCacheManager;
 import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.repository.management.api.ApiRepository;
 import io.gravitee.repository.management.api.search.ApiCriteria;
@@ -24,6 +25,8 @@ import io.gravitee.repository.management.api.search.Pageable;
 import io.gravitee.repository.management.model.Api;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 
@@ -33,26 +36,35 @@ import java.util.Optional;
  * @author GraviteeSource Team
  */
 @Component
-public class ApiRepositoryProxy extends AbstractProxy<ApiRepository> implements ApiRepository {
+public class ApiRepositoryProxy extends AbstractCacheableProxy<ApiRepository, String, Api> implements ApiRepository {
+
+    public ApiRepositoryProxy() {
+        super(RepositoryCacheManager.API, ApiRepositoryProxy::copy);
+    }
 
     @Override
     public Api create(Api api) throws TechnicalException {
-        return target.create(api);
+        Api created = target.create(api);
+        cache.evict(api.getId());
+        return created;
     }
 
     @Override
     public void delete(String s) throws TechnicalException {
         target.delete(s);
+        cache.evict(s);
     }
 
     @Override
     public Optional<Api> findById(String s) throws TechnicalException {
-        return target.findById(s);
+        return cache.get(s, () -> target.findById(s));
     }
 
     @Override
     public Api update(Api api) throws TechnicalException {
-        return target.update(api);
+        Api updated = target.update(api);
+        cache.evict(api.getId());
+        return updated;
     }
 
     @Override
@@ -69,4 +81,23 @@ public class ApiRepositoryProxy extends AbstractProxy<ApiRepository> implements
     public List<Api> search(ApiCriteria apiCriteria, ApiFieldExclusionFilter apiFieldExclusionFilter) {
         return target.search(apiCriteria, apiFieldExclusionFilter);
     }
+
+    private static Api copy(Api api) {
+        Api copy = new Api();
+        copy.setId(api.getId());
+        copy.setName(api.getName());
+        copy.setDescription(api.getDescription());
+        copy.setVersion(api.getVersion());
+        copy.setDefinition(api.getDefinition());
+        copy.setDeployedAt(api.getDeployedAt());
+        copy.setCreatedAt(api.getCreatedAt());
+        copy.setUpdatedAt(api.getUpdatedAt());
+        copy.setVisibility(api.getVisibility());
+        copy.setLifecycleState(api.getLifecycleState());
+        copy.setPicture(api.getPicture());
+        copy.setGroups(api.getGroups() == null ? null : new HashSet<>(api.getGroups()));
+        copy.setViews(api.getViews() == null ? null : new HashSet<>(api.getViews()));
+        copy.setLabels(api.getLabels() == null ? null : new ArrayList<>(api.getLabels()));
+        return copy;
+    }
 }
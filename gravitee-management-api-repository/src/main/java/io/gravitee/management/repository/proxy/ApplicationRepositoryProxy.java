@@ -15,12 +15,14 @@
  */
 package io.gravitee.management.repository.proxy;
 
+import io.gravitee.management.repository.proxy.cache.RepositoryCacheManager;
 import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.repository.management.api.ApplicationRepository;
 import io.gravitee.repository.management.model.Application;
 import io.gravitee.repository.management.model.ApplicationStatus;
 import org.springframework.stereotype.Component;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -31,7 +33,11 @@ import java.util.Set;
  * @author GraviteeSource Team
  */
 @Component
-public class ApplicationRepositoryProxy extends AbstractProxy<ApplicationRepository> implements ApplicationRepository {
+public class ApplicationRepositoryProxy extends AbstractCacheableProxy<ApplicationRepository, String, Application> implements ApplicationRepository {
+
+    public ApplicationRepositoryProxy() {
+        super(RepositoryCacheManager.APPLICATION, ApplicationRepositoryProxy::copy);
+    }
 
     @Override
     public Set<Application> findAll(ApplicationStatus... statuses) throws TechnicalException {
@@ -40,22 +46,27 @@ public class ApplicationRepositoryProxy extends AbstractProxy<ApplicationReposit
 
     @Override
     public Application create(Application application) throws TechnicalException {
-        return target.create(application);
+        Application created = target.create(application);
+        cache.evict(application.getId());
+        return created;
     }
 
     @Override
     public void delete(String s) throws TechnicalException {
         target.delete(s);
+        cache.evict(s);
     }
 
     @Override
     public Optional<Application> findById(String s) throws TechnicalException {
-        return target.findById(s);
+        return cache.get(s, () -> target.findById(s));
     }
 
     @Override
     public Application update(Application application) throws TechnicalException {
-        return target.update(application);
+        Application updated = target.update(application);
+        cache.evict(application.getId());
+        return updated;
     }
 
     @Override
@@ -77,4 +88,18 @@ public class ApplicationRepositoryProxy extends AbstractProxy<ApplicationReposit
     public Optional<Application> findByClientId(String clientId) throws TechnicalException {
         return target.findByClientId(clientId);
     }
+
+    private static Application copy(Application application) {
+        Application copy = new Application();
+        copy.setId(application.getId());
+        copy.setName(application.getName());
+        copy.setDescription(application.getDescription());
+        copy.setType(application.getType());
+        copy.setClientId(application.getClientId());
+        copy.setStatus(application.getStatus());
+        copy.setCreatedAt(application.getCreatedAt());
+        copy.setUpdatedAt(application.getUpdatedAt());
+        copy.setGroups(application.getGroups() == null ? null : new HashSet<>(application.getGroups()));
+        return copy;
+    }
 }
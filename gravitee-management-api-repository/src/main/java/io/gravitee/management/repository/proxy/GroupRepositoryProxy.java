@@ -15,51 +15,83 @@
  */
 package io.gravitee.management.repository.proxy;
 
+import io.gravitee.management.repository.proxy.cache.RepositoryCacheManager;
 import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.repository.management.api.GroupRepository;
 import io.gravitee.repository.management.api.MembershipRepository;
 import io.gravitee.repository.management.model.Group;
+import io.gravitee.repository.management.model.GroupEventRule;
 import io.gravitee.repository.management.model.Membership;
 import io.gravitee.repository.management.model.MembershipReferenceType;
 import org.springframework.stereotype.Component;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * @author Nicolas GERAUD (nicolas.geraud at graviteesource.com) 
  * @author GraviteeSource Team
  */
 @Component
-public class GroupRepositoryProxy extends AbstractProxy<GroupRepository> implements GroupRepository {
+public class GroupRepositoryProxy extends AbstractCacheableProxy<GroupRepository, String, Group> implements GroupRepository {
+
+    public GroupRepositoryProxy() {
+        super(RepositoryCacheManager.GROUP, GroupRepositoryProxy::copy);
+    }
+
     @Override
     public Optional<Group> findById(String id) throws TechnicalException {
-        return target.findById(id);
+        return cache.get(id, () -> target.findById(id));
     }
 
     @Override
     public Group create(Group item) throws TechnicalException {
-        return target.create(item);
+        Group created = target.create(item);
+        cache.evict(item.getId());
+        return created;
     }
 
     @Override
     public Group update(Group item) throws TechnicalException {
-        return target.update(item);
+        Group updated = target.update(item);
+        cache.evict(item.getId());
+        return updated;
     }
 
     @Override
     public void delete(String s) throws TechnicalException {
         target.delete(s);
+        cache.evict(s);
     }
 
     @Override
     public Set<Group> findAll() throws TechnicalException {
-        return target.findAll();
+        return cache.getAll(target::findAll);
     }
 
     @Override
     public Set<Group> findByIds(Set<String> ids) throws TechnicalException {
         return target.findByIds(ids);
     }
+
+    private static Group copy(Group group) {
+        Group copy = new Group();
+        copy.setId(group.getId());
+        copy.setName(group.getName());
+        copy.setCreatedAt(group.getCreatedAt());
+        copy.setUpdatedAt(group.getUpdatedAt());
+        copy.setEventRules(group.getEventRules() == null ? null : group.getEventRules().stream()
+                .map(rule -> new GroupEventRule(rule.getEvent()))
+                .collect(Collectors.toList()));
+        copy.setRoles(group.getRoles() == null ? null : new HashMap<>(group.getRoles()));
+        copy.setMaxInvitation(group.getMaxInvitation());
+        copy.setLockApiRole(group.isLockApiRole());
+        copy.setLockApplicationRole(group.isLockApplicationRole());
+        copy.setSystemInvitation(group.isSystemInvitation());
+        copy.setEmailInvitation(group.isEmailInvitation());
+        return copy;
+    }
 }
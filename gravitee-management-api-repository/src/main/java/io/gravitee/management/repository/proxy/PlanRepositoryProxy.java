@@ -15,11 +15,14 @@
  */
 package io.gravitee.management.repository.proxy;
 
+import io.gravitee.management.repository.proxy.cache.RepositoryCacheManager;
 import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.repository.management.api.PlanRepository;
 import io.gravitee.repository.management.model.Plan;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
 
@@ -28,25 +31,59 @@ import java.util.Set;
  * @author GraviteeSource Team
  */
 @Component
-public class PlanRepositoryProxy extends AbstractProxy<PlanRepository> implements PlanRepository {
+public class PlanRepositoryProxy extends AbstractCacheableProxy<PlanRepository, String, Plan> implements PlanRepository {
+
+    public PlanRepositoryProxy() {
+        super(RepositoryCacheManager.PLAN, PlanRepositoryProxy::copy);
+    }
 
     public Set<Plan> findByApi(String apiId) throws TechnicalException {
         return target.findByApi(apiId);
     }
 
     public Optional<Plan> findById(String s) throws TechnicalException {
-        return target.findById(s);
+        return cache.get(s, () -> target.findById(s));
     }
 
     public Plan create(Plan item) throws TechnicalException {
-        return target.create(item);
+        Plan created = target.create(item);
+        cache.evict(item.getId());
+        return created;
     }
 
     public Plan update(Plan item) throws TechnicalException {
-        return target.update(item);
+        Plan updated = target.update(item);
+        cache.evict(item.getId());
+        return updated;
     }
 
     public void delete(String s) throws TechnicalException {
         target.delete(s);
+        cache.evict(s);
+    }
+
+    private static Plan copy(Plan plan) {
+        Plan copy = new Plan();
+        copy.setId(plan.getId());
+        copy.setName(plan.getName());
+        copy.setDescription(plan.getDescription());
+        copy.setValidation(plan.getValidation());
+        copy.setType(plan.getType());
+        copy.setStatus(plan.getStatus());
+        copy.setSecurity(plan.getSecurity());
+        copy.setSecurityDefinition(plan.getSecurityDefinition());
+        copy.setDefinition(plan.getDefinition());
+        copy.setOrder(plan.getOrder());
+        copy.setCreatedAt(plan.getCreatedAt());
+        copy.setUpdatedAt(plan.getUpdatedAt());
+        copy.setPublishedAt(plan.getPublishedAt());
+        copy.setClosedAt(plan.getClosedAt());
+        copy.setNeedRedeployAt(plan.getNeedRedeployAt());
+        copy.setCommentRequired(plan.isCommentRequired());
+        copy.setCommentMessage(plan.getCommentMessage());
+        copy.setApis(plan.getApis() == null ? null : new HashSet<>(plan.getApis()));
+        copy.setCharacteristics(plan.getCharacteristics() == null ? null : new ArrayList<>(plan.getCharacteristics()));
+        copy.setExcludedGroups(plan.getExcludedGroups() == null ? null : new ArrayList<>(plan.getExcludedGroups()));
+        return copy;
     }
 }
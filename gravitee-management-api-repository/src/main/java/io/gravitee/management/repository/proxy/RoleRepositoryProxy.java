@@ -15,6 +15,7 @@
  */
 package io.gravitee.management.repository.proxy;
 
+import io.gravitee.management.repository.proxy.cache.RepositoryCacheManager;
 import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.repository.management.api.RoleRepository;
 import io.gravitee.repository.management.model.Role;
@@ -29,35 +30,61 @@ import java.util.Set;
  * @author GraviteeSource Team
  */
 @Component
-public class RoleRepositoryProxy extends AbstractProxy<RoleRepository> implements RoleRepository {
+public class RoleRepositoryProxy extends AbstractCacheableProxy<RoleRepository, String, Role> implements RoleRepository {
+
+    public RoleRepositoryProxy() {
+        super(RepositoryCacheManager.ROLE, RoleRepositoryProxy::copy);
+    }
 
     @Override
     public Optional<Role> findById(RoleScope scope, String name) throws TechnicalException {
-        return target.findById(scope, name);
+        return cache.get(key(scope, name), () -> target.findById(scope, name));
     }
 
     @Override
     public Role create(Role item) throws TechnicalException {
-        return target.create(item);
+        Role created = target.create(item);
+        cache.evict(key(item.getScope(), item.getName()));
+        return created;
     }
 
     @Override
     public Role update(Role item) throws TechnicalException {
-        return target.update(item);
+        Role updated = target.update(item);
+        cache.evict(key(item.getScope(), item.getName()));
+        return updated;
     }
 
     @Override
     public Set<Role> findAll() throws TechnicalException {
-        return target.findAll();
+        return cache.getAll(target::findAll);
     }
 
     @Override
     public void delete(RoleScope scope, String name) throws TechnicalException {
         target.delete(scope, name);
+        cache.evict(key(scope, name));
     }
 
     @Override
     public Set<Role> findByScope(RoleScope scope) throws TechnicalException {
         return target.findByScope(scope);
     }
+
+    private static String key(RoleScope scope, String name) {
+        return scope.name() + ':' + name;
+    }
+
+    private static Role copy(Role role) {
+        Role copy = new Role();
+        copy.setScope(role.getScope());
+        copy.setName(role.getName());
+        copy.setDescription(role.getDescription());
+        copy.setDefaultRole(role.isDefaultRole());
+        copy.setSystem(role.isSystem());
+        copy.setCreatedAt(role.getCreatedAt());
+        copy.setUpdatedAt(role.getUpdatedAt());
+        copy.setPermissions(role.getPermissions() == null ? null : role.getPermissions().clone());
+        return copy;
+    }
 }
@@ -15,6 +15,7 @@
  */
 package io.gravitee.management.repository.proxy;
 
+import io.gravitee.management.repository.proxy.cache.RepositoryCacheManager;
 import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.repository.management.api.TagRepository;
 import io.gravitee.repository.management.model.Tag;
@@ -28,30 +29,47 @@ import java.util.Set;
  * @author GraviteeSource Team
  */
 @Component
-public class TagRepositoryProxy extends AbstractProxy<TagRepository> implements TagRepository {
+public class TagRepositoryProxy extends AbstractCacheableProxy<TagRepository, String, Tag> implements TagRepository {
+
+    public TagRepositoryProxy() {
+        super(RepositoryCacheManager.TAG, TagRepositoryProxy::copy);
+    }
 
     @Override
     public Optional<Tag> findById(String s) throws TechnicalException {
-        return target.findById(s);
+        return cache.get(s, () -> target.findById(s));
     }
 
     @Override
     public Tag create(Tag item) throws TechnicalException {
-        return target.create(item);
+        Tag created = target.create(item);
+        cache.evict(item.getId());
+        return created;
     }
 
     @Override
     public Tag update(Tag item) throws TechnicalException {
-        return target.update(item);
+        Tag updated = target.update(item);
+        cache.evict(item.getId());
+        return updated;
     }
 
     @Override
     public Set<Tag> findAll() throws TechnicalException {
-        return target.findAll();
+        return cache.getAll(target::findAll);
     }
 
     @Override
     public void delete(String s) throws TechnicalException {
         target.delete(s);
+        cache.evict(s);
+    }
+
+    private static Tag copy(Tag tag) {
+        Tag copy = new Tag();
+        copy.setId(tag.getId());
+        copy.setName(tag.getName());
+        copy.setDescription(tag.getDescription());
+        return copy;
     }
 }
@@ -15,6 +15,7 @@
  */
 package io.gravitee.management.repository.proxy;
 
+import io.gravitee.management.repository.proxy.cache.RepositoryCacheManager;
 import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.repository.management.api.TenantRepository;
 import io.gravitee.repository.management.model.Tenant;
@@ -28,30 +29,47 @@ import java.util.Set;
  * @author GraviteeSource Team
  */
 @Component
-public class TenantRepositoryProxy extends AbstractProxy<TenantRepository> implements TenantRepository {
+public class TenantRepositoryProxy extends AbstractCacheableProxy<TenantRepository, String, Tenant> implements TenantRepository {
+
+    public TenantRepositoryProxy() {
+        super(RepositoryCacheManager.TENANT, TenantRepositoryProxy::copy);
+    }
 
     @Override
     public Optional<Tenant> findById(String s) throws TechnicalException {
-        return target.findById(s);
+        return cache.get(s, () -> target.findById(s));
     }
 
     @Override
     public Tenant create(Tenant item) throws TechnicalException {
-        return target.create(item);
+        Tenant created = target.create(item);
+        cache.evict(item.getId());
+        return created;
     }
 
     @Override
     public Tenant update(Tenant item) throws TechnicalException {
-        return target.update(item);
+        Tenant updated = target.update(item);
+        cache.evict(item.getId());
+        return updated;
     }
 
     @Override
     public Set<Tenant> findAll() throws TechnicalException {
-        return target.findAll();
+        return cache.getAll(target::findAll);
     }
 
     @Override
     public void delete(String s) throws TechnicalException {
         target.delete(s);
+        cache.evict(s);
+    }
+
+    private static Tenant copy(Tenant tenant) {
+        Tenant copy = new Tenant();
+        copy.setId(tenant.getId());
+        copy.setName(tenant.getName());
+        copy.setDescription(tenant.getDescription());
+        return copy;
     }
 }
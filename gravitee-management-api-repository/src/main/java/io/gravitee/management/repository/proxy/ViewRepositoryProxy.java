@@ -15,6 +15,7 @@
  */
 package io.gravitee.management.repository.proxy;
 
+import io.gravitee.management.repository.proxy.cache.RepositoryCacheManager;
 import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.repository.management.api.ViewRepository;
 import io.gravitee.repository.management.model.View;
@@ -28,30 +29,54 @@ import java.util.Set;
  * @author GraviteeSource Team
  */
 @Component
-public class ViewRepositoryProxy extends AbstractProxy<ViewRepository> implements ViewRepository {
+public class ViewRepositoryProxy extends AbstractCacheableProxy<ViewRepository, String, View> implements ViewRepository {
+
+    public ViewRepositoryProxy() {
+        super(RepositoryCacheManager.VIEW, ViewRepositoryProxy::copy);
+    }
 
     @Override
     public Optional<View> findById(String s) throws TechnicalException {
-        return target.findById(s);
+        return cache.get(s, () -> target.findById(s));
     }
 
     @Override
     public View create(View item) throws TechnicalException {
-        return target.create(item);
+        View created = target.create(item);
+        cache.evict(item.getId());
+        return created;
     }
 
     @Override
     public View update(View item) throws TechnicalException {
-        return target.update(item);
+        View updated = target.update(item);
+        cache.evict(item.getId());
+        return updated;
     }
 
     @Override
     public Set<View> findAll() throws TechnicalException {
-        return target.findAll();
+        return cache.getAll(target::findAll);
     }
 
     @Override
     public void delete(String s) throws TechnicalException {
         target.delete(s);
+        cache.evict(s);
+    }
+
+    private static View copy(View view) {
+        View copy = new View();
+        copy.setId(view.getId());
+        copy.setName(view.getName());
+        copy.setDescription(view.getDescription());
+        copy.setDefaultView(view.isDefaultView());
+        copy.setOrder(view.getOrder());
+        copy.setHidden(view.isHidden());
+        copy.setHighlightApi(view.getHighlightApi());
+        copy.setPicture(view.getPicture());
+        copy.setCreatedAt(view.getCreatedAt());
+        copy.setUpdatedAt(view.getUpdatedAt());
+        return copy;
     }
 }
@@ -0,0 +1,152 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.repository.proxy.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.gravitee.repository.exceptions.TechnicalException;
+
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * Read-through cache of the entities of a repository, by id and as a whole.
+ * The cached entities are never handed out: a copy is returned to each caller, so that the cache
+ * can not be altered by the services updating the entities they read.
+ *
+ * When the cache is disabled, every read goes to the repository.
+ *
+ * Loads are not made under a lock: an eviction made while an entity is being loaded bumps the cache generation, and
+ * the loaded value is then returned without being cached, so that a stale value never outlives an eviction.
+ * (Guava ignores an invalidation while a value is loading, so <code>Cache.get(key, loader)</code> would not be enough.)
+ *
+ * @author GraviteeSource Team
+ */
+public class RepositoryCache<K, E> {
+
+    private static final String ALL = "all";
+
+    private final String name;
+    private final boolean enabled;
+    private final UnaryOperator<E> copier;
+    private final Cache<K, Optional<E>> entities;
+    private final Cache<String, Set<E>> all;
+
+    /**
+     * Incremented on each eviction, guarded by <code>this</code>.
+     */
+    private long generation;
+
+    RepositoryCache(String name, boolean enabled, long ttl, long maxSize, UnaryOperator<E> copier) {
+        this.name = name;
+        this.enabled = enabled;
+        this.copier = copier;
+        this.entities = CacheBuilder.newBuilder()
+                .expireAfterWrite(ttl, TimeUnit.MILLISECONDS)
+                .maximumSize(maxSize)
+                .build();
+        this.all = CacheBuilder.newBuilder()
+                .expireAfterWrite(ttl, TimeUnit.MILLISECONDS)
+                .maximumSize(1)
+                .build();
+    }
+
+    public Optional<E> get(K id, Loader<Optional<E>> loader) throws TechnicalException {
+        if (!enabled) {
+            return loader.load();
+        }
+
+        Optional<E> entity = entities.getIfPresent(id);
+        if (entity == null) {
+            long loadGeneration = generation();
+            entity = loader.load();
+            if (entity == null) {
+                return null;
+            }
+            synchronized (this) {
+                if (loadGeneration == generation) {
+                    entities.put(id, entity);
+                }
+            }
+        }
+        return entity.map(copier);
+    }
+
+    public Set<E> getAll(Loader<Set<E>> loader) throws TechnicalException {
+        if (!enabled) {
+            return loader.load();
+        }
+
+        Set<E> allEntities = all.getIfPresent(ALL);
+        if (allEntities == null) {
+            long loadGeneration = generation();
+            allEntities = loader.load();
+            if (allEntities == null) {
+                return null;
+            }
+            synchronized (this) {
+                if (loadGeneration == generation) {
+                    all.put(ALL, allEntities);
+                }
+            }
+        }
+        return allEntities.stream().map(copier).collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    /**
+     * Evicts an entity which has been written, along with the whole set of entities.
+     */
+    public void evict(K id) {
+        if (enabled) {
+            synchronized (this) {
+                generation++;
+                entities.invalidate(id);
+                all.invalidateAll();
+            }
+        }
+    }
+
+    public void evictAll() {
+        if (enabled) {
+            synchronized (this) {
+                generation++;
+                entities.invalidateAll();
+                all.invalidateAll();
+            }
+        }
+    }
+
+    private synchronized long generation() {
+        return generation;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @FunctionalInterface
+    public interface Loader<V> {
+        V load() throws TechnicalException;
+    }
+}
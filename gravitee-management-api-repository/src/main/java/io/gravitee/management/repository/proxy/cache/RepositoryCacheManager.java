@@ -0,0 +1,164 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.repository.proxy.cache;
+
+import io.gravitee.repository.management.api.EventRepository;
+import io.gravitee.repository.management.api.search.EventCriteria;
+import io.gravitee.repository.management.model.Event;
+import io.gravitee.repository.management.model.EventType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+
+/**
+ * Creates the repository caches from the <code>repository.cache</code> configuration: each cache can be enabled
+ * and sized by repository type (e.g. <code>repository.cache.api.enabled</code>), the global
+ * <code>repository.cache.*</code> values being used as defaults.
+ *
+ * As APIs are updated by other nodes too, the events table is polled to evict the APIs (and their plans)
+ * which have been deployed, started or stopped elsewhere.
+ *
+ * @author GraviteeSource Team
+ */
+@Component
+public class RepositoryCacheManager implements InitializingBean, DisposableBean {
+
+    private final Logger LOGGER = LoggerFactory.getLogger(RepositoryCacheManager.class);
+
+    public static final String API = "api";
+    public static final String APPLICATION = "application";
+    public static final String PLAN = "plan";
+    public static final String ROLE = "role";
+    public static final String GROUP = "group";
+    public static final String VIEW = "view";
+    public static final String TAG = "tag";
+    public static final String TENANT = "tenant";
+
+    private static final String PREFIX = "repository.cache.";
+
+    @Autowired
+    private Environment environment;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    private final Map<String, RepositoryCache<?, ?>> caches = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService executor;
+
+    private long eventsInterval;
+
+    private long lastEventsPoll;
+
+    @Override
+    public void afterPropertiesSet() {
+        eventsInterval = environment.getProperty(PREFIX + "events.interval", Long.class, 5000L);
+        if (eventsInterval > 0) {
+            lastEventsPoll = System.currentTimeMillis();
+            executor = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "gio.repository-cache-events");
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor.scheduleWithFixedDelay(this::pollEvents, eventsInterval, eventsInterval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    public <K, E> RepositoryCache<K, E> create(String name, UnaryOperator<E> copier) {
+        boolean enabled = environment.getProperty(PREFIX + name + ".enabled", Boolean.class,
+                environment.getProperty(PREFIX + "enabled", Boolean.class, false));
+        long ttl = environment.getProperty(PREFIX + name + ".ttl", Long.class,
+                environment.getProperty(PREFIX + "ttl", Long.class, 60000L));
+        long maxSize = environment.getProperty(PREFIX + name + ".maxSize", Long.class,
+                environment.getProperty(PREFIX + "maxSize", Long.class, 1000L));
+
+        if (enabled) {
+            LOGGER.info("Repository cache [{}] enabled (ttl: {}ms, maxSize: {})", name, ttl, maxSize);
+        }
+
+        RepositoryCache<K, E> cache = new RepositoryCache<>(name, enabled, ttl, maxSize, copier);
+        caches.put(name, cache);
+        return cache;
+    }
+
+    @SuppressWarnings("unchecked")
+    public void evict(String name, Object id) {
+        RepositoryCache<Object, ?> cache = (RepositoryCache<Object, ?>) caches.get(name);
+        if (cache != null) {
+            cache.evict(id);
+        }
+    }
+
+    public void evictAll(String name) {
+        RepositoryCache<?, ?> cache = caches.get(name);
+        if (cache != null) {
+            cache.evictAll();
+        }
+    }
+
+    private boolean isEnabled(String name) {
+        RepositoryCache<?, ?> cache = caches.get(name);
+        return cache != null && cache.isEnabled();
+    }
+
+    private void pollEvents() {
+        if (!isEnabled(API) && !isEnabled(PLAN)) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        try {
+            // Overlap the previous window to tolerate the clock drift between the nodes
+            List<Event> events = eventRepository.search(new EventCriteria.Builder()
+                    .from(lastEventsPoll - eventsInterval)
+                    .to(now)
+                    .types(EventType.PUBLISH_API, EventType.UNPUBLISH_API, EventType.START_API, EventType.STOP_API)
+                    .build());
+            lastEventsPoll = now;
+
+            if (!events.isEmpty()) {
+                for (Event event : events) {
+                    if (event.getProperties() != null) {
+                        evict(API, event.getProperties().get(Event.EventProperties.API_ID.getValue()));
+                    }
+                }
+                // Plans are deployed along with their API
+                evictAll(PLAN);
+            }
+        } catch (Exception ex) {
+            LOGGER.debug("Unable to poll the events to evict the repository caches", ex);
+        }
+    }
+}
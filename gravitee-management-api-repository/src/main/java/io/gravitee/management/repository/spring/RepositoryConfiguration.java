@@ -23,6 +23,9 @@ import org.springframework.context.annotation.Configuration;
  * @author GraviteeSource Team
  */
 @Configuration
-@ComponentScan(basePackages = "io.gravitee.management.repository.proxy")
+@ComponentScan(basePackages = {
+        "io.gravitee.management.repository.proxy",
+        "io.gravitee.management.repository.metrics"
+})
 public class RepositoryConfiguration {
 }
@@ -0,0 +1,253 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.repository.proxy;
+
+import io.gravitee.management.repository.proxy.cache.RepositoryCacheManager;
+import io.gravitee.repository.management.api.ApiRepository;
+import io.gravitee.repository.management.api.ApplicationRepository;
+import io.gravitee.repository.management.api.GroupRepository;
+import io.gravitee.repository.management.api.PlanRepository;
+import io.gravitee.repository.management.api.RoleRepository;
+import io.gravitee.repository.management.model.*;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.beans.PropertyDescriptor;
+import java.util.*;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class AbstractCacheableProxyTest {
+
+    private final RepositoryCacheManager cacheManager = new RepositoryCacheManager();
+
+    @Mock
+    private ApiRepository apiRepository;
+
+    @Mock
+    private PlanRepository planRepository;
+
+    @Mock
+    private ApplicationRepository applicationRepository;
+
+    @Mock
+    private RoleRepository roleRepository;
+
+    @Mock
+    private GroupRepository groupRepository;
+
+    @Before
+    public void init() {
+        setField(cacheManager, "environment", new MockEnvironment().withProperty("repository.cache.enabled", "true"));
+    }
+
+    @Test
+    public void shouldNotShareApiCollections() throws Exception {
+        Api api = new Api();
+        api.setId("api");
+        api.setGroups(new HashSet<>(Collections.singleton("group")));
+        api.setViews(new HashSet<>(Collections.singleton("view")));
+        api.setLabels(new ArrayList<>(Collections.singleton("label")));
+        when(apiRepository.findById("api")).thenReturn(Optional.of(api));
+        ApiRepositoryProxy proxy = proxy(new ApiRepositoryProxy(), apiRepository);
+
+        Api read = proxy.findById("api").get();
+        read.getGroups().add("other");
+        read.getViews().clear();
+        read.getLabels().add("other");
+
+        Api reread = proxy.findById("api").get();
+        assertEquals(Collections.singleton("group"), reread.getGroups());
+        assertEquals(Collections.singleton("view"), reread.getViews());
+        assertEquals(Collections.singletonList("label"), reread.getLabels());
+        verify(apiRepository, times(1)).findById("api");
+    }
+
+    @Test
+    public void shouldNotSharePlanCollections() throws Exception {
+        Plan plan = new Plan();
+        plan.setId("plan");
+        plan.setApis(new HashSet<>(Collections.singleton("api")));
+        plan.setCharacteristics(new ArrayList<>(Collections.singleton("characteristic")));
+        plan.setExcludedGroups(new ArrayList<>(Collections.singleton("group")));
+        when(planRepository.findById("plan")).thenReturn(Optional.of(plan));
+        PlanRepositoryProxy proxy = proxy(new PlanRepositoryProxy(), planRepository);
+
+        Plan read = proxy.findById("plan").get();
+        read.getApis().add("other");
+        read.getCharacteristics().clear();
+        read.getExcludedGroups().add("other");
+
+        Plan reread = proxy.findById("plan").get();
+        assertEquals(Collections.singleton("api"), reread.getApis());
+        assertEquals(Collections.singletonList("characteristic"), reread.getCharacteristics());
+        assertEquals(Collections.singletonList("group"), reread.getExcludedGroups());
+    }
+
+    @Test
+    public void shouldNotShareApplicationGroups() throws Exception {
+        Application application = new Application();
+        application.setId("application");
+        application.setGroups(new HashSet<>(Collections.singleton("group")));
+        when(applicationRepository.findById("application")).thenReturn(Optional.of(application));
+        ApplicationRepositoryProxy proxy = proxy(new ApplicationRepositoryProxy(), applicationRepository);
+
+        proxy.findById("application").get().getGroups().add("other");
+
+        assertEquals(Collections.singleton("group"), proxy.findById("application").get().getGroups());
+    }
+
+    @Test
+    public void shouldNotShareRolePermissions() throws Exception {
+        Role role = new Role();
+        role.setScope(RoleScope.API);
+        role.setName("USER");
+        role.setPermissions(new int[] { 1, 2 });
+        when(roleRepository.findById(RoleScope.API, "USER")).thenReturn(Optional.of(role));
+        RoleRepositoryProxy proxy = proxy(new RoleRepositoryProxy(), roleRepository);
+
+        proxy.findById(RoleScope.API, "USER").get().getPermissions()[0] = 3;
+
+        assertArrayEquals(new int[] { 1, 2 }, proxy.findById(RoleScope.API, "USER").get().getPermissions());
+    }
+
+    @Test
+    public void shouldNotShareGroupEventRules() throws Exception {
+        Group group = new Group();
+        group.setId("group");
+        group.setEventRules(new ArrayList<>(Collections.singleton(new GroupEventRule(GroupEvent.API_CREATE))));
+        when(groupRepository.findById("group")).thenReturn(Optional.of(group));
+        GroupRepositoryProxy proxy = proxy(new GroupRepositoryProxy(), groupRepository);
+
+        proxy.findById("group").get().getEventRules().get(0).setEvent(GroupEvent.APPLICATION_CREATE);
+
+        assertEquals(GroupEvent.API_CREATE, proxy.findById("group").get().getEventRules().get(0).getEvent());
+    }
+
+    @Test
+    public void shouldCopyEveryApiField() throws Exception {
+        Api api = fill(new Api());
+        when(apiRepository.findById(api.getId())).thenReturn(Optional.of(api));
+        ApiRepositoryProxy proxy = proxy(new ApiRepositoryProxy(), apiRepository);
+
+        proxy.findById(api.getId());
+
+        assertSameProperties(api, proxy.findById(api.getId()).get());
+    }
+
+    @Test
+    public void shouldCopyEveryPlanField() throws Exception {
+        Plan plan = fill(new Plan());
+        when(planRepository.findById(plan.getId())).thenReturn(Optional.of(plan));
+        PlanRepositoryProxy proxy = proxy(new PlanRepositoryProxy(), planRepository);
+
+        proxy.findById(plan.getId());
+
+        assertSameProperties(plan, proxy.findById(plan.getId()).get());
+    }
+
+    @Test
+    public void shouldCopyEveryApplicationField() throws Exception {
+        Application application = fill(new Application());
+        when(applicationRepository.findById(application.getId())).thenReturn(Optional.of(application));
+        ApplicationRepositoryProxy proxy = proxy(new ApplicationRepositoryProxy(), applicationRepository);
+
+        proxy.findById(application.getId());
+
+        assertSameProperties(application, proxy.findById(application.getId()).get());
+    }
+
+    @Test
+    public void shouldCopyEveryRoleField() throws Exception {
+        Role role = fill(new Role());
+        when(roleRepository.findById(role.getScope(), role.getName())).thenReturn(Optional.of(role));
+        RoleRepositoryProxy proxy = proxy(new RoleRepositoryProxy(), roleRepository);
+
+        proxy.findById(role.getScope(), role.getName());
+
+        assertSameProperties(role, proxy.findById(role.getScope(), role.getName()).get());
+    }
+
+    /**
+     * Sets every property of the entity to a value which differs from its default one.
+     */
+    private static <E> E fill(E entity) {
+        BeanWrapper wrapper = new BeanWrapperImpl(entity);
+        for (PropertyDescriptor property : wrapper.getPropertyDescriptors()) {
+            if (wrapper.isWritableProperty(property.getName())) {
+                wrapper.setPropertyValue(property.getName(), sample(property.getName(), property.getPropertyType()));
+            }
+        }
+        return entity;
+    }
+
+    private static Object sample(String name, Class<?> type) {
+        if (type == String.class) {
+            return name;
+        } else if (type == boolean.class) {
+            return true;
+        } else if (type == int.class) {
+            return name.length();
+        } else if (type == int[].class) {
+            return new int[] { 1, 2 };
+        } else if (type == Date.class) {
+            return new Date(name.hashCode());
+        } else if (type.isEnum()) {
+            Object[] values = type.getEnumConstants();
+            return values[values.length - 1];
+        } else if (type == Set.class) {
+            return new HashSet<>(Collections.singleton(name));
+        } else if (type == List.class) {
+            return new ArrayList<>(Collections.singleton(name));
+        }
+        throw new IllegalArgumentException("No sample value for " + name + " of type " + type);
+    }
+
+    private static void assertSameProperties(Object expected, Object actual) {
+        BeanWrapper expectedWrapper = new BeanWrapperImpl(expected);
+        BeanWrapper actualWrapper = new BeanWrapperImpl(actual);
+        for (PropertyDescriptor property : expectedWrapper.getPropertyDescriptors()) {
+            if (expectedWrapper.isWritableProperty(property.getName())) {
+                assertTrue(property.getName(), Objects.deepEquals(
+                        expectedWrapper.getPropertyValue(property.getName()),
+                        actualWrapper.getPropertyValue(property.getName())));
+            }
+        }
+    }
+
+    private <T, P extends AbstractCacheableProxy<T, ?, ?>> P proxy(P proxy, T target) {
+        setField(proxy, "cacheManager", cacheManager);
+        proxy.afterPropertiesSet();
+        proxy.setTarget(target);
+        return proxy;
+    }
+}
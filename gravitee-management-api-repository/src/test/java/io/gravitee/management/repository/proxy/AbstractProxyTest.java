@@ -0,0 +1,105 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.repository.proxy;
+
+import io.gravitee.management.repository.metrics.RepositoryInstrumentation;
+import io.gravitee.repository.management.api.EventRepository;
+import io.gravitee.repository.management.model.Event;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.cglib.proxy.Enhancer;
+import org.springframework.cglib.proxy.NoOp;
+
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.util.ReflectionTestUtils.getField;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class AbstractProxyTest {
+
+    private final RepositoryInstrumentation instrumentation = new RepositoryInstrumentation();
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Before
+    public void init() {
+        setField(instrumentation, "jmx", true);
+    }
+
+    @After
+    public void destroy() {
+        instrumentation.destroy();
+    }
+
+    @Test
+    public void shouldNotInstrumentByDefault() {
+        EventRepositoryProxy proxy = new EventRepositoryProxy();
+        setField(proxy, "instrumentation", instrumentation);
+
+        proxy.setTarget(eventRepository);
+
+        assertSame(eventRepository, getField(proxy, "target"));
+    }
+
+    @Test
+    public void shouldInstrumentEnhancedProxy() throws Exception {
+        setField(instrumentation, "enabled", true);
+        Event event = new Event();
+        when(eventRepository.findById("event")).thenReturn(Optional.of(event));
+
+        Enhancer enhancer = new Enhancer();
+        enhancer.setSuperclass(EventRepositoryProxy.class);
+        enhancer.setCallback(NoOp.INSTANCE);
+        EventRepositoryProxy proxy = (EventRepositoryProxy) enhancer.create();
+        setField(proxy, "instrumentation", instrumentation);
+
+        proxy.setTarget(eventRepository);
+
+        assertTrue(Proxy.isProxyClass(getField(proxy, "target").getClass()));
+        assertSame(event, proxy.findById("event").get());
+        verify(eventRepository).findById("event");
+        ObjectName findById = new ObjectName("io.gravitee.management:type=Repository,repository=EventRepository,name=findById");
+        assertEquals(1L, ManagementFactory.getPlatformMBeanServer().getAttribute(findById, "Count"));
+        // sub-millisecond calls are accounted for
+        assertTrue((Double) ManagementFactory.getPlatformMBeanServer().getAttribute(findById, "TotalTimeMillis") > 0);
+    }
+
+    @Test
+    public void shouldInstrumentWhenRequestCallsAreCounted() {
+        setField(instrumentation, "requestCallsThreshold", 50);
+        EventRepositoryProxy proxy = new EventRepositoryProxy();
+        setField(proxy, "instrumentation", instrumentation);
+
+        proxy.setTarget(eventRepository);
+
+        assertTrue(Proxy.isProxyClass(getField(proxy, "target").getClass()));
+    }
+}
@@ -0,0 +1,123 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.repository.proxy.cache;
+
+import io.gravitee.repository.management.model.Tag;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class RepositoryCacheTest {
+
+    private final RepositoryCache<String, Tag> cache = new RepositoryCache<>("tag", true, 60000, 100, RepositoryCacheTest::copy);
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    public void shouldLoadOnce() throws Exception {
+        cache.get("tag", () -> load("tag"));
+        Optional<Tag> tag = cache.get("tag", () -> load("tag"));
+
+        assertEquals("tag", tag.get().getId());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void shouldNotAlterCachedEntity() throws Exception {
+        cache.get("tag", () -> load("tag")).get().setName("altered");
+        cache.getAll(() -> Collections.singleton(load("tag").get())).iterator().next().setName("altered");
+
+        assertEquals("tag", cache.get("tag", () -> load("tag")).get().getName());
+        assertEquals("tag", cache.getAll(() -> Collections.singleton(load("tag").get())).iterator().next().getName());
+    }
+
+    @Test
+    public void shouldReloadAfterEviction() throws Exception {
+        cache.get("tag", () -> load("tag"));
+        cache.evict("tag");
+        cache.get("tag", () -> load("tag"));
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void shouldReloadAllAfterEviction() throws Exception {
+        cache.getAll(() -> Collections.singleton(load("tag").get()));
+        cache.evict("other");
+        Set<Tag> tags = cache.getAll(() -> Collections.singleton(load("tag").get()));
+
+        assertEquals(1, tags.size());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void shouldNotCacheEntityLoadedDuringEviction() throws Exception {
+        Optional<Tag> stale = cache.get("tag", () -> {
+            Optional<Tag> tag = load("tag");
+            cache.evict("tag");
+            return tag;
+        });
+        cache.get("tag", () -> load("tag"));
+
+        assertTrue(stale.isPresent());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void shouldNotCacheAllLoadedDuringEviction() throws Exception {
+        cache.getAll(() -> {
+            Set<Tag> tags = Collections.singleton(load("tag").get());
+            cache.evictAll();
+            return tags;
+        });
+        cache.getAll(() -> Collections.singleton(load("tag").get()));
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void shouldNotCacheWhenDisabled() throws Exception {
+        RepositoryCache<String, Tag> disabled = new RepositoryCache<>("tag", false, 60000, 100, RepositoryCacheTest::copy);
+
+        disabled.get("tag", () -> load("tag"));
+        disabled.get("tag", () -> load("tag"));
+
+        assertEquals(2, loads.get());
+    }
+
+    private Optional<Tag> load(String id) {
+        loads.incrementAndGet();
+        Tag tag = new Tag();
+        tag.setId(id);
+        tag.setName(id);
+        return Optional.of(tag);
+    }
+
+    private static Tag copy(Tag tag) {
+        Tag copy = new Tag();
+        copy.setId(tag.getId());
+        copy.setName(tag.getName());
+        return copy;
+    }
+}
@@ -0,0 +1,122 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.rest.resource;
+
+import io.gravitee.common.http.HttpHeaders;
+import io.gravitee.management.model.MediaEntity;
+import org.apache.commons.io.IOUtils;
+
+import javax.ws.rs.core.CacheControl;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+import java.io.InputStream;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Serves media, which are addressed by the hash of their content: a media behind a URL never changes.
+ *
+ * @author GraviteeSource Team
+ */
+public abstract class AbstractMediaResource extends AbstractResource {
+
+    private static final Pattern RANGE_PATTERN = Pattern.compile("bytes=(\\d{0,18})-(\\d{0,18})");
+
+    private static final int ONE_YEAR = 31536000;
+
+    protected Response getMedia(Request request, javax.ws.rs.core.HttpHeaders headers, String hash,
+                                Supplier<MediaEntity> mediaLoader) {
+        CacheControl cc = new CacheControl();
+        cc.setNoTransform(true);
+        cc.setMustRevalidate(false);
+        cc.setNoCache(false);
+        cc.setMaxAge(ONE_YEAR);
+        cc.getCacheExtension().put("immutable", null);
+
+        // the media must exist for the reference before a client copy is validated
+        MediaEntity mediaEntity = mediaLoader.get();
+
+        if (mediaEntity == null) {
+            return Response.status(Response.Status.NOT_FOUND).build();
+        }
+
+        EntityTag etag = new EntityTag(hash);
+        Response.ResponseBuilder builder = request.evaluatePreconditions(etag);
+
+        if (builder != null) {
+            IOUtils.closeQuietly(mediaEntity.getData());
+            // Preconditions are not met, returning HTTP 304 'not-modified'
+            return builder
+                    .cacheControl(cc)
+                    .build();
+        }
+
+        String range = headers.getHeaderString(HttpHeaders.RANGE);
+        String ifRange = headers.getHeaderString("If-Range");
+        Matcher matcher = (range == null) ? null : RANGE_PATTERN.matcher(range.trim());
+
+        // only a single byte range is served, the whole media is sent otherwise
+        if (matcher != null && matcher.matches() && (ifRange == null || ifRange.equals(etag.toString()))
+                && !(matcher.group(1).isEmpty() && matcher.group(2).isEmpty())) {
+            final long size = mediaEntity.getSize();
+            final long start;
+            final long end;
+            if (matcher.group(1).isEmpty()) {
+                start = Math.max(0, size - Long.parseLong(matcher.group(2)));
+                end = size - 1;
+            } else {
+                start = Long.parseLong(matcher.group(1));
+                end = matcher.group(2).isEmpty() ? size - 1 : Math.min(Long.parseLong(matcher.group(2)), size - 1);
+            }
+
+            if (start >= size || start > end) {
+                IOUtils.closeQuietly(mediaEntity.getData());
+                return Response
+                        .status(Response.Status.REQUESTED_RANGE_NOT_SATISFIABLE)
+                        .header(HttpHeaders.CONTENT_RANGE, "bytes */" + size)
+                        .build();
+            }
+
+            final InputStream data = mediaEntity.getData();
+            final StreamingOutput partialData = output -> {
+                try (InputStream input = data) {
+                    IOUtils.copyLarge(input, output, start, end - start + 1);
+                }
+            };
+
+            return Response
+                    .status(Response.Status.PARTIAL_CONTENT)
+                    .entity(partialData)
+                    .type(mediaEntity.getMimeType())
+                    .cacheControl(cc)
+                    .tag(etag)
+                    .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                    .header(HttpHeaders.CONTENT_RANGE, "bytes " + start + '-' + end + '/' + size)
+                    .build();
+        }
+
+        return Response
+                .ok(mediaEntity.getData())
+                .type(mediaEntity.getMimeType())
+                .cacheControl(cc)
+                .tag(etag)
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .build();
+    }
+}
@@ -41,7 +41,7 @@ import java.io.InputStream;
  * @author Guillaume Gillon
  */
 @Api(tags = {"API"})
-public class ApiMediaResource {
+public class ApiMediaResource extends AbstractMediaResource {
     @Inject
     private MediaService mediaService;
 
@@ -86,38 +86,9 @@ public class ApiMediaResource {
     @Path("/{hash}")
     public Response getImage(
             @Context Request request,
+            @Context HttpHeaders headers,
             @PathParam("api") String api,
             @PathParam("hash") String hash) {
-
-        MediaEntity mediaEntity = mediaService.findby(hash, api);
-
-        if (mediaEntity == null) {
-            return Response.status(Response.Status.NOT_FOUND).build();
-        }
-
-        CacheControl cc = new CacheControl();
-        cc.setNoTransform(true);
-        cc.setMustRevalidate(false);
-        cc.setNoCache(false);
-        cc.setMaxAge(86400);
-
-
-        EntityTag etag = new EntityTag(hash);
-        Response.ResponseBuilder builder = request.evaluatePreconditions(etag);
-
-        if (builder != null) {
-            // Preconditions are not met, returning HTTP 304 'not-modified'
-            return builder
-                    .cacheControl(cc)
-                    .build();
-        }
-
-
-        return Response
-                .ok(mediaEntity.getData())
-                .type(mediaEntity.getMimeType())
-                .cacheControl(cc)
-                .tag(etag)
-                .build();
+        return getMedia(request, headers, hash, () -> mediaService.findby(hash, api));
     }
 }
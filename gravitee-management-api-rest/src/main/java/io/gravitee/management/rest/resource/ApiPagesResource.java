@@ -37,7 +37,10 @@ import javax.ws.rs.container.ResourceContext;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.Response;
 import java.net.URI;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 /**
@@ -78,6 +81,7 @@ public class ApiPagesResource extends AbstractResource {
         final ApiEntity apiEntity = apiService.findById(api);
         if (Visibility.PUBLIC.equals(apiEntity.getVisibility())
                 || hasPermission(RolePermission.API_DOCUMENTATION, api, RolePermissionAction.READ)) {
+            final Predicate<PageEntity> displayable = getDisplayablePredicate(apiEntity);
 
             return pageService
                     .search(new PageQuery.Builder()
@@ -89,7 +93,7 @@ public class ApiPagesResource extends AbstractResource {
                             .rootParent(rootParent)
                             .build())
                     .stream()
-                    .filter(page -> isDisplayable(apiEntity, page.isPublished(), page.getExcludedGroups()))
+                    .filter(displayable)
                     .collect(Collectors.toList());
         }
         throw new ForbiddenAccessException();
@@ -203,11 +207,20 @@ public class ApiPagesResource extends AbstractResource {
         return pageService.importFiles(api, pageEntity);
     }
 
-    private boolean isDisplayable(ApiEntity api, boolean isPagePublished, List<String> excludedGroups) {
-        return (isAuthenticated() && isAdmin())
-                ||
-                ( pageService.isDisplayable(api, isPagePublished, getAuthenticatedUserOrNull()) &&
-                        groupService.isUserAuthorizedToAccessApiData(api, excludedGroups, getAuthenticatedUserOrNull()));
-
+    /**
+     * The user memberships are resolved once for all the pages: the result only depends on the publication
+     * of the page and on its excluded groups.
+     */
+    private Predicate<PageEntity> getDisplayablePredicate(ApiEntity api) {
+        if (isAuthenticated() && isAdmin()) {
+            return page -> true;
+        }
+        final String username = getAuthenticatedUserOrNull();
+        final Map<Boolean, Boolean> displayableByPublication = new HashMap<>(2);
+        final Predicate<List<String>> authorized = groupService.getApiDataAuthorization(api, username);
+        return page ->
+                displayableByPublication.computeIfAbsent(page.isPublished(),
+                        isPagePublished -> pageService.isDisplayable(api, isPagePublished, username))
+                && authorized.test(page.getExcludedGroups());
     }
 }
@@ -40,6 +40,7 @@ import java.net.URI;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import static io.gravitee.management.model.permissions.RolePermission.API_PLAN;
@@ -99,10 +100,12 @@ public class ApiPlansResource extends AbstractResource {
         if (Visibility.PUBLIC.equals(apiEntity.getVisibility())
             || hasPermission(API_PLAN, api, READ)) {
 
+            final boolean admin = isAuthenticated() && isAdmin();
+            // the user memberships are resolved once for all the plans
+            final Predicate<List<String>> authorized = groupService.getApiDataAuthorization(apiEntity, getAuthenticatedUserOrNull());
             return planService.findByApi(api).stream()
                     .filter(plan -> status.getStatuses().contains(plan.getStatus())
-                            && ( (isAuthenticated() && isAdmin()) || groupService.
-                            isUserAuthorizedToAccessApiData(apiEntity, plan.getExcludedGroups(), getAuthenticatedUserOrNull())))
+                            && (admin || authorized.test(plan.getExcludedGroups())))
                     .filter(plan -> security == null || security.getSecurities().contains(plan.getSecurity()))
                     .sorted(Comparator.comparingInt(PlanEntity::getOrder))
                     .collect(Collectors.toList());
@@ -18,6 +18,7 @@ package io.gravitee.management.rest.resource;
 import io.gravitee.common.http.MediaType;
 import io.gravitee.management.model.*;
 import io.gravitee.management.model.api.ApiEntity;
+import io.gravitee.management.model.api.ApiPictureEntity;
 import io.gravitee.management.model.api.UpdateApiEntity;
 import io.gravitee.management.model.api.header.ApiHeaderEntity;
 import io.gravitee.management.model.notification.NotifierEntity;
@@ -44,7 +45,6 @@ import javax.ws.rs.*;
 import javax.ws.rs.container.ResourceContext;
 import javax.ws.rs.core.*;
 import javax.ws.rs.core.Response.Status;
-import java.io.ByteArrayOutputStream;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
@@ -123,8 +123,9 @@ public class ApiResource extends AbstractResource {
     public Response picture(
             @Context Request request,
             @PathParam("api") String api) throws ApiNotFoundException {
-        ApiEntity apiEntity = apiService.findById(api);
-        if (Visibility.PUBLIC.equals(apiEntity.getVisibility())
+        // visibility and hash are cached, a revalidation does not load the picture
+        ApiPictureEntity pictureEntity = apiService.getPictureInfo(api);
+        if (Visibility.PUBLIC.equals(pictureEntity.getVisibility())
                 || hasPermission(RolePermission.API_DEFINITION, api, RolePermissionAction.READ)) {
 
             CacheControl cc = new CacheControl();
@@ -133,25 +134,23 @@ public class ApiResource extends AbstractResource {
             cc.setNoCache(false);
             cc.setMaxAge(86400);
 
-            InlinePictureEntity image = apiService.getPicture(api);
-
-            EntityTag etag = new EntityTag(Integer.toString(new String(image.getContent()).hashCode()));
-            Response.ResponseBuilder builder = request.evaluatePreconditions(etag);
+            if (pictureEntity.getHash() != null) {
+                Response.ResponseBuilder builder = request.evaluatePreconditions(new EntityTag(pictureEntity.getHash()));
 
-            if (builder != null) {
-                // Preconditions are not met, returning HTTP 304 'not-modified'
-                return builder
-                        .cacheControl(cc)
-                        .build();
+                if (builder != null) {
+                    // Preconditions are not met, returning HTTP 304 'not-modified'
+                    return builder
+                            .cacheControl(cc)
+                            .build();
+                }
             }
 
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            baos.write(image.getContent(), 0, image.getContent().length);
+            InlinePictureEntity image = apiService.getPicture(api);
 
             return Response
-                    .ok(baos)
+                    .ok(image.getContent())
                     .cacheControl(cc)
-                    .tag(etag)
+                    .tag(image.getHash())
                     .type(image.getType())
                     .build();
         }
@@ -400,9 +399,10 @@ public class ApiResource extends AbstractResource {
             @QueryParam("exclude") @DefaultValue("") String exclude) {
         final ApiEntity apiEntity = (ApiEntity) get(api).getEntity();
         filterSensitiveData(apiEntity);
+        final StreamingOutput export = output -> apiService.exportAsJson(api, version, output, exclude.split(","));
         return Response
-                .ok(apiService.exportAsJson(api, version, exclude.split(",")))
-                .header(HttpHeaders.CONTENT_DISPOSITION, format("attachment;filename=%s", getExportFilename(apiEntity)))
+                .ok(export)
+                .header(HttpHeaders.CONTENT_DISPOSITION, format("attachment;filename=%s", apiService.getExportFilename(apiEntity)))
                 .build();
     }
 
@@ -569,16 +569,6 @@ public class ApiResource extends AbstractResource {
         }
     }
 
-    private String getExportFilename(ApiEntity apiEntity) {
-        return format("%s-%s.json", apiEntity.getName(), apiEntity.getVersion())
-                .trim()
-                .toLowerCase()
-                .replaceAll(" +", " ")
-                .replaceAll(" ", "-")
-                .replaceAll("[^\\w\\s\\.]", "-")
-                .replaceAll("-+", "-");
-    }
-
     private void filterSensitiveData(ApiEntity entity) {
         if (//try to display a public api as un unauthenticated user
                 (!isAuthenticated() && Visibility.PUBLIC.equals(entity.getVisibility()))
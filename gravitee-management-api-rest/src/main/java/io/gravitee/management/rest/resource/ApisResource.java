@@ -17,6 +17,7 @@ package io.gravitee.management.rest.resource;
 
 import io.gravitee.common.component.Lifecycle;
 import io.gravitee.common.http.MediaType;
+import io.gravitee.management.model.ApiQualityMetricsEntity;
 import io.gravitee.management.model.ImportSwaggerDescriptorEntity;
 import io.gravitee.management.model.RatingSummaryEntity;
 import io.gravitee.management.model.api.ApiEntity;
@@ -30,10 +31,12 @@ import io.gravitee.management.rest.resource.param.VerifyApiParam;
 import io.gravitee.management.rest.security.Permission;
 import io.gravitee.management.rest.security.Permissions;
 import io.gravitee.management.service.ApiService;
+import io.gravitee.management.service.QualityMetricsService;
 import io.gravitee.management.service.RatingService;
 import io.gravitee.management.service.SwaggerService;
 import io.gravitee.management.service.TopApiService;
 import io.gravitee.management.service.exceptions.ApiAlreadyExistsException;
+import io.gravitee.management.service.exceptions.ForbiddenAccessException;
 import io.gravitee.management.service.notification.ApiHook;
 import io.gravitee.management.service.notification.Hook;
 import io.gravitee.repository.exceptions.TechnicalException;
@@ -45,7 +48,9 @@ import javax.validation.constraints.NotNull;
 import javax.ws.rs.*;
 import javax.ws.rs.container.ResourceContext;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 import javax.ws.rs.core.UriBuilder;
 import javax.ws.rs.core.UriInfo;
 import java.net.URI;
@@ -78,6 +83,8 @@ public class ApisResource extends AbstractResource {
     private TopApiService topApiService;
     @Inject
     private RatingService ratingService;
+    @Inject
+    private QualityMetricsService qualityMetricsService;
 
     @GET
     @Produces(MediaType.APPLICATION_JSON)
@@ -220,6 +227,49 @@ public class ApisResource extends AbstractResource {
         }
     }
 
+    @GET
+    @Path("export")
+    @Produces("application/zip")
+    @ApiOperation(
+            value = "Export the definitions of several APIs as a zip archive",
+            notes = "User must have the API_DEFINITION[READ] permission on each exported API")
+    @ApiResponses({
+            @ApiResponse(code = 200, message = "Zip archive containing one JSON definition per API"),
+            @ApiResponse(code = 400, message = "No API to export"),
+            @ApiResponse(code = 403, message = "Not allowed to export one of the APIs"),
+            @ApiResponse(code = 500, message = "Internal server error")})
+    public Response exportDefinitions(
+            @ApiParam(name = "ids", required = true) @QueryParam("ids") List<String> ids,
+            @QueryParam("version") @DefaultValue("default") String version,
+            @QueryParam("exclude") @DefaultValue("") String exclude) {
+        if (ids == null || ids.isEmpty()) {
+            return Response.status(Response.Status.BAD_REQUEST).entity("At least one API must be exported").build();
+        }
+
+        for (String api : ids) {
+            if (!hasPermission(RolePermission.API_DEFINITION, api, RolePermissionAction.READ)) {
+                throw new ForbiddenAccessException();
+            }
+        }
+
+        final StreamingOutput export = output -> apiService.exportAsZip(ids, version, output, exclude.split(","));
+        return Response
+                .ok(export)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment;filename=apis.zip")
+                .build();
+    }
+
+    @GET
+    @Path("quality")
+    @Produces(MediaType.APPLICATION_JSON)
+    @ApiOperation(value = "Get the quality metrics of all the APIs, by API id")
+    @Permissions({
+            @Permission(value = RolePermission.MANAGEMENT_API, acls = RolePermissionAction.READ)
+    })
+    public Map<String, ApiQualityMetricsEntity> getQualityMetrics() {
+        return qualityMetricsService.getMetrics(apiService.findAll());
+    }
+
     @GET
     @Path("/hooks")
     @ApiOperation("Get the list of available hooks")
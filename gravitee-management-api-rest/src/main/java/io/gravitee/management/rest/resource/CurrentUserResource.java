@@ -254,12 +254,24 @@ public class CurrentUserResource extends AbstractResource {
     @GET
     @Path("/tasks")
     @Produces(MediaType.APPLICATION_JSON)
-    public PagedResult getUserTasks() {
+    public Response getUserTasks(@Context Request request) {
         List<TaskEntity> tasks = taskService.findAll(getAuthenticatedUserOrNull());
+
+        // Consoles poll their tasks, there is nothing to send back while they have not changed
+        EntityTag etag = new EntityTag(Integer.toString(tasks.stream()
+                .map(task -> (SubscriptionEntity) task.getData())
+                .map(subscription -> Objects.hash(subscription.getId(), subscription.getUpdatedAt()))
+                .reduce(tasks.size(), (hash, subscription) -> 31 * hash + subscription)));
+        Response.ResponseBuilder builder = request.evaluatePreconditions(etag);
+
+        if (builder != null) {
+            return builder.build();
+        }
+
         Map<String, Map<String, Object>> metadata = taskService.getMetadata(tasks).getMetadata();
         PagedResult<TaskEntity> pagedResult = new PagedResult<>(tasks);
         pagedResult.setMetadata(metadata);
-        return pagedResult;
+        return ok(pagedResult).tag(etag).build();
     }
 
 
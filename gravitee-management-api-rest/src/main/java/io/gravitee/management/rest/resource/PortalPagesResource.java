@@ -34,6 +34,7 @@ import javax.ws.rs.*;
 import javax.ws.rs.core.Response;
 import java.net.URI;
 import java.util.List;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 /**
@@ -102,6 +103,9 @@ public class PortalPagesResource extends AbstractResource {
             @QueryParam("parent") String parent,
             @QueryParam("name") String name,
             @QueryParam("root") Boolean rootParent) {
+        final boolean admin = isAuthenticated() && isAdmin();
+        // the user groups are resolved once for all the pages
+        final Predicate<List<String>> authorized = groupService.getPortalDataAuthorization(getAuthenticatedUserOrNull());
         return pageService
                 .search(new PageQuery.Builder()
                         .homepage(homepage)
@@ -111,7 +115,7 @@ public class PortalPagesResource extends AbstractResource {
                         .rootParent(rootParent)
                         .build())
                 .stream()
-                .filter(page -> isDisplayable(page.isPublished(), page.getExcludedGroups()))
+                .filter(page -> admin || (page.isPublished() && authorized.test(page.getExcludedGroups())))
                 .collect(Collectors.toList());
     }
 
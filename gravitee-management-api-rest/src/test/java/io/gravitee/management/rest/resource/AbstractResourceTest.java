@@ -114,6 +114,12 @@ public abstract class AbstractResourceTest extends JerseySpringTest {
     @Autowired
     protected SocialIdentityProviderService socialIdentityProviderService;
 
+    @Autowired
+    protected TaskService taskService;
+
+    @Autowired
+    protected MediaService mediaService;
+
     @Configuration
     @PropertySource("classpath:/io/gravitee/management/rest/resource/jwt.properties")
     static class ContextConfiguration {
@@ -217,5 +223,15 @@ public abstract class AbstractResourceTest extends JerseySpringTest {
         public SocialIdentityProviderService socialIdentityProviderService() {
             return mock(SocialIdentityProviderService.class);
         }
+
+        @Bean
+        public MediaService mediaService() {
+            return mock(MediaService.class);
+        }
+
+        @Bean
+        public ConfigService configService() {
+            return mock(ConfigService.class);
+        }
     }
 }
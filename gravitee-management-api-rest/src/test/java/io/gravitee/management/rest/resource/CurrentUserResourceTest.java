@@ -17,15 +17,22 @@ package io.gravitee.management.rest.resource;
 
 import io.gravitee.common.http.HttpStatusCode;
 import io.gravitee.management.idp.api.authentication.UserDetails;
+import io.gravitee.management.model.SubscriptionEntity;
+import io.gravitee.management.model.TaskEntity;
 import io.gravitee.management.model.UserEntity;
+import io.gravitee.management.model.pagedresult.Metadata;
 import java.util.Collections;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Response;
 import org.junit.Test;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.context.SecurityContextImpl;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.assertj.core.api.Assertions.*;
 import org.junit.AfterClass;
@@ -85,6 +92,30 @@ public class CurrentUserResourceTest extends AbstractResourceTest {
         assertThat(response.getStatus()).isEqualTo(HttpStatusCode.OK_200);
     }
 
+    @Test
+    public void shouldNotSendUnchangedTasks() {
+        Mockito.reset(userService, taskService);
+        setCurrentUserDetails(new UserDetails(USER_NAME, "PASSWORD", Collections.emptyList()));
+
+        SubscriptionEntity subscription = new SubscriptionEntity();
+        subscription.setId("subscription");
+        TaskEntity task = new TaskEntity();
+        task.setData(subscription);
+        when(taskService.findAll(any())).thenReturn(Collections.singletonList(task));
+        when(taskService.getMetadata(any())).thenReturn(new Metadata());
+
+        final Response response = target("/tasks").request().get();
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatusCode.OK_200);
+        assertThat(response.getEntityTag()).isNotNull();
+
+        final Response notModified = target("/tasks").request()
+                .header(HttpHeaders.IF_NONE_MATCH, response.getEntityTag().toString()).get();
+
+        assertThat(notModified.getStatus()).isEqualTo(HttpStatusCode.NOT_MODIFIED_304);
+        verify(taskService, times(1)).getMetadata(any());
+    }
+
     private void setCurrentUserDetails(final UserDetails userDetails) {
         final Authentication authentication = mock(Authentication.class);
         final UserEntity userEntity = new UserEntity();
@@ -0,0 +1,80 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.rest.resource;
+
+import io.gravitee.common.http.HttpStatusCode;
+import io.gravitee.management.model.MediaEntity;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Response;
+import java.io.ByteArrayInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class PortalMediaResourceTest extends AbstractResourceTest {
+
+    private static final String HASH = "A1B2C3";
+
+    protected String contextPath() {
+        return "portal/media/" + HASH;
+    }
+
+    @Before
+    public void init() {
+        Mockito.reset(mediaService);
+    }
+
+    @Test
+    public void shouldGetMedia() {
+        when(mediaService.findby(HASH)).thenReturn(media());
+
+        final Response response = target().request().get();
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatusCode.OK_200);
+        assertThat(response.getEntityTag().getValue()).isEqualTo(HASH);
+        assertThat(response.readEntity(String.class)).isEqualTo("media");
+    }
+
+    @Test
+    public void shouldNotModifyExistingMedia() {
+        when(mediaService.findby(HASH)).thenReturn(media());
+
+        final Response response = target().request().header(HttpHeaders.IF_NONE_MATCH, '"' + HASH + '"').get();
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatusCode.NOT_MODIFIED_304);
+    }
+
+    @Test
+    public void shouldNotFindUnknownMediaWithEtag() {
+        when(mediaService.findby(HASH)).thenReturn(null);
+
+        final Response response = target().request().header(HttpHeaders.IF_NONE_MATCH, '"' + HASH + '"').get();
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatusCode.NOT_FOUND_404);
+        assertThat(response.getHeaderString(HttpHeaders.CACHE_CONTROL)).isNull();
+    }
+
+    private static MediaEntity media() {
+        return new MediaEntity(new ByteArrayInputStream("media".getBytes()), "image", "png", "media.png", 5);
+    }
+}
@@ -16,11 +16,16 @@
 package io.gravitee.management.security.filter;
 
 import com.auth0.jwt.JWTVerifier;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
 import io.gravitee.common.http.HttpHeaders;
 import io.gravitee.common.http.HttpStatusCode;
 import io.gravitee.management.idp.api.authentication.UserDetails;
 import io.gravitee.management.security.cookies.JWTCookieGenerator;
 import io.gravitee.management.service.common.JWTHelper.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -36,6 +41,7 @@ import javax.servlet.http.Cookie;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -54,9 +60,32 @@ public class JWTAuthenticationFilter extends GenericFilterBean {
     private final JWTVerifier jwtVerifier;
     private JWTCookieGenerator jwtCookieGenerator;
 
+    /**
+     * Verified tokens by hash. An entry is only used until the expiration of its token, tokens without expiration
+     * are never cached.
+     */
+    private final Cache<String, VerifiedToken> verifiedTokens;
+
     public JWTAuthenticationFilter(final String jwtSecret, final JWTCookieGenerator jwtCookieGenerator) {
+        this(jwtSecret, jwtCookieGenerator, 0, null);
+    }
+
+    public JWTAuthenticationFilter(final String jwtSecret, final JWTCookieGenerator jwtCookieGenerator,
+                                   final long cacheMaxSize, final MeterRegistry meterRegistry) {
         this.jwtVerifier = new JWTVerifier(jwtSecret);
         this.jwtCookieGenerator = jwtCookieGenerator;
+
+        if (cacheMaxSize > 0) {
+            this.verifiedTokens = CacheBuilder.newBuilder()
+                    .maximumSize(cacheMaxSize)
+                    .recordStats()
+                    .build();
+            if (meterRegistry != null) {
+                GuavaCacheMetrics.monitor(meterRegistry, verifiedTokens, "jwt.tokens");
+            }
+        } else {
+            this.verifiedTokens = null;
+        }
     }
 
     @Override
@@ -85,24 +114,8 @@ public class JWTAuthenticationFilter extends GenericFilterBean {
             if (stringToken.contains(authorizationSchema)) {
                 final String jwtToken = stringToken.substring(authorizationSchema.length()).trim();
                 try {
-                    final Map<String, Object> verify = jwtVerifier.verify(jwtToken);
-
-                    List<Map> permissions = (List<Map>) verify.get(Claims.PERMISSIONS);
-                    List<SimpleGrantedAuthority> authorities;
-
-                    if (permissions != null) {
-                        authorities = ((List<Map>) verify.get(Claims.PERMISSIONS)).stream()
-                                .map(map -> new SimpleGrantedAuthority(map.get("authority").toString()))
-                                .collect(Collectors.toList());
-                    } else {
-                        authorities = Collections.emptyList();
-                    }
-
-                    final UserDetails userDetails = new UserDetails(getStringValue(verify.get(Claims.SUBJECT)), "",
-                            authorities);
-                    userDetails.setEmail((String) verify.get(Claims.EMAIL));
-                    userDetails.setFirstname((String) verify.get(Claims.FIRSTNAME));
-                    userDetails.setLastname((String) verify.get(Claims.LASTNAME));
+                    final VerifiedToken verifiedToken = verify(jwtToken);
+                    final UserDetails userDetails = verifiedToken.toUserDetails();
 
                     SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
                 } catch (final Exception e) {
@@ -123,11 +136,73 @@ public class JWTAuthenticationFilter extends GenericFilterBean {
         chain.doFilter(request, response);
     }
 
-    private String getStringValue(final Object object) {
+    private VerifiedToken verify(final String jwtToken) throws Exception {
+        if (verifiedTokens == null) {
+            return new VerifiedToken(jwtVerifier.verify(jwtToken));
+        }
+
+        final String tokenHash = Hashing.sha256().hashString(jwtToken, StandardCharsets.UTF_8).toString();
+        VerifiedToken verifiedToken = verifiedTokens.getIfPresent(tokenHash);
+        if (verifiedToken != null) {
+            if (verifiedToken.expiresAt > System.currentTimeMillis()) {
+                return verifiedToken;
+            }
+            // expired: verified again, to be rejected
+            verifiedTokens.invalidate(tokenHash);
+        }
+
+        verifiedToken = new VerifiedToken(jwtVerifier.verify(jwtToken));
+        if (verifiedToken.expiresAt > System.currentTimeMillis()) {
+            verifiedTokens.put(tokenHash, verifiedToken);
+        }
+        return verifiedToken;
+    }
+
+    private static String getStringValue(final Object object) {
         if (object == null) {
             return "";
         }
         return object.toString();
     }
 
+    /**
+     * Claims of a verified token. A new {@link UserDetails} is built for each request since it is mutable.
+     */
+    private static final class VerifiedToken {
+        private final String subject;
+        private final String email;
+        private final String firstname;
+        private final String lastname;
+        private final List<SimpleGrantedAuthority> authorities;
+        private final long expiresAt;
+
+        @SuppressWarnings(value = "unchecked")
+        VerifiedToken(final Map<String, Object> verify) {
+            List<Map> permissions = (List<Map>) verify.get(Claims.PERMISSIONS);
+
+            if (permissions != null) {
+                authorities = Collections.unmodifiableList(permissions.stream()
+                        .map(map -> new SimpleGrantedAuthority(map.get("authority").toString()))
+                        .collect(Collectors.toList()));
+            } else {
+                authorities = Collections.emptyList();
+            }
+
+            subject = getStringValue(verify.get(Claims.SUBJECT));
+            email = (String) verify.get(Claims.EMAIL);
+            firstname = (String) verify.get(Claims.FIRSTNAME);
+            lastname = (String) verify.get(Claims.LASTNAME);
+
+            final Object exp = verify.get(Claims.EXPIRATION);
+            expiresAt = (exp instanceof Number) ? ((Number) exp).longValue() * 1000 : 0;
+        }
+
+        UserDetails toUserDetails() {
+            final UserDetails userDetails = new UserDetails(subject, "", authorities);
+            userDetails.setEmail(email);
+            userDetails.setFirstname(firstname);
+            userDetails.setLastname(lastname);
+            return userDetails;
+        }
+    }
 }
@@ -0,0 +1,149 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.security.filter;
+
+import com.auth0.jwt.JWTSigner;
+import io.gravitee.common.http.HttpHeaders;
+import io.gravitee.common.http.HttpStatusCode;
+import io.gravitee.management.idp.api.authentication.UserDetails;
+import io.gravitee.management.security.cookies.JWTCookieGenerator;
+import io.gravitee.management.service.common.JWTHelper.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.servlet.FilterChain;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class JWTAuthenticationFilterTest {
+
+    private static final String JWT_SECRET = "s3cr3t";
+
+    @Mock
+    private JWTCookieGenerator jwtCookieGenerator;
+
+    @Mock
+    private HttpServletRequest request;
+
+    @Mock
+    private HttpServletResponse response;
+
+    @Mock
+    private FilterChain chain;
+
+    private MeterRegistry meterRegistry;
+
+    private JWTAuthenticationFilter filter;
+
+    @Before
+    public void init() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new JWTAuthenticationFilter(JWT_SECRET, jwtCookieGenerator, 100, meterRegistry);
+    }
+
+    @After
+    public void clear() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    public void shouldReuseVerifiedToken() throws Exception {
+        when(request.getHeader(HttpHeaders.AUTHORIZATION)).thenReturn("Bearer " + sign(System.currentTimeMillis() / 1000 + 60));
+
+        filter.doFilter(request, response, chain);
+        final UserDetails first = (UserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        filter.doFilter(request, response, chain);
+        final UserDetails second = (UserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+
+        assertEquals("admin", second.getUsername());
+        assertEquals("admin@gravitee.io", second.getEmail());
+        assertEquals(Collections.singletonList("ADMIN"), second.getAuthorities().stream().map(Object::toString).collect(Collectors.toList()));
+        assertNotSame(first, second);
+        assertEquals(1, gets("hit"), 0);
+        assertEquals(1, gets("miss"), 0);
+        verify(chain, times(2)).doFilter(request, response);
+    }
+
+    @Test
+    public void shouldNotExtendTokenValidity() throws Exception {
+        final long exp = System.currentTimeMillis() / 1000 + 2;
+        when(request.getHeader(HttpHeaders.AUTHORIZATION)).thenReturn("Bearer " + sign(exp));
+
+        filter.doFilter(request, response, chain);
+        verify(chain).doFilter(request, response);
+
+        Thread.sleep(exp * 1000 - System.currentTimeMillis() + 100);
+        filter.doFilter(request, response, chain);
+
+        verify(response).sendError(HttpStatusCode.UNAUTHORIZED_401);
+        verifyNoMoreInteractions(chain);
+    }
+
+    @Test
+    public void shouldNotCacheTokenWithoutExpiration() throws Exception {
+        when(request.getHeader(HttpHeaders.AUTHORIZATION)).thenReturn("Bearer " + sign(null));
+
+        filter.doFilter(request, response, chain);
+        filter.doFilter(request, response, chain);
+
+        assertEquals(0, gets("hit"), 0);
+        verify(chain, times(2)).doFilter(request, response);
+    }
+
+    @Test
+    public void shouldRejectInvalidSignature() throws Exception {
+        when(request.getHeader(HttpHeaders.AUTHORIZATION)).thenReturn("Bearer " + sign(System.currentTimeMillis() / 1000 + 60) + "x");
+
+        filter.doFilter(request, response, chain);
+
+        verify(response).sendError(HttpStatusCode.UNAUTHORIZED_401);
+        verifyZeroInteractions(chain);
+    }
+
+    private double gets(String result) {
+        return meterRegistry.get("cache.gets").tag("cache", "jwt.tokens").tag("result", result).functionCounter().count();
+    }
+
+    private static String sign(Long exp) {
+        final Map<String, Object> claims = new HashMap<>();
+        claims.put(Claims.SUBJECT, "admin");
+        claims.put(Claims.EMAIL, "admin@gravitee.io");
+        claims.put(Claims.PERMISSIONS, Collections.singletonList(Collections.singletonMap("authority", "ADMIN")));
+        if (exp != null) {
+            claims.put(Claims.EXPIRATION, exp);
+        }
+        return new JWTSigner(JWT_SECRET).sign(claims);
+    }
+}
@@ -17,7 +17,9 @@ package io.gravitee.management.service;
 
 import io.gravitee.management.model.*;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 /**
  * @author Azize ELAMRANI (azize at graviteesource.com)
@@ -27,6 +29,11 @@ public interface ApiMetadataService {
 
     List<ApiMetadataEntity> findAllByApi(String apiId);
 
+    /**
+     * @return the metadata of each given API, by API id
+     */
+    Map<String, List<ApiMetadataEntity>> findAllByApis(Collection<String> apiIds);
+
     ApiMetadataEntity findByIdAndApi(String metadataId, String apiId);
 
     ApiMetadataEntity create(NewApiMetadataEntity metadata);
@@ -20,6 +20,7 @@ import io.gravitee.management.model.api.*;
 import io.gravitee.management.model.api.header.ApiHeaderEntity;
 import io.gravitee.repository.exceptions.TechnicalException;
 
+import java.io.OutputStream;
 import java.util.*;
 
 /**
@@ -35,6 +36,11 @@ public interface ApiService {
 
     Set<ApiEntity> findAllLight();
 
+    /**
+     * Same as {@link #findAllLight()}, restricted to the given APIs.
+     */
+    Set<ApiEntity> findByIdsLight(List<String> apiIds);
+
     Set<ApiEntity> findByUser(String userId, ApiQuery apiQuery);
 
     Set<ApiEntity> findByVisibility(Visibility visibility);
@@ -67,12 +73,38 @@ public interface ApiService {
 
     String exportAsJson(String apiId, String exportVersion, String... filteredFields);
 
+    /**
+     * Writes the export of the API directly to the given stream, which is left open.
+     */
+    void exportAsJson(String apiId, String exportVersion, OutputStream output, String... filteredFields);
+
+    /**
+     * Writes the exports of the given APIs as a zip stream, one JSON entry per API.
+     */
+    void exportAsZip(Collection<String> apiIds, String exportVersion, OutputStream output, String... filteredFields);
+
+    /**
+     * @return the name of the file holding the export of the given API
+     */
+    String getExportFilename(ApiEntity apiEntity);
+
     ApiEntity createOrUpdateWithDefinition(ApiEntity apiEntity, String apiDefinition, String userId);
 
     InlinePictureEntity getPicture(String apiId);
 
+    /**
+     * Visibility of the API and hash of its picture, served from a cache so that a picture can be revalidated
+     * without being loaded.
+     */
+    ApiPictureEntity getPictureInfo(String apiId);
+
     byte[] getDefaultPicture();
 
+    /**
+     * @return the hash of the default picture, comparable with the one of {@link #getPictureInfo(String)}
+     */
+    String getDefaultPictureHash();
+
     void deleteViewFromAPIs(String viewId);
 
     void deleteTagFromAPIs(String tagId);
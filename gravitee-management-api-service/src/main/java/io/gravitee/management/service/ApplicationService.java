@@ -29,6 +29,8 @@ public interface ApplicationService {
 
     ApplicationEntity findById(String applicationId);
 
+    Set<ApplicationEntity> findByIds(List<String> applicationIds);
+
     Set<ApplicationEntity> findByUser(String username);
 
     Set<ApplicationEntity> findByName(String name);
@@ -15,6 +15,8 @@
  */
 package io.gravitee.management.service;
 
+import java.util.Collection;
+
 /**
  * @author Azize Elamrani (azize dot elamrani at gmail dot com)
  */
@@ -22,5 +24,10 @@ public interface EmailService {
 
     void sendEmailNotification(EmailNotification emailNotification);
 
+    /**
+     * Send several notifications using a single SMTP session.
+     */
+    void sendEmailNotifications(Collection<EmailNotification> emailNotifications);
+
     void sendAsyncEmailNotification(EmailNotification emailNotification);
 }
@@ -21,6 +21,7 @@ import io.gravitee.repository.management.model.GroupEvent;
 
 import java.util.List;
 import java.util.Set;
+import java.util.function.Predicate;
 
 /**
  * @author Nicolas GERAUD (nicolas.geraud at graviteesource.com)
@@ -50,6 +51,17 @@ public interface GroupService {
 
     boolean isUserAuthorizedToAccessPortalData(List<String> excludedGroups, String username);
 
+    /**
+     * Same as {@link #isUserAuthorizedToAccessApiData(ApiEntity, List, String)} for many data of the same API:
+     * the memberships of the user are resolved at most once, the returned predicate tests the excluded groups.
+     */
+    Predicate<List<String>> getApiDataAuthorization(ApiEntity api, String username);
+
+    /**
+     * Same as {@link #isUserAuthorizedToAccessPortalData(List, String)} for many portal data.
+     */
+    Predicate<List<String>> getPortalDataAuthorization(String username);
+
     List<ApiEntity> getApis(String groupId);
 
     List<ApplicationEntity> getApplications(String groupId);
@@ -55,6 +55,11 @@ public interface PageService {
 
 	PageEntity fetch(String pageId, String contributor);
 
+	/**
+	 * @return the ids of the Markdown and Swagger pages whose content comes from a source
+	 */
+	List<String> findFetchableIds();
+
 	List<PageEntity> importFiles(ImportPageEntity pageEntity);
 
 	List<PageEntity> importFiles(String apiId, ImportPageEntity pageEntity);
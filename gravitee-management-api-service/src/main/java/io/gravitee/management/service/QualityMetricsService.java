@@ -18,11 +18,15 @@ package io.gravitee.management.service;
 import io.gravitee.management.model.ApiQualityMetricsEntity;
 import io.gravitee.management.model.api.ApiEntity;
 
+import java.util.Collection;
+import java.util.Map;
+
 /**
  * @author Nicolas GERAUD (nicolas.geraud at graviteesource.com) 
  * @author GraviteeSource Team
  */
 public interface QualityMetricsService {
     ApiQualityMetricsEntity getMetrics(ApiEntity apiEntity);
+    Map<String, ApiQualityMetricsEntity> getMetrics(Collection<ApiEntity> apis);
     boolean isApiMetricsEnabled();
 }
@@ -0,0 +1,34 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.service.event;
+
+/**
+ * Published when data exposed to templates through {@link io.gravitee.management.model.ApiModelEntity} changes.
+ *
+ * @author GraviteeSource Team
+ */
+public enum ApiModelEvent {
+
+    /**
+     * Content is the id of the API.
+     */
+    UPDATE,
+
+    /**
+     * Data shared by all the APIs (e.g. default metadata) has changed.
+     */
+    UPDATE_ALL;
+}
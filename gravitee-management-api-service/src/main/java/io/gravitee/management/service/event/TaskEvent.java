@@ -0,0 +1,35 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.service.event;
+
+/**
+ * Published when the pending tasks of the users may have changed.
+ * {@link #MEMBERSHIP_UPDATE} is also used to refresh the groups of the users.
+ *
+ * @author GraviteeSource Team
+ */
+public enum TaskEvent {
+
+    /**
+     * A subscription has been created or its status has changed. Content is the id of the API.
+     */
+    SUBSCRIPTION_UPDATE,
+
+    /**
+     * A membership has changed. Content is the id of the user, or <code>null</code> when several users are concerned.
+     */
+    MEMBERSHIP_UPDATE;
+}
@@ -0,0 +1,58 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.service.exceptions;
+
+/**
+ * Failure to deliver a notification, telling the notification dispatcher whether the delivery is worth retrying
+ * and, when only a part of it failed, what remains to be sent.
+ *
+ * @author GraviteeSource Team
+ */
+public class NotificationDeliveryException extends TechnicalManagementException {
+
+    private final boolean retryable;
+
+    private final Runnable retry;
+
+    /**
+     * A delivery which failed for good (e.g. rejected recipient, template error), or which has to be retried as a whole.
+     */
+    public NotificationDeliveryException(String message, Throwable cause, boolean retryable) {
+        super(message, cause);
+        this.retryable = retryable;
+        this.retry = null;
+    }
+
+    /**
+     * A delivery which partially failed, only the given task has to be retried.
+     */
+    public NotificationDeliveryException(String message, Throwable cause, Runnable retry) {
+        super(message, cause);
+        this.retryable = true;
+        this.retry = retry;
+    }
+
+    public boolean isRetryable() {
+        return retryable;
+    }
+
+    /**
+     * @return the task sending what remains to be delivered, <code>null</code> to retry the whole notification
+     */
+    public Runnable getRetry() {
+        return retry;
+    }
+}
@@ -15,6 +15,7 @@
  */
 package io.gravitee.management.service.impl;
 
+import io.gravitee.common.event.EventManager;
 import io.gravitee.common.utils.IdGenerator;
 import io.gravitee.management.model.*;
 import io.gravitee.management.model.api.ApiEntity;
@@ -22,6 +23,7 @@ import io.gravitee.management.service.ApiMetadataService;
 import io.gravitee.management.service.ApiService;
 import io.gravitee.management.service.AuditService;
 import io.gravitee.management.service.MetadataService;
+import io.gravitee.management.service.event.ApiModelEvent;
 import io.gravitee.management.service.exceptions.ApiMetadataNotFoundException;
 import io.gravitee.management.service.exceptions.DuplicateMetadataNameException;
 import io.gravitee.management.service.exceptions.TechnicalManagementException;
@@ -40,7 +42,6 @@ import static io.gravitee.repository.management.model.Audit.AuditProperties.META
 import static io.gravitee.repository.management.model.Metadata.AuditEvent.METADATA_CREATED;
 import static io.gravitee.repository.management.model.Metadata.AuditEvent.METADATA_DELETED;
 import static io.gravitee.repository.management.model.Metadata.AuditEvent.METADATA_UPDATED;
-import static java.util.stream.Collectors.toList;
 
 /**
  * @author Azize ELAMRANI (azize at graviteesource.com)
@@ -63,36 +64,64 @@ public class ApiMetadataServiceImpl implements ApiMetadataService {
     @Autowired
     private AuditService auditService;
 
+    @Autowired
+    private EventManager eventManager;
+
     @Override
     public List<ApiMetadataEntity> findAllByApi(final String apiId) {
         try {
             LOGGER.debug("Find all metadata by api ID {}", apiId);
-            final List<MetadataEntity> defaultMetadata = metadataService.findAllDefault();
-            final List<String> defaultMetadataKeys = defaultMetadata.stream().map(MetadataEntity::getKey).collect(toList());
-
             final List<Metadata> apiMetadata = metadataRepository.findByReferenceTypeAndReferenceId(MetadataReferenceType.API, apiId);
 
-            final List<ApiMetadataEntity> allMetadata = new ArrayList<>();
-
-            allMetadata.addAll(defaultMetadata.stream()
-                    .map(metadata -> {
-                        final Optional<Metadata> optApiMetadata = apiMetadata.stream()
-                                .filter(metadataEntity -> metadata.getKey().equals(metadataEntity.getKey()))
-                                .findAny();
-                        return convert(optApiMetadata, metadata, null);
-                    }).collect(toList()));
-
+            return merge(metadataService.findAllDefault(), apiMetadata, apiId);
+        } catch (TechnicalException ex) {
+            LOGGER.error("An error occurred while trying to find all metadata by API", ex);
+            throw new TechnicalManagementException("An error occurred while trying to find all metadata by API", ex);
+        }
+    }
 
-            allMetadata.addAll(apiMetadata.stream()
-                    .filter(metadata -> !defaultMetadataKeys.contains(metadata.getKey()))
-                    .map(metadata -> convert(metadata, apiId))
-                    .collect(toList()));
+    @Override
+    public Map<String, List<ApiMetadataEntity>> findAllByApis(final Collection<String> apiIds) {
+        try {
+            LOGGER.debug("Find all metadata by api IDs {}", apiIds);
+            final Map<String, List<Metadata>> apisMetadata = new HashMap<>(apiIds.size());
+            apiIds.forEach(apiId -> apisMetadata.put(apiId, new ArrayList<>()));
+            // a single query for all the APIs instead of one by API
+            for (Metadata metadata : metadataRepository.findByReferenceType(MetadataReferenceType.API)) {
+                final List<Metadata> apiMetadata = apisMetadata.get(metadata.getReferenceId());
+                if (apiMetadata != null) {
+                    apiMetadata.add(metadata);
+                }
+            }
 
+            final List<MetadataEntity> defaultMetadata = metadataService.findAllDefault();
+            final Map<String, List<ApiMetadataEntity>> allMetadata = new LinkedHashMap<>(apisMetadata.size());
+            for (String apiId : apiIds) {
+                allMetadata.put(apiId, merge(defaultMetadata, apisMetadata.get(apiId), apiId));
+            }
             return allMetadata;
         } catch (TechnicalException ex) {
-            LOGGER.error("An error occurred while trying to find all metadata by API", ex);
-            throw new TechnicalManagementException("An error occurred while trying to find all metadata by API", ex);
+            LOGGER.error("An error occurred while trying to find all metadata by APIs", ex);
+            throw new TechnicalManagementException("An error occurred while trying to find all metadata by APIs", ex);
+        }
+    }
+
+    /**
+     * Default metadata first (overridden by the API value if any), then the metadata specific to the API.
+     */
+    private List<ApiMetadataEntity> merge(final List<MetadataEntity> defaultMetadata, final List<Metadata> apiMetadata,
+                                          final String apiId) {
+        final Map<String, Metadata> apiMetadataByKey = new LinkedHashMap<>(apiMetadata.size());
+        apiMetadata.forEach(metadata -> apiMetadataByKey.putIfAbsent(metadata.getKey(), metadata));
+
+        final List<ApiMetadataEntity> allMetadata = new ArrayList<>(defaultMetadata.size() + apiMetadataByKey.size());
+        for (MetadataEntity metadata : defaultMetadata) {
+            allMetadata.add(convert(Optional.ofNullable(apiMetadataByKey.remove(metadata.getKey())), metadata, null));
+        }
+        for (Metadata metadata : apiMetadataByKey.values()) {
+            allMetadata.add(convert(metadata, apiId));
         }
+        return allMetadata;
     }
 
     @Override
@@ -127,6 +156,7 @@ public class ApiMetadataServiceImpl implements ApiMetadataService {
         final ApiMetadataEntity apiMetadata = findByIdAndApi(metadataId, apiId);
         try {
             metadataRepository.delete(metadataId, apiMetadata.getApiId(), MetadataReferenceType.API);
+            eventManager.publishEvent(ApiModelEvent.UPDATE, apiId);
             // Audit
             auditService.createApiAuditLog(
                     apiId,
@@ -167,6 +197,7 @@ public class ApiMetadataServiceImpl implements ApiMetadataService {
             metadata.setCreatedAt(now);
             metadata.setUpdatedAt(now);
             metadataRepository.create(metadata);
+            eventManager.publishEvent(ApiModelEvent.UPDATE, apiEntity.getId());
             // Audit
             auditService.createApiAuditLog(
                     apiEntity.getId(),
@@ -209,6 +240,7 @@ public class ApiMetadataServiceImpl implements ApiMetadataService {
             if (apiMetadata.isPresent()) {
                 metadata.setUpdatedAt(now);
                 savedMetadata = metadataRepository.update(metadata);
+                eventManager.publishEvent(ApiModelEvent.UPDATE, apiEntity.getId());
                 // Audit
                 auditService.createApiAuditLog(
                         apiEntity.getId(),
@@ -221,6 +253,7 @@ public class ApiMetadataServiceImpl implements ApiMetadataService {
                 metadata.setCreatedAt(now);
                 metadata.setUpdatedAt(now);
                 savedMetadata = metadataRepository.create(metadata);
+                eventManager.publishEvent(ApiModelEvent.UPDATE, apiEntity.getId());
                 // Audit
                 auditService.createApiAuditLog(
                         apiEntity.getId(),
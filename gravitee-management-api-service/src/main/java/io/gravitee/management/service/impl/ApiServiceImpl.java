@@ -15,14 +15,24 @@
  */
 package io.gravitee.management.service.impl;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import freemarker.template.Configuration;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import freemarker.template.Template;
 import freemarker.template.TemplateException;
 import io.gravitee.common.component.Lifecycle;
+import io.gravitee.common.event.EventListener;
+import io.gravitee.common.event.EventManager;
 import io.gravitee.common.http.HttpMethod;
 import io.gravitee.common.utils.UUID;
 import io.gravitee.definition.model.*;
@@ -39,8 +49,11 @@ import io.gravitee.management.model.parameters.Key;
 import io.gravitee.management.model.permissions.SystemRole;
 import io.gravitee.management.model.plan.PlanQuery;
 import io.gravitee.management.service.*;
+import io.gravitee.management.service.event.ApiEvent;
+import io.gravitee.management.service.event.ApiModelEvent;
 import io.gravitee.management.service.exceptions.*;
 import io.gravitee.management.service.impl.search.SearchResult;
+import io.gravitee.management.service.impl.template.TemplateCache;
 import io.gravitee.management.service.jackson.ser.api.ApiSerializer;
 import io.gravitee.management.service.notification.ApiHook;
 import io.gravitee.management.service.notification.HookScope;
@@ -60,6 +73,7 @@ import io.gravitee.repository.management.model.*;
 import org.apache.commons.io.IOUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -68,11 +82,17 @@ import org.springframework.ui.freemarker.FreeMarkerTemplateUtils;
 import javax.xml.bind.DatatypeConverter;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 import static io.gravitee.management.model.EventType.PUBLISH_API;
 import static io.gravitee.management.model.ImportSwaggerDescriptorEntity.Type.INLINE;
@@ -92,7 +112,7 @@ import static org.apache.commons.lang3.StringUtils.isBlank;
  * @author GraviteeSource Team
  */
 @Component
-public class ApiServiceImpl extends TransactionalService implements ApiService {
+public class ApiServiceImpl extends TransactionalService implements ApiService, InitializingBean {
 
     private final static Logger LOGGER = LoggerFactory.getLogger(ApiServiceImpl.class);
 
@@ -137,7 +157,9 @@ public class ApiServiceImpl extends TransactionalService implements ApiService {
     @Autowired
     private ApiHeaderService apiHeaderService;
     @Autowired
-    private Configuration freemarkerConfiguration;
+    private TemplateCache templateCache;
+    @Autowired
+    private EventManager eventManager;
     @Autowired
     private ReferenceSerializer referenceSerializer;
     @Autowired
@@ -146,6 +168,88 @@ public class ApiServiceImpl extends TransactionalService implements ApiService {
     private static final Pattern LOGGING_MAX_DURATION_PATTERN = Pattern.compile("(?<before>.*)\\#request.timestamp\\s*\\<\\=?\\s*(?<timestamp>\\d*)l(?<after>.*)");
     private static final String LOGGING_MAX_DURATION_CONDITION = "#request.timestamp <= %dl";
 
+    @Value("${templates.cache.api.ttl:60000}")
+    private long apiModelCacheTtl;
+    @Value("${templates.cache.api.maxSize:1000}")
+    private long apiModelCacheMaxSize;
+
+    /**
+     * Models given to templates, by API id. Entries are invalidated on {@link ApiModelEvent} and expire after
+     * <code>templates.cache.api.ttl</code> to catch up with changes made by other nodes (or to the primary owner).
+     */
+    private Cache<String, ApiModelEntity> apiModels;
+
+    @Value("${api.picture.cache.ttl:60000}")
+    private long pictureCacheTtl;
+    @Value("${api.picture.cache.maxSize:10000}")
+    private long pictureCacheMaxSize;
+
+    /**
+     * Visibility and picture hash by API id, used to revalidate pictures. Same invalidation as {@link #apiModels}.
+     */
+    private Cache<String, ApiPictureEntity> pictures;
+
+    /**
+     * Hash of the default picture, read once from <code>configuration.default-icon</code>.
+     */
+    private final Supplier<String> defaultPictureHash = Suppliers.memoize(() -> pictureHash("image/png", getDefaultPicture()));
+
+    /**
+     * Event property holding the fingerprint of the deployed definition, see {@link ApiSynchronizationProcessor#fingerprint(ApiEntity)}.
+     */
+    private static final String DEPLOYMENT_FINGERPRINT_PROPERTY = "deployment_fingerprint";
+
+    /**
+     * Event property holding the version of the fingerprint algorithm, see {@link ApiSynchronizationProcessor#FINGERPRINT_VERSION}.
+     */
+    private static final String DEPLOYMENT_FINGERPRINT_VERSION_PROPERTY = "deployment_fingerprint_version";
+
+    @Value("${api.fingerprint.cache.maxSize:10000}")
+    private long fingerprintCacheMaxSize;
+
+    /**
+     * Fingerprint of the current definition by API id, valid as long as the API has not been updated since.
+     */
+    private Cache<String, Fingerprint> fingerprints;
+
+    /**
+     * Deployed definition by event id, for the events created before the fingerprint (of the current version) was
+     * persisted. Entries are only read by {@link ApiSynchronizationProcessor#processCheckSynchronization(ApiEntity, ApiEntity)}.
+     */
+    private Cache<String, ApiEntity> deployedApis;
+
+    @Override
+    public void afterPropertiesSet() {
+        apiModels = CacheBuilder.newBuilder()
+                .expireAfterWrite(apiModelCacheTtl, TimeUnit.MILLISECONDS)
+                .maximumSize(apiModelCacheMaxSize)
+                .build();
+        pictures = CacheBuilder.newBuilder()
+                .expireAfterWrite(pictureCacheTtl, TimeUnit.MILLISECONDS)
+                .maximumSize(pictureCacheMaxSize)
+                .build();
+        fingerprints = CacheBuilder.newBuilder()
+                .maximumSize(fingerprintCacheMaxSize)
+                .build();
+        deployedApis = CacheBuilder.newBuilder()
+                .maximumSize(fingerprintCacheMaxSize)
+                .build();
+
+        eventManager.subscribeForEvents((EventListener<ApiModelEvent, Object>) event -> {
+            if (event.type() == ApiModelEvent.UPDATE_ALL) {
+                apiModels.invalidateAll();
+            } else {
+                apiModels.invalidate(event.content());
+                pictures.invalidate(event.content());
+            }
+        }, ApiModelEvent.class);
+        // APIs deployed from another node
+        eventManager.subscribeForEvents((EventListener<ApiEvent, ApiEntity>) event -> {
+            apiModels.invalidate(event.content().getId());
+            pictures.invalidate(event.content().getId());
+        }, ApiEvent.class);
+    }
+
     @Override
     public ApiEntity create(final NewApiEntity newApiEntity, final String userId) throws ApiAlreadyExistsException {
         return create(newApiEntity, userId, null, null);
@@ -558,6 +662,18 @@ public class ApiServiceImpl extends TransactionalService implements ApiService {
         }
     }
 
+    @Override
+    public Set<ApiEntity> findByIdsLight(List<String> apiIds) {
+        try {
+            LOGGER.debug("Find APIs {} without some fields (definition, picture...)", apiIds);
+            return convert(apiRepository.search(new ApiCriteria.Builder().ids(apiIds.toArray(new String[0])).build(),
+                    new ApiFieldExclusionFilter.Builder().excludeDefinition().excludePicture().build()));
+        } catch (TechnicalException ex) {
+            LOGGER.error("An error occurs while trying to find APIs light using their IDs {}", apiIds, ex);
+            throw new TechnicalManagementException("An error occurs while trying to find APIs light using their IDs " + apiIds, ex);
+        }
+    }
+
     @Override
     public Set<ApiEntity> findByUser(String userId, ApiQuery apiQuery) {
         try {
@@ -651,6 +767,7 @@ public class ApiServiceImpl extends TransactionalService implements ApiService {
                 }
 
                 Api updatedApi = apiRepository.update(api);
+                eventManager.publishEvent(ApiModelEvent.UPDATE, apiId);
 
                 // Audit
                 auditService.createApiAuditLog(
@@ -714,6 +831,7 @@ public class ApiServiceImpl extends TransactionalService implements ApiService {
 
                 // Delete API
                 apiRepository.delete(apiId);
+                eventManager.publishEvent(ApiModelEvent.UPDATE, apiId);
                 // Delete top API
                 topApiService.delete(apiId);
                 // Audit
@@ -773,7 +891,7 @@ public class ApiServiceImpl extends TransactionalService implements ApiService {
     public boolean isSynchronized(String apiId) {
         try {
             // 1_ First, check the API state
-            ApiEntity api = findById(apiId);
+            Api api = findApiById(apiId);
 
             Map<String, Object> properties = new HashMap<>();
             properties.put(Event.EventProperties.API_ID.getValue(), apiId);
@@ -786,18 +904,7 @@ public class ApiServiceImpl extends TransactionalService implements ApiService {
                 // According to page size, we know that we have only one element in the list
                 EventEntity lastEvent = events.getContent().get(0);
 
-                //TODO: Done only for backward compatibility with 0.x. Must be removed later (1.1.x ?)
-                boolean enabled = objectMapper.getDeserializationConfig().isEnabled(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
-                objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
-                Api payloadEntity = objectMapper.readValue(lastEvent.getPayload(), Api.class);
-                objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, enabled);
-
-                final ApiEntity deployedApi = convert(payloadEntity);
-                // Remove policy description from sync check
-                removeDescriptionFromPolicies(api);
-                removeDescriptionFromPolicies(deployedApi);
-
-                boolean sync = apiSynchronizationProcessor.processCheckSynchronization(deployedApi, api);
+                boolean sync = isDeployed(lastEvent, api);
 
                 // 2_ If API definition is synchronized, check if there is any modification for API's plans
                 // but only for published or closed plan
@@ -817,15 +924,41 @@ public class ApiServiceImpl extends TransactionalService implements ApiService {
         return false;
     }
 
-    private void removeDescriptionFromPolicies(final ApiEntity api) {
-        if (api.getPaths() != null) {
-            api.getPaths().forEach((s, path) -> {
-                if (path.getRules() != null) {
-                    path.getRules().forEach(rule -> rule.setDescription(""));
-                }
-            });
+    private String getFingerprint(Api api) {
+        Fingerprint fingerprint = fingerprints.getIfPresent(api.getId());
+        if (fingerprint == null || !Objects.equals(fingerprint.updatedAt, api.getUpdatedAt())) {
+            fingerprint = new Fingerprint(api.getUpdatedAt(), apiSynchronizationProcessor.fingerprint(convert(api)));
+            fingerprints.put(api.getId(), fingerprint);
         }
+        return fingerprint.value;
+    }
 
+    private void putFingerprint(Map<String, String> properties, String fingerprint) {
+        if (fingerprint != null) {
+            properties.put(DEPLOYMENT_FINGERPRINT_PROPERTY, fingerprint);
+            properties.put(DEPLOYMENT_FINGERPRINT_VERSION_PROPERTY, ApiSynchronizationProcessor.FINGERPRINT_VERSION);
+        }
+    }
+
+    /**
+     * Compares the fingerprints when the deployed one has been computed by the current algorithm, the definitions
+     * themselves otherwise.
+     */
+    private boolean isDeployed(EventEntity event, Api api) throws ExecutionException {
+        final Map<String, String> properties = event.getProperties();
+        if (properties != null && properties.containsKey(DEPLOYMENT_FINGERPRINT_PROPERTY)
+                && ApiSynchronizationProcessor.FINGERPRINT_VERSION.equals(properties.get(DEPLOYMENT_FINGERPRINT_VERSION_PROPERTY))) {
+            return properties.get(DEPLOYMENT_FINGERPRINT_PROPERTY).equals(getFingerprint(api));
+        }
+
+        ApiEntity deployedApi = deployedApis.get(event.getId(), () -> {
+            //TODO: Done only for backward compatibility with 0.x. Must be removed later (1.1.x ?)
+            Api payloadEntity = objectMapper.readerFor(Api.class)
+                    .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                    .readValue(event.getPayload());
+            return convert(payloadEntity);
+        });
+        return apiSynchronizationProcessor.processCheckSynchronization(deployedApi, convert(api));
     }
 
     @Override
@@ -869,10 +1002,12 @@ public class ApiServiceImpl extends TransactionalService implements ApiService {
             apiValue.setUpdatedAt(new Date());
             apiValue.setDeployedAt(apiValue.getUpdatedAt());
             apiValue = apiRepository.update(apiValue);
+            eventManager.publishEvent(ApiModelEvent.UPDATE, apiId);
 
             Map<String, String> properties = new HashMap<>();
             properties.put(Event.EventProperties.API_ID.getValue(), apiValue.getId());
             properties.put(Event.EventProperties.USER.getValue(), userId);
+            putFingerprint(properties, getFingerprint(apiValue));
 
             // Clear useless field for history
             apiValue.setPicture(null);
@@ -912,6 +1047,7 @@ public class ApiServiceImpl extends TransactionalService implements ApiService {
                 Map<String, String> properties = new HashMap<>();
                 properties.put(Event.EventProperties.API_ID.getValue(), lastPublishedAPI.getId());
                 properties.put(Event.EventProperties.USER.getValue(), userId);
+                putFingerprint(properties, apiSynchronizationProcessor.fingerprint(convert(lastPublishedAPI)));
 
                 // Clear useless field for history
                 lastPublishedAPI.setPicture(null);
@@ -933,12 +1069,7 @@ public class ApiServiceImpl extends TransactionalService implements ApiService {
     @Override
     public String exportAsJson(final String apiId, String exportVersion, String... filteredFields) {
         ApiEntity apiEntity = findById(apiId);
-
-        // set metadata for serialize process
-        Map<String, Object> metadata = new HashMap<>();
-        metadata.put(ApiSerializer.METADATA_EXPORT_VERSION, exportVersion);
-        metadata.put(ApiSerializer.METADATA_FILTERED_FIELDS_LIST, Arrays.asList(filteredFields));
-        apiEntity.setMetadata(metadata);
+        setExportMetadata(apiEntity, exportVersion, filteredFields);
 
         try {
             return objectMapper.writeValueAsString(apiEntity);
@@ -948,6 +1079,79 @@ public class ApiServiceImpl extends TransactionalService implements ApiService {
         return "";
     }
 
+    @Override
+    public void exportAsJson(final String apiId, String exportVersion, OutputStream output, String... filteredFields) {
+        ApiEntity apiEntity = findById(apiId);
+
+        try {
+            writeExport(apiEntity, exportVersion, output, filteredFields);
+        } catch (final IOException ioe) {
+            LOGGER.error("An error occurs while trying to JSON serialize the API {}", apiId, ioe);
+            throw new TechnicalManagementException("An error occurs while trying to JSON serialize the API " + apiId, ioe);
+        }
+    }
+
+    @Override
+    public void exportAsZip(Collection<String> apiIds, String exportVersion, OutputStream output, String... filteredFields) {
+        ZipOutputStream zip = new ZipOutputStream(output);
+        Set<String> entryNames = new HashSet<>();
+
+        try {
+            // an API is exported once, whatever the number of times it is requested
+            for (String apiId : new LinkedHashSet<>(apiIds)) {
+                ApiEntity apiEntity = findById(apiId);
+
+                String entryName = getExportFilename(apiEntity);
+                if (!entryNames.add(entryName)) {
+                    // APIs with the same name and version are told apart by their id, then by a counter
+                    String baseName = entryName.substring(0, entryName.length() - ".json".length()) + '-' + apiId;
+                    entryName = baseName + ".json";
+                    for (int i = 2; !entryNames.add(entryName); i++) {
+                        entryName = baseName + '-' + i + ".json";
+                    }
+                }
+
+                zip.putNextEntry(new ZipEntry(entryName));
+                writeExport(apiEntity, exportVersion, zip, filteredFields);
+                zip.closeEntry();
+            }
+
+            // the underlying stream is owned by the caller
+            zip.finish();
+        } catch (final IOException ioe) {
+            LOGGER.error("An error occurs while trying to export the APIs {}", apiIds, ioe);
+            throw new TechnicalManagementException("An error occurs while trying to export the APIs " + apiIds, ioe);
+        }
+    }
+
+    private void writeExport(ApiEntity apiEntity, String exportVersion, OutputStream output, String... filteredFields) throws IOException {
+        setExportMetadata(apiEntity, exportVersion, filteredFields);
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(output)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            objectMapper.writeValue(generator, apiEntity);
+        }
+    }
+
+    private void setExportMetadata(ApiEntity apiEntity, String exportVersion, String... filteredFields) {
+        // set metadata for serialize process
+        Map<String, Object> metadata = new HashMap<>();
+        metadata.put(ApiSerializer.METADATA_EXPORT_VERSION, exportVersion);
+        metadata.put(ApiSerializer.METADATA_FILTERED_FIELDS_LIST, Arrays.asList(filteredFields));
+        apiEntity.setMetadata(metadata);
+    }
+
+    @Override
+    public String getExportFilename(ApiEntity apiEntity) {
+        return String.format("%s-%s.json", apiEntity.getName(), apiEntity.getVersion())
+                .trim()
+                .toLowerCase()
+                .replaceAll(" +", " ")
+                .replaceAll(" ", "-")
+                .replaceAll("[^\\w\\s\\.]", "-")
+                .replaceAll("-+", "-");
+    }
+
     @Override
     public ApiEntity createOrUpdateWithDefinition(final ApiEntity apiEntity, String apiDefinition, String userId) {
         try {
@@ -1129,21 +1333,74 @@ public class ApiServiceImpl extends TransactionalService implements ApiService {
 
     @Override
     public InlinePictureEntity getPicture(String apiId) {
-        ApiEntity apiEntity = findById(apiId);
+        // the picture does not require the definition to be parsed nor the primary owner to be resolved
+        final Api api = findApiById(apiId);
+        final InlinePictureEntity imageEntity = convertPicture(api);
+        pictures.put(apiId, convertPicture(api, imageEntity));
+        return imageEntity;
+    }
+
+    @Override
+    public ApiPictureEntity getPictureInfo(String apiId) {
+        try {
+            return pictures.get(apiId, () -> {
+                final Api api = findApiById(apiId);
+                return convertPicture(api, convertPicture(api));
+            });
+        } catch (UncheckedExecutionException | ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new TechnicalManagementException("An error occurs while trying to find an API using its ID: " + apiId, e.getCause());
+        }
+    }
+
+    private Api findApiById(String apiId) {
+        try {
+            return apiRepository.findById(apiId).orElseThrow(() -> new ApiNotFoundException(apiId));
+        } catch (TechnicalException ex) {
+            LOGGER.error("An error occurs while trying to find an API using its ID: {}", apiId, ex);
+            throw new TechnicalManagementException("An error occurs while trying to find an API using its ID: " + apiId, ex);
+        }
+    }
+
+    private InlinePictureEntity convertPicture(Api api) {
         InlinePictureEntity imageEntity = new InlinePictureEntity();
-        if (apiEntity.getPicture() == null) {
+        if (api.getPicture() == null) {
             imageEntity.setType("image/png");
             imageEntity.setContent(getDefaultPicture());
         } else {
-            String[] parts = apiEntity.getPicture().split(";", 2);
+            String[] parts = api.getPicture().split(";", 2);
             imageEntity.setType(parts[0].split(":")[1]);
-            String base64Content = apiEntity.getPicture().split(",", 2)[1];
+            String base64Content = api.getPicture().split(",", 2)[1];
             imageEntity.setContent(DatatypeConverter.parseBase64Binary(base64Content));
         }
 
+        imageEntity.setHash(pictureHash(imageEntity.getType(), imageEntity.getContent()));
+
         return imageEntity;
     }
 
+    private static String pictureHash(String type, byte[] content) {
+        if (content == null) {
+            return null;
+        }
+        return Hashing.murmur3_128().newHasher()
+                .putString(type, StandardCharsets.UTF_8)
+                .putBytes(content)
+                .hash()
+                .toString();
+    }
+
+    private ApiPictureEntity convertPicture(Api api, InlinePictureEntity imageEntity) {
+        ApiPictureEntity pictureEntity = new ApiPictureEntity();
+        if (api.getVisibility() != null) {
+            pictureEntity.setVisibility(io.gravitee.management.model.Visibility.valueOf(api.getVisibility().toString()));
+        }
+        pictureEntity.setHash(imageEntity.getHash());
+        return pictureEntity;
+    }
+
     @Override
     public byte[] getDefaultPicture() {
         try {
@@ -1154,6 +1411,11 @@ public class ApiServiceImpl extends TransactionalService implements ApiService {
         return null;
     }
 
+    @Override
+    public String getDefaultPictureHash() {
+        return defaultPictureHash.get();
+    }
+
     @Override
     public void deleteViewFromAPIs(final String viewId) {
         findAll().forEach(api -> {
@@ -1172,6 +1434,7 @@ public class ApiServiceImpl extends TransactionalService implements ApiService {
                 api.getViews().remove(viewId);
                 api.setUpdatedAt(new Date());
                 apiRepository.update(api);
+                eventManager.publishEvent(ApiModelEvent.UPDATE, apiId);
                 // Audit
                 auditService.createApiAuditLog(
                         apiId,
@@ -1200,6 +1463,63 @@ public class ApiServiceImpl extends TransactionalService implements ApiService {
 
     @Override
     public ApiModelEntity findByIdForTemplates(String apiId) {
+        try {
+            // the cached model is shared, each caller gets its own copy
+            return copy(apiModels.get(apiId, () -> loadApiModel(apiId)));
+        } catch (UncheckedExecutionException | ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new TechnicalManagementException("An error occurs while trying to find an API using its ID: " + apiId, e.getCause());
+        }
+    }
+
+    private ApiModelEntity copy(ApiModelEntity apiModel) {
+        final ApiModelEntity copy = new ApiModelEntity();
+
+        copy.setId(apiModel.getId());
+        copy.setName(apiModel.getName());
+        copy.setDescription(apiModel.getDescription());
+        copy.setCreatedAt(copy(apiModel.getCreatedAt()));
+        copy.setDeployedAt(copy(apiModel.getDeployedAt()));
+        copy.setUpdatedAt(copy(apiModel.getUpdatedAt()));
+        copy.setGroups(apiModel.getGroups() == null ? null : new HashSet<>(apiModel.getGroups()));
+        copy.setVisibility(apiModel.getVisibility());
+        copy.setViews(apiModel.getViews() == null ? null : new HashSet<>(apiModel.getViews()));
+        copy.setVersion(apiModel.getVersion());
+        copy.setState(apiModel.getState());
+        copy.setTags(apiModel.getTags() == null ? null : new HashSet<>(apiModel.getTags()));
+        copy.setPicture(apiModel.getPicture());
+        copy.setPrimaryOwner(apiModel.getPrimaryOwner());
+        copy.setMetadata(apiModel.getMetadata() == null ? null : new HashMap<>(apiModel.getMetadata()));
+
+        // definition objects are mutable, they are copied through their JSON representation
+        copy.setServices(copy(apiModel.getServices(), new TypeReference<io.gravitee.definition.model.services.Services>() {}));
+        copy.setPaths(copy(apiModel.getPaths(), new TypeReference<Map<String, Path>>() {}));
+        copy.setProperties(copy(apiModel.getProperties(), new TypeReference<io.gravitee.definition.model.Properties>() {}));
+        copy.setProxy(copy(apiModel.getProxy(), new TypeReference<Proxy>() {}));
+
+        return copy;
+    }
+
+    private <T> T copy(T value, TypeReference<T> type) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            final TokenBuffer buffer = new TokenBuffer(objectMapper, false);
+            objectMapper.writeValue(buffer, value);
+            return objectMapper.readValue(buffer.asParser(), type);
+        } catch (IOException ioe) {
+            throw new TechnicalManagementException("An error occurs while copying the API definition", ioe);
+        }
+    }
+
+    private static Date copy(Date date) {
+        return date == null ? null : new Date(date.getTime());
+    }
+
+    private ApiModelEntity loadApiModel(String apiId) {
         final ApiEntity apiEntity = findById(apiId);
 
         final ApiModelEntity apiModelEntity = new ApiModelEntity();
@@ -1292,7 +1612,7 @@ public class ApiServiceImpl extends TransactionalService implements ApiService {
             entities.forEach(entity -> {
                 if (entity.getValue().contains("${")) {
                     try {
-                        Template template = new Template(entity.getId() + entity.getUpdatedAt().toString(), entity.getValue(), freemarkerConfiguration);
+                        Template template = templateCache.get("header-" + entity.getId(), entity.getValue());
                         entity.setValue(FreeMarkerTemplateUtils.processTemplateIntoString(template, model));
                     } catch (IOException | TemplateException e) {
                         LOGGER.error("Unable to apply templating on api headers ", e);
@@ -1345,6 +1665,7 @@ public class ApiServiceImpl extends TransactionalService implements ApiService {
             api.setUpdatedAt(new Date());
             api.setLifecycleState(lifecycleState);
             ApiEntity apiEntity = convert(apiRepository.update(api));
+            eventManager.publishEvent(ApiModelEvent.UPDATE, apiId);
             // Audit
             auditService.createApiAuditLog(
                     apiId,
@@ -1529,6 +1850,16 @@ public class ApiServiceImpl extends TransactionalService implements ApiService {
         return lifecycleState;
     }
 
+    private static class Fingerprint {
+        private final Date updatedAt;
+        private final String value;
+
+        Fingerprint(Date updatedAt, String value) {
+            this.updatedAt = updatedAt;
+            this.value = value;
+        }
+    }
+
     private static class MemberToImport {
         private String source;
         private String sourceId;
@@ -158,6 +158,17 @@ public class ApplicationServiceImpl extends AbstractService implements Applicati
         }
     }
 
+    @Override
+    public Set<ApplicationEntity> findByIds(List<String> applicationIds) {
+        try {
+            LOGGER.debug("Find applications by IDs: {}", applicationIds);
+            return convert(applicationRepository.findByIds(applicationIds));
+        } catch (TechnicalException ex) {
+            LOGGER.error("An error occurs while trying to find applications using their IDs {}", applicationIds, ex);
+            throw new TechnicalManagementException("An error occurs while trying to find applications using their IDs " + applicationIds, ex);
+        }
+    }
+
     @Override
     public Set<ApplicationEntity> findByGroups(List<String> groupIds) {
         LOGGER.debug("Find applications by groups {}", groupIds);
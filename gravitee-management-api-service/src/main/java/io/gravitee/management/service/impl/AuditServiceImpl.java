@@ -15,6 +15,7 @@
  */
 package io.gravitee.management.service.impl;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.github.fge.jsonpatch.diff.JsonDiff;
@@ -28,9 +29,11 @@ import io.gravitee.management.service.AuditService;
 import io.gravitee.management.service.UserService;
 import io.gravitee.management.service.exceptions.TechnicalManagementException;
 import io.gravitee.management.service.exceptions.UserNotFoundException;
+import io.gravitee.management.service.impl.audit.AuditDiffer;
 import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.repository.management.api.*;
 import io.gravitee.repository.management.api.search.AuditCriteria.Builder;
+import io.gravitee.repository.management.api.search.PageCriteria;
 import io.gravitee.repository.management.api.search.builder.PageableBuilder;
 import io.gravitee.repository.management.model.*;
 import org.slf4j.Logger;
@@ -74,6 +77,9 @@ public class AuditServiceImpl extends AbstractService implements AuditService {
     @Autowired
     private ObjectMapper mapper;
 
+    @Autowired
+    private Collection<AuditDiffer> differs;
+
     @Override
     public MetadataPage<AuditEntity> search(AuditQuery query) {
 
@@ -113,78 +119,94 @@ public class AuditServiceImpl extends AbstractService implements AuditService {
     }
 
     private Map<String, String> getMetadata(List<AuditEntity> content) {
+        // collect referenced ids per type, so that each type is resolved in bulk
+        Set<String> userIds = new HashSet<>();
+        Set<String> groupIds = new HashSet<>();
+        Map<String, Set<String>> pageIdsByApi = new HashMap<>();
+        Set<String> portalPageIds = new HashSet<>();
+        Map<String, Set<String>> planIdsByApi = new HashMap<>();
+        Set<MetadataReference> metadataReferences = new HashSet<>();
+
+        for (AuditEntity auditEntity : content) {
+            if (auditEntity.getUser() != null) {
+                userIds.add(auditEntity.getUser());
+            }
+            if (auditEntity.getProperties() == null) {
+                continue;
+            }
+
+            String apiId = Audit.AuditReferenceType.API.name().equals(auditEntity.getReferenceType()) ?
+                    auditEntity.getReferenceId() : null;
+            for (Map.Entry<String, String> property : auditEntity.getProperties().entrySet()) {
+                switch (Audit.AuditProperties.valueOf(property.getKey())) {
+                    case PAGE:
+                        if (apiId == null) {
+                            portalPageIds.add(property.getValue());
+                        } else {
+                            pageIdsByApi.computeIfAbsent(apiId, k -> new HashSet<>()).add(property.getValue());
+                        }
+                        break;
+                    case PLAN:
+                        planIdsByApi.computeIfAbsent(auditEntity.getReferenceId(), k -> new HashSet<>()).add(property.getValue());
+                        break;
+                    case METADATA:
+                        metadataReferences.add(MetadataReference.of(auditEntity));
+                        break;
+                    case GROUP:
+                        groupIds.add(property.getValue());
+                        break;
+                    case USER:
+                        userIds.add(property.getValue());
+                        break;
+                    default:
+                        break;
+                }
+            }
+        }
+
+        Map<String, String> userNames = findUserNames(userIds);
+        Map<String, String> groupNames = findGroupNames(groupIds);
+        Map<String, String> pageNames = findPageNames(pageIdsByApi, portalPageIds);
+        Map<String, String> planNames = findPlanNames(planIdsByApi);
+        Map<MetadataReference, Map<String, String>> metadataNames = findMetadataNames(metadataReferences);
+
         Map<String, String> metadata = new HashMap<>();
         for (AuditEntity auditEntity : content) {
             //add user's display name
-            String metadataKey = "USER:"+auditEntity.getUser()+":name";
-            try {
-                UserEntity user = userService.findById(auditEntity.getUser());
-                metadata.put(metadataKey, user.getDisplayName());
-            } catch (TechnicalManagementException e) {
-                LOGGER.error("Error finding metadata {}", auditEntity.getUser());
-            } catch (UserNotFoundException unfe) {
-                metadata.put(metadataKey, auditEntity.getUser());
-            }
+            metadata.put("USER:" + auditEntity.getUser() + ":name",
+                    userNames.getOrDefault(auditEntity.getUser(), auditEntity.getUser()));
 
             //add property metadata
-            String name;
             if (auditEntity.getProperties() != null) {
                 for (Map.Entry<String, String> property : auditEntity.getProperties().entrySet()) {
-                    metadataKey = new StringJoiner(":").
+                    String metadataKey = new StringJoiner(":").
                             add(property.getKey()).
                             add(property.getValue()).
                             add("name").
                             toString();
                     if (!metadata.containsKey(metadataKey)) {
-                        name = property.getValue();
-                        try {
-                            switch (Audit.AuditProperties.valueOf(property.getKey())) {
-                                case PAGE:
-                                    Optional<io.gravitee.repository.management.model.Page> optPage = pageRepository.findById(property.getValue());
-                                    if (optPage.isPresent()) {
-                                        name = optPage.get().getName();
-                                    }
-                                    break;
-                                case PLAN:
-                                    Optional<Plan> optPlan = planRepository.findById(property.getValue());
-                                    if (optPlan.isPresent()) {
-                                        name = optPlan.get().getName();
-                                    }
-                                    break;
-                                case METADATA:
-                                    MetadataReferenceType refType = (Audit.AuditReferenceType.API.name().equals(auditEntity.getReferenceType()))
-                                            ? MetadataReferenceType.API :
-                                            (Audit.AuditReferenceType.APPLICATION.name().equals(auditEntity.getReferenceType())) ?
-                                                    MetadataReferenceType.APPLICATION :
-                                                    MetadataReferenceType.DEFAULT;
-                                    String refId = refType.equals(MetadataReferenceType.DEFAULT) ? getDefautReferenceId() : auditEntity.getReferenceId();
-
-                                    Optional<Metadata> optMetadata = metadataRepository.findById(property.getValue(), refId, refType);
-                                    if (optMetadata.isPresent()) {
-                                        name = optMetadata.get().getName();
-                                    }
-                                    break;
-                                case GROUP:
-                                    Optional<Group> optGroup = groupRepository.findById(property.getValue());
-                                    if (optGroup.isPresent()) {
-                                        name = optGroup.get().getName();
-                                    }
-                                    break;
-                                case USER:
-                                    try {
-                                        UserEntity user = userService.findById(property.getValue());
-                                        name = user.getDisplayName();
-                                    } catch (UserNotFoundException unfe) {
-                                        name = property.getValue();
-                                    }
-                                default:
-                                    break;
-                            }
-                        } catch (TechnicalException e) {
-                            LOGGER.error("Error finding metadata {}", metadataKey);
-                            name = property.getValue();
+                        Map<String, String> names;
+                        switch (Audit.AuditProperties.valueOf(property.getKey())) {
+                            case PAGE:
+                                names = pageNames;
+                                break;
+                            case PLAN:
+                                names = planNames;
+                                break;
+                            case METADATA:
+                                names = metadataNames.getOrDefault(MetadataReference.of(auditEntity), Collections.emptyMap());
+                                break;
+                            case GROUP:
+                                names = groupNames;
+                                break;
+                            case USER:
+                                names = userNames;
+                                break;
+                            default:
+                                names = Collections.emptyMap();
+                                break;
                         }
-                        metadata.put(metadataKey, name);
+                        metadata.put(metadataKey, names.getOrDefault(property.getValue(), property.getValue()));
                     }
                 }
             }
@@ -192,6 +214,83 @@ public class AuditServiceImpl extends AbstractService implements AuditService {
         return metadata;
     }
 
+    private Map<String, String> findUserNames(Set<String> userIds) {
+        if (userIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        try {
+            return userService.findByIds(new ArrayList<>(userIds)).stream()
+                    .collect(Collectors.toMap(UserEntity::getId, UserEntity::getDisplayName, (u1, u2) -> u1));
+        } catch (UserNotFoundException unfe) {
+            return Collections.emptyMap();
+        } catch (TechnicalManagementException e) {
+            LOGGER.error("Error finding metadata for users {}", userIds);
+            return Collections.emptyMap();
+        }
+    }
+
+    private Map<String, String> findGroupNames(Set<String> groupIds) {
+        if (groupIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        try {
+            return groupRepository.findByIds(groupIds).stream()
+                    .collect(Collectors.toMap(Group::getId, Group::getName, (g1, g2) -> g1));
+        } catch (TechnicalException e) {
+            LOGGER.error("Error finding metadata for groups {}", groupIds);
+            return Collections.emptyMap();
+        }
+    }
+
+    private Map<String, String> findPageNames(Map<String, Set<String>> pageIdsByApi, Set<String> portalPageIds) {
+        Map<String, String> names = new HashMap<>();
+        pageIdsByApi.forEach((apiId, pageIds) -> {
+            try {
+                pageRepository.search(new PageCriteria.Builder().api(apiId).build()).stream()
+                        .filter(page -> pageIds.contains(page.getId()))
+                        .forEach(page -> names.put(page.getId(), page.getName()));
+            } catch (TechnicalException e) {
+                LOGGER.error("Error finding metadata for pages of API {}", apiId);
+            }
+        });
+        for (String pageId : portalPageIds) {
+            try {
+                pageRepository.findById(pageId).ifPresent(page -> names.put(page.getId(), page.getName()));
+            } catch (TechnicalException e) {
+                LOGGER.error("Error finding metadata for page {}", pageId);
+            }
+        }
+        return names;
+    }
+
+    private Map<String, String> findPlanNames(Map<String, Set<String>> planIdsByApi) {
+        Map<String, String> names = new HashMap<>();
+        planIdsByApi.forEach((apiId, planIds) -> {
+            try {
+                planRepository.findByApi(apiId).stream()
+                        .filter(plan -> planIds.contains(plan.getId()))
+                        .forEach(plan -> names.put(plan.getId(), plan.getName()));
+            } catch (TechnicalException e) {
+                LOGGER.error("Error finding metadata for plans of API {}", apiId);
+            }
+        });
+        return names;
+    }
+
+    private Map<MetadataReference, Map<String, String>> findMetadataNames(Set<MetadataReference> references) {
+        Map<MetadataReference, Map<String, String>> names = new HashMap<>();
+        for (MetadataReference reference : references) {
+            try {
+                names.put(reference, metadataRepository.findByReferenceTypeAndReferenceId(reference.type, reference.id)
+                        .stream()
+                        .collect(Collectors.toMap(Metadata::getKey, Metadata::getName, (m1, m2) -> m1)));
+            } catch (TechnicalException e) {
+                LOGGER.error("Error finding metadata for {} {}", reference.type, reference.id);
+            }
+        }
+        return names;
+    }
+
     @Override
     public void createApiAuditLog(String apiId, Map<Audit.AuditProperties,String> properties, Audit.AuditEvent event, Date createdAt,
                                   Object oldValue, Object newValue) {
@@ -271,6 +370,24 @@ public class AuditServiceImpl extends AbstractService implements AuditService {
         audit.setReferenceId(referenceId);
         audit.setEvent(event.name());
 
+        audit.setPatch(diff(oldValue, newValue).toString());
+
+        try {
+            auditRepository.create(audit);
+        } catch (TechnicalException e) {
+            LOGGER.error("Error occurs during the creation of an Audit Log {}.", e);
+        }
+    }
+
+    private JsonNode diff(Object oldValue, Object newValue) {
+        Object value = newValue != null ? newValue : oldValue;
+        if (value != null && (oldValue == null || newValue == null || oldValue.getClass().equals(newValue.getClass()))) {
+            Optional<AuditDiffer> differ = differs.stream().filter(d -> d.handle(value.getClass())).findFirst();
+            if (differ.isPresent()) {
+                return differ.get().diff(oldValue, newValue);
+            }
+        }
+
         ObjectNode oldNode = oldValue == null
                 ? mapper.createObjectNode()
                 : mapper.convertValue(oldValue, ObjectNode.class).remove(Arrays.asList("updatedAt", "createdAt"));
@@ -278,13 +395,7 @@ public class AuditServiceImpl extends AbstractService implements AuditService {
                 ? mapper.createObjectNode()
                 : mapper.convertValue(newValue, ObjectNode.class).remove(Arrays.asList("updatedAt", "createdAt"));
 
-        audit.setPatch(JsonDiff.asJson(oldNode, newNode).toString());
-
-        try {
-            auditRepository.create(audit);
-        } catch (TechnicalException e) {
-            LOGGER.error("Error occurs during the creation of an Audit Log {}.", e);
-        }
+        return JsonDiff.asJson(oldNode, newNode);
     }
 
     private AuditEntity convert(Audit audit) {
@@ -305,4 +416,37 @@ public class AuditServiceImpl extends AbstractService implements AuditService {
     private String getAuthenticatedUsernameOrSystem() {
         return isAuthenticated() ? getAuthenticatedUsername() : "system";
     }
+
+    private static final class MetadataReference {
+        private final MetadataReferenceType type;
+        private final String id;
+
+        private MetadataReference(MetadataReferenceType type, String id) {
+            this.type = type;
+            this.id = id;
+        }
+
+        static MetadataReference of(AuditEntity auditEntity) {
+            MetadataReferenceType refType = (Audit.AuditReferenceType.API.name().equals(auditEntity.getReferenceType()))
+                    ? MetadataReferenceType.API :
+                    (Audit.AuditReferenceType.APPLICATION.name().equals(auditEntity.getReferenceType())) ?
+                            MetadataReferenceType.APPLICATION :
+                            MetadataReferenceType.DEFAULT;
+            String refId = refType.equals(MetadataReferenceType.DEFAULT) ? getDefautReferenceId() : auditEntity.getReferenceId();
+            return new MetadataReference(refType, refId);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            MetadataReference that = (MetadataReference) o;
+            return type == that.type && Objects.equals(id, that.id);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(type, id);
+        }
+    }
 }
@@ -15,12 +15,15 @@
  */
 package io.gravitee.management.service.impl;
 
+import com.sun.mail.smtp.SMTPAddressFailedException;
+import com.sun.mail.smtp.SMTPSendFailedException;
 import freemarker.template.Configuration;
 import freemarker.template.Template;
 import io.gravitee.management.service.EmailNotification;
 import io.gravitee.management.service.EmailService;
 import io.gravitee.management.service.exceptions.EmailDisabledException;
-import io.gravitee.management.service.exceptions.TechnicalManagementException;
+import io.gravitee.management.service.exceptions.NotificationDeliveryException;
+import io.gravitee.management.service.notifiers.NotificationDispatcher;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.select.Elements;
@@ -29,16 +32,18 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.FileSystemResource;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 import javax.activation.MimetypesFileTypeMap;
+import javax.mail.SendFailedException;
+import javax.mail.internet.MimeMessage;
 import java.io.File;
 import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
 import java.util.stream.Collectors;
 
 import static java.lang.String.format;
@@ -68,52 +73,117 @@ public class EmailServiceImpl extends TransactionalService implements EmailServi
     private boolean enabled;
     @Value("${email.from}")
     private String defaultFrom;
+    @Autowired
+    private NotificationDispatcher notificationDispatcher;
 
     public void sendEmailNotification(final EmailNotification emailNotification) {
-        if (enabled) {
-            try {
-                final MimeMessageHelper mailMessage = new MimeMessageHelper(mailSender.createMimeMessage(), true, StandardCharsets.UTF_8.name());
-
-                final Template template = freemarkerConfiguration.getTemplate(emailNotification.getTemplate());
-                final String content = processTemplateIntoString(template, emailNotification.getParams());
-
-                final String from = isNull(emailNotification.getFrom()) || emailNotification.getFrom().isEmpty()
-                        ? defaultFrom
-                        : emailNotification.getFrom();
+        sendEmailNotifications(Collections.singletonList(emailNotification));
+    }
 
-                if (isEmpty(emailNotification.getFromName())) {
-                    mailMessage.setFrom(from);
-                } else {
-                    mailMessage.setFrom(from, emailNotification.getFromName());
-                }
+    @Override
+    public void sendEmailNotifications(final Collection<EmailNotification> emailNotifications) {
+        if (!enabled) {
+            throw new EmailDisabledException();
+        }
 
-                mailMessage.setTo(emailNotification.getTo());
-                if (emailNotification.isCopyToSender() && emailNotification.getFrom() != null) {
-                    mailMessage.setBcc(emailNotification.getFrom());
+        // notifications of a batch usually share the same template and parameters, render them only once
+        final List<MimeMessage> messages = new ArrayList<>(emailNotifications.size());
+        try {
+            EmailNotification rendered = null;
+            String content = null;
+            for (EmailNotification emailNotification : emailNotifications) {
+                if (rendered == null || !rendered.getTemplate().equals(emailNotification.getTemplate())
+                        || rendered.getParams() != emailNotification.getParams()) {
+                    final Template template = freemarkerConfiguration.getTemplate(emailNotification.getTemplate());
+                    content = processTemplateIntoString(template, emailNotification.getParams());
+                    rendered = emailNotification;
                 }
-                if (emailNotification.getBcc() != null && emailNotification.getBcc().length > 0) {
-                    mailMessage.setBcc(emailNotification.getBcc());
-                }
-                mailMessage.setSubject(format(subject, emailNotification.getSubject()));
+                messages.add(prepareMessage(emailNotification, content));
+            }
+        } catch (final Exception ex) {
+            LOGGER.error("Error while preparing email notification", ex);
+            throw new NotificationDeliveryException("Error while preparing email notification", ex, false);
+        }
 
-                final String html = addResourcesInMessage(mailMessage, content);
+        send(messages);
+    }
 
-                LOGGER.debug("Sending an email to: {}\nSubject: {}\nMessage: {}",
-                        emailNotification.getTo(), emailNotification.getSubject(), html);
+    private void send(final List<MimeMessage> messages) {
+        try {
+            // a single SMTP session is used to send all the messages
+            mailSender.send(messages.toArray(new MimeMessage[0]));
+        } catch (final MailSendException mse) {
+            LOGGER.error("Error while sending email notification", mse);
+
+            // the messages accepted by the SMTP server must not be sent again
+            final List<MimeMessage> retries = new ArrayList<>();
+            if (mse.getFailedMessages().isEmpty()) {
+                retries.addAll(messages);
+            } else {
+                mse.getFailedMessages().forEach((message, ex) -> {
+                    if (message instanceof MimeMessage && isTransient(ex)) {
+                        retries.add((MimeMessage) message);
+                    }
+                });
+            }
 
-                mailSender.send(mailMessage.getMimeMessage());
-            } catch (final Exception ex) {
-                LOGGER.error("Error while sending email notification", ex);
-                throw new TechnicalManagementException("Error while sending email notification", ex);
+            if (retries.isEmpty()) {
+                throw new NotificationDeliveryException("Error while sending email notification", mse, false);
             }
+            throw new NotificationDeliveryException("Error while sending email notification", mse, () -> send(retries));
+        } catch (final MailException me) {
+            // authentication or message preparation errors are not solved by sending again
+            LOGGER.error("Error while sending email notification", me);
+            throw new NotificationDeliveryException("Error while sending email notification", me, false);
+        }
+    }
+
+    private static boolean isTransient(final Exception ex) {
+        // SMTP 4xx replies are temporary failures, 5xx replies are permanent ones
+        if (ex instanceof SMTPAddressFailedException) {
+            return ((SMTPAddressFailedException) ex).getReturnCode() / 100 == 4;
+        }
+        if (ex instanceof SMTPSendFailedException) {
+            return ((SMTPSendFailedException) ex).getReturnCode() / 100 == 4;
+        }
+        // other send failures are invalid recipients, whereas I/O and connection errors are transient
+        return !(ex instanceof SendFailedException);
+    }
+
+    private MimeMessage prepareMessage(final EmailNotification emailNotification, final String content) throws Exception {
+        final MimeMessageHelper mailMessage = new MimeMessageHelper(mailSender.createMimeMessage(), true, StandardCharsets.UTF_8.name());
+
+        final String from = isNull(emailNotification.getFrom()) || emailNotification.getFrom().isEmpty()
+                ? defaultFrom
+                : emailNotification.getFrom();
+
+        if (isEmpty(emailNotification.getFromName())) {
+            mailMessage.setFrom(from);
         } else {
-            throw new EmailDisabledException();
+            mailMessage.setFrom(from, emailNotification.getFromName());
+        }
+
+        mailMessage.setTo(emailNotification.getTo());
+        if (emailNotification.isCopyToSender() && emailNotification.getFrom() != null) {
+            mailMessage.setBcc(emailNotification.getFrom());
+        }
+        if (emailNotification.getBcc() != null && emailNotification.getBcc().length > 0) {
+            mailMessage.setBcc(emailNotification.getBcc());
         }
+        mailMessage.setSubject(format(subject, emailNotification.getSubject()));
+
+        final String html = addResourcesInMessage(mailMessage, content);
+
+        LOGGER.debug("Sending an email to: {}\nSubject: {}\nMessage: {}",
+                emailNotification.getTo(), emailNotification.getSubject(), html);
+
+        return mailMessage.getMimeMessage();
     }
 
-    @Async
     public void sendAsyncEmailNotification(final EmailNotification emailNotification) {
-        sendEmailNotification(emailNotification);
+        notificationDispatcher.dispatch(NotificationDispatcher.Channel.EMAIL,
+                "email " + emailNotification.getTemplate(),
+                () -> sendEmailNotification(emailNotification));
     }
 
     private String addResourcesInMessage(final MimeMessageHelper mailMessage, final String htmlText) throws Exception {
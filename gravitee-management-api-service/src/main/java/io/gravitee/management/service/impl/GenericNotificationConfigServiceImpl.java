@@ -15,10 +15,12 @@
  */
 package io.gravitee.management.service.impl;
 
+import io.gravitee.common.event.EventManager;
 import io.gravitee.common.utils.UUID;
 import io.gravitee.management.model.notification.GenericNotificationConfigEntity;
 import io.gravitee.management.model.notification.NotificationConfigType;
 import io.gravitee.management.service.GenericNotificationConfigService;
+import io.gravitee.management.service.event.NotificationConfigEvent;
 import io.gravitee.management.service.exceptions.BadNotificationConfigException;
 import io.gravitee.management.service.exceptions.NotificationConfigNotFoundException;
 import io.gravitee.management.service.exceptions.TechnicalManagementException;
@@ -46,6 +48,9 @@ public class GenericNotificationConfigServiceImpl extends AbstractService implem
     @Autowired
     GenericNotificationConfigRepository genericNotificationConfigRepository;
 
+    @Autowired
+    private EventManager eventManager;
+
     @Override
     public GenericNotificationConfigEntity create(GenericNotificationConfigEntity entity) {
         if (entity.getNotifier() == null || entity.getNotifier().isEmpty()
@@ -57,7 +62,9 @@ public class GenericNotificationConfigServiceImpl extends AbstractService implem
             notificationConfig.setId(UUID.toString(UUID.random()));
             notificationConfig.setCreatedAt(new Date());
             notificationConfig.setUpdatedAt(notificationConfig.getCreatedAt());
-            return convert(genericNotificationConfigRepository.create(notificationConfig));
+            GenericNotificationConfig createdConfig = genericNotificationConfigRepository.create(notificationConfig);
+            eventManager.publishEvent(NotificationConfigEvent.UPDATE, createdConfig);
+            return convert(createdConfig);
         } catch (TechnicalException te) {
             LOGGER.error("An error occurs while trying to save the generic notification settings {}", entity, te);
             throw new TechnicalManagementException("An error occurs while trying to save the generic notification settings " + entity, te);
@@ -83,7 +90,9 @@ public class GenericNotificationConfigServiceImpl extends AbstractService implem
             GenericNotificationConfig notificationConfig = convert(entity);
             notificationConfig.setCreatedAt(optionalConfig.get().getCreatedAt());
             notificationConfig.setUpdatedAt(new Date());
-            return convert(genericNotificationConfigRepository.update(notificationConfig));
+            GenericNotificationConfig updatedConfig = genericNotificationConfigRepository.update(notificationConfig);
+            eventManager.publishEvent(NotificationConfigEvent.UPDATE, updatedConfig);
+            return convert(updatedConfig);
         } catch (TechnicalException te) {
             LOGGER.error("An error occurs while trying to save the generic notification settings {}", entity, te);
             throw new TechnicalManagementException("An error occurs while trying to save the generic notification settings " + entity, te);
@@ -94,6 +103,7 @@ public class GenericNotificationConfigServiceImpl extends AbstractService implem
     public void delete(String id) {
         try {
             genericNotificationConfigRepository.delete(id);
+            eventManager.publishEvent(NotificationConfigEvent.UPDATE, id);
         } catch (TechnicalException te) {
             LOGGER.error("An error occurs while trying to delete the generic notification {}", id, te);
             throw new TechnicalManagementException("An error occurs while trying to delete the generic notification " + id, te);
@@ -15,6 +15,13 @@
  */
 package io.gravitee.management.service.impl;
 
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import io.gravitee.common.event.EventListener;
+import io.gravitee.common.event.EventManager;
 import io.gravitee.common.utils.UUID;
 import io.gravitee.management.model.*;
 import io.gravitee.management.model.Visibility;
@@ -25,6 +32,7 @@ import io.gravitee.management.service.AuditService;
 import io.gravitee.management.service.GroupService;
 import io.gravitee.management.service.MembershipService;
 import io.gravitee.management.service.PermissionService;
+import io.gravitee.management.service.event.TaskEvent;
 import io.gravitee.management.service.exceptions.GroupNameAlreadyExistsException;
 import io.gravitee.management.service.exceptions.GroupNotFoundException;
 import io.gravitee.management.service.exceptions.GroupsNotFoundException;
@@ -39,10 +47,15 @@ import io.gravitee.repository.management.api.search.ApiFieldExclusionFilter;
 import io.gravitee.repository.management.model.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import static io.gravitee.management.model.permissions.RolePermissionAction.*;
@@ -54,7 +67,7 @@ import static io.gravitee.repository.management.model.Group.AuditEvent.*;
  * @author GraviteeSource Team
  */
 @Component
-public class GroupServiceImpl extends AbstractService implements GroupService {
+public class GroupServiceImpl extends AbstractService implements GroupService, InitializingBean {
     private final Logger logger = LoggerFactory.getLogger(GroupServiceImpl.class);
 
     @Autowired
@@ -71,6 +84,38 @@ public class GroupServiceImpl extends AbstractService implements GroupService {
     private AuditService auditService;
     @Autowired
     private PermissionService permissionService;
+    @Autowired
+    private EventManager eventManager;
+
+    @Value("${groups.users.cache.ttl:60000}")
+    private long userGroupsCacheTtl;
+    @Value("${groups.users.cache.maxSize:10000}")
+    private long userGroupsCacheMaxSize;
+
+    /**
+     * Ids of the groups in which a user has an API role, by user id. Entries are invalidated on
+     * {@link TaskEvent#MEMBERSHIP_UPDATE} and expire after <code>groups.users.cache.ttl</code> to catch up
+     * with the changes made by other nodes.
+     */
+    private Cache<String, Set<String>> userGroups;
+
+    @Override
+    public void afterPropertiesSet() {
+        userGroups = CacheBuilder.newBuilder()
+                .expireAfterWrite(userGroupsCacheTtl, TimeUnit.MILLISECONDS)
+                .maximumSize(userGroupsCacheMaxSize)
+                .build();
+
+        eventManager.subscribeForEvents((EventListener<TaskEvent, String>) event -> {
+            if (event.type() == TaskEvent.MEMBERSHIP_UPDATE) {
+                if (event.content() == null) {
+                    userGroups.invalidateAll();
+                } else {
+                    userGroups.invalidate(event.content());
+                }
+            }
+        }, TaskEvent.class);
+    }
 
     @Override
     public List<GroupEntity> findAll() {
@@ -310,6 +355,7 @@ public class GroupServiceImpl extends AbstractService implements GroupService {
             });
             //remove group
             groupRepository.delete(groupId);
+            eventManager.publishEvent(TaskEvent.MEMBERSHIP_UPDATE, null);
 
             // Audit
             auditService.createPortalAuditLog(
@@ -329,70 +375,93 @@ public class GroupServiceImpl extends AbstractService implements GroupService {
 
     @Override
     public boolean isUserAuthorizedToAccessApiData(ApiEntity api, List<String> excludedGroups, String username) {
+        return getApiDataAuthorization(api, username).test(excludedGroups);
+    }
+
+    @Override
+    public boolean isUserAuthorizedToAccessPortalData(List<String> excludedGroups, String username) {
+        return getPortalDataAuthorization(username).test(excludedGroups);
+    }
+
+    @Override
+    public Predicate<List<String>> getApiDataAuthorization(ApiEntity api, String username) {
         // in anonymous mode, only public API without restrictions are authorized
         if (username == null) {
-            return (excludedGroups == null || excludedGroups.isEmpty())
+            return excludedGroups -> (excludedGroups == null || excludedGroups.isEmpty())
                     && (Visibility.PUBLIC.equals(api.getVisibility()));
         }
 
-        if ( // plan contains excluded groups
-             excludedGroups != null && !excludedGroups.isEmpty()
-             // user is not directly member of the API
-             && membershipService.getMember(MembershipReferenceType.API, api.getId(), username, RoleScope.API) == null
-           ) {
-
+        // resolved only when some data are restricted, and only once
+        final Supplier<Boolean> apiMember = Suppliers.memoize(() ->
+                membershipService.getMember(MembershipReferenceType.API, api.getId(), username, RoleScope.API) != null);
+        final Supplier<Set<String>> userAuthorizedGroups = Suppliers.memoize(() -> {
             // for public apis, default authorized groups are all groups,
             // for private apis, default authorized groups are all apis groups
+            if (Visibility.PUBLIC.equals(api.getVisibility())) {
+                return getUserGroups(username);
+            }
             Set<String> authorizedGroups = Collections.emptySet();
             if (Visibility.PRIVATE.equals(api.getVisibility()) && api.getGroups() != null && !api.getGroups().isEmpty()) {
                 authorizedGroups = new HashSet<>(api.getGroups());
+                authorizedGroups.retainAll(getUserGroups(username));
             }
-            if (Visibility.PUBLIC.equals(api.getVisibility())) {
-                try {
-                    authorizedGroups = groupRepository.findAll().stream().map(Group::getId).collect(Collectors.toSet());
-                } catch (TechnicalException ex) {
-                    logger.error("An error occurs while trying to find all groups", ex);
-                    throw new TechnicalManagementException("An error occurs while trying to find all groups", ex);
-                }
-            }
-
-            authorizedGroups.removeAll(excludedGroups);
-            for (String authorizedGroupId : authorizedGroups) {
-                if (membershipService.getMember(MembershipReferenceType.GROUP, authorizedGroupId, username, RoleScope.API) != null) {
-                    return true;
-                }
-            }
-            return false;
-        }
-        return true;
+            return authorizedGroups;
+        });
+
+        return excludedGroups ->
+                // plan contains excluded groups
+                excludedGroups == null || excludedGroups.isEmpty()
+                // user is directly member of the API
+                || apiMember.get()
+                || isMemberOfNotExcludedGroup(userAuthorizedGroups.get(), excludedGroups);
     }
 
     @Override
-    public boolean isUserAuthorizedToAccessPortalData(List<String> excludedGroups, String username) {
+    public Predicate<List<String>> getPortalDataAuthorization(String username) {
         // in anonymous mode, only pages without restrictions are authorized
         if (username == null) {
-            return (excludedGroups == null || excludedGroups.isEmpty());
+            return excludedGroups -> (excludedGroups == null || excludedGroups.isEmpty());
         }
 
-        if (excludedGroups != null && !excludedGroups.isEmpty()) {
-            // for public apis, default authorized groups are all groups,
-            Set<String> authorizedGroups;
-            try {
-                authorizedGroups = groupRepository.findAll().stream().map(Group::getId).collect(Collectors.toSet());
-            } catch (TechnicalException ex) {
-                logger.error("An error occurs while trying to find all groups", ex);
-                throw new TechnicalManagementException("An error occurs while trying to find all groups", ex);
+        // for portal data, default authorized groups are all groups
+        final Supplier<Set<String>> userAuthorizedGroups = Suppliers.memoize(() -> getUserGroups(username));
+
+        return excludedGroups -> excludedGroups == null || excludedGroups.isEmpty()
+                || isMemberOfNotExcludedGroup(userAuthorizedGroups.get(), excludedGroups);
+    }
+
+    private boolean isMemberOfNotExcludedGroup(Set<String> groups, List<String> excludedGroups) {
+        if (groups.isEmpty()) {
+            return false;
+        }
+        final Set<String> excluded = new HashSet<>(excludedGroups);
+        for (String group : groups) {
+            if (!excluded.contains(group)) {
+                return true;
             }
+        }
+        return false;
+    }
 
-            authorizedGroups.removeAll(excludedGroups);
-            for (String authorizedGroupId : authorizedGroups) {
-                if (membershipService.getMember(MembershipReferenceType.GROUP, authorizedGroupId, username, RoleScope.API) != null) {
-                    return true;
-                }
+    /**
+     * Memberships of deleted groups are deleted with the group, so every returned group exists.
+     */
+    private Set<String> getUserGroups(String username) {
+        try {
+            return userGroups.get(username, () ->
+                    Collections.unmodifiableSet(membershipRepository.findByUserAndReferenceType(username, MembershipReferenceType.GROUP)
+                            .stream()
+                            .filter(membership -> membership.getRoles() != null
+                                    && membership.getRoles().get(RoleScope.API.getId()) != null)
+                            .map(Membership::getReferenceId)
+                            .collect(Collectors.toSet())));
+        } catch (UncheckedExecutionException | ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
             }
-            return false;
+            logger.error("An error occurs while trying to find all user groups", e.getCause());
+            throw new TechnicalManagementException("An error occurs while trying to find all user groups", e.getCause());
         }
-        return true;
     }
 
     @Override
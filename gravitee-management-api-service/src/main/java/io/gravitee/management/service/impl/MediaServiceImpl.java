@@ -15,41 +15,78 @@
  */
 package io.gravitee.management.service.impl;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import io.gravitee.common.utils.UUID;
 import io.gravitee.management.model.MediaEntity;
 import io.gravitee.management.service.ConfigService;
 import io.gravitee.management.service.MediaService;
 import io.gravitee.management.service.exceptions.TechnicalManagementException;
+import io.gravitee.management.service.exceptions.UploadUnAuthorized;
+import io.gravitee.management.service.impl.media.MediaFileCache;
 import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.repository.media.api.MediaRepository;
 import io.gravitee.repository.media.model.Media;
-import org.apache.commons.io.IOUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.xml.bind.DatatypeConverter;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 /**
  * @author Guillaume Gillon
+ * @author GraviteeSource Team
  */
 @Component
-public class MediaServiceImpl implements MediaService {
+public class MediaServiceImpl implements MediaService, InitializingBean {
 
     private static final Logger logger = LoggerFactory.getLogger(MediaServiceImpl.class);
 
+    private static final String MEDIA_TYPE = "image";
+
     @Autowired
     private MediaRepository mediaRepository;
 
     @Autowired
     private ConfigService configService;
 
+    @Autowired
+    private MediaFileCache mediaFileCache;
+
+    @Value("${media.cache.metadata.maxSize:10000}")
+    private long metadataCacheMaxSize;
+
+    @Value("${media.cache.metadata.ttl:600}")
+    private long metadataCacheTtl;
+
+    /**
+     * Media descriptions (without data) by api, type and hash. An entry is replaced when a media is saved under its
+     * key, and expires so that the changes made by other nodes are eventually seen.
+     */
+    private Cache<String, Media> medias;
+
+    @Override
+    public void afterPropertiesSet() {
+        medias = CacheBuilder.newBuilder()
+                .maximumSize(metadataCacheMaxSize)
+                .expireAfterWrite(metadataCacheTtl, TimeUnit.SECONDS)
+                .build();
+    }
+
     @Override
     public String savePortalMedia(MediaEntity mediaEntity) {
         return this.saveApiMedia(null, mediaEntity);
@@ -57,34 +94,39 @@ public class MediaServiceImpl implements MediaService {
 
     @Override
     public String saveApiMedia(String api, MediaEntity mediaEntity) {
-
+        Path file = null;
         try {
+            // the upload is digested while it is written on disk
             MessageDigest digest = MessageDigest.getInstance("MD5");
-            byte[] fileBites = IOUtils.toByteArray(mediaEntity.getData());
-            byte[] hash = digest.digest(fileBites);
-            String hashString = DatatypeConverter.printHexBinary(hash);
-
-            String id = UUID.toString(UUID.random());
-
-            Optional<Media> checkMedia = null;
+            file = mediaFileCache.createTempFile();
+            long size = copy(new DigestInputStream(mediaEntity.getData(), digest), file, getMediaMaxSize());
+            String hashString = DatatypeConverter.printHexBinary(digest.digest());
+            final String key = key(hashString, api, mediaEntity.getType());
 
+            // the repository is the reference on save, the cached description is replaced by the stored one
+            Optional<Media> checkMedia;
             if (api != null) {
                 checkMedia = mediaRepository.findByHash(hashString, api, mediaEntity.getType());
             } else {
                 checkMedia = mediaRepository.findByHash(hashString, mediaEntity.getType());
             }
 
-
-            if(checkMedia.isPresent()) {
+            if (checkMedia.isPresent()) {
+                medias.invalidate(key);
                 return checkMedia.get().getHash();
             } else {
                 Media media = convert(mediaEntity);
-                media.setId(id);
+                media.setId(UUID.toString(UUID.random()));
                 media.setHash(hashString);
-                media.setSize((long) fileBites.length);
+                media.setSize(size);
                 media.setApi(api);
-                media.setData(fileBites);
+                // the repository only stores whole contents
+                media.setData(Files.readAllBytes(file));
                 mediaRepository.save(media);
+                medias.put(key, withoutData(media));
+
+                mediaFileCache.put(hashString, file);
+                file = null;
 
                 return hashString;
             }
@@ -92,42 +134,123 @@ public class MediaServiceImpl implements MediaService {
         } catch (TechnicalException | NoSuchAlgorithmException | IOException ex) {
             logger.error("An error occurs while trying to create {}", mediaEntity, ex);
             throw new TechnicalManagementException("An error occurs while trying create " + mediaEntity, ex);
+        } finally {
+            if (file != null) {
+                mediaFileCache.delete(file);
+            }
         }
     }
 
     @Override
     public MediaEntity findby(String id) {
-        Optional<Media> mediaData = mediaRepository.findByHash(id, "image");
-        return mediaData.isPresent() ? convert(mediaData.get()) : null;
+        return find(id, null);
     }
 
     @Override
     public MediaEntity findby(String id, String api) {
-        Optional<Media> mediaData = mediaRepository.findByHash(id, api, "image");
-        return mediaData.isPresent() ? convert(mediaData.get()): null;
+        return find(id, api);
     }
 
     public Long getMediaMaxSize() {
         return Long.valueOf(configService.getPortalConfig().getPortal().getUploadMedia().getMaxSizeInOctet());
     }
 
+    private MediaEntity find(String hash, String api) {
+        final String key = key(hash, api, MEDIA_TYPE);
+
+        Media media = medias.getIfPresent(key);
+        if (media != null) {
+            MediaEntity mediaEntity = open(media, mediaFileCache.get(hash));
+            if (mediaEntity != null) {
+                return mediaEntity;
+            }
+        }
+
+        Optional<Media> mediaData = (api == null)
+                ? mediaRepository.findByHash(hash, MEDIA_TYPE)
+                : mediaRepository.findByHash(hash, api, MEDIA_TYPE);
+        if (!mediaData.isPresent()) {
+            return null;
+        }
+
+        media = mediaData.get();
+        final byte[] data = media.getData();
+        media.setData(null);
+        medias.put(key, media);
+
+        try {
+            MediaEntity mediaEntity = open(media, mediaFileCache.put(hash, data));
+            if (mediaEntity != null) {
+                return mediaEntity;
+            }
+        } catch (IOException ioe) {
+            logger.warn("Unable to write media {} on disk", hash, ioe);
+        }
+        return convert(media, new ByteArrayInputStream(data), data.length);
+    }
+
+    private static MediaEntity open(Media media, Path file) {
+        if (file == null) {
+            return null;
+        }
+        try {
+            long size = Files.size(file);
+            return convert(media, Files.newInputStream(file), size);
+        } catch (IOException ioe) {
+            // the file has just been evicted
+            return null;
+        }
+    }
+
+    private static long copy(InputStream data, Path file, long maxSize) throws IOException {
+        try (InputStream in = data; OutputStream out = Files.newOutputStream(file)) {
+            byte[] buffer = new byte[8192];
+            long size = 0;
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                size += read;
+                if (size > maxSize) {
+                    throw new UploadUnAuthorized("Max size achieved " + size);
+                }
+                out.write(buffer, 0, read);
+            }
+            return size;
+        }
+    }
+
+    private static String key(String hash, String api, String type) {
+        return (api == null ? "" : api) + ':' + type + ':' + hash;
+    }
+
+    private static Media withoutData(Media media) {
+        Media description = new Media();
+        description.setId(media.getId());
+        description.setType(media.getType());
+        description.setSubType(media.getSubType());
+        description.setFileName(media.getFileName());
+        description.setSize(media.getSize());
+        description.setHash(media.getHash());
+        description.setApi(media.getApi());
+        description.setCreatedAt(media.getCreatedAt());
+        return description;
+    }
+
     private static Media convert(MediaEntity imageEntity) {
         Media media = new Media();
         media.setFileName(imageEntity.getFileName());
         media.setSize(imageEntity.getSize());
         media.setType(imageEntity.getType());
         media.setSubType(imageEntity.getSubType());
-        //media.setData(new ByteArrayInputStream(imageEntity.getData()));
         return media;
     }
 
-    private static MediaEntity convert(Media media) {
+    private static MediaEntity convert(Media media, InputStream data, long size) {
         MediaEntity mediaEntity = new MediaEntity(
-                new ByteArrayInputStream(media.getData()),
+                data,
                 media.getType(),
                 media.getSubType(),
                 media.getFileName(),
-                media.getSize());
+                size);
         mediaEntity.setUploadDate(media.getCreatedAt());
         return mediaEntity;
     }
@@ -15,6 +15,7 @@
  */
 package io.gravitee.management.service.impl;
 
+import io.gravitee.common.event.EventManager;
 import io.gravitee.management.model.*;
 import io.gravitee.management.model.api.ApiEntity;
 import io.gravitee.management.model.api.ApiQuery;
@@ -23,6 +24,7 @@ import io.gravitee.management.model.permissions.SystemRole;
 import io.gravitee.management.model.providers.User;
 import io.gravitee.management.service.*;
 import io.gravitee.management.service.builder.EmailNotificationBuilder;
+import io.gravitee.management.service.event.TaskEvent;
 import io.gravitee.management.service.exceptions.*;
 import io.gravitee.management.service.notification.NotificationParamsBuilder;
 import io.gravitee.repository.exceptions.TechnicalException;
@@ -41,6 +43,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static io.gravitee.management.model.permissions.SystemRole.PRIMARY_OWNER;
@@ -84,6 +87,8 @@ public class MembershipServiceImpl extends AbstractService implements Membership
     private NotifierService notifierService;
     @Autowired
     private InvitationService invitationService;
+    @Autowired
+    private EventManager eventManager;
 
     @Override
     public Set<MemberEntity> getMembers(MembershipReferenceType referenceType, String referenceId, RoleScope roleScope) {
@@ -101,8 +106,11 @@ public class MembershipServiceImpl extends AbstractService implements Membership
                     roleScope,
                     roleName);
 
+            // all the users are resolved with a single query
+            final Map<String, UserEntity> users = findUsers(memberships);
+
             return memberships.stream()
-                    .map(m -> convert(m, roleScope))
+                    .map(m -> convert(m, roleScope, users.get(m.getUserId())))
                     .collect(Collectors.toSet());
 
         } catch (TechnicalException ex) {
@@ -119,7 +127,7 @@ public class MembershipServiceImpl extends AbstractService implements Membership
             Optional<Membership> optionalMembership = membershipRepository.findById(userId, referenceType, referenceId);
 
             return optionalMembership.
-                    map(m -> convert(m, roleScope)).
+                    map(m -> convert(m, roleScope, null)).
                     orElse(null);
 
         } catch (TechnicalException ex) {
@@ -162,8 +170,10 @@ public class MembershipServiceImpl extends AbstractService implements Membership
             return memberships == null ? Collections.emptySet() :
                     memberships.
                             stream().
-                            filter(m -> m.getRoles().get(roleScope.getId()) != null).
-                            map(m -> roleService.findById(roleScope, m.getRoles().get(roleScope.getId()))).
+                            map(m -> m.getRoles().get(roleScope.getId())).
+                            filter(Objects::nonNull).
+                            distinct().
+                            map(roleName -> roleService.findById(roleScope, roleName)).
                             collect(Collectors.toSet());
 
         } catch (TechnicalException ex) {
@@ -293,7 +303,9 @@ public class MembershipServiceImpl extends AbstractService implements Membership
                 }
             }
 
-            return convert(returnedMembership, role.getScope());
+            eventManager.publishEvent(TaskEvent.MEMBERSHIP_UPDATE, userEntity.getId());
+
+            return convert(returnedMembership, role.getScope(), userEntity);
         } catch (TechnicalException ex) {
             LOGGER.error("An error occurs while trying to add member for {} {}", reference.getType(), reference.getId(), ex);
             throw new TechnicalManagementException("An error occurs while trying to add member for " + reference.getType() + " " + reference.getId(), ex);
@@ -318,6 +330,7 @@ public class MembershipServiceImpl extends AbstractService implements Membership
             Membership membership = new Membership(userId, referenceId, referenceType);
             membershipRepository.delete(membership);
             createAuditLog(MEMBERSHIP_DELETED, new Date(), membership, null);
+            eventManager.publishEvent(TaskEvent.MEMBERSHIP_UPDATE, userId);
         } catch (TechnicalException ex) {
             LOGGER.error("An error occurs while trying to delete member {} for {} {}", userId, referenceType, referenceId, ex);
             throw new TechnicalManagementException("An error occurs while trying to delete member " + userId + " for " + referenceType + " " + referenceId, ex);
@@ -395,6 +408,7 @@ public class MembershipServiceImpl extends AbstractService implements Membership
                 } else {
                     membershipRepository.update(membership);
                     createAuditLog(MEMBERSHIP_UPDATED, membership.getUpdatedAt(), previousMembership, membership);
+                    eventManager.publishEvent(TaskEvent.MEMBERSHIP_UPDATE, userId);
                     return true;
                 }
             }
@@ -413,6 +427,7 @@ public class MembershipServiceImpl extends AbstractService implements Membership
                 membership.getRoles().put(roleScope.getId(), newRole);
                 membershipRepository.update(membership);
             }
+            eventManager.publishEvent(TaskEvent.MEMBERSHIP_UPDATE, null);
         } catch (TechnicalException ex) {
             LOGGER.error("An error occurs while trying to remove role {} {}", roleScope, roleName, ex);
             throw new TechnicalManagementException("An error occurs while trying to remove role " + roleScope + " " + roleName, ex);
@@ -425,6 +440,7 @@ public class MembershipServiceImpl extends AbstractService implements Membership
             for(Membership membership : membershipRepository.findByUser(userId)) {
                 membershipRepository.delete(membership);
             }
+            eventManager.publishEvent(TaskEvent.MEMBERSHIP_UPDATE, userId);
         } catch (TechnicalException ex) {
             LOGGER.error("An error occurs while trying to remove user {}", userId, ex);
             throw new TechnicalManagementException("An error occurs while trying to remove user " + userId, ex);
@@ -565,28 +581,41 @@ public class MembershipServiceImpl extends AbstractService implements Membership
         return Collections.emptyMap();
     }
 
-    private MemberEntity convert(Membership membership, RoleScope roleScope) {
+    private Map<String, UserEntity> findUsers(Set<Membership> memberships) {
+        if (memberships.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        final List<String> userIds = memberships.stream()
+                .map(Membership::getUserId)
+                .distinct()
+                .collect(Collectors.toList());
+        return userService.findByIds(userIds)
+                .stream()
+                .collect(Collectors.toMap(UserEntity::getId, Function.identity(), (u1, u2) -> u1));
+    }
+
+    /**
+     * @param userEntity the user of the membership if already resolved, otherwise <code>null</code>
+     */
+    private MemberEntity convert(Membership membership, RoleScope roleScope, UserEntity userEntity) {
         final MemberEntity member = new MemberEntity();
 
-        final UserEntity userEntity = userService.findById(membership.getUserId());
-        final RoleEntity role = getRole(
-                membership.getReferenceType(),
-                membership.getReferenceId(),
-                membership.getUserId(),
-                roleScope);
         // because API and APPLICATION RoleScope is not mandatory for a group,
         // role could be null
-        if (role == null) {
+        final String roleName = membership.getRoles() == null ? null : membership.getRoles().get(roleScope.getId());
+        if (roleName == null) {
             return null;
         }
+        final RoleEntity role = roleService.findById(roleScope, roleName);
+        final UserEntity user = (userEntity != null) ? userEntity : userService.findById(membership.getUserId());
 
         member.setPermissions(role.getPermissions());
         member.setId(membership.getUserId());
         member.setCreatedAt(membership.getCreatedAt());
         member.setUpdatedAt(membership.getUpdatedAt());
         member.setRole(role.getName());
-        member.setDisplayName(userEntity.getDisplayName());
-        member.setEmail(userEntity.getEmail());
+        member.setDisplayName(user.getDisplayName());
+        member.setEmail(user.getEmail());
 
         return member;
     }
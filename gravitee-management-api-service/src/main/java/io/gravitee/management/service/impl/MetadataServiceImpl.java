@@ -15,6 +15,11 @@
  */
 package io.gravitee.management.service.impl;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import io.gravitee.common.event.EventListener;
+import io.gravitee.common.event.EventManager;
 import io.gravitee.common.utils.IdGenerator;
 import io.gravitee.management.model.MetadataEntity;
 import io.gravitee.management.model.MetadataFormat;
@@ -22,6 +27,7 @@ import io.gravitee.management.model.NewMetadataEntity;
 import io.gravitee.management.model.UpdateMetadataEntity;
 import io.gravitee.management.service.AuditService;
 import io.gravitee.management.service.MetadataService;
+import io.gravitee.management.service.event.ApiModelEvent;
 import io.gravitee.management.service.exceptions.DuplicateMetadataNameException;
 import io.gravitee.management.service.exceptions.TechnicalManagementException;
 import io.gravitee.repository.exceptions.TechnicalException;
@@ -30,7 +36,9 @@ import io.gravitee.repository.management.model.Metadata;
 import io.gravitee.repository.management.model.MetadataReferenceType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.mail.internet.InternetAddress;
@@ -40,6 +48,8 @@ import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import static io.gravitee.repository.management.model.Audit.AuditProperties.METADATA;
@@ -53,7 +63,7 @@ import static org.apache.commons.lang3.StringUtils.isBlank;
  * @author GraviteeSource Team
  */
 @Component
-public class MetadataServiceImpl extends TransactionalService implements MetadataService {
+public class MetadataServiceImpl extends TransactionalService implements MetadataService, InitializingBean {
 
     private final Logger LOGGER = LoggerFactory.getLogger(MetadataServiceImpl.class);
 
@@ -65,20 +75,53 @@ public class MetadataServiceImpl extends TransactionalService implements Metadat
     @Autowired
     private AuditService auditService;
 
+    @Autowired
+    private EventManager eventManager;
+
+    @Value("${metadata.cache.ttl:60000}")
+    private long metadataCacheTtl;
+
+    /**
+     * Default metadata, sorted by name. The entry is invalidated on {@link ApiModelEvent#UPDATE_ALL}, published
+     * when a default metadata changes, and expires after <code>metadata.cache.ttl</code> to catch up with
+     * the changes made by other nodes.
+     */
+    private Cache<String, List<MetadataEntity>> defaultMetadata;
+
+    @Override
+    public void afterPropertiesSet() {
+        defaultMetadata = CacheBuilder.newBuilder()
+                .expireAfterWrite(metadataCacheTtl, TimeUnit.MILLISECONDS)
+                .build();
+
+        eventManager.subscribeForEvents((EventListener<ApiModelEvent, Object>) event -> {
+            if (event.type() == ApiModelEvent.UPDATE_ALL) {
+                defaultMetadata.invalidateAll();
+            }
+        }, ApiModelEvent.class);
+    }
+
     @Override
     public List<MetadataEntity> findAllDefault() {
         try {
-            LOGGER.debug("Find all metadata");
-            return metadataRepository.findByReferenceType(MetadataReferenceType.DEFAULT).stream()
-                    .sorted((o1, o2) -> String.CASE_INSENSITIVE_ORDER.compare(o1.getName(), o2.getName()))
-                    .map(this::convert)
-                    .collect(Collectors.toList());
-        } catch (TechnicalException ex) {
-            LOGGER.error("An error occurred while trying to find all metadata", ex);
-            throw new TechnicalManagementException("An error occurred while trying to find all metadata", ex);
+            return defaultMetadata.get(DEFAUT_REFERENCE_ID, this::loadDefault);
+        } catch (UncheckedExecutionException | ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            LOGGER.error("An error occurred while trying to find all metadata", e.getCause());
+            throw new TechnicalManagementException("An error occurred while trying to find all metadata", e.getCause());
         }
     }
 
+    private List<MetadataEntity> loadDefault() throws TechnicalException {
+        LOGGER.debug("Find all metadata");
+        return Collections.unmodifiableList(metadataRepository.findByReferenceType(MetadataReferenceType.DEFAULT).stream()
+                .sorted((o1, o2) -> String.CASE_INSENSITIVE_ORDER.compare(o1.getName(), o2.getName()))
+                .map(this::convert)
+                .collect(Collectors.toList()));
+    }
+
     @Override
     public MetadataEntity create(final NewMetadataEntity metadataEntity) {
         // if no format defined, we just set String format
@@ -102,6 +145,7 @@ public class MetadataServiceImpl extends TransactionalService implements Metadat
             metadata.setCreatedAt(now);
             metadata.setUpdatedAt(now);
             metadataRepository.create(metadata);
+            eventManager.publishEvent(ApiModelEvent.UPDATE_ALL, null);
             // Audit
             auditService.createPortalAuditLog(
                     Collections.singletonMap(METADATA, metadata.getKey()),
@@ -134,6 +178,7 @@ public class MetadataServiceImpl extends TransactionalService implements Metadat
             final Date now = new Date();
             metadata.setUpdatedAt(now);
             metadataRepository.update(metadata);
+            eventManager.publishEvent(ApiModelEvent.UPDATE_ALL, null);
             // Audit
             auditService.createPortalAuditLog(
                     Collections.singletonMap(METADATA, metadata.getKey()),
@@ -175,6 +220,7 @@ public class MetadataServiceImpl extends TransactionalService implements Metadat
                             metadata,
                             null);
                 }
+                eventManager.publishEvent(ApiModelEvent.UPDATE_ALL, null);
             }
         } catch(TechnicalException ex){
             LOGGER.error("An error occurs while trying to delete metadata {}", key, ex);
@@ -15,14 +15,23 @@
  */
 package io.gravitee.management.service.impl;
 
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import io.gravitee.common.event.Event;
+import io.gravitee.common.event.EventListener;
+import io.gravitee.common.event.EventManager;
 import io.gravitee.management.model.notification.NotifierEntity;
 import io.gravitee.management.service.NotifierService;
 import io.gravitee.management.service.PortalNotificationService;
+import io.gravitee.management.service.event.NotificationConfigEvent;
 import io.gravitee.management.service.notification.ApiHook;
 import io.gravitee.management.service.notification.ApplicationHook;
 import io.gravitee.management.service.notification.Hook;
 import io.gravitee.management.service.notification.PortalHook;
 import io.gravitee.management.service.notifiers.EmailNotifierService;
+import io.gravitee.management.service.notifiers.NotificationDispatcher;
 import io.gravitee.management.service.notifiers.WebhookNotifierService;
 import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.repository.management.api.GenericNotificationConfigRepository;
@@ -33,13 +42,14 @@ import io.gravitee.repository.management.model.PortalNotificationConfig;
 import io.gravitee.repository.management.model.PortalNotificationDefaultReferenceId;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.util.Arrays;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
@@ -47,7 +57,8 @@ import java.util.stream.Collectors;
  * @author GraviteeSource Team
  */
 @Component
-public class NotifierServiceImpl extends AbstractService implements NotifierService {
+public class NotifierServiceImpl extends AbstractService implements NotifierService, InitializingBean,
+        EventListener<NotificationConfigEvent, Object> {
 
     /**
      * Default Notifier IDs
@@ -73,58 +84,112 @@ public class NotifierServiceImpl extends AbstractService implements NotifierServ
     @Autowired
     WebhookNotifierService webhookNotifierService;
 
+    @Autowired
+    NotificationDispatcher notificationDispatcher;
+
+    @Autowired
+    EventManager eventManager;
+
+    @Value("${notifiers.cache.ttl:60000}")
+    private long cacheTtl;
+    @Value("${notifiers.cache.maxSize:10000}")
+    private long cacheMaxSize;
+
+    /**
+     * Notification settings by (reference type, reference id, hook). Entries are invalidated on local settings
+     * changes and expire after <code>notifiers.cache.ttl</code> to catch up with changes made by other nodes.
+     */
+    private LoadingCache<ConfigKey, List<String>> portalNotificationUsers;
+    private LoadingCache<ConfigKey, List<GenericNotificationConfig>> genericNotificationConfigs;
+
+    @Override
+    public void afterPropertiesSet() {
+        portalNotificationUsers = CacheBuilder.newBuilder()
+                .expireAfterWrite(cacheTtl, TimeUnit.MILLISECONDS)
+                .maximumSize(cacheMaxSize)
+                .build(new CacheLoader<ConfigKey, List<String>>() {
+                    @Override
+                    public List<String> load(ConfigKey key) throws TechnicalException {
+                        return portalNotificationConfigRepository.findByReferenceAndHook(key.hook, key.referenceType, key.referenceId).
+                                stream().
+                                map(PortalNotificationConfig::getUser).
+                                collect(Collectors.toList());
+                    }
+                });
+        genericNotificationConfigs = CacheBuilder.newBuilder()
+                .expireAfterWrite(cacheTtl, TimeUnit.MILLISECONDS)
+                .maximumSize(cacheMaxSize)
+                .build(new CacheLoader<ConfigKey, List<GenericNotificationConfig>>() {
+                    @Override
+                    public List<GenericNotificationConfig> load(ConfigKey key) throws TechnicalException {
+                        return genericNotificationConfigRepository.findByReferenceAndHook(key.hook, key.referenceType, key.referenceId);
+                    }
+                });
+
+        eventManager.subscribeForEvents(this, NotificationConfigEvent.class);
+    }
+
+    @Override
+    public void onEvent(Event<NotificationConfigEvent, Object> event) {
+        portalNotificationUsers.invalidateAll();
+        genericNotificationConfigs.invalidateAll();
+    }
+
     @Override
-    @Async
     public void trigger(final ApiHook hook, final String apiId, Map<String, Object> params) {
-        triggerPortalNotifications(hook, NotificationReferenceType.API, apiId, params);
-        triggerGenericNotifications(hook, NotificationReferenceType.API, apiId, params);
+        trigger(hook, NotificationReferenceType.API, apiId, params);
     }
 
     @Override
-    @Async
     public void trigger(final ApplicationHook hook, final String applicationId, Map<String, Object> params) {
-        triggerPortalNotifications(hook, NotificationReferenceType.APPLICATION, applicationId, params);
-        triggerGenericNotifications(hook, NotificationReferenceType.APPLICATION, applicationId, params);
+        trigger(hook, NotificationReferenceType.APPLICATION, applicationId, params);
     }
 
     @Override
-    @Async
     public void trigger(final PortalHook hook, Map<String, Object> params) {
-        triggerPortalNotifications(hook, NotificationReferenceType.PORTAL, PortalNotificationDefaultReferenceId.DEFAULT.name(), params);
-        triggerGenericNotifications(hook, NotificationReferenceType.PORTAL, PortalNotificationDefaultReferenceId.DEFAULT.name(), params);
+        trigger(hook, NotificationReferenceType.PORTAL, PortalNotificationDefaultReferenceId.DEFAULT.name(), params);
+    }
+
+    private void trigger(final Hook hook, final NotificationReferenceType refType, final String refId, final Map<String, Object> params) {
+        final ConfigKey key = new ConfigKey(hook.name(), refType, refId);
+        notificationDispatcher.dispatch(NotificationDispatcher.Channel.DEFAULT, "notifications for " + key, () -> {
+            triggerPortalNotifications(hook, key, params);
+            triggerGenericNotifications(hook, key, params);
+        });
     }
 
-    private void triggerPortalNotifications(final Hook hook, final NotificationReferenceType refType, final String refId, final Map<String, Object> params) {
+    private void triggerPortalNotifications(final Hook hook, final ConfigKey key, final Map<String, Object> params) {
         try {
-            List<String> userIds = portalNotificationConfigRepository.findByReferenceAndHook(hook.name(), refType, refId).
-                    stream().
-                    map(PortalNotificationConfig::getUser).
-                    collect(Collectors.toList());
+            List<String> userIds = portalNotificationUsers.get(key);
             if (!userIds.isEmpty()) {
                 portalNotificationService.create(hook, userIds, params);
             }
-        } catch (TechnicalException e) {
-            LOGGER.error("Error looking for PortalNotificationConfig with {}/{}/{}", hook, refType, refId, e);
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            LOGGER.error("Error looking for PortalNotificationConfig with {}", key, e.getCause());
         }
     }
 
-    private void triggerGenericNotifications(final Hook hook, final NotificationReferenceType refType, final String refId, final Map<String, Object> params) {
+    private void triggerGenericNotifications(final Hook hook, final ConfigKey key, final Map<String, Object> params) {
         try {
-            for (GenericNotificationConfig genericNotificationConfig : genericNotificationConfigRepository.findByReferenceAndHook(hook.name(), refType, refId)) {
+            for (GenericNotificationConfig genericNotificationConfig : genericNotificationConfigs.get(key)) {
                 switch (genericNotificationConfig.getNotifier()) {
                     case DEFAULT_EMAIL_NOTIFIER_ID:
-                        emailNotifierService.trigger(hook, genericNotificationConfig, params);
+                        notificationDispatcher.dispatch(NotificationDispatcher.Channel.EMAIL,
+                                "email notification " + genericNotificationConfig.getName() + " for " + key,
+                                () -> emailNotifierService.trigger(hook, genericNotificationConfig, params));
                         break;
                     case DEFAULT_WEBHOOK_NOTIFIER_ID:
-                        webhookNotifierService.trigger(hook, genericNotificationConfig, params);
+                        notificationDispatcher.dispatch(NotificationDispatcher.Channel.WEBHOOK,
+                                "webhook notification " + genericNotificationConfig.getName() + " for " + key,
+                                () -> webhookNotifierService.trigger(hook, genericNotificationConfig, params));
                         break;
                     default:
                         LOGGER.error("Unknown notifier {}", genericNotificationConfig.getNotifier());
                         break;
                 }
             }
-        } catch (TechnicalException e) {
-            LOGGER.error("Error looking for GenericNotificationConfig with {}/{}/{}", hook, refType, refId, e);
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            LOGGER.error("Error looking for GenericNotificationConfig with {}", key, e.getCause());
         }
     }
 
@@ -141,4 +206,34 @@ public class NotifierServiceImpl extends AbstractService implements NotifierServ
         webHookNotifier.setType("WEBHOOK");
         return Arrays.asList(emailNotifier, webHookNotifier);
     }
+
+    private static final class ConfigKey {
+        private final String hook;
+        private final NotificationReferenceType referenceType;
+        private final String referenceId;
+
+        private ConfigKey(String hook, NotificationReferenceType referenceType, String referenceId) {
+            this.hook = hook;
+            this.referenceType = referenceType;
+            this.referenceId = referenceId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            ConfigKey that = (ConfigKey) o;
+            return hook.equals(that.hook) && referenceType == that.referenceType && Objects.equals(referenceId, that.referenceId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(hook, referenceType, referenceId);
+        }
+
+        @Override
+        public String toString() {
+            return hook + '/' + referenceType + '/' + referenceId;
+        }
+    }
 }
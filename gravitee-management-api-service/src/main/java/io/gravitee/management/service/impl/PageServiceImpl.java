@@ -17,7 +17,6 @@ package io.gravitee.management.service.impl;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.gson.Gson;
-import freemarker.template.Configuration;
 import freemarker.template.Template;
 import freemarker.template.TemplateException;
 import io.gravitee.common.http.MediaType;
@@ -36,6 +35,8 @@ import io.gravitee.management.service.exceptions.NoFetcherDefinedException;
 import io.gravitee.management.service.exceptions.PageFolderActionException;
 import io.gravitee.management.service.exceptions.PageNotFoundException;
 import io.gravitee.management.service.exceptions.TechnicalManagementException;
+import io.gravitee.management.service.impl.swagger.SwaggerTransformationCache;
+import io.gravitee.management.service.impl.template.TemplateCache;
 import io.gravitee.management.service.search.SearchEngineService;
 import io.gravitee.plugin.core.api.PluginManager;
 import io.gravitee.plugin.fetcher.FetcherPlugin;
@@ -90,7 +91,9 @@ public class PageServiceImpl extends TransactionalService implements PageService
 	@Autowired
 	private FetcherConfigurationFactory fetcherConfigurationFactory;
 	@Autowired
-	private Configuration freemarkerConfiguration;
+	private TemplateCache templateCache;
+	@Autowired
+	private SwaggerTransformationCache swaggerTransformationCache;
 	@Autowired
 	private ApplicationContext applicationContext;
 	@Autowired
@@ -148,16 +151,35 @@ public class PageServiceImpl extends TransactionalService implements PageService
 		}
 	}
 
+	@Override
+	public List<String> findFetchableIds() {
+		try {
+			final List<String> ids = new ArrayList<>();
+			for (PageType type : asList(PageType.MARKDOWN, PageType.SWAGGER)) {
+				// pages are not converted, neither transformed: only the ones with a source are kept
+				pageRepository.search(new PageCriteria.Builder().type(type.name()).build()).stream()
+						.filter(page -> page.getSource() != null)
+						.map(Page::getId)
+						.forEach(ids::add);
+			}
+			return ids;
+		} catch (TechnicalException ex) {
+			logger.error("An error occurs while trying to search fetchable pages", ex);
+			throw new TechnicalManagementException(
+					"An error occurs while trying to search fetchable pages", ex);
+		}
+	}
+
 	private void transformUsingConfiguration(final PageEntity pageEntity) {
 		if (io.gravitee.repository.management.model.PageType.SWAGGER.name().equalsIgnoreCase(pageEntity.getType())) {
-			swaggerService.transform(pageEntity);
+			swaggerTransformationCache.transform(pageEntity, swaggerService::transform);
 		}
 	}
 
 	private void transformWithTemplate(final PageEntity pageEntity, final String api) {
 		if (pageEntity.getContent() != null) {
 			try {
-				Template template = new Template(pageEntity.getId(), pageEntity.getContent(), freemarkerConfiguration);
+				Template template = templateCache.get("page-" + pageEntity.getId(), pageEntity.getContent());
 
 				ApiModelEntity apiEntity = apiService.findByIdForTemplates(api);
 				Map<String, Object> model = new HashMap<>();
@@ -292,6 +314,7 @@ public class PageServiceImpl extends TransactionalService implements PageService
 				return null;
 			} else {
 				Page updatedPage = pageRepository.update(page);
+				swaggerTransformationCache.evict(pageId);
 				createAuditLog(page.getApi(), PAGE_UPDATED, page.getUpdatedAt(), pageToUpdate, page);
 
 				PageEntity pageEntity = convert(updatedPage);
@@ -342,6 +365,7 @@ public class PageServiceImpl extends TransactionalService implements PageService
 		if (ps.getConfiguration().isEmpty()) {
 			return null;
 		}
+		// a fetcher and its configuration are mutable (e.g. file path), a new instance is created for each fetch
 		try {
 			FetcherPlugin fetcherPlugin = fetcherPluginManager.get(ps.getType());
 			ClassLoader fetcherCL = fetcherPlugin.fetcher().getClassLoader();
@@ -645,6 +669,7 @@ public class PageServiceImpl extends TransactionalService implements PageService
 			} else {
 				page.setId(searchResult.get(0).getId());
 				pageRepository.update(page);
+				swaggerTransformationCache.evict(page.getId());
 			}
 		} catch (TechnicalException ex) {
 			logger.error("An error occurs while trying to save the configuration",ex);
@@ -726,6 +751,7 @@ public class PageServiceImpl extends TransactionalService implements PageService
 			}
 
 			pageRepository.delete(pageId);
+			swaggerTransformationCache.evict(pageId);
             createAuditLog(page.getApi(), PAGE_DELETED, new Date(), page, null);
 
             // remove from search engine
@@ -797,18 +823,30 @@ public class PageServiceImpl extends TransactionalService implements PageService
 				throw new NoFetcherDefinedException(pageId);
 			}
 
+			final String previousContent = page.getContent();
+			final Map<String, String> previousMetadata = page.getMetadata();
 			try {
 				fetchPage(page);
 			} catch (FetcherException e) {
 				throw onUpdateFail(pageId, e);
 			}
 
+			// nothing to save, audit or reindex if the remote content is unchanged
+			if (Objects.equals(previousContent, page.getContent()) && Objects.equals(previousMetadata, page.getMetadata())) {
+				logger.debug("Content of page {} is unchanged", pageId);
+				return convert(page);
+			}
+
 			page.setUpdatedAt(new Date());
 			page.setLastContributor(contributor);
 
 			Page updatedPage = pageRepository.update(page);
+			swaggerTransformationCache.evict(pageId);
 			createAuditLog(page.getApi(), PAGE_UPDATED, page.getUpdatedAt(), page, page);
-			return convert(updatedPage);
+
+			PageEntity pageEntity = convert(updatedPage);
+			index(pageEntity);
+			return pageEntity;
 		} catch (TechnicalException ex) {
 			throw onUpdateFail(pageId, ex);
 		}
@@ -15,9 +15,11 @@
  */
 package io.gravitee.management.service.impl;
 
+import io.gravitee.common.event.EventManager;
 import io.gravitee.management.model.notification.NotificationConfigType;
 import io.gravitee.management.model.notification.PortalNotificationConfigEntity;
 import io.gravitee.management.service.PortalNotificationConfigService;
+import io.gravitee.management.service.event.NotificationConfigEvent;
 import io.gravitee.management.service.exceptions.TechnicalManagementException;
 import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.repository.management.api.PortalNotificationConfigRepository;
@@ -44,11 +46,15 @@ public class PortalNotificationConfigServiceImpl extends AbstractService impleme
     @Autowired
     private PortalNotificationConfigRepository portalNotificationConfigRepository;
 
+    @Autowired
+    private EventManager eventManager;
+
     @Override
     public PortalNotificationConfigEntity save(PortalNotificationConfigEntity notificationEntity) {
         try {
             if (notificationEntity.getHooks() == null || notificationEntity.getHooks().isEmpty()) {
                 portalNotificationConfigRepository.delete(convert(notificationEntity));
+                eventManager.publishEvent(NotificationConfigEvent.UPDATE, notificationEntity);
                 return getDefaultEmpty(
                         notificationEntity.getUser(),
                         NotificationReferenceType.valueOf(notificationEntity.getReferenceType()),
@@ -60,15 +66,18 @@ public class PortalNotificationConfigServiceImpl extends AbstractService impleme
                         notificationEntity.getReferenceId());
                 PortalNotificationConfig notificationConfig = convert(notificationEntity);
 
+                PortalNotificationConfig savedConfig;
                 if (optionalConfig.isPresent()) {
                     notificationConfig.setCreatedAt(optionalConfig.get().getCreatedAt());
                     notificationConfig.setUpdatedAt(new Date());
-                    return convert(portalNotificationConfigRepository.update(notificationConfig));
+                    savedConfig = portalNotificationConfigRepository.update(notificationConfig);
                 } else {
                     notificationConfig.setCreatedAt(new Date());
                     notificationConfig.setUpdatedAt(notificationConfig.getCreatedAt());
-                    return convert(portalNotificationConfigRepository.create(notificationConfig));
+                    savedConfig = portalNotificationConfigRepository.create(notificationConfig);
                 }
+                eventManager.publishEvent(NotificationConfigEvent.UPDATE, savedConfig);
+                return convert(savedConfig);
             }
         } catch (TechnicalException te) {
             LOGGER.error("An error occurs while trying to save the notification settings {}", notificationEntity, te);
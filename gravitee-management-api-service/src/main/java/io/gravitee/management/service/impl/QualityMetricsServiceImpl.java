@@ -15,21 +15,32 @@
  */
 package io.gravitee.management.service.impl;
 
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.gravitee.common.event.EventListener;
+import io.gravitee.common.event.EventManager;
 import io.gravitee.management.model.ApiQualityMetricsEntity;
 import io.gravitee.management.model.api.ApiEntity;
+import io.gravitee.management.model.documentation.PageQuery;
 import io.gravitee.management.model.parameters.Key;
+import io.gravitee.management.service.PageService;
 import io.gravitee.management.service.ParameterService;
 import io.gravitee.management.service.QualityMetricsService;
+import io.gravitee.management.service.event.ApiEvent;
+import io.gravitee.management.service.event.ApiModelEvent;
 import io.gravitee.management.service.exceptions.ApiQualityMetricsDisableException;
 import io.gravitee.management.service.quality.ApiQualityMetric;
+import io.gravitee.management.service.quality.ApiQualityMetricInputs;
 import io.gravitee.management.service.quality.ApiQualityMetricLoader;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
@@ -37,11 +48,51 @@ import java.util.stream.Collectors;
  * @author GraviteeSource Team
  */
 @Component
-public class QualityMetricsServiceImpl extends AbstractService implements QualityMetricsService {
+public class QualityMetricsServiceImpl extends AbstractService implements QualityMetricsService, InitializingBean {
     @Autowired
     ParameterService parameterService;
     @Autowired
     ApiQualityMetricLoader apiQualityMetricLoader;
+    @Autowired
+    PageService pageService;
+    @Autowired
+    EventManager eventManager;
+
+    @Value("${quality.metrics.cache.ttl:60000}")
+    private long metricsCacheTtl;
+    @Value("${quality.metrics.cache.maxSize:10000}")
+    private long metricsCacheMaxSize;
+
+    /**
+     * Weights of the enabled metrics (weight &gt; 0), reloaded after <code>quality.metrics.cache.ttl</code>.
+     */
+    private Supplier<Map<String, Integer>> weights;
+
+    /**
+     * Scores by API id. An entry is only reused for the same API update date and the same weights,
+     * it is invalidated on {@link ApiModelEvent} and {@link ApiEvent}, and expires after
+     * <code>quality.metrics.cache.ttl</code> to catch up with documentation changes.
+     */
+    private Cache<String, ScoredApi> scores;
+
+    @Override
+    public void afterPropertiesSet() {
+        weights = Suppliers.memoizeWithExpiration(this::getWeights, metricsCacheTtl, TimeUnit.MILLISECONDS);
+        scores = CacheBuilder.newBuilder()
+                .expireAfterWrite(metricsCacheTtl, TimeUnit.MILLISECONDS)
+                .maximumSize(metricsCacheMaxSize)
+                .build();
+
+        eventManager.subscribeForEvents((EventListener<ApiModelEvent, Object>) event -> {
+            if (event.type() == ApiModelEvent.UPDATE_ALL) {
+                scores.invalidateAll();
+            } else {
+                scores.invalidate(event.content());
+            }
+        }, ApiModelEvent.class);
+        eventManager.subscribeForEvents((EventListener<ApiEvent, ApiEntity>) event ->
+                scores.invalidate(event.content().getId()), ApiEvent.class);
+    }
 
     private Map<String, ApiQualityMetric> getApiMetricsMap() {
         HashMap<String, ApiQualityMetric> map = new HashMap<>();
@@ -61,6 +112,7 @@ public class QualityMetricsServiceImpl extends AbstractService implements Qualit
                 parameterService.findAll(keys, Integer::parseInt)
                         .entrySet()
                         .stream()
+                        .filter(e -> e.getValue().get(0) > 0)
                         .collect(Collectors.toMap(
                                 Map.Entry::getKey,
                                 e -> e.getValue().get(0))
@@ -78,25 +130,62 @@ public class QualityMetricsServiceImpl extends AbstractService implements Qualit
             throw new ApiQualityMetricsDisableException();
         }
 
-        Map<String, Integer> weights = getWeights()
-                .entrySet()
-                .stream()
-                .filter(e -> e.getValue() > 0)
-                .collect(Collectors.toMap(
-                        Map.Entry::getKey,
-                        Map.Entry::getValue));
+        return getMetrics(apiEntity, weights.get(), getApiMetricsMap());
+    }
+
+    @Override
+    public Map<String, ApiQualityMetricsEntity> getMetrics(Collection<ApiEntity> apis) {
+
+        if (!isApiMetricsEnabled()) {
+            throw new ApiQualityMetricsDisableException();
+        }
 
+        Map<String, Integer> currentWeights = weights.get();
+        Map<String, ApiQualityMetric> apiMetrics = getApiMetricsMap();
+
+        Map<String, ApiQualityMetricsEntity> result = new LinkedHashMap<>(apis.size());
+        for (ApiEntity api : apis) {
+            result.put(api.getId(), getMetrics(api, currentWeights, apiMetrics));
+        }
+        return result;
+    }
+
+    private ApiQualityMetricsEntity getMetrics(ApiEntity apiEntity, Map<String, Integer> weights,
+                                               Map<String, ApiQualityMetric> apiMetrics) {
+        if (apiEntity.getId() == null) {
+            return computeMetrics(apiEntity, weights, apiMetrics);
+        }
+
+        ScoredApi scored = scores.getIfPresent(apiEntity.getId());
+        if (scored != null
+                && Objects.equals(scored.updatedAt, apiEntity.getUpdatedAt())
+                && scored.weights == weights) {
+            return copy(scored.metrics);
+        }
+
+        ApiQualityMetricsEntity metrics = computeMetrics(apiEntity, weights, apiMetrics);
+        scores.put(apiEntity.getId(), new ScoredApi(apiEntity.getUpdatedAt(), weights, copy(metrics)));
+        return metrics;
+    }
+
+    private ApiQualityMetricsEntity computeMetrics(ApiEntity apiEntity, Map<String, Integer> weights,
+                                                   Map<String, ApiQualityMetric> apiMetrics) {
         ApiQualityMetricsEntity result = new ApiQualityMetricsEntity();
         result.setMetricsPassed(new HashMap<>(weights.size()));
 
         if (weights.isEmpty()) {
             result.setScore(1);
         } else {
-            Map<String, ApiQualityMetric> apiMetrics = getApiMetricsMap();
+            // inputs shared by the metrics, e.g. the pages are loaded once for both documentation metrics
+            ApiQualityMetricInputs inputs = new ApiQualityMetricInputs(() -> pageService.search(
+                    new PageQuery.Builder()
+                            .api(apiEntity.getId())
+                            .published(true)
+                            .build()));
             double score = 0;
             double maxScore = 0;
             for (Map.Entry<String, Integer> weight : weights.entrySet()) {
-                boolean passed = apiMetrics.get(weight.getKey()).isValid(apiEntity);
+                boolean passed = apiMetrics.get(weight.getKey()).isValid(apiEntity, inputs);
                 result.getMetricsPassed().put(weight.getKey(), passed);
                 score += weight.getValue() * (passed ? 1 : 0);
                 maxScore += weight.getValue();
@@ -105,5 +194,23 @@ public class QualityMetricsServiceImpl extends AbstractService implements Qualit
         }
         return result;
     }
-}
 
+    private static ApiQualityMetricsEntity copy(ApiQualityMetricsEntity metrics) {
+        ApiQualityMetricsEntity copy = new ApiQualityMetricsEntity();
+        copy.setScore(metrics.getScore());
+        copy.setMetricsPassed(new HashMap<>(metrics.getMetricsPassed()));
+        return copy;
+    }
+
+    private static class ScoredApi {
+        private final Date updatedAt;
+        private final Map<String, Integer> weights;
+        private final ApiQualityMetricsEntity metrics;
+
+        ScoredApi(Date updatedAt, Map<String, Integer> weights, ApiQualityMetricsEntity metrics) {
+            this.updatedAt = updatedAt;
+            this.weights = weights;
+            this.metrics = metrics;
+        }
+    }
+}
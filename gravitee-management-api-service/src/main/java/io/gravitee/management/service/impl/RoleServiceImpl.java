@@ -15,6 +15,9 @@
  */
 package io.gravitee.management.service.impl;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import io.gravitee.management.model.NewRoleEntity;
 import io.gravitee.management.model.RoleEntity;
 import io.gravitee.management.model.UpdateRoleEntity;
@@ -30,10 +33,14 @@ import io.gravitee.repository.management.model.RoleScope;
 import org.apache.commons.lang3.ArrayUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 
 import static io.gravitee.management.model.permissions.RolePermissionAction.*;
@@ -47,7 +54,7 @@ import static java.util.stream.Collectors.toList;
  * @author GraviteeSource Team
  */
 @Component
-public class RoleServiceImpl extends AbstractService implements RoleService {
+public class RoleServiceImpl extends AbstractService implements RoleService, InitializingBean {
 
     private final Logger LOGGER = LoggerFactory.getLogger(RoleServiceImpl.class);
 
@@ -60,20 +67,49 @@ public class RoleServiceImpl extends AbstractService implements RoleService {
     @Autowired
     private AuditService auditService;
 
+    @Value("${roles.cache.ttl:60000}")
+    private long rolesCacheTtl;
+    @Value("${roles.cache.maxSize:1000}")
+    private long rolesCacheMaxSize;
+
+    /**
+     * Roles by scope and name, with unmodifiable permissions. Roles almost never change: the whole cache is
+     * invalidated on each mutation made by this service, and entries expire after <code>roles.cache.ttl</code>
+     * to catch up with the changes made by other nodes.
+     */
+    private Cache<String, RoleEntity> roles;
+
+    @Override
+    public void afterPropertiesSet() {
+        roles = CacheBuilder.newBuilder()
+                .expireAfterWrite(rolesCacheTtl, TimeUnit.MILLISECONDS)
+                .maximumSize(rolesCacheMaxSize)
+                .build();
+    }
+
     @Override
     public RoleEntity findById(final RoleScope scope, final String name) {
         try {
-            LOGGER.debug("Find Role by id");
-
-            Optional<Role> role = roleRepository.findById(scope, name);
-            if (!role.isPresent()) {
-                throw new RoleNotFoundException(scope, name);
+            return roles.get(scope.name() + ':' + name, () -> loadRole(scope, name));
+        } catch (UncheckedExecutionException | ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
             }
-            return convert(role.get());
-        } catch (TechnicalException ex) {
-            LOGGER.error("An error occurs while trying to find a role : {} {}", scope, name,  ex);
-            throw new TechnicalManagementException("An error occurs while trying to find a role : " + scope + " " + name, ex);
+            LOGGER.error("An error occurs while trying to find a role : {} {}", scope, name, e.getCause());
+            throw new TechnicalManagementException("An error occurs while trying to find a role : " + scope + " " + name, e.getCause());
+        }
+    }
+
+    private RoleEntity loadRole(final RoleScope scope, final String name) throws TechnicalException {
+        LOGGER.debug("Find Role by id");
+
+        Optional<Role> role = roleRepository.findById(scope, name);
+        if (!role.isPresent()) {
+            throw new RoleNotFoundException(scope, name);
         }
+        RoleEntity roleEntity = convert(role.get());
+        roleEntity.setPermissions(Collections.unmodifiableMap(roleEntity.getPermissions()));
+        return roleEntity;
     }
 
     @Override
@@ -99,6 +135,7 @@ public class RoleServiceImpl extends AbstractService implements RoleService {
             role.setCreatedAt(new Date());
             role.setUpdatedAt(role.getCreatedAt());
             RoleEntity entity = convert(roleRepository.create(role));
+            roles.invalidateAll();
             auditService.createPortalAuditLog(
                     Collections.singletonMap(ROLE, role.getScope() + ":" + role.getName()),
                     ROLE_CREATED,
@@ -161,6 +198,7 @@ public class RoleServiceImpl extends AbstractService implements RoleService {
             createOrUpdateSystemRole(SystemRole.PRIMARY_OWNER, RoleScope.APPLICATION, io.gravitee.management.model.permissions.RoleScope.APPLICATION, ApplicationPermission.values());
             //GROUP - ADMINISTRATOR
             createOrUpdateSystemRole(SystemRole.ADMIN, RoleScope.GROUP, io.gravitee.management.model.permissions.RoleScope.GROUP, GroupPermission.values());
+            roles.invalidateAll();
         } catch (TechnicalException ex) {
             LOGGER.error("An error occurs while trying to create admin roles", ex);
             throw new TechnicalManagementException("An error occurs while trying to create admin roles ", ex);
@@ -182,6 +220,7 @@ public class RoleServiceImpl extends AbstractService implements RoleService {
             Role updatedRole = convert(roleEntity);
             updatedRole.setCreatedAt(role.getCreatedAt());
             RoleEntity entity = convert(roleRepository.update(updatedRole));
+            roles.invalidateAll();
             auditService.createPortalAuditLog(
                     Collections.singletonMap(ROLE, role.getScope()+":"+role.getName()),
                     ROLE_UPDATED,
@@ -220,6 +259,7 @@ public class RoleServiceImpl extends AbstractService implements RoleService {
             membershipService.removeRoleUsage(scope, name, defaultRoleByScopes.get(0).getName());
 
             roleRepository.delete(scope, name);
+            roles.invalidateAll();
 
             auditService.createPortalAuditLog(
                     Collections.singletonMap(ROLE, role.getScope()+":"+role.getName()),
@@ -299,6 +339,7 @@ public class RoleServiceImpl extends AbstractService implements RoleService {
                 role.setDefaultRole(false);
                 role.setUpdatedAt(new Date());
                 roleRepository.update(role);
+                this.roles.invalidateAll();
                 auditService.createPortalAuditLog(
                         Collections.singletonMap(ROLE, role.getScope()+":"+role.getName()),
                         ROLE_UPDATED,
@@ -15,7 +15,10 @@
  */
 package io.gravitee.management.service.impl;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import io.gravitee.common.data.domain.Page;
+import io.gravitee.common.event.EventManager;
 import io.gravitee.common.utils.UUID;
 import io.gravitee.management.model.*;
 import io.gravitee.management.model.api.ApiEntity;
@@ -23,6 +26,7 @@ import io.gravitee.management.model.common.Pageable;
 import io.gravitee.management.model.pagedresult.Metadata;
 import io.gravitee.management.model.subscription.SubscriptionQuery;
 import io.gravitee.management.service.*;
+import io.gravitee.management.service.event.TaskEvent;
 import io.gravitee.management.service.exceptions.*;
 import io.gravitee.management.service.notification.ApiHook;
 import io.gravitee.management.service.notification.ApplicationHook;
@@ -35,13 +39,18 @@ import io.gravitee.repository.management.model.Audit;
 import io.gravitee.repository.management.model.Subscription;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.env.ConfigurableEnvironment;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static io.gravitee.repository.management.model.Audit.AuditProperties.API;
 import static io.gravitee.repository.management.model.Audit.AuditProperties.APPLICATION;
@@ -52,7 +61,7 @@ import static io.gravitee.repository.management.model.Subscription.AuditEvent.*;
  * @author GraviteeSource Team
  */
 @Component
-public class SubscriptionServiceImpl extends AbstractService implements SubscriptionService {
+public class SubscriptionServiceImpl extends AbstractService implements SubscriptionService, InitializingBean {
 
     /**
      * Logger.
@@ -88,6 +97,31 @@ public class SubscriptionServiceImpl extends AbstractService implements Subscrip
     @Autowired
     private NotifierService notifierService;
 
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private EventManager eventManager;
+
+    @Value("${subscriptions.metadata.cache.ttl:10000}")
+    private long namesCacheTtl;
+    @Value("${subscriptions.metadata.cache.maxSize:10000}")
+    private long namesCacheMaxSize;
+
+    /**
+     * Names of the applications, plans, APIs and subscribers given as metadata of the subscription listings, by type
+     * and id.
+     */
+    private Cache<String, String> names;
+
+    @Override
+    public void afterPropertiesSet() {
+        names = CacheBuilder.newBuilder()
+                .expireAfterWrite(namesCacheTtl, TimeUnit.MILLISECONDS)
+                .maximumSize(namesCacheMaxSize)
+                .build();
+    }
+
     @Override
     public SubscriptionEntity findById(String subscription) {
         try {
@@ -240,6 +274,7 @@ public class SubscriptionServiceImpl extends AbstractService implements Subscrip
             String apiId = planEntity.getApis().iterator().next();
             subscription.setApi(apiId);
             subscription = subscriptionRepository.create(subscription);
+            eventManager.publishEvent(TaskEvent.SUBSCRIPTION_UPDATE, apiId);
 
             createAudit(apiId, application, SUBSCRIPTION_CREATED, subscription.getCreatedAt(), null, subscription);
 
@@ -387,6 +422,7 @@ public class SubscriptionServiceImpl extends AbstractService implements Subscrip
             }
 
             subscription = subscriptionRepository.update(subscription);
+            eventManager.publishEvent(TaskEvent.SUBSCRIPTION_UPDATE, subscription.getApi());
 
             final ApplicationEntity application = applicationService.findById(subscription.getApplication());
             final PlanEntity plan = planService.findById(subscription.getPlan());
@@ -455,6 +491,7 @@ public class SubscriptionServiceImpl extends AbstractService implements Subscrip
                 subscription.setClosedAt(new Date());
 
                 subscription = subscriptionRepository.update(subscription);
+                eventManager.publishEvent(TaskEvent.SUBSCRIPTION_UPDATE, subscription.getApi());
 
                 // Send an email to subscriber
                 final ApplicationEntity application = applicationService.findById(subscription.getApplication());
@@ -651,6 +688,7 @@ public class SubscriptionServiceImpl extends AbstractService implements Subscrip
 
             // Delete subscription
             subscriptionRepository.delete(subscriptionId);
+            eventManager.publishEvent(TaskEvent.SUBSCRIPTION_UPDATE, subscription.getApi());
             createAudit(
                     planService.findById(subscription.getPlan()).getApis().iterator().next(),
                     subscription.getApplication(),
@@ -799,26 +837,74 @@ public class SubscriptionServiceImpl extends AbstractService implements Subscrip
 
     public Metadata getMetadata(List<SubscriptionEntity> subscriptions) {
         Metadata metadata = new Metadata();
+        if (subscriptions.isEmpty()) {
+            return metadata;
+        }
 
-        subscriptions.forEach( subscription -> {
-            if (!metadata.containsKey(subscription.getApplication())) {
-                ApplicationEntity applicationEntity = applicationService.findById(subscription.getApplication());
-                metadata.put(subscription.getApplication(), "name", applicationEntity.getName());
-            }
-
+        Map<String, String> planApis = new HashMap<>();
+        subscriptions.forEach(subscription -> planApis.put(subscription.getPlan(), subscription.getApi()));
+
+        Map<String, String> applicationNames = findNames("application",
+                subscriptions.stream().map(SubscriptionEntity::getApplication),
+                applicationService::findByIds, ApplicationEntity::getId, ApplicationEntity::getName);
+        // Plans are loaded with all the plans of their API, in one query per API
+        Map<String, String> planNames = findNames("plan",
+                planApis.keySet().stream(),
+                ids -> ids.stream().map(planApis::get).distinct()
+                        .flatMap(api -> planService.findByApi(api).stream())
+                        .collect(Collectors.toList()),
+                PlanEntity::getId, PlanEntity::getName);
+        Map<String, String> apiNames = findNames("api",
+                subscriptions.stream().map(SubscriptionEntity::getApi),
+                apiService::findByIdsLight, ApiEntity::getId, ApiEntity::getName);
+        Map<String, String> subscriberNames = findNames("user",
+                subscriptions.stream().map(SubscriptionEntity::getSubscribedBy),
+                userService::findByIds, UserEntity::getId, UserEntity::getDisplayName);
+
+        applicationNames.forEach((id, name) -> metadata.put(id, "name", name));
+        planNames.forEach((id, name) -> {
+            metadata.put(id, "name", name);
+            metadata.put(id, "api", planApis.get(id));
+        });
+        apiNames.forEach((id, name) -> metadata.put(id, "name", name));
+        subscriberNames.forEach((id, name) -> metadata.put(id, "name", name));
 
-            if (!metadata.containsKey(subscription.getPlan())) {
-                PlanEntity planEntity = planService.findById(subscription.getPlan());
-                metadata.put(subscription.getPlan(), "name", planEntity.getName());
-            }
+        return metadata;
+    }
 
-            if (!metadata.containsKey(subscription.getApi())) {
-                ApiEntity api = apiService.findById(subscription.getApi());
-                metadata.put(subscription.getApi(), "name", api.getName());
+    /**
+     * Resolves the names of the given ids, from the cache first then with a single call to the loader for the
+     * missing ones. Ids which can not be resolved are left out.
+     */
+    private <T> Map<String, String> findNames(String type, Stream<String> ids, Function<List<String>, Collection<T>> loader,
+                                              Function<T, String> idMapper, Function<T, String> nameMapper) {
+        Map<String, String> found = new HashMap<>();
+        List<String> missingIds = new ArrayList<>();
+        ids.filter(Objects::nonNull).distinct().forEach(id -> {
+            String name = names.getIfPresent(type + ':' + id);
+            if (name == null) {
+                missingIds.add(id);
+            } else {
+                found.put(id, name);
             }
         });
 
-        return metadata;
+        if (!missingIds.isEmpty()) {
+            try {
+                loader.apply(missingIds).forEach(item -> {
+                    String name = nameMapper.apply(item);
+                    if (name != null) {
+                        names.put(type + ':' + idMapper.apply(item), name);
+                        found.put(idMapper.apply(item), name);
+                    }
+                });
+            } catch (UserNotFoundException unfe) {
+                // none of the users exists anymore
+            } catch (TechnicalManagementException tme) {
+                logger.error("Error finding metadata for {} {}", type, missingIds, tme);
+            }
+        }
+        return found;
     }
 
     private SubscriptionEntity convert(Subscription subscription) {
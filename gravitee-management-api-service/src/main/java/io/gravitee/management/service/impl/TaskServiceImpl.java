@@ -15,11 +15,16 @@
  */
 package io.gravitee.management.service.impl;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import io.gravitee.common.event.EventListener;
+import io.gravitee.common.event.EventManager;
 import io.gravitee.management.model.*;
-import io.gravitee.management.model.api.ApiEntity;
 import io.gravitee.management.model.pagedresult.Metadata;
 import io.gravitee.management.model.subscription.SubscriptionQuery;
 import io.gravitee.management.service.*;
+import io.gravitee.management.service.event.TaskEvent;
 import io.gravitee.management.service.exceptions.TechnicalManagementException;
 import io.gravitee.management.service.exceptions.UnauthorizedAccessException;
 import io.gravitee.repository.exceptions.TechnicalException;
@@ -32,10 +37,14 @@ import io.gravitee.repository.management.model.MembershipReferenceType;
 import io.gravitee.repository.management.model.RoleScope;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import static io.gravitee.management.model.SubscriptionStatus.PENDING;
@@ -46,19 +55,13 @@ import static io.gravitee.management.model.permissions.ApiPermission.SUBSCRIPTIO
  * @author GraviteeSource Team
  */
 @Component
-public class TaskServiceImpl extends AbstractService implements TaskService {
+public class TaskServiceImpl extends AbstractService implements TaskService, InitializingBean {
 
     private final Logger LOGGER = LoggerFactory.getLogger(TaskServiceImpl.class);
 
-    @Autowired
-    ApiService apiService;
-
     @Autowired
     SubscriptionService subscriptionService;
 
-    @Autowired
-    ApplicationService applicationService;
-
     @Autowired
     MembershipRepository membershipRepository;
 
@@ -69,7 +72,37 @@ public class TaskServiceImpl extends AbstractService implements TaskService {
     RoleService roleService;
 
     @Autowired
-    PlanService planService;
+    EventManager eventManager;
+
+    @Value("${tasks.cache.ttl:10000}")
+    private long tasksCacheTtl;
+    @Value("${tasks.cache.maxSize:10000}")
+    private long tasksCacheMaxSize;
+
+    /**
+     * Pending tasks by user id. Entries are invalidated on {@link TaskEvent} and expire after
+     * <code>tasks.cache.ttl</code> to catch up with changes made by other nodes (or to groups and roles).
+     */
+    private Cache<String, UserTasks> tasks;
+
+    @Override
+    public void afterPropertiesSet() {
+        tasks = CacheBuilder.newBuilder()
+                .expireAfterWrite(tasksCacheTtl, TimeUnit.MILLISECONDS)
+                .maximumSize(tasksCacheMaxSize)
+                .build();
+
+        eventManager.subscribeForEvents((EventListener<TaskEvent, String>) event -> {
+            if (event.type() == TaskEvent.SUBSCRIPTION_UPDATE) {
+                // only the users who can process the subscriptions of this API are concerned
+                tasks.asMap().values().removeIf(userTasks -> userTasks.apiIds.contains(event.content()));
+            } else if (event.content() == null) {
+                tasks.invalidateAll();
+            } else {
+                tasks.invalidate(event.content());
+            }
+        }, TaskEvent.class);
+    }
 
     @Override
     public List<TaskEntity> findAll(String userId) {
@@ -78,90 +111,81 @@ public class TaskServiceImpl extends AbstractService implements TaskService {
         }
 
         try {
-            // because Tasks only consists on subscriptions, we can optimize the search by only look for apis where
-            // the user has a SUBSCRIPTION_UPDATE permission
-
-            // 1. find apis and group memberships
-            Set<Membership> memberships = membershipRepository.findByUserAndReferenceType(userId, MembershipReferenceType.GROUP);
-            memberships.addAll(membershipRepository.findByUserAndReferenceType(userId, MembershipReferenceType.API));
-
-            Map<String, RoleEntity> roleNameToEntity = new HashMap<>();
-            Set<String> apiIds = new HashSet<>();
-            List<String> groupIds = new ArrayList<>();
-            for (Membership membership : memberships) {
-                // 2. get API roles in each memberships (in GROUP, it could be null)
-                String roleName = membership.getRoles().get(RoleScope.API.getId());
-                if (roleName != null) {
-                    // 3. search for roleEntity only once
-                    RoleEntity roleEntity = roleNameToEntity.get(roleName);
-                    if (roleEntity == null) {
-                        roleEntity = roleService.findById(RoleScope.API, roleName);
-                        roleNameToEntity.put(roleName, roleEntity);
-                    }
-                    // 4. get apiId or groupIId only if the role has a SUBSCRIPTIONS_UPDATE permission
-                    for (char c : roleEntity.getPermissions().get(SUBSCRIPTION.getName())) {
-                        if (c == 'U') {
-                            switch(membership.getReferenceType()) {
-                                case GROUP:
-                                    groupIds.add(membership.getReferenceId());
-                                    break;
-                                case API:
-                                    apiIds.add(membership.getReferenceId());
-                                    break;
-                                default:
-                                    break;
-                            }
+            return tasks.get(userId, () -> loadTasks(userId)).tasks;
+        } catch (UncheckedExecutionException | ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            LOGGER.error("Error retreiving user tasks {}", e.getCause().getMessage());
+            throw new TechnicalManagementException("Error retreiving user tasks", e.getCause());
+        }
+    }
+
+    private UserTasks loadTasks(String userId) throws TechnicalException {
+        // because Tasks only consists on subscriptions, we can optimize the search by only look for apis where
+        // the user has a SUBSCRIPTION_UPDATE permission
+
+        // 1. find apis and group memberships
+        Set<Membership> memberships = membershipRepository.findByUserAndReferenceType(userId, MembershipReferenceType.GROUP);
+        memberships.addAll(membershipRepository.findByUserAndReferenceType(userId, MembershipReferenceType.API));
+
+        Map<String, RoleEntity> roleNameToEntity = new HashMap<>();
+        Set<String> apiIds = new HashSet<>();
+        List<String> groupIds = new ArrayList<>();
+        for (Membership membership : memberships) {
+            // 2. get API roles in each memberships (in GROUP, it could be null)
+            String roleName = membership.getRoles().get(RoleScope.API.getId());
+            if (roleName != null) {
+                // 3. search for roleEntity only once
+                RoleEntity roleEntity = roleNameToEntity.get(roleName);
+                if (roleEntity == null) {
+                    roleEntity = roleService.findById(RoleScope.API, roleName);
+                    roleNameToEntity.put(roleName, roleEntity);
+                }
+                // 4. get apiId or groupIId only if the role has a SUBSCRIPTIONS_UPDATE permission
+                for (char c : roleEntity.getPermissions().get(SUBSCRIPTION.getName())) {
+                    if (c == 'U') {
+                        switch(membership.getReferenceType()) {
+                            case GROUP:
+                                groupIds.add(membership.getReferenceId());
+                                break;
+                            case API:
+                                apiIds.add(membership.getReferenceId());
+                                break;
+                            default:
+                                break;
                         }
                     }
                 }
             }
+        }
 
-            // 5. add apiId that comes from group
-            if (!groupIds.isEmpty()) {
-                apiIds.addAll(apiRepository
-                        .search(new ApiCriteria.Builder().groups(groupIds.toArray(new String[0])).build())
-                        .stream()
-                        .map(Api::getId)
-                        .collect(Collectors.toSet()));
-            }
-
-            // 6. search for PENDING subscriptions
-            if (apiIds.isEmpty()) {
-                return Collections.emptyList();
-            }
-            SubscriptionQuery query = new SubscriptionQuery();
-            query.setStatuses(Collections.singleton(PENDING));
-            query.setApis(apiIds);
-            return subscriptionService.search(query)
+        // 5. add apiId that comes from group
+        if (!groupIds.isEmpty()) {
+            apiIds.addAll(apiRepository
+                    .search(new ApiCriteria.Builder().groups(groupIds.toArray(new String[0])).build())
                     .stream()
-                    .map(this::convert)
-                    .collect(Collectors.toList());
-        } catch (TechnicalException e) {
-            LOGGER.error("Error retreiving user tasks {}", e.getMessage());
-            throw new TechnicalManagementException("Error retreiving user tasks", e);
+                    .map(Api::getId)
+                    .collect(Collectors.toSet()));
+        }
+
+        // 6. search for PENDING subscriptions
+        if (apiIds.isEmpty()) {
+            return new UserTasks(apiIds, Collections.emptyList());
         }
+        SubscriptionQuery query = new SubscriptionQuery();
+        query.setStatuses(Collections.singleton(PENDING));
+        query.setApis(apiIds);
+        return new UserTasks(apiIds, Collections.unmodifiableList(subscriptionService.search(query)
+                .stream()
+                .map(this::convert)
+                .collect(Collectors.toList())));
     }
 
     public Metadata getMetadata(List<TaskEntity> tasks) {
-        Metadata metadata = new Metadata();
-        tasks.forEach( task -> {
-            SubscriptionEntity subscription = (SubscriptionEntity)task.getData();
-
-            if (!metadata.containsKey(subscription.getApplication())) {
-                ApplicationEntity applicationEntity = applicationService.findById(subscription.getApplication());
-                metadata.put(subscription.getApplication(), "name", applicationEntity.getName());
-            }
-
-            if (!metadata.containsKey(subscription.getPlan())) {
-                PlanEntity planEntity = planService.findById(subscription.getPlan());
-                String apiId = planEntity.getApis().iterator().next();
-                ApiEntity api = apiService.findById(apiId);
-                metadata.put(subscription.getPlan(), "name", planEntity.getName());
-                metadata.put(subscription.getPlan(), "api", apiId);
-                metadata.put(apiId, "name", api.getName());
-            }
-        });
-        return metadata;
+        return subscriptionService.getMetadata(tasks.stream()
+                .map(task -> (SubscriptionEntity) task.getData())
+                .collect(Collectors.toList()));
     }
 
     private TaskEntity convert(SubscriptionEntity subscription) {
@@ -176,4 +200,14 @@ public class TaskServiceImpl extends AbstractService implements TaskService {
         }
         return taskEntity;
     }
+
+    private static class UserTasks {
+        private final Set<String> apiIds;
+        private final List<TaskEntity> tasks;
+
+        UserTasks(Set<String> apiIds, List<TaskEntity> tasks) {
+            this.apiIds = apiIds;
+            this.tasks = tasks;
+        }
+    }
 }
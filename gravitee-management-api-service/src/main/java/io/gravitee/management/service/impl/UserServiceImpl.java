@@ -28,6 +28,7 @@ import io.gravitee.management.service.common.JWTHelper.ACTION;
 import io.gravitee.management.service.common.JWTHelper.Claims;
 import io.gravitee.management.service.exceptions.*;
 import io.gravitee.management.service.impl.search.SearchResult;
+import io.gravitee.management.service.impl.user.UserConnectionRecorder;
 import io.gravitee.management.service.notification.NotificationParamsBuilder;
 import io.gravitee.management.service.notification.PortalHook;
 import io.gravitee.management.service.search.SearchEngineService;
@@ -104,6 +105,8 @@ public class UserServiceImpl extends AbstractService implements UserService {
     private SearchEngineService searchEngineService;
     @Autowired
     private InvitationService invitationService;
+    @Autowired
+    private UserConnectionRecorder userConnectionRecorder;
 
     @Value("${user.avatar:${gravitee.home}/assets/default_user_avatar.png}")
     private String defaultAvatar;
@@ -122,24 +125,32 @@ public class UserServiceImpl extends AbstractService implements UserService {
             }
 
             User user = checkUser.get();
+            Date connectionAt = new Date();
+
+            // Routine connection: the last connection date is recorded out of the login request thread
+            if (user.getLastConnectionAt() != null) {
+                userConnectionRecorder.record(userId, isAuthenticated() ? getAuthenticatedUsername() : "system",
+                        connectionAt);
+                user.setLastConnectionAt(connectionAt);
+                return convert(user, true);
+            }
+
             User previousUser = new User(user);
             // First connection: create default application for user & notify
-            if (user.getLastConnectionAt() == null) {
-                notifierService.trigger(PortalHook.USER_FIRST_LOGIN, new NotificationParamsBuilder()
-                        .user(convert(user, false))
-                        .build());
-                if (defaultApplicationForFirstConnection) {
-                    LOGGER.debug("Create a default application for {}", userId);
-                    NewApplicationEntity defaultApp = new NewApplicationEntity();
-                    defaultApp.setName("Default application");
-                    defaultApp.setDescription("My default application");
-                    applicationService.create(defaultApp, userId);
-                }
+            notifierService.trigger(PortalHook.USER_FIRST_LOGIN, new NotificationParamsBuilder()
+                    .user(convert(user, false))
+                    .build());
+            if (defaultApplicationForFirstConnection) {
+                LOGGER.debug("Create a default application for {}", userId);
+                NewApplicationEntity defaultApp = new NewApplicationEntity();
+                defaultApp.setName("Default application");
+                defaultApp.setDescription("My default application");
+                applicationService.create(defaultApp, userId);
             }
 
             // Set date fields
-            user.setLastConnectionAt(new Date());
-            user.setUpdatedAt(user.getLastConnectionAt());
+            user.setLastConnectionAt(connectionAt);
+            user.setUpdatedAt(connectionAt);
 
             User updatedUser = userRepository.update(user);
             auditService.createPortalAuditLog(
@@ -0,0 +1,168 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.service.impl.audit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.fge.jsonpatch.diff.JsonDiff;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Field by field differ: only the fields which have changed are converted to JSON.
+ *
+ * The generated patch is equivalent to the one computed by {@link JsonDiff} on the whole entities
+ * (<code>createdAt</code> and <code>updatedAt</code> are never part of the audit patch).
+ *
+ * @author GraviteeSource Team
+ */
+public abstract class AbstractAuditDiffer<T> implements AuditDiffer {
+
+    @Autowired
+    private ObjectMapper mapper;
+
+    private final Class<T> type;
+
+    private final List<AuditField<T>> fields = new ArrayList<>();
+
+    protected AbstractAuditDiffer(Class<T> type) {
+        this.type = type;
+    }
+
+    /**
+     * Register a scalar field (string, number, boolean, enum, date).
+     */
+    protected void value(String name, Function<T, Object> getter) {
+        fields.add(new AuditField<>(name, getter, FieldKind.VALUE));
+    }
+
+    /**
+     * Register a large opaque field (e.g. a JSON definition stored as string).
+     * Such a field is compared by length and hash before falling back to a full comparison.
+     */
+    protected void opaque(String name, Function<T, String> getter) {
+        fields.add(new AuditField<>(name, getter::apply, FieldKind.OPAQUE));
+    }
+
+    /**
+     * Register a collection or map field, for which a nested patch is computed when it changes.
+     */
+    protected void structured(String name, Function<T, Object> getter) {
+        fields.add(new AuditField<>(name, getter, FieldKind.STRUCTURED));
+    }
+
+    @Override
+    public boolean handle(Class<?> source) {
+        return type.equals(source);
+    }
+
+    @Override
+    public JsonNode diff(Object oldValue, Object newValue) {
+        T oldEntity = type.cast(oldValue);
+        T newEntity = type.cast(newValue);
+
+        ArrayNode patch = mapper.createArrayNode();
+
+        for (AuditField<T> field : fields) {
+            Object before = (oldEntity == null) ? null : field.getter.apply(oldEntity);
+            Object after = (newEntity == null) ? null : field.getter.apply(newEntity);
+
+            if (field.kind.same(before, after)) {
+                continue;
+            }
+
+            String path = '/' + field.name;
+            if (before == null) {
+                patch.add(operation("add", path).set("value", mapper.valueToTree(after)));
+            } else if (after == null) {
+                patch.add(operation("remove", path));
+            } else if (field.kind == FieldKind.STRUCTURED) {
+                JsonNode nested = JsonDiff.asJson(mapper.valueToTree(before), mapper.valueToTree(after));
+                for (JsonNode nestedOperation : nested) {
+                    ObjectNode operation = (ObjectNode) nestedOperation;
+                    operation.put("path", path + operation.get("path").asText());
+                    if (operation.has("from")) {
+                        operation.put("from", path + operation.get("from").asText());
+                    }
+                    patch.add(operation);
+                }
+            } else {
+                patch.add(operation("replace", path).set("value", mapper.valueToTree(after)));
+            }
+        }
+
+        return patch;
+    }
+
+    private ObjectNode operation(String op, String path) {
+        ObjectNode operation = mapper.createObjectNode();
+        operation.put("op", op);
+        operation.put("path", path);
+        return operation;
+    }
+
+    private enum FieldKind {
+        VALUE {
+            @Override
+            boolean same(Object before, Object after) {
+                return Objects.equals(before, after);
+            }
+        },
+        OPAQUE {
+            @Override
+            boolean same(Object before, Object after) {
+                if (before == after) {
+                    return true;
+                }
+                if (before == null || after == null) {
+                    return false;
+                }
+
+                String sBefore = (String) before;
+                String sAfter = (String) after;
+                return sBefore.length() == sAfter.length()
+                        && sBefore.hashCode() == sAfter.hashCode()
+                        && sBefore.equals(sAfter);
+            }
+        },
+        STRUCTURED {
+            @Override
+            boolean same(Object before, Object after) {
+                return Objects.equals(before, after);
+            }
+        };
+
+        abstract boolean same(Object before, Object after);
+    }
+
+    private static class AuditField<T> {
+        private final String name;
+        private final Function<T, Object> getter;
+        private final FieldKind kind;
+
+        AuditField(String name, Function<T, Object> getter, FieldKind kind) {
+            this.name = name;
+            this.getter = getter;
+            this.kind = kind;
+        }
+    }
+}
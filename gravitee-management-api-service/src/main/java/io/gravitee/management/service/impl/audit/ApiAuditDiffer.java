@@ -0,0 +1,43 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.service.impl.audit;
+
+import io.gravitee.repository.management.model.Api;
+import org.springframework.stereotype.Component;
+
+/**
+ * @author GraviteeSource Team
+ */
+@Component
+public class ApiAuditDiffer extends AbstractAuditDiffer<Api> {
+
+    public ApiAuditDiffer() {
+        super(Api.class);
+
+        value("id", Api::getId);
+        value("name", Api::getName);
+        value("version", Api::getVersion);
+        value("description", Api::getDescription);
+        value("visibility", Api::getVisibility);
+        value("lifecycleState", Api::getLifecycleState);
+        value("deployedAt", Api::getDeployedAt);
+        opaque("picture", Api::getPicture);
+        opaque("definition", Api::getDefinition);
+        structured("groups", Api::getGroups);
+        structured("views", Api::getViews);
+        structured("labels", Api::getLabels);
+    }
+}
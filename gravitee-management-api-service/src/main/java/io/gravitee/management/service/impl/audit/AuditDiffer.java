@@ -0,0 +1,35 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.service.impl.audit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Computes the JSON-Patch of an audited entity without converting the whole entity into a JSON tree.
+ *
+ * @author GraviteeSource Team
+ */
+public interface AuditDiffer {
+
+    boolean handle(Class<?> source);
+
+    /**
+     * @param oldValue the entity before the change, may be <code>null</code>
+     * @param newValue the entity after the change, may be <code>null</code>
+     * @return a JSON-Patch (RFC 6902) array containing operations for changed fields only
+     */
+    JsonNode diff(Object oldValue, Object newValue);
+}
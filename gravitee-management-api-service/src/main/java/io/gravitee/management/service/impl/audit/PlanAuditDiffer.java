@@ -0,0 +1,49 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.service.impl.audit;
+
+import io.gravitee.repository.management.model.Plan;
+import org.springframework.stereotype.Component;
+
+/**
+ * @author GraviteeSource Team
+ */
+@Component
+public class PlanAuditDiffer extends AbstractAuditDiffer<Plan> {
+
+    public PlanAuditDiffer() {
+        super(Plan.class);
+
+        value("id", Plan::getId);
+        value("name", Plan::getName);
+        value("description", Plan::getDescription);
+        value("validation", Plan::getValidation);
+        value("type", Plan::getType);
+        value("order", Plan::getOrder);
+        value("publishedAt", Plan::getPublishedAt);
+        value("closedAt", Plan::getClosedAt);
+        value("needRedeployAt", Plan::getNeedRedeployAt);
+        value("status", Plan::getStatus);
+        value("security", Plan::getSecurity);
+        value("commentRequired", Plan::isCommentRequired);
+        value("commentMessage", Plan::getCommentMessage);
+        opaque("definition", Plan::getDefinition);
+        opaque("securityDefinition", Plan::getSecurityDefinition);
+        structured("apis", Plan::getApis);
+        structured("characteristics", Plan::getCharacteristics);
+        structured("excludedGroups", Plan::getExcludedGroups);
+    }
+}
@@ -0,0 +1,46 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.service.impl.audit;
+
+import io.gravitee.repository.management.model.Subscription;
+import org.springframework.stereotype.Component;
+
+/**
+ * @author GraviteeSource Team
+ */
+@Component
+public class SubscriptionAuditDiffer extends AbstractAuditDiffer<Subscription> {
+
+    public SubscriptionAuditDiffer() {
+        super(Subscription.class);
+
+        value("id", Subscription::getId);
+        value("api", Subscription::getApi);
+        value("plan", Subscription::getPlan);
+        value("application", Subscription::getApplication);
+        value("clientId", Subscription::getClientId);
+        value("status", Subscription::getStatus);
+        value("startingAt", Subscription::getStartingAt);
+        value("endingAt", Subscription::getEndingAt);
+        value("processedAt", Subscription::getProcessedAt);
+        value("processedBy", Subscription::getProcessedBy);
+        value("subscribedBy", Subscription::getSubscribedBy);
+        value("closedAt", Subscription::getClosedAt);
+        value("pausedAt", Subscription::getPausedAt);
+        value("request", Subscription::getRequest);
+        value("reason", Subscription::getReason);
+    }
+}
@@ -0,0 +1,41 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.service.impl.audit;
+
+import io.gravitee.repository.management.model.User;
+import org.springframework.stereotype.Component;
+
+/**
+ * @author GraviteeSource Team
+ */
+@Component
+public class UserAuditDiffer extends AbstractAuditDiffer<User> {
+
+    public UserAuditDiffer() {
+        super(User.class);
+
+        value("id", User::getId);
+        value("source", User::getSource);
+        value("sourceId", User::getSourceId);
+        value("firstname", User::getFirstname);
+        value("lastname", User::getLastname);
+        value("email", User::getEmail);
+        value("password", User::getPassword);
+        value("status", User::getStatus);
+        value("lastConnectionAt", User::getLastConnectionAt);
+        opaque("picture", User::getPicture);
+    }
+}
@@ -0,0 +1,128 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.service.impl.media;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalCause;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.*;
+
+/**
+ * Local disk tier for media contents. Files are named after the hash of their content, so a file is shared by
+ * all the media having the same content and never has to be invalidated.
+ *
+ * Files are written in a dedicated sub directory of <code>media.cache.path</code> with their own prefix, only these files
+ * are removed on startup. The least recently used files are removed once <code>media.cache.maxSize</code> bytes are reached.
+ *
+ * @author GraviteeSource Team
+ */
+@Component
+public class MediaFileCache implements InitializingBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(MediaFileCache.class);
+
+    static final String DIRECTORY = "media-cache";
+
+    static final String PREFIX = "media-";
+
+    @Value("${media.cache.path:${gravitee.home}/data/media}")
+    private String path;
+
+    @Value("${media.cache.maxSize:268435456}")
+    private long maxSize;
+
+    private Path directory;
+
+    private Cache<String, Path> files;
+
+    @Override
+    public void afterPropertiesSet() throws IOException {
+        directory = Paths.get(path).resolve(DIRECTORY);
+        Files.createDirectories(directory);
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, PREFIX + '*')) {
+            for (Path file : stream) {
+                if (Files.isRegularFile(file)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+
+        files = CacheBuilder.newBuilder()
+                .maximumWeight(maxSize)
+                .<String, Path>weigher((hash, file) -> (int) Math.min(Integer.MAX_VALUE, file.toFile().length()))
+                .<String, Path>removalListener(notification -> {
+                    if (notification.getCause() != RemovalCause.REPLACED) {
+                        delete(notification.getValue());
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * @return the file holding the content of the given hash, <code>null</code> if not (or no more) on disk
+     */
+    public Path get(String hash) {
+        Path file = files.getIfPresent(hash);
+        if (file != null && !Files.exists(file)) {
+            files.invalidate(hash);
+            return null;
+        }
+        return file;
+    }
+
+    /**
+     * Creates a temporary file in the cache directory, to be given to {@link #put(String, Path)} once its hash is known.
+     */
+    public Path createTempFile() throws IOException {
+        return Files.createTempFile(directory, PREFIX + "upload-", ".tmp");
+    }
+
+    /**
+     * Moves the given file into the cache.
+     */
+    public Path put(String hash, Path file) throws IOException {
+        Path target = directory.resolve(PREFIX + hash);
+        Files.move(file, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        files.put(hash, target);
+        return target;
+    }
+
+    public Path put(String hash, byte[] content) throws IOException {
+        Path file = createTempFile();
+        try {
+            Files.write(file, content);
+            return put(hash, file);
+        } catch (IOException ioe) {
+            delete(file);
+            throw ioe;
+        }
+    }
+
+    public void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ioe) {
+            logger.warn("Unable to delete media file {}", file, ioe);
+        }
+    }
+}
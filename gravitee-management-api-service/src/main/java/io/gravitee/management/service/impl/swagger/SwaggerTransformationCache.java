@@ -0,0 +1,117 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.service.impl.swagger;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import io.gravitee.management.model.PageEntity;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+/**
+ * Keeps the content of SWAGGER pages once transformed, by page id.
+ * An entry is reused only if the content, the content type and the configuration of the page are unchanged.
+ *
+ * @author GraviteeSource Team
+ */
+@Component
+public class SwaggerTransformationCache implements InitializingBean {
+
+    @Value("${swagger.cache.maxSize:67108864}")
+    private long maxSize;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Cache<String, TransformedContent> contents;
+    private Timer transformations;
+
+    @Override
+    public void afterPropertiesSet() {
+        contents = CacheBuilder.newBuilder()
+                .maximumWeight(maxSize)
+                .weigher((String pageId, TransformedContent content) -> content.weight())
+                .recordStats()
+                .build();
+        GuavaCacheMetrics.monitor(meterRegistry, contents, "swagger.transformation");
+        transformations = Timer.builder("swagger.transformation.duration")
+                .description("Time spent to parse and serialize a descriptor")
+                .register(meterRegistry);
+    }
+
+    public void transform(final PageEntity page, final Consumer<PageEntity> transformer) {
+        if (page.getId() == null || page.getContent() == null) {
+            transformer.accept(page);
+            return;
+        }
+
+        final String fingerprint = fingerprint(page);
+        TransformedContent transformed = contents.getIfPresent(page.getId());
+        if (transformed != null && transformed.fingerprint.equals(fingerprint)) {
+            if (transformed.content != null) {
+                page.setContent(transformed.content);
+            }
+            return;
+        }
+
+        final String content = page.getContent();
+        transformations.record(() -> transformer.accept(page));
+        // the content is not replaced when the page does not require any transformation, do not keep a copy of it
+        contents.put(page.getId(), new TransformedContent(fingerprint, content == page.getContent() ? null : page.getContent()));
+    }
+
+    public void evict(final String pageId) {
+        contents.invalidate(pageId);
+    }
+
+    private String fingerprint(final PageEntity page) {
+        final Hasher hasher = Hashing.murmur3_128().newHasher()
+                .putString(page.getContent(), StandardCharsets.UTF_8)
+                .putString(String.valueOf(page.getContentType()), StandardCharsets.UTF_8);
+        final Map<String, String> configuration = page.getConfiguration();
+        if (configuration != null) {
+            hasher.putString(new TreeMap<>(configuration).toString(), StandardCharsets.UTF_8);
+        }
+        return hasher.hash().toString();
+    }
+
+    private static final class TransformedContent {
+        private final String fingerprint;
+        private final String content;
+
+        TransformedContent(String fingerprint, String content) {
+            this.fingerprint = fingerprint;
+            this.content = content;
+        }
+
+        int weight() {
+            // approximate size in bytes
+            return 64 + (content == null ? 0 : content.length() * 2);
+        }
+    }
+}
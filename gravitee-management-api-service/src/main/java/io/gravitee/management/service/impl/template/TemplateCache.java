@@ -0,0 +1,71 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.service.impl.template;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import freemarker.template.Configuration;
+import freemarker.template.Template;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * Keeps the compiled FreeMarker templates of contents stored in the repository (pages, API headers, ...).
+ * A template is parsed again only when the content of the given id changes.
+ *
+ * @author GraviteeSource Team
+ */
+@Component
+public class TemplateCache implements InitializingBean {
+
+    @Autowired
+    private Configuration freemarkerConfiguration;
+
+    @Value("${templates.cache.maxSize:1000}")
+    private int maxSize;
+
+    private Cache<String, CompiledTemplate> templates;
+
+    @Override
+    public void afterPropertiesSet() {
+        templates = CacheBuilder.newBuilder()
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    public Template get(final String id, final String content) throws IOException {
+        CompiledTemplate compiled = templates.getIfPresent(id);
+        if (compiled == null || !compiled.content.equals(content)) {
+            compiled = new CompiledTemplate(content, new Template(id, content, freemarkerConfiguration));
+            templates.put(id, compiled);
+        }
+        return compiled.template;
+    }
+
+    private static final class CompiledTemplate {
+        private final String content;
+        private final Template template;
+
+        CompiledTemplate(String content, Template template) {
+            this.content = content;
+            this.template = template;
+        }
+    }
+}
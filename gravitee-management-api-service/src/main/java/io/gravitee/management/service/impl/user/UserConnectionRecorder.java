@@ -0,0 +1,154 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.service.impl.user;
+
+import io.gravitee.management.service.AuditService;
+import io.gravitee.repository.exceptions.TechnicalException;
+import io.gravitee.repository.management.api.UserRepository;
+import io.gravitee.repository.management.model.User;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static io.gravitee.repository.management.model.Audit.AuditProperties.USER;
+
+/**
+ * Post-login stage: records the last connection date of the users out of the login request thread.
+ *
+ * Connections are buffered and flushed every <code>user.login.flush.interval</code> milliseconds, so several
+ * logins of the same user within an interval result in a single repository update and a single audit log.
+ * The audit user is the one authenticated when the connection is recorded, as the flush thread has no security context.
+ *
+ * @author GraviteeSource Team
+ */
+@Component
+public class UserConnectionRecorder implements InitializingBean, DisposableBean {
+
+    private final Logger LOGGER = LoggerFactory.getLogger(UserConnectionRecorder.class);
+
+    @Value("${user.login.flush.interval:1000}")
+    private long flushInterval;
+
+    @Value("${user.login.flush.maxPending:10000}")
+    private int maxPending;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AuditService auditService;
+
+    private final ConcurrentMap<String, Connection> pending = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService executor;
+
+    @Override
+    public void afterPropertiesSet() {
+        executor = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("gio-user-connection-"));
+        executor.scheduleWithFixedDelay(this::flush, flushInterval, flushInterval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+        flush();
+    }
+
+    /**
+     * Records a connection of the given user, only the most recent connection is kept until the next flush.
+     *
+     * @param auditUser the user the connection is audited for
+     */
+    public void record(String userId, String auditUser, Date connectionAt) {
+        pending.merge(userId, new Connection(auditUser, connectionAt),
+                (previous, current) -> current.at.after(previous.at) ? current : previous);
+
+        if (pending.size() >= maxPending) {
+            try {
+                executor.execute(this::flush);
+            } catch (RejectedExecutionException ree) {
+                // Shutting down, pending connections are flushed by destroy()
+            }
+        }
+    }
+
+    /**
+     * Writes all the buffered connections.
+     */
+    public synchronized void flush() {
+        for (String userId : new ArrayList<>(pending.keySet())) {
+            Connection connection = pending.remove(userId);
+            if (connection != null) {
+                try {
+                    write(userId, connection);
+                } catch (Exception ex) {
+                    LOGGER.error("An error occurs while trying to record the connection of {}", userId, ex);
+                }
+            }
+        }
+    }
+
+    /**
+     * The user is read right before being updated, and only its connection dates are changed, so that the profile
+     * changes made in the meantime are kept.
+     */
+    private void write(String userId, Connection connection) throws TechnicalException {
+        final Date connectionAt = connection.at;
+        Optional<User> optionalUser = userRepository.findById(userId);
+        if (!optionalUser.isPresent()) {
+            LOGGER.debug("User {} has been removed before its connection has been recorded", userId);
+            return;
+        }
+
+        User user = optionalUser.get();
+        if (user.getLastConnectionAt() != null && !connectionAt.after(user.getLastConnectionAt())) {
+            return;
+        }
+
+        User previousUser = new User(user);
+        user.setLastConnectionAt(connectionAt);
+        if (user.getUpdatedAt() == null || connectionAt.after(user.getUpdatedAt())) {
+            user.setUpdatedAt(connectionAt);
+        }
+        userRepository.update(user);
+
+        auditService.createPortalAuditLog(
+                Collections.singletonMap(USER, userId),
+                User.AuditEvent.USER_CONNECTED,
+                connection.auditUser,
+                connectionAt,
+                previousUser,
+                user);
+    }
+
+    private static final class Connection {
+        private final String auditUser;
+        private final Date at;
+
+        private Connection(String auditUser, Date at) {
+            this.auditUser = auditUser;
+            this.at = at;
+        }
+    }
+}
@@ -22,7 +22,6 @@ import io.gravitee.management.model.MemberEntity;
 import io.gravitee.management.model.UserEntity;
 import io.gravitee.management.model.api.ApiEntity;
 import io.gravitee.management.service.MembershipService;
-import io.gravitee.management.service.UserService;
 import io.gravitee.repository.management.model.MembershipReferenceType;
 import io.gravitee.repository.management.model.RoleScope;
 
@@ -30,6 +29,7 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -84,10 +84,11 @@ public class Api1_15VersionSerializer extends ApiSerializer {
         // members
         if (!filteredFieldsList.contains("members")) {
             Set<MemberEntity> memberEntities = applicationContext.getBean(MembershipService.class).getMembers(MembershipReferenceType.API, apiEntity.getId(), RoleScope.API);
+            Map<String, UserEntity> users = findMemberUsers(memberEntities);
             List<ApiSerializer.Member> members = new ArrayList<>(memberEntities == null ? 0 : memberEntities.size());
             if (memberEntities != null) {
                 memberEntities.forEach(m -> {
-                    UserEntity userEntity = applicationContext.getBean(UserService.class).findById(m.getId());
+                    UserEntity userEntity = users.get(m.getId());
                     if (userEntity != null) {
                         Member member = new Member();
                         member.setUsername(userEntity.getSourceId());
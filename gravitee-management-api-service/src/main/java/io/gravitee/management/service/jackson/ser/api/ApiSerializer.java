@@ -30,6 +30,7 @@ import org.springframework.context.ApplicationContext;
 
 import java.io.IOException;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -131,10 +132,11 @@ public abstract class ApiSerializer extends StdSerializer<ApiEntity> {
         // members
         if (!filteredFieldsList.contains("members")) {
             Set<MemberEntity> memberEntities = applicationContext.getBean(MembershipService.class).getMembers(MembershipReferenceType.API, apiEntity.getId(), RoleScope.API);
+            Map<String, UserEntity> users = findMemberUsers(memberEntities);
             List<Member> members = new ArrayList<>(memberEntities == null ? 0 : memberEntities.size());
             if (memberEntities != null) {
                 memberEntities.forEach(m -> {
-                    UserEntity userEntity = applicationContext.getBean(UserService.class).findById(m.getId());
+                    UserEntity userEntity = users.get(m.getId());
                     if (userEntity != null) {
                         Member member = new Member();
                         member.setRole(m.getRole());
@@ -166,6 +168,20 @@ public abstract class ApiSerializer extends StdSerializer<ApiEntity> {
         }
     }
 
+    /**
+     * Resolves the users of all the members at once.
+     */
+    protected Map<String, UserEntity> findMemberUsers(Set<MemberEntity> memberEntities) {
+        if (memberEntities == null || memberEntities.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        List<String> ids = memberEntities.stream().map(MemberEntity::getId).collect(Collectors.toList());
+        return applicationContext.getBean(UserService.class).findByIds(ids)
+                .stream()
+                .collect(Collectors.toMap(UserEntity::getId, Function.identity()));
+    }
+
     public enum Version {
         DEFAULT("default"), V_1_15("1.15");
         private final String version;
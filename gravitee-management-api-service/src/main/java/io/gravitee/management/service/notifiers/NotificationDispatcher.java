@@ -0,0 +1,37 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.service.notifiers;
+
+/**
+ * Runs notification tasks on bounded worker pools, one per channel, retrying failed deliveries with backoff.
+ * A task failing with a {@link io.gravitee.management.service.exceptions.NotificationDeliveryException} is only
+ * retried when the error is transient, and only for what remains to be delivered.
+ *
+ * @author GraviteeSource Team
+ */
+public interface NotificationDispatcher {
+
+    enum Channel {
+        /**
+         * Resolution of the notification configurations and portal notifications.
+         */
+        DEFAULT,
+        EMAIL,
+        WEBHOOK
+    }
+
+    void dispatch(Channel channel, String description, Runnable task);
+}
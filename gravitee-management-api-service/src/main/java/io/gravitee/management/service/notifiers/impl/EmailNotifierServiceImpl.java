@@ -18,6 +18,7 @@ package io.gravitee.management.service.notifiers.impl;
 import io.gravitee.management.model.ApiModelEntity;
 import io.gravitee.management.model.PlanEntity;
 import io.gravitee.management.model.api.ApiEntity;
+import io.gravitee.management.service.EmailNotification;
 import io.gravitee.management.service.EmailService;
 import io.gravitee.management.service.builder.EmailNotificationBuilder;
 import io.gravitee.management.service.notification.*;
@@ -28,6 +29,8 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 import static io.gravitee.management.service.notification.ApiHook.*;
@@ -56,17 +59,24 @@ public class EmailNotifierServiceImpl implements EmailNotifierService {
             return;
         }
 
+        final String subject = getEmailSubject(hook, params);
+        final List<EmailNotification> notifications = new ArrayList<>();
         String[] mails = genericNotificationConfig.getConfig().split(",|;|\\s");
         for (String mail : mails) {
             if (!mail.isEmpty()) {
-                emailService.sendAsyncEmailNotification(new EmailNotificationBuilder()
+                notifications.add(new EmailNotificationBuilder()
                         .to(mail)
-                        .subject(getEmailSubject(hook, params))
+                        .subject(subject)
                         .template(emailTemplate)
                         .params(params)
                         .build());
             }
         }
+
+        // already running on the email notification channel, all the recipients are sent within a single SMTP session
+        if (!notifications.isEmpty()) {
+            emailService.sendEmailNotifications(notifications);
+        }
     }
 
     private EmailNotificationBuilder.EmailTemplate getEmailTemplate(final Hook hook) {
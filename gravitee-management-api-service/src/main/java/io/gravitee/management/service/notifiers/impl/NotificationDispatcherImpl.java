@@ -0,0 +1,184 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.service.notifiers.impl;
+
+import io.gravitee.management.service.exceptions.NotificationDeliveryException;
+import io.gravitee.management.service.exceptions.TechnicalManagementException;
+import io.gravitee.management.service.notifiers.NotificationDispatcher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+@Component
+public class NotificationDispatcherImpl implements NotificationDispatcher, InitializingBean, DisposableBean {
+
+    private final Logger LOGGER = LoggerFactory.getLogger(NotificationDispatcherImpl.class);
+
+    private static final int DEFAULT_WORKERS = 2;
+    private static final int DEFAULT_QUEUE_CAPACITY = 1000;
+
+    @Value("${notifiers.retry.attempts:3}")
+    private int retryAttempts;
+    @Value("${notifiers.retry.delay:1000}")
+    private long retryDelay;
+
+    @Autowired
+    private Environment environment;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Map<Channel, ThreadPoolExecutor> executors = new EnumMap<>(Channel.class);
+    private final Map<Channel, ChannelMetrics> metrics = new EnumMap<>(Channel.class);
+    private ScheduledExecutorService retryScheduler;
+
+    @Override
+    public void afterPropertiesSet() {
+        for (Channel channel : Channel.values()) {
+            String prefix = "notifiers." + channel.name().toLowerCase() + '.';
+            int workers = environment.getProperty(prefix + "workers", Integer.class, DEFAULT_WORKERS);
+            int queueCapacity = environment.getProperty(prefix + "queueCapacity", Integer.class, DEFAULT_QUEUE_CAPACITY);
+
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(workers, workers, 60L, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(queueCapacity),
+                    new CustomizableThreadFactory("gio-notifier-" + channel.name().toLowerCase() + '-'));
+            executor.allowCoreThreadTimeOut(true);
+            executors.put(channel, executor);
+            metrics.put(channel, new ChannelMetrics(channel, executor));
+        }
+
+        retryScheduler = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("gio-notifier-retry-"));
+    }
+
+    @Override
+    public void destroy() {
+        retryScheduler.shutdownNow();
+        executors.values().forEach(ThreadPoolExecutor::shutdown);
+    }
+
+    @Override
+    public void dispatch(Channel channel, String description, Runnable task) {
+        submit(new Attempt(channel, description, task, 1));
+    }
+
+    private void submit(Attempt attempt) {
+        try {
+            executors.get(attempt.channel).execute(attempt);
+        } catch (RejectedExecutionException ree) {
+            metrics.get(attempt.channel).rejected.increment();
+            LOGGER.error("Notification queue for channel {} is full, dropping {}", attempt.channel, attempt.description);
+        }
+    }
+
+    private class Attempt implements Runnable {
+        private final Channel channel;
+        private final String description;
+        private final Runnable task;
+        private final int number;
+
+        Attempt(Channel channel, String description, Runnable task, int number) {
+            this.channel = channel;
+            this.description = description;
+            this.task = task;
+            this.number = number;
+        }
+
+        @Override
+        public void run() {
+            ChannelMetrics channelMetrics = metrics.get(channel);
+            try {
+                task.run();
+                channelMetrics.succeeded.increment();
+            } catch (NotificationDeliveryException nde) {
+                if (nde.isRetryable()) {
+                    retry(channelMetrics, nde.getRetry() != null ? nde.getRetry() : task, nde);
+                } else {
+                    channelMetrics.failed.increment();
+                    LOGGER.error("Unable to send {}, the error is not transient", description, nde);
+                }
+            } catch (TechnicalManagementException tme) {
+                retry(channelMetrics, task, tme);
+            } catch (Exception ex) {
+                channelMetrics.failed.increment();
+                LOGGER.error("Unable to send {}", description, ex);
+            }
+        }
+
+        private void retry(ChannelMetrics channelMetrics, Runnable retryTask, TechnicalManagementException tme) {
+            if (number < retryAttempts) {
+                // exponential backoff: delay, 2 * delay, 4 * delay...
+                long delay = retryDelay << (number - 1);
+                LOGGER.warn("Unable to send {} (attempt {}/{}), retrying in {}ms: {}",
+                        description, number, retryAttempts, delay, tme.getMessage());
+                channelMetrics.retried.increment();
+                try {
+                    retryScheduler.schedule(() -> submit(new Attempt(channel, description, retryTask, number + 1)),
+                            delay, TimeUnit.MILLISECONDS);
+                } catch (RejectedExecutionException ree) {
+                    channelMetrics.failed.increment();
+                }
+            } else {
+                channelMetrics.failed.increment();
+                LOGGER.error("Unable to send {} after {} attempts", description, number, tme);
+            }
+        }
+    }
+
+    private class ChannelMetrics {
+        private final Counter succeeded;
+        private final Counter failed;
+        private final Counter retried;
+        private final Counter rejected;
+
+        ChannelMetrics(Channel channel, ThreadPoolExecutor executor) {
+            String tag = channel.name().toLowerCase();
+            Gauge.builder("notifier.queue.size", executor, e -> e.getQueue().size())
+                    .tag("channel", tag)
+                    .description("Notifications waiting for a worker")
+                    .register(meterRegistry);
+            Gauge.builder("notifier.workers.active", executor, ThreadPoolExecutor::getActiveCount)
+                    .tag("channel", tag)
+                    .register(meterRegistry);
+            succeeded = counter(tag, "success");
+            failed = counter(tag, "failure");
+            retried = counter(tag, "retry");
+            rejected = counter(tag, "rejected");
+        }
+
+        private Counter counter(String channel, String result) {
+            return Counter.builder("notifier.tasks")
+                    .tag("channel", channel)
+                    .tag("result", result)
+                    .register(meterRegistry);
+        }
+    }
+}
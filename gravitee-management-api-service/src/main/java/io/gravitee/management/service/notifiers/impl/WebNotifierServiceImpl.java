@@ -15,47 +15,50 @@
  */
 package io.gravitee.management.service.notifiers.impl;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalListener;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import io.gravitee.common.http.HttpHeaders;
 import io.gravitee.common.http.HttpMethod;
 import io.gravitee.common.http.HttpStatusCode;
 import io.gravitee.common.http.MediaType;
 import io.gravitee.common.utils.UUID;
-import io.gravitee.fetcher.api.FetcherException;
-import io.gravitee.management.model.*;
-import io.gravitee.management.model.api.ApiEntity;
-import io.gravitee.management.service.exceptions.TechnicalManagementException;
-import io.gravitee.management.service.notification.Hook;
+import io.gravitee.management.service.exceptions.NotificationDeliveryException;
 import io.gravitee.management.service.notifiers.WebNotifierService;
-import io.gravitee.management.service.notifiers.WebhookNotifierService;
 import io.gravitee.management.service.vertx.VertxCompletableFuture;
-import io.gravitee.repository.management.model.GenericNotificationConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpClient;
 import io.vertx.core.http.HttpClientOptions;
 import io.vertx.core.http.HttpClientRequest;
-import io.vertx.core.json.JsonObject;
+import io.vertx.core.http.HttpVersion;
+import io.vertx.core.net.JdkSSLEngineOptions;
 import io.vertx.core.net.ProxyOptions;
 import io.vertx.core.net.ProxyType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.net.URI;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
-
-import static io.gravitee.management.service.notification.NotificationParamsBuilder.*;
+import java.util.concurrent.TimeUnit;
 
 /**
  * @author Nicolas GERAUD (nicolas.geraud at graviteesource.com) 
  * @author GraviteeSource Team
  */
 @Component
-public class WebNotifierServiceImpl implements WebNotifierService {
+public class WebNotifierServiceImpl implements WebNotifierService, InitializingBean, DisposableBean {
 
     private final Logger LOGGER = LoggerFactory.getLogger(WebNotifierServiceImpl.class);
 
@@ -84,9 +87,44 @@ public class WebNotifierServiceImpl implements WebNotifierService {
     @Value("${httpClient.proxy.https.password:#{null}}")
     private String httpClientProxyHttpsPassword;
 
+    @Value("${httpClient.webhook.maxConnectionsPerHost:5}")
+    private int maxConnectionsPerHost;
+    @Value("${httpClient.webhook.maxWaitQueueSize:100}")
+    private int maxWaitQueueSize;
+    @Value("${httpClient.webhook.idleTimeout:60}")
+    private int idleTimeout;
+    @Value("${httpClient.webhook.http2.enabled:true}")
+    private boolean http2Enabled;
+    @Value("${httpClient.webhook.clients.maxSize:100}")
+    private int clientsMaxSize;
+    @Value("${httpClient.webhook.clients.expireAfterAccess:600}")
+    private int clientsExpireAfterAccess;
+
     @Autowired
     private Vertx vertx;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    /**
+     * Clients are shared between all the webhooks targeting the same server so that connections (and TLS sessions)
+     * are kept alive and reused across notifications. The clients of the servers no longer notified are closed, once
+     * the requests they are sending are over.
+     */
+    private Cache<ClientKey, SharedClient> clients;
+
+    @Override
+    public void afterPropertiesSet() {
+        clients = CacheBuilder.newBuilder()
+                .maximumSize(clientsMaxSize)
+                .expireAfterAccess(clientsExpireAfterAccess, TimeUnit.SECONDS)
+                .removalListener((RemovalListener<ClientKey, SharedClient>) notification -> {
+                    LOGGER.debug("Close HTTP client for webhooks targeting {}", notification.getKey());
+                    notification.getValue().evict();
+                })
+                .build();
+    }
+
     public void request(HttpMethod method, final String uri, final Map<String, String> headers, String body, boolean useSystemProxy) {
         if (uri == null || uri.isEmpty()) {
             LOGGER.error("Webhook Notifier configuration is empty");
@@ -97,18 +135,121 @@ public class WebNotifierServiceImpl implements WebNotifierService {
         URI requestUri = URI.create(uri);
         boolean ssl = HTTPS_SCHEME.equalsIgnoreCase(requestUri.getScheme());
 
+        final int port = requestUri.getPort() != -1 ? requestUri.getPort() : (ssl ? 443 : 80);
+        final ClientKey key = new ClientKey(ssl, requestUri.getHost(), port, useSystemProxy);
+        final SharedClient sharedClient = acquire(key);
+        // the client can not be closed until the response is received or the request has failed
+        future.whenComplete((buffer, throwable) -> sharedClient.release());
+
+        try {
+            send(sharedClient.client, method, requestUri, port, headers, body, future);
+        } catch (RuntimeException re) {
+            future.completeExceptionally(re);
+            throw re;
+        }
+
+        try {
+            future.get();
+        } catch (ExecutionException e) {
+            LOGGER.error(e.getMessage(), e);
+            if (e.getCause() instanceof NotificationDeliveryException) {
+                throw (NotificationDeliveryException) e.getCause();
+            }
+            // connection errors and timeouts
+            throw new NotificationDeliveryException(e.getMessage(), e.getCause(), true);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new NotificationDeliveryException(e.getMessage(), e, true);
+        }
+    }
+
+    private void send(HttpClient httpClient, HttpMethod method, URI requestUri, int port, Map<String, String> headers,
+                      String body, CompletableFuture<Buffer> future) {
+        final Timer.Sample sample = Timer.start(meterRegistry);
+        final String target = requestUri.getHost() + ':' + port;
+
+        HttpClientRequest request = httpClient.request(
+                io.vertx.core.http.HttpMethod.valueOf(method.name()),
+                port,
+                requestUri.getHost(),
+                requestUri.toString()
+        );
+        request.setTimeout(httpClientTimeout);
+
+        //headers
+        final Buffer payload = Buffer.buffer(body);
+        request.putHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON);
+        request.putHeader(HttpHeaders.CONTENT_LENGTH, Integer.toString(payload.length()));
+        headers.forEach(request::putHeader);
+        request.putHeader("X-Gravitee-Request-Id", UUID.toString(UUID.random()));
+
+        request.handler(response -> {
+            LOGGER.debug("Web response status code : {}", response.statusCode());
+            // the body is always consumed so that the connection goes back to the pool
+            response.bodyHandler(buffer -> {
+                final int status = response.statusCode();
+                if (status >= HttpStatusCode.OK_200 && status < HttpStatusCode.MULTIPLE_CHOICES_300) {
+                    record(sample, target, "success");
+                    future.complete(buffer);
+                } else {
+                    record(sample, target, "error");
+                    future.completeExceptionally(new NotificationDeliveryException(" Error on url '" + requestUri + "'. Status code: " + status + ". Message: " + response.statusMessage(),
+                            null, isTransient(status)));
+                }
+            });
+        });
+        request.exceptionHandler(event -> {
+            record(sample, target, "failure");
+            future.completeExceptionally(event);
+        });
+
+        request.end(payload);
+    }
+
+    private SharedClient acquire(ClientKey key) {
+        try {
+            SharedClient sharedClient = clients.get(key, () -> new SharedClient(createHttpClient(key)));
+            // the client may have been evicted (and closed) since it was read from the cache
+            while (!sharedClient.acquire()) {
+                sharedClient = clients.get(key, () -> new SharedClient(createHttpClient(key)));
+            }
+            return sharedClient;
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            LOGGER.error("Unable to create HTTP client for {}", key, e.getCause());
+            throw new NotificationDeliveryException("Unable to create HTTP client for " + key, e.getCause(), false);
+        }
+    }
+
+    /**
+     * Client errors are permanent, except timeouts and rate limiting.
+     */
+    private static boolean isTransient(int status) {
+        return status >= HttpStatusCode.INTERNAL_SERVER_ERROR_500
+                || status == HttpStatusCode.REQUEST_TIMEOUT_408
+                || status == HttpStatusCode.TOO_MANY_REQUESTS_429;
+    }
+
+    private HttpClient createHttpClient(ClientKey key) {
         final HttpClientOptions options = new HttpClientOptions()
-                .setSsl(ssl)
+                .setSsl(key.ssl)
                 .setTrustAll(true)
-                .setMaxPoolSize(1)
-                .setKeepAlive(false)
-                .setTcpKeepAlive(false)
+                .setMaxPoolSize(maxConnectionsPerHost)
+                .setMaxWaitQueueSize(maxWaitQueueSize)
+                .setKeepAlive(true)
+                .setIdleTimeout(idleTimeout)
                 .setConnectTimeout(httpClientTimeout);
 
-        if (useSystemProxy) {
+        // HTTP/2 is only negotiated over TLS (ALPN), the client falls back to HTTP/1.1 if the server does not support it
+        if (key.ssl && http2Enabled && JdkSSLEngineOptions.isAlpnAvailable()) {
+            options.setProtocolVersion(HttpVersion.HTTP_2)
+                    .setUseAlpn(true)
+                    .setHttp2MaxPoolSize(maxConnectionsPerHost);
+        }
+
+        if (key.useSystemProxy) {
             ProxyOptions proxyOptions = new ProxyOptions();
             proxyOptions.setType(ProxyType.valueOf(httpClientProxyType));
-            if (HTTPS_SCHEME.equals(requestUri.getScheme())) {
+            if (key.ssl) {
                 proxyOptions.setHost(httpClientProxyHttpsHost);
                 proxyOptions.setPort(httpClientProxyHttpsPort);
                 proxyOptions.setUsername(httpClientProxyHttpsUsername);
@@ -122,57 +263,97 @@ public class WebNotifierServiceImpl implements WebNotifierService {
             options.setProxyOptions(proxyOptions);
         }
 
-        final HttpClient httpClient = vertx.createHttpClient(options);
+        LOGGER.debug("Create HTTP client for webhooks targeting {}", key);
+        return vertx.createHttpClient(options);
+    }
 
-        final int port = requestUri.getPort() != -1 ? requestUri.getPort() :
-                (HTTPS_SCHEME.equals(requestUri.getScheme()) ? 443 : 80);
+    private void record(Timer.Sample sample, String target, String outcome) {
+        sample.stop(Timer.builder("webhook.requests")
+                .tag("target", target)
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+    }
 
-        HttpClientRequest request = httpClient.request(
-                io.vertx.core.http.HttpMethod.valueOf(method.name()),
-                port,
-                requestUri.getHost(),
-                requestUri.toString(),
-                response -> LOGGER.debug("Web response status code : {}", response.statusCode())
-        );
-        request.setTimeout(httpClientTimeout);
+    @Override
+    public void destroy() {
+        if (clients != null) {
+            clients.invalidateAll();
+        }
+    }
 
-        //headers
-        request.putHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON);
-        request.putHeader(HttpHeaders.CONTENT_LENGTH, Integer.toString(body.length()));
-        headers.forEach(request::putHeader);
-        request.putHeader("X-Gravitee-Request-Id", UUID.toString(UUID.random()));
-        request.write(body);
+    /**
+     * A client counting the requests it is sending, so that it is only closed once evicted and no longer used.
+     */
+    private static final class SharedClient {
+        private final HttpClient client;
+        private int requests;
+        private boolean evicted;
 
-        request.handler(response -> {
-            if (response.statusCode() == HttpStatusCode.OK_200) {
-                response.bodyHandler(buffer -> {
-                    future.complete(buffer);
+        SharedClient(HttpClient client) {
+            this.client = client;
+        }
 
-                    // Close client
-                    httpClient.close();
-                });
-            } else {
-                future.completeExceptionally(new TechnicalManagementException(" Error on url '" + uri + "'. Status code: " + response.statusCode() + ". Message: " + response.statusMessage(), null));
+        synchronized boolean acquire() {
+            if (evicted) {
+                return false;
             }
-        });
-        request.exceptionHandler(event -> {
-            try {
-                future.completeExceptionally(event);
+            requests++;
+            return true;
+        }
+
+        synchronized void release() {
+            requests--;
+            if (evicted && requests == 0) {
+                close();
+            }
+        }
 
-                // Close client
-                httpClient.close();
+        synchronized void evict() {
+            evicted = true;
+            if (requests == 0) {
+                close();
+            }
+        }
+
+        private void close() {
+            try {
+                client.close();
             } catch (IllegalStateException ise) {
                 // Do not take care about exception when closing client
             }
-        });
+        }
+    }
 
-        request.end();
+    private static final class ClientKey {
+        private final boolean ssl;
+        private final String host;
+        private final int port;
+        private final boolean useSystemProxy;
 
-        try {
-            future.get();
-        } catch (InterruptedException | ExecutionException e) {
-            LOGGER.error(e.getMessage(), e);
-            throw new TechnicalManagementException(e.getMessage(), e);
+        ClientKey(boolean ssl, String host, int port, boolean useSystemProxy) {
+            this.ssl = ssl;
+            this.host = host;
+            this.port = port;
+            this.useSystemProxy = useSystemProxy;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            ClientKey that = (ClientKey) o;
+            return ssl == that.ssl && port == that.port && useSystemProxy == that.useSystemProxy &&
+                    Objects.equals(host, that.host);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(ssl, host, port, useSystemProxy);
+        }
+
+        @Override
+        public String toString() {
+            return (ssl ? "https://" : "http://") + host + ':' + port + (useSystemProxy ? " (proxy)" : "");
         }
     }
 }
@@ -15,16 +15,32 @@
  */
 package io.gravitee.management.service.processor;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.hash.Hashing;
 
 import io.gravitee.management.model.api.ApiEntity;
 import io.gravitee.management.model.DeploymentRequired;
@@ -36,39 +52,143 @@ import io.gravitee.management.model.DeploymentRequired;
 @Component
 public class ApiSynchronizationProcessor {
 
-    private final Logger LOGGER = LoggerFactory.getLogger(ApiSynchronizationProcessor.class);
+    private static final Logger LOGGER = LoggerFactory.getLogger(ApiSynchronizationProcessor.class);
+
+    /**
+     * Version of the {@link #fingerprint(ApiEntity)} algorithm, fingerprints of different versions can not be compared.
+     */
+    public static final String FINGERPRINT_VERSION = "2";
+
+    /**
+     * Getters of the {@link DeploymentRequired} fields by field name, resolved once instead of on each check.
+     */
+    private static final Map<String, MethodHandle> REQUIRED_FIELDS = requiredFieldGetters();
+
+    /**
+     * Fields holding sets, whose order is not part of the definition.
+     */
+    private static final Set<String> UNORDERED_FIELDS = new HashSet<>(Arrays.asList(
+            "tags", "pathMappings", "methods", "allowOrigin", "allowHeaders", "allowMethods", "exposeHeaders"));
+
+    private static final String RULES = "rules";
 
     @Autowired
     private ObjectMapper objectMapper;
 
+    /**
+     * Compares the deployment required fields of the given APIs, field by field, with the same rules as
+     * {@link #fingerprint(ApiEntity)}. Used when a deployed fingerprint can not be compared with the current one.
+     */
     public boolean processCheckSynchronization(ApiEntity deployedApi, ApiEntity apiToDeploy) {
-        Class<ApiEntity> cl = ApiEntity.class;
-        List<Object> requiredFieldsDeployedApi = new ArrayList<Object>();
-        List<Object> requiredFieldsApiToDeploy = new ArrayList<Object>();
-        for (Field f : cl.getDeclaredFields()) {
-            if (f.getAnnotation(DeploymentRequired.class) != null) {
-                boolean previousAccessibleState = f.isAccessible();
-                f.setAccessible(true);
-                try {
-                    requiredFieldsDeployedApi.add(f.get(deployedApi));
-                    requiredFieldsApiToDeploy.add(f.get(apiToDeploy));
-                } catch (Exception e) {
-                    LOGGER.error("Error access API required deployment fields", e);
-                } finally {
-                    f.setAccessible(previousAccessibleState);
+        try {
+            for (Map.Entry<String, MethodHandle> field : REQUIRED_FIELDS.entrySet()) {
+                MethodHandle getter = field.getValue();
+                if (!same(field.getKey(), getter.invoke(deployedApi), getter.invoke(apiToDeploy))) {
+                    return false;
                 }
             }
+            return true;
+        } catch (Throwable t) {
+            LOGGER.error("Unexpected error while comparing API deployment required fields", t);
+            return false;
         }
+    }
 
+    /**
+     * Computes a hash of the deployment required fields of the given API, policy descriptions excluded.
+     * Two APIs are synchronized when their fingerprints, of the same {@link #FINGERPRINT_VERSION}, are equal.
+     *
+     * The hash is computed on a canonical form of the definition: fields and map entries are sorted by name and
+     * sets by value, so that it does not depend on the iteration order of the underlying collections.
+     *
+     * @param api the API
+     * @return the SHA-256 of the deployment required fields definition, or <code>null</code> if it can not be computed
+     */
+    public String fingerprint(ApiEntity api) {
         try {
-            String requiredFieldsDeployedApiDefinition = objectMapper.writeValueAsString(requiredFieldsDeployedApi);
-            String requiredFieldsApiToDeployDefinition = objectMapper.writeValueAsString(requiredFieldsApiToDeploy);
+            ObjectNode requiredFields = JsonNodeFactory.instance.objectNode();
+            for (Map.Entry<String, MethodHandle> field : REQUIRED_FIELDS.entrySet()) {
+                requiredFields.set(field.getKey(), canonical(objectMapper.valueToTree(field.getValue().invoke(api)), field.getKey()));
+            }
+            return Hashing.sha256().hashBytes(objectMapper.writeValueAsBytes(requiredFields)).toString();
+        } catch (Throwable t) {
+            LOGGER.error("Unexpected error while generating API deployment required fields definition", t);
+            return null;
+        }
+    }
 
-            return requiredFieldsDeployedApiDefinition.equals(requiredFieldsApiToDeployDefinition);
-        } catch (Exception e) {
-            LOGGER.error("Unexpected error while generating API deployment required fields definition", e);
+    /**
+     * @param fieldName name of the field holding the node, array elements being held by the field of the array
+     */
+    private static JsonNode canonical(JsonNode node, String fieldName) {
+        if (node == null) {
+            return NullNode.getInstance();
+        }
+        if (node.isObject()) {
+            List<String> names = new ArrayList<>();
+            node.fieldNames().forEachRemaining(names::add);
+            Collections.sort(names);
+
+            ObjectNode sorted = JsonNodeFactory.instance.objectNode();
+            for (String name : names) {
+                // descriptions are not part of the deployment
+                if (!(RULES.equals(fieldName) && "description".equals(name))) {
+                    // the rules of a path are held by the path itself
+                    sorted.set(name, canonical(node.get(name), "paths".equals(fieldName) ? RULES : name));
+                }
+            }
+            return sorted;
+        }
+        if (node.isArray()) {
+            List<JsonNode> elements = new ArrayList<>(node.size());
+            node.forEach(element -> elements.add(canonical(element, fieldName)));
+            if (UNORDERED_FIELDS.contains(fieldName)) {
+                elements.sort(Comparator.comparing(JsonNode::toString));
+            }
+            ArrayNode array = JsonNodeFactory.instance.arrayNode();
+            array.addAll(elements);
+            return array;
+        }
+        return node;
+    }
+
+    /**
+     * Definition classes do not implement <code>equals</code>, values are compared on their canonical JSON tree
+     * once the cheap checks (identity, nullity, size) are not enough.
+     */
+    private boolean same(String fieldName, Object deployed, Object toDeploy) {
+        if (deployed == toDeploy) {
+            return true;
+        }
+        if (deployed == null || toDeploy == null) {
+            return false;
+        }
+        if (deployed instanceof Collection && ((Collection) deployed).size() != ((Collection) toDeploy).size()) {
+            return false;
+        }
+        if (deployed instanceof Map && ((Map) deployed).size() != ((Map) toDeploy).size()) {
             return false;
         }
+        if (deployed instanceof String || deployed instanceof Number || deployed instanceof Boolean) {
+            return deployed.equals(toDeploy);
+        }
+        return canonical(objectMapper.valueToTree(deployed), fieldName)
+                .equals(canonical(objectMapper.valueToTree(toDeploy), fieldName));
     }
 
+    private static Map<String, MethodHandle> requiredFieldGetters() {
+        Map<String, MethodHandle> getters = new TreeMap<>();
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        for (Field f : ApiEntity.class.getDeclaredFields()) {
+            if (f.getAnnotation(DeploymentRequired.class) != null) {
+                f.setAccessible(true);
+                try {
+                    getters.put(f.getName(), lookup.unreflectGetter(f));
+                } catch (IllegalAccessException e) {
+                    throw new IllegalStateException("Unable to access API deployment required field " + f.getName(), e);
+                }
+            }
+        }
+        return Collections.unmodifiableMap(getters);
+    }
 }
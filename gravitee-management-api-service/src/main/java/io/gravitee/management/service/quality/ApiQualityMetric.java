@@ -26,4 +26,11 @@ public interface ApiQualityMetric {
 
     Key getWeightKey();
     boolean isValid(ApiEntity api);
+
+    /**
+     * Same as {@link #isValid(ApiEntity)}, using the inputs shared with the other metrics when possible.
+     */
+    default boolean isValid(ApiEntity api, ApiQualityMetricInputs inputs) {
+        return isValid(api);
+    }
 }
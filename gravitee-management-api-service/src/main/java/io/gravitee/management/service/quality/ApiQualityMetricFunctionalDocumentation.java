@@ -46,4 +46,11 @@ public class ApiQualityMetricFunctionalDocumentation implements ApiQualityMetric
                         .build())
                 .size() > 0L;
     }
+
+    @Override
+    public boolean isValid(ApiEntity api, ApiQualityMetricInputs inputs) {
+        return inputs.getPublishedPages()
+                .stream()
+                .anyMatch(page -> PageType.MARKDOWN.name().equals(page.getType()));
+    }
 }
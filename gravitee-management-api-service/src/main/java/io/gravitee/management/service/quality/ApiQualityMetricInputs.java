@@ -0,0 +1,47 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.service.quality;
+
+import io.gravitee.management.model.PageEntity;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Data shared by the metrics of an API, loaded at most once per evaluation.
+ *
+ * @author GraviteeSource Team
+ */
+public class ApiQualityMetricInputs {
+
+    private final Supplier<List<PageEntity>> publishedPagesLoader;
+
+    private List<PageEntity> publishedPages;
+
+    public ApiQualityMetricInputs(Supplier<List<PageEntity>> publishedPagesLoader) {
+        this.publishedPagesLoader = publishedPagesLoader;
+    }
+
+    /**
+     * @return the published pages of the API, whatever their type
+     */
+    public List<PageEntity> getPublishedPages() {
+        if (publishedPages == null) {
+            publishedPages = publishedPagesLoader.get();
+        }
+        return publishedPages;
+    }
+}
@@ -20,8 +20,6 @@ import io.gravitee.management.model.parameters.Key;
 import io.gravitee.management.service.ApiService;
 import org.springframework.beans.factory.annotation.Autowired;
 
-import java.util.Arrays;
-
 /**
  * @author Nicolas GERAUD (nicolas.geraud at graviteesource.com) 
  * @author GraviteeSource Team
@@ -37,11 +35,12 @@ public class ApiQualityMetricLogo implements ApiQualityMetric {
 
     @Override
     public boolean isValid(ApiEntity api) {
-        byte[] apiPicture = apiService.getPicture(api.getId()).getContent();
-        byte[] defaultPicture = apiService.getDefaultPicture();
-        if (defaultPicture == null) {
-            return apiPicture != null;
+        // pictures are compared on their cached hash, without being loaded
+        String apiPictureHash = apiService.getPictureInfo(api.getId()).getHash();
+        String defaultPictureHash = apiService.getDefaultPictureHash();
+        if (defaultPictureHash == null) {
+            return apiPictureHash != null;
         }
-        return !Arrays.equals(defaultPicture, apiPicture);
+        return !defaultPictureHash.equals(apiPictureHash);
     }
 }
@@ -46,4 +46,11 @@ public class ApiQualityMetricTechnicalDocumentation implements ApiQualityMetric
                         .build())
                 .size() > 0L;
     }
+
+    @Override
+    public boolean isValid(ApiEntity api, ApiQualityMetricInputs inputs) {
+        return inputs.getPublishedPages()
+                .stream()
+                .anyMatch(page -> PageType.SWAGGER.name().equals(page.getType()));
+    }
 }
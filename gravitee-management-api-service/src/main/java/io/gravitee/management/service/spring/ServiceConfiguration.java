@@ -35,6 +35,10 @@ import io.gravitee.plugin.discovery.spring.ServiceDiscoveryPluginConfiguration;
 import io.gravitee.plugin.fetcher.spring.FetcherPluginConfiguration;
 import io.gravitee.plugin.policy.spring.PolicyPluginConfiguration;
 import io.gravitee.plugin.resource.spring.ResourcePluginConfiguration;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.core.Vertx;
+import io.vertx.micrometer.backends.BackendRegistries;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
@@ -75,6 +79,17 @@ public class ServiceConfiguration {
 		objectMapper.registerModule(module);
 		return objectMapper;
 	}
+	/**
+	 * Registry used by the services to publish their own metrics.
+	 * When node metrics are enabled (<code>services.metrics.enabled</code>), this is the Vert.x backend registry
+	 * exposed by the node's Prometheus endpoint, otherwise metrics are only kept in memory.
+	 */
+	@Bean
+	public MeterRegistry meterRegistry(Vertx vertx) {
+		MeterRegistry registry = BackendRegistries.getDefaultNow();
+		return (registry != null) ? registry : new SimpleMeterRegistry();
+	}
+
 	@Bean
 	public ApiQualityMetricLoader apiQualityMetricLoader() {
 		return new ApiQualityMetricLoader();
@@ -0,0 +1,116 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.service;
+
+import io.gravitee.management.model.ApiMetadataEntity;
+import io.gravitee.management.model.MetadataEntity;
+import io.gravitee.management.model.MetadataFormat;
+import io.gravitee.management.service.impl.ApiMetadataServiceImpl;
+import io.gravitee.repository.management.api.MetadataRepository;
+import io.gravitee.repository.management.model.Metadata;
+import io.gravitee.repository.management.model.MetadataReferenceType;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ApiMetadataServiceTest {
+
+    @InjectMocks
+    private ApiMetadataService apiMetadataService = new ApiMetadataServiceImpl();
+
+    @Mock
+    private MetadataRepository metadataRepository;
+
+    @Mock
+    private MetadataService metadataService;
+
+    @Test
+    public void shouldMergeDefaultAndApiMetadata() throws Exception {
+        when(metadataService.findAllDefault()).thenReturn(Arrays.asList(
+                defaultMetadata("email", "support@gravitee.io"),
+                defaultMetadata("team", "core")));
+        when(metadataRepository.findByReferenceTypeAndReferenceId(MetadataReferenceType.API, "my-api")).thenReturn(Arrays.asList(
+                apiMetadata("my-api", "version", "1.0"),
+                apiMetadata("my-api", "team", "apim")));
+
+        List<ApiMetadataEntity> metadata = apiMetadataService.findAllByApi("my-api");
+
+        assertEquals(3, metadata.size());
+        assertEquals("email", metadata.get(0).getKey());
+        assertNull(metadata.get(0).getValue());
+        assertEquals("support@gravitee.io", metadata.get(0).getDefaultValue());
+        assertEquals("team", metadata.get(1).getKey());
+        assertEquals("apim", metadata.get(1).getValue());
+        assertEquals("core", metadata.get(1).getDefaultValue());
+        assertEquals("version", metadata.get(2).getKey());
+        assertEquals("1.0", metadata.get(2).getValue());
+        assertEquals("my-api", metadata.get(2).getApiId());
+    }
+
+    @Test
+    public void shouldFindMetadataOfSeveralApis() throws Exception {
+        when(metadataService.findAllDefault()).thenReturn(singletonList(defaultMetadata("team", "core")));
+        when(metadataRepository.findByReferenceType(MetadataReferenceType.API)).thenReturn(Arrays.asList(
+                apiMetadata("api1", "team", "apim"),
+                apiMetadata("api2", "version", "2.0"),
+                apiMetadata("api3", "version", "3.0")));
+
+        Map<String, List<ApiMetadataEntity>> metadata = apiMetadataService.findAllByApis(Arrays.asList("api1", "api2"));
+
+        assertEquals(2, metadata.size());
+        assertEquals(1, metadata.get("api1").size());
+        assertEquals("apim", metadata.get("api1").get(0).getValue());
+        assertEquals(2, metadata.get("api2").size());
+        assertNull(metadata.get("api2").get(0).getValue());
+        assertEquals("2.0", metadata.get("api2").get(1).getValue());
+        verify(metadataService, times(1)).findAllDefault();
+        verify(metadataRepository, never()).findByReferenceTypeAndReferenceId(any(), any());
+    }
+
+    private static MetadataEntity defaultMetadata(String key, String value) {
+        MetadataEntity metadata = new MetadataEntity();
+        metadata.setKey(key);
+        metadata.setName(key);
+        metadata.setValue(value);
+        metadata.setFormat(MetadataFormat.STRING);
+        return metadata;
+    }
+
+    private static Metadata apiMetadata(String apiId, String key, String value) {
+        Metadata metadata = new Metadata();
+        metadata.setKey(key);
+        metadata.setName(key);
+        metadata.setValue(value);
+        metadata.setFormat(io.gravitee.repository.management.model.MetadataFormat.STRING);
+        metadata.setReferenceId(apiId);
+        metadata.setReferenceType(MetadataReferenceType.API);
+        return metadata;
+    }
+}
@@ -15,8 +15,8 @@
  */
 package io.gravitee.management.service;
 
-import io.gravitee.management.model.InlinePictureEntity;
 import io.gravitee.management.model.api.ApiEntity;
+import io.gravitee.management.model.api.ApiPictureEntity;
 import io.gravitee.management.service.quality.ApiQualityMetricLogo;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -45,9 +45,8 @@ public class ApiQualityMetricLogoTest {
 
     @Test
     public void shouldNotBeValidWith2Null() {
-        InlinePictureEntity apiPicture = mock(InlinePictureEntity.class);
-        when(mockApiService.getPicture(API_ID)).thenReturn(apiPicture);
-        when(mockApiService.getDefaultPicture()).thenReturn(null);
+        when(mockApiService.getPictureInfo(API_ID)).thenReturn(new ApiPictureEntity());
+        when(mockApiService.getDefaultPictureHash()).thenReturn(null);
         ApiEntity api = mock(ApiEntity.class);
         when(api.getId()).thenReturn(API_ID);
 
@@ -58,10 +57,10 @@ public class ApiQualityMetricLogoTest {
 
     @Test
     public void shouldBeValidWithOnlyDefaultNull() {
-        InlinePictureEntity apiPicture = mock(InlinePictureEntity.class);
-        when(apiPicture.getContent()).thenReturn("abcd".getBytes());
-        when(mockApiService.getPicture(API_ID)).thenReturn(apiPicture);
-        when(mockApiService.getDefaultPicture()).thenReturn(null);
+        ApiPictureEntity apiPicture = new ApiPictureEntity();
+        apiPicture.setHash("abcd");
+        when(mockApiService.getPictureInfo(API_ID)).thenReturn(apiPicture);
+        when(mockApiService.getDefaultPictureHash()).thenReturn(null);
         ApiEntity api = mock(ApiEntity.class);
         when(api.getId()).thenReturn(API_ID);
 
@@ -72,9 +71,8 @@ public class ApiQualityMetricLogoTest {
 
     @Test
     public void shouldBeValidWithOnlyApiPictureNull() {
-        InlinePictureEntity apiPicture = mock(InlinePictureEntity.class);
-        when(mockApiService.getPicture(API_ID)).thenReturn(apiPicture);
-        when(mockApiService.getDefaultPicture()).thenReturn("abcd".getBytes());
+        when(mockApiService.getPictureInfo(API_ID)).thenReturn(new ApiPictureEntity());
+        when(mockApiService.getDefaultPictureHash()).thenReturn("abcd");
         ApiEntity api = mock(ApiEntity.class);
         when(api.getId()).thenReturn(API_ID);
 
@@ -85,10 +83,10 @@ public class ApiQualityMetricLogoTest {
 
     @Test
     public void shouldNotBeValidWithSamePicture() {
-        InlinePictureEntity apiPicture = mock(InlinePictureEntity.class);
-        when(apiPicture.getContent()).thenReturn("abcd".getBytes());
-        when(mockApiService.getPicture(API_ID)).thenReturn(apiPicture);
-        when(mockApiService.getDefaultPicture()).thenReturn("abcd".getBytes());
+        ApiPictureEntity apiPicture = new ApiPictureEntity();
+        apiPicture.setHash("abcd");
+        when(mockApiService.getPictureInfo(API_ID)).thenReturn(apiPicture);
+        when(mockApiService.getDefaultPictureHash()).thenReturn("abcd");
         ApiEntity api = mock(ApiEntity.class);
         when(api.getId()).thenReturn(API_ID);
 
@@ -99,10 +97,10 @@ public class ApiQualityMetricLogoTest {
 
     @Test
     public void shouldBeValidWithDifferentPictures() {
-        InlinePictureEntity apiPicture = mock(InlinePictureEntity.class);
-        when(apiPicture.getContent()).thenReturn("abcd".getBytes());
-        when(mockApiService.getPicture(API_ID)).thenReturn(apiPicture);
-        when(mockApiService.getDefaultPicture()).thenReturn("efgh".getBytes());
+        ApiPictureEntity apiPicture = new ApiPictureEntity();
+        apiPicture.setHash("abcd");
+        when(mockApiService.getPictureInfo(API_ID)).thenReturn(apiPicture);
+        when(mockApiService.getDefaultPictureHash()).thenReturn("efgh");
         ApiEntity api = mock(ApiEntity.class);
         when(api.getId()).thenReturn(API_ID);
 
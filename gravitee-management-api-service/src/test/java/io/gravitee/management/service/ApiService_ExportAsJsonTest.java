@@ -15,6 +15,7 @@
  */
 package io.gravitee.management.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.databind.ser.PropertyFilter;
@@ -49,11 +50,16 @@ import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.internal.util.collections.Sets;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.apache.commons.io.IOUtils;
 import org.springframework.context.ApplicationContext;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.net.URL;
 import java.util.*;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -177,7 +183,7 @@ public class ApiService_ExportAsJsonTest {
         userEntity.setId(memberEntity.getId());
         userEntity.setSource(userEntity.getId() + "-source");
         userEntity.setSourceId(userEntity.getId() + "-sourceId");
-        when(userService.findById(memberEntity.getId())).thenReturn(userEntity);
+        when(userService.findByIds(Collections.singletonList(memberEntity.getId()))).thenReturn(Collections.singleton(userEntity));
 
         api.setGroups(Collections.singleton("my-group"));
         GroupEntity groupEntity = new GroupEntity();
@@ -325,6 +331,37 @@ public class ApiService_ExportAsJsonTest {
         assertThat(objectMapper.readTree(jsonForExport)).isEqualTo(objectMapper.readTree(expectedJson));
     }
 
+    @Test
+    public void shouldStreamJsonForExport() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        apiService.exportAsJson(API_ID, ApiSerializer.Version.DEFAULT.getVersion(), output, SystemRole.PRIMARY_OWNER.name());
+
+        URL url =  Resources.getResource("io/gravitee/management/service/export-convertAsJsonForExport.json");
+        String expectedJson = Resources.toString(url, Charsets.UTF_8);
+
+        assertThat(objectMapper.readTree(output.toByteArray())).isEqualTo(objectMapper.readTree(expectedJson));
+    }
+
+    @Test
+    public void shouldExportAsZip() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        apiService.exportAsZip(Arrays.asList(API_ID, API_ID), ApiSerializer.Version.DEFAULT.getVersion(), output, SystemRole.PRIMARY_OWNER.name());
+
+        URL url =  Resources.getResource("io/gravitee/management/service/export-convertAsJsonForExport.json");
+        JsonNode expectedJson = objectMapper.readTree(Resources.toString(url, Charsets.UTF_8));
+
+        List<String> entryNames = new ArrayList<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(output.toByteArray()))) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                entryNames.add(entry.getName());
+                assertThat(objectMapper.readTree(IOUtils.toByteArray(zip))).isEqualTo(expectedJson);
+            }
+        }
+
+        assertThat(entryNames).containsExactly("null-null.json");
+    }
+
     private void shouldConvertAsJsonForExport(ApiSerializer.Version version, String filename) throws TechnicalException, IOException {
         String jsonForExport = apiService.exportAsJson(API_ID, version.getVersion(), SystemRole.PRIMARY_OWNER.name());
 
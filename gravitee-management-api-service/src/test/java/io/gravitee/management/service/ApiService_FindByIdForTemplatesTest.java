@@ -0,0 +1,173 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ser.PropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import io.gravitee.common.event.EventListener;
+import io.gravitee.common.event.EventManager;
+import io.gravitee.common.event.impl.SimpleEvent;
+import io.gravitee.definition.jackson.datatype.GraviteeMapper;
+import io.gravitee.management.model.ApiMetadataEntity;
+import io.gravitee.management.model.ApiModelEntity;
+import io.gravitee.management.model.permissions.SystemRole;
+import io.gravitee.management.service.event.ApiEvent;
+import io.gravitee.management.service.event.ApiModelEvent;
+import io.gravitee.management.service.exceptions.ApiNotFoundException;
+import io.gravitee.management.service.impl.ApiServiceImpl;
+import io.gravitee.management.service.jackson.filter.ApiPermissionFilter;
+import io.gravitee.repository.exceptions.TechnicalException;
+import io.gravitee.repository.management.api.ApiRepository;
+import io.gravitee.repository.management.api.MembershipRepository;
+import io.gravitee.repository.management.model.Api;
+import io.gravitee.repository.management.model.Membership;
+import io.gravitee.repository.management.model.MembershipReferenceType;
+import io.gravitee.repository.management.model.RoleScope;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ApiService_FindByIdForTemplatesTest {
+
+    private static final String API_ID = "id-api";
+    private static final String USER_NAME = "myUser";
+
+    @InjectMocks
+    private ApiServiceImpl apiService = new ApiServiceImpl();
+
+    @Mock
+    private ApiRepository apiRepository;
+
+    @Mock
+    private MembershipRepository membershipRepository;
+
+    @Mock
+    private ApiMetadataService apiMetadataService;
+
+    @Mock
+    private EventManager eventManager;
+
+    @Spy
+    private ObjectMapper objectMapper = new GraviteeMapper();
+
+    @Mock
+    private UserService userService;
+
+    private EventListener<ApiModelEvent, Object> apiModelListener;
+
+    @Before
+    public void setUp() throws TechnicalException {
+        PropertyFilter apiMembershipTypeFilter = new ApiPermissionFilter();
+        objectMapper.setFilterProvider(new SimpleFilterProvider(Collections.singletonMap("apiMembershipTypeFilter", apiMembershipTypeFilter)));
+
+        setField(apiService, "apiModelCacheTtl", 60000L);
+        setField(apiService, "apiModelCacheMaxSize", 100L);
+        apiService.afterPropertiesSet();
+
+        ArgumentCaptor<EventListener> listener = ArgumentCaptor.forClass(EventListener.class);
+        verify(eventManager).subscribeForEvents(listener.capture(), eq(ApiModelEvent.class));
+        apiModelListener = listener.getValue();
+        verify(eventManager).subscribeForEvents(any(EventListener.class), eq(ApiEvent.class));
+
+        Api api = new Api();
+        api.setId(API_ID);
+        api.setName("my-api");
+        api.setDefinition("{\"id\": \"" + API_ID + "\", \"name\": \"my-api\", \"version\": \"1\", "
+                + "\"proxy\": {\"context_path\": \"/my-api\", \"endpoints\": [{\"name\": \"default\", \"target\": \"http://localhost\"}]}, "
+                + "\"paths\": {\"/\": []}}");
+        when(apiRepository.findById(API_ID)).thenReturn(Optional.of(api));
+        Membership po = new Membership(USER_NAME, API_ID, MembershipReferenceType.API);
+        po.setRoles(Collections.singletonMap(RoleScope.API.getId(), SystemRole.PRIMARY_OWNER.name()));
+        when(membershipRepository.findByReferenceAndRole(any(), any(), any(), any()))
+                .thenReturn(Collections.singleton(po));
+
+        ApiMetadataEntity metadata = new ApiMetadataEntity();
+        metadata.setKey("email-support");
+        metadata.setDefaultValue("support@gravitee.io");
+        when(apiMetadataService.findAllByApi(API_ID)).thenReturn(Collections.singletonList(metadata));
+    }
+
+    @Test
+    public void shouldLoadModelOnce() throws TechnicalException {
+        final ApiModelEntity apiModel = apiService.findByIdForTemplates(API_ID);
+
+        assertEquals("my-api", apiModel.getName());
+        assertEquals("support@gravitee.io", apiModel.getMetadata().get("email-support"));
+        apiService.findByIdForTemplates(API_ID);
+        verify(apiRepository, times(1)).findById(API_ID);
+        verify(apiMetadataService, times(1)).findAllByApi(API_ID);
+    }
+
+    @Test
+    public void shouldNotShareCachedModel() throws TechnicalException {
+        final ApiModelEntity apiModel = apiService.findByIdForTemplates(API_ID);
+        apiModel.setName("changed");
+        apiModel.getMetadata().put("email-support", "changed");
+        apiModel.getProxy().setContextPath("/changed");
+
+        final ApiModelEntity other = apiService.findByIdForTemplates(API_ID);
+
+        assertNotSame(apiModel, other);
+        assertEquals("my-api", other.getName());
+        assertEquals("support@gravitee.io", other.getMetadata().get("email-support"));
+        assertEquals("/my-api", other.getProxy().getContextPath());
+    }
+
+    @Test
+    public void shouldReloadModelOnUpdate() throws TechnicalException {
+        apiService.findByIdForTemplates(API_ID);
+        apiModelListener.onEvent(new SimpleEvent<>(ApiModelEvent.UPDATE, API_ID));
+        apiService.findByIdForTemplates(API_ID);
+
+        verify(apiRepository, times(2)).findById(API_ID);
+    }
+
+    @Test
+    public void shouldReloadModelOnDefaultMetadataUpdate() throws TechnicalException {
+        apiService.findByIdForTemplates(API_ID);
+        apiModelListener.onEvent(new SimpleEvent<>(ApiModelEvent.UPDATE_ALL, null));
+        apiService.findByIdForTemplates(API_ID);
+
+        verify(apiMetadataService, times(2)).findAllByApi(API_ID);
+    }
+
+    @Test(expected = ApiNotFoundException.class)
+    public void shouldNotFindBecauseNotExists() throws TechnicalException {
+        when(apiRepository.findById("unknown")).thenReturn(Optional.empty());
+
+        apiService.findByIdForTemplates("unknown");
+    }
+}
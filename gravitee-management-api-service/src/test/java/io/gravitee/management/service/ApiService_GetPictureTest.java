@@ -0,0 +1,130 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.service;
+
+import io.gravitee.common.event.EventListener;
+import io.gravitee.common.event.EventManager;
+import io.gravitee.common.event.impl.SimpleEvent;
+import io.gravitee.management.model.InlinePictureEntity;
+import io.gravitee.management.model.api.ApiPictureEntity;
+import io.gravitee.management.service.event.ApiEvent;
+import io.gravitee.management.service.event.ApiModelEvent;
+import io.gravitee.management.service.exceptions.ApiNotFoundException;
+import io.gravitee.management.service.impl.ApiServiceImpl;
+import io.gravitee.repository.exceptions.TechnicalException;
+import io.gravitee.repository.management.api.ApiRepository;
+import io.gravitee.repository.management.api.MembershipRepository;
+import io.gravitee.repository.management.model.Api;
+import io.gravitee.repository.management.model.Visibility;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Optional;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ApiService_GetPictureTest {
+
+    private static final String API_ID = "id-api";
+    // 1x1 transparent PNG
+    private static final String PICTURE = "data:image/png;base64,iVBORw0KGgoAAAANSUhEUgAAAAEAAAABCAYAAAAfFcSJAAAADUlEQVR42mNkYPhfDwAChwGA60e6kgAAAABJRU5ErkJggg==";
+
+    @InjectMocks
+    private ApiServiceImpl apiService = new ApiServiceImpl();
+
+    @Mock
+    private ApiRepository apiRepository;
+
+    @Mock
+    private MembershipRepository membershipRepository;
+
+    @Mock
+    private EventManager eventManager;
+
+    private EventListener<ApiModelEvent, Object> apiModelListener;
+
+    private Api api;
+
+    @Before
+    public void setUp() throws TechnicalException {
+        setField(apiService, "pictureCacheTtl", 60000L);
+        setField(apiService, "pictureCacheMaxSize", 100L);
+        apiService.afterPropertiesSet();
+
+        ArgumentCaptor<EventListener> listener = ArgumentCaptor.forClass(EventListener.class);
+        verify(eventManager).subscribeForEvents(listener.capture(), eq(ApiModelEvent.class));
+        apiModelListener = listener.getValue();
+        verify(eventManager).subscribeForEvents(any(EventListener.class), eq(ApiEvent.class));
+
+        api = new Api();
+        api.setId(API_ID);
+        api.setVisibility(Visibility.PUBLIC);
+        api.setPicture(PICTURE);
+        when(apiRepository.findById(API_ID)).thenReturn(Optional.of(api));
+    }
+
+    @Test
+    public void shouldGetPictureWithoutPrimaryOwner() throws TechnicalException {
+        final InlinePictureEntity picture = apiService.getPicture(API_ID);
+
+        assertEquals("image/png", picture.getType());
+        assertEquals(70, picture.getContent().length);
+        assertNotNull(picture.getHash());
+        verify(membershipRepository, never()).findByReferenceAndRole(any(), any(), any(), any());
+    }
+
+    @Test
+    public void shouldCachePictureInfo() throws TechnicalException {
+        final ApiPictureEntity pictureInfo = apiService.getPictureInfo(API_ID);
+
+        assertEquals(io.gravitee.management.model.Visibility.PUBLIC, pictureInfo.getVisibility());
+        assertEquals(apiService.getPicture(API_ID).getHash(), pictureInfo.getHash());
+        apiService.getPictureInfo(API_ID);
+        // loaded once for the info, once for the picture itself
+        verify(apiRepository, times(2)).findById(API_ID);
+    }
+
+    @Test
+    public void shouldChangeHashOnUpdate() throws TechnicalException {
+        final String hash = apiService.getPictureInfo(API_ID).getHash();
+
+        api.setPicture(PICTURE.replace("image/png", "image/x-png"));
+        assertEquals(hash, apiService.getPictureInfo(API_ID).getHash());
+
+        apiModelListener.onEvent(new SimpleEvent<>(ApiModelEvent.UPDATE, API_ID));
+        assertNotEquals(hash, apiService.getPictureInfo(API_ID).getHash());
+    }
+
+    @Test(expected = ApiNotFoundException.class)
+    public void shouldNotFindBecauseNotExists() throws TechnicalException {
+        when(apiRepository.findById("unknown")).thenReturn(Optional.empty());
+
+        apiService.getPictureInfo("unknown");
+    }
+}
@@ -0,0 +1,217 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.service;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.gravitee.common.data.domain.Page;
+import io.gravitee.common.event.EventManager;
+import io.gravitee.definition.jackson.datatype.GraviteeMapper;
+import io.gravitee.definition.model.*;
+import io.gravitee.management.model.EventEntity;
+import io.gravitee.management.model.EventType;
+import io.gravitee.management.model.PlanEntity;
+import io.gravitee.management.model.PlanStatus;
+import io.gravitee.management.model.api.ApiEntity;
+import io.gravitee.management.service.impl.ApiServiceImpl;
+import io.gravitee.management.service.processor.ApiSynchronizationProcessor;
+import io.gravitee.repository.exceptions.TechnicalException;
+import io.gravitee.repository.management.api.ApiRepository;
+import io.gravitee.repository.management.api.MembershipRepository;
+import io.gravitee.repository.management.model.Api;
+import io.gravitee.repository.management.model.Membership;
+import io.gravitee.repository.management.model.MembershipReferenceType;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ApiService_IsSynchronizedTest {
+
+    private static final String API_ID = "id-api";
+
+    @InjectMocks
+    private ApiServiceImpl apiService = new ApiServiceImpl();
+
+    @Mock
+    private ApiRepository apiRepository;
+
+    @Mock
+    private EventService eventService;
+
+    @Mock
+    private PlanService planService;
+
+    @Mock
+    private EventManager eventManager;
+
+    @Mock
+    private MembershipRepository membershipRepository;
+
+    @Mock
+    private UserService userService;
+
+    @Spy
+    private ObjectMapper objectMapper = new GraviteeMapper();
+
+    private ApiSynchronizationProcessor apiSynchronizationProcessor;
+
+    private Api api;
+
+    private EventEntity lastEvent;
+
+    @Before
+    public void setUp() throws Exception {
+        apiSynchronizationProcessor = spy(new ApiSynchronizationProcessor());
+        setField(apiSynchronizationProcessor, "objectMapper", objectMapper);
+        setField(apiService, "apiSynchronizationProcessor", apiSynchronizationProcessor);
+        setField(apiService, "fingerprintCacheMaxSize", 100L);
+        apiService.afterPropertiesSet();
+
+        api = new Api();
+        api.setId(API_ID);
+        api.setUpdatedAt(new Date(1000));
+        api.setDeployedAt(new Date(1000));
+        api.setDefinition(definition("/test", "Mock the backend"));
+        when(apiRepository.findById(API_ID)).thenReturn(Optional.of(api));
+
+        lastEvent = new EventEntity();
+        lastEvent.setId("event");
+        lastEvent.setType(EventType.PUBLISH_API);
+        lastEvent.setPayload(objectMapper.writeValueAsString(api));
+        lastEvent.setProperties(new HashMap<>());
+        when(eventService.search(anyList(), anyMap(), anyLong(), anyLong(), anyInt(), anyInt()))
+                .thenAnswer(invocation -> new Page<>(Collections.singletonList(lastEvent), 0, 1, 1));
+    }
+
+    @Test
+    public void shouldBeSynchronizedWhenOnlyPolicyDescriptionChanged() throws Exception {
+        api.setDefinition(definition("/test", "Another description"));
+
+        assertTrue(apiService.isSynchronized(API_ID));
+        // the shared mapper is left untouched
+        verify(objectMapper, never()).configure(any(DeserializationFeature.class), anyBoolean());
+    }
+
+    @Test
+    public void shouldNotBeSynchronizedWhenDefinitionChanged() throws Exception {
+        api.setDefinition(definition("/changed", "Mock the backend"));
+        api.setUpdatedAt(new Date(2000));
+
+        assertFalse(apiService.isSynchronized(API_ID));
+    }
+
+    @Test
+    public void shouldNotBeSynchronizedWhenPlanNeedsRedeploy() {
+        PlanEntity plan = new PlanEntity();
+        plan.setStatus(PlanStatus.PUBLISHED);
+        plan.setNeedRedeployAt(new Date(2000));
+        when(planService.findByApi(API_ID)).thenReturn(Collections.singleton(plan));
+
+        assertFalse(apiService.isSynchronized(API_ID));
+    }
+
+    @Test
+    public void shouldUseFingerprintPersistedAtDeployment() throws TechnicalException {
+        Membership po = new Membership("user", API_ID, MembershipReferenceType.API);
+        when(membershipRepository.findByReferencesAndRole(any(), any(), any(), any())).thenReturn(Collections.singleton(po));
+        when(apiRepository.update(any(Api.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        apiService.deploy(API_ID, "user", EventType.PUBLISH_API);
+
+        ArgumentCaptor<Map<String, String>> properties = ArgumentCaptor.forClass(Map.class);
+        verify(eventService).create(eq(EventType.PUBLISH_API), anyString(), properties.capture());
+        assertTrue(properties.getValue().containsKey("deployment_fingerprint"));
+        assertEquals(ApiSynchronizationProcessor.FINGERPRINT_VERSION, properties.getValue().get("deployment_fingerprint_version"));
+
+        // the payload is not read anymore
+        lastEvent.setPayload("{}");
+        lastEvent.setProperties(properties.getValue());
+
+        assertTrue(apiService.isSynchronized(API_ID));
+    }
+
+    @Test
+    public void shouldNotUseFingerprintOfAnotherVersion() throws Exception {
+        lastEvent.getProperties().put("deployment_fingerprint", "fingerprint");
+        lastEvent.getProperties().put("deployment_fingerprint_version", "1");
+
+        assertTrue(apiService.isSynchronized(API_ID));
+    }
+
+    @Test
+    public void shouldCompareDefinitionsWithoutFingerprint() {
+        assertTrue(apiService.isSynchronized(API_ID));
+
+        verify(apiSynchronizationProcessor).processCheckSynchronization(any(ApiEntity.class), any(ApiEntity.class));
+        verify(apiSynchronizationProcessor, never()).fingerprint(any(ApiEntity.class));
+    }
+
+    @Test
+    public void shouldComputeFingerprintOnceUntilUpdated() {
+        doReturn("fingerprint").when(apiSynchronizationProcessor).fingerprint(any(ApiEntity.class));
+        lastEvent.getProperties().put("deployment_fingerprint", "fingerprint");
+        lastEvent.getProperties().put("deployment_fingerprint_version", ApiSynchronizationProcessor.FINGERPRINT_VERSION);
+
+        assertTrue(apiService.isSynchronized(API_ID));
+        assertTrue(apiService.isSynchronized(API_ID));
+
+        verify(apiSynchronizationProcessor, times(1)).fingerprint(any(ApiEntity.class));
+
+        api.setUpdatedAt(new Date(2000));
+        assertTrue(apiService.isSynchronized(API_ID));
+
+        verify(apiSynchronizationProcessor, times(2)).fingerprint(any(ApiEntity.class));
+        verify(apiSynchronizationProcessor, never()).processCheckSynchronization(any(), any());
+    }
+
+    private String definition(String contextPath, String description) throws Exception {
+        Proxy proxy = new Proxy();
+        proxy.setContextPath(contextPath);
+
+        Policy policy = new Policy();
+        policy.setName("mock");
+        policy.setConfiguration("{\"status\":200}");
+        Rule rule = new Rule();
+        rule.setMethods(Collections.singleton(io.gravitee.common.http.HttpMethod.GET));
+        rule.setPolicy(policy);
+        rule.setDescription(description);
+
+        Path path = new Path();
+        path.setPath("/");
+        path.setRules(Collections.singletonList(rule));
+
+        io.gravitee.definition.model.Api apiDefinition = new io.gravitee.definition.model.Api();
+        apiDefinition.setProxy(proxy);
+        apiDefinition.setPaths(Collections.singletonMap("/", path));
+        return objectMapper.writeValueAsString(apiDefinition);
+    }
+}
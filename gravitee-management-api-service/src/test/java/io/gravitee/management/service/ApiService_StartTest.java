@@ -20,6 +20,7 @@ import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.ser.PropertyFilter;
 import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import io.gravitee.common.event.EventManager;
 import io.gravitee.definition.jackson.datatype.GraviteeMapper;
 import io.gravitee.management.model.EventEntity;
 import io.gravitee.management.model.EventQuery;
@@ -29,6 +30,7 @@ import io.gravitee.management.model.mixin.ApiMixin;
 import io.gravitee.management.service.exceptions.ApiNotFoundException;
 import io.gravitee.management.service.exceptions.TechnicalManagementException;
 import io.gravitee.management.service.impl.ApiServiceImpl;
+import io.gravitee.management.service.processor.ApiSynchronizationProcessor;
 import io.gravitee.management.service.jackson.filter.ApiPermissionFilter;
 import io.gravitee.management.service.notification.ApiHook;
 import io.gravitee.repository.exceptions.TechnicalException;
@@ -67,6 +69,9 @@ public class ApiService_StartTest {
     @Mock
     private ApiRepository apiRepository;
 
+    @Mock
+    private EventManager eventManager;
+
     @Mock
     private MembershipRepository membershipRepository;
 
@@ -88,6 +93,9 @@ public class ApiService_StartTest {
     @Mock
     private NotifierService notifierService;
 
+    @Mock
+    private ApiSynchronizationProcessor apiSynchronizationProcessor;
+
     @Before
     public void setUp() {
         PropertyFilter apiMembershipTypeFilter = new ApiPermissionFilter();
@@ -0,0 +1,154 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.gravitee.common.http.HttpMethod;
+import io.gravitee.definition.jackson.datatype.GraviteeMapper;
+import io.gravitee.definition.model.Path;
+import io.gravitee.definition.model.Policy;
+import io.gravitee.definition.model.Proxy;
+import io.gravitee.definition.model.Rule;
+import io.gravitee.management.model.api.ApiEntity;
+import io.gravitee.management.service.processor.ApiSynchronizationProcessor;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Spy;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ApiSynchronizationProcessorTest {
+
+    @InjectMocks
+    private ApiSynchronizationProcessor apiSynchronizationProcessor;
+
+    @Spy
+    private ObjectMapper objectMapper = new GraviteeMapper();
+
+    private ApiEntity deployedApi;
+
+    private ApiEntity apiToDeploy;
+
+    @Before
+    public void setUp() {
+        deployedApi = api("/test", "Mock the backend");
+        apiToDeploy = api("/test", "Mock the backend");
+    }
+
+    @Test
+    public void shouldBeSynchronized() {
+        assertTrue(apiSynchronizationProcessor.processCheckSynchronization(deployedApi, apiToDeploy));
+    }
+
+    @Test
+    public void shouldNotBeSynchronizedWhenProxyChanged() {
+        apiToDeploy.getProxy().setContextPath("/changed");
+
+        assertFalse(apiSynchronizationProcessor.processCheckSynchronization(deployedApi, apiToDeploy));
+    }
+
+    @Test
+    public void shouldIgnoreNonRequiredFields() {
+        apiToDeploy.setName("changed");
+        apiToDeploy.setDescription("changed");
+
+        assertTrue(apiSynchronizationProcessor.processCheckSynchronization(deployedApi, apiToDeploy));
+    }
+
+    @Test
+    public void shouldExitEarlyWhenPathsCountChanged() {
+        Map<String, Path> paths = new HashMap<>(apiToDeploy.getPaths());
+        paths.put("/other", new Path());
+        apiToDeploy.setPaths(paths);
+
+        assertFalse(apiSynchronizationProcessor.processCheckSynchronization(deployedApi, apiToDeploy));
+        verify(objectMapper, never()).valueToTree(any(Map.class));
+    }
+
+    @Test
+    public void shouldIgnoreDescriptionsInFingerprint() {
+        apiToDeploy = api("/test", "Another description");
+
+        assertEquals(apiSynchronizationProcessor.fingerprint(deployedApi), apiSynchronizationProcessor.fingerprint(apiToDeploy));
+        assertEquals("Another description", apiToDeploy.getPaths().get("/").getRules().get(0).getDescription());
+    }
+
+    @Test
+    public void shouldChangeFingerprintWhenProxyChanged() {
+        String fingerprint = apiSynchronizationProcessor.fingerprint(deployedApi);
+        apiToDeploy.getProxy().setContextPath("/changed");
+
+        assertNotNull(fingerprint);
+        assertNotEquals(fingerprint, apiSynchronizationProcessor.fingerprint(apiToDeploy));
+    }
+
+    @Test
+    public void shouldNotDependOnCollectionsOrder() {
+        deployedApi.setTags(new LinkedHashSet<>(Arrays.asList("public", "internal")));
+        apiToDeploy.setTags(new LinkedHashSet<>(Arrays.asList("internal", "public")));
+        Map<String, Path> paths = new LinkedHashMap<>();
+        paths.put("/other", new Path());
+        paths.putAll(deployedApi.getPaths());
+        deployedApi.setPaths(paths);
+        paths = new LinkedHashMap<>(apiToDeploy.getPaths());
+        paths.put("/other", new Path());
+        apiToDeploy.setPaths(paths);
+
+        assertEquals(apiSynchronizationProcessor.fingerprint(deployedApi), apiSynchronizationProcessor.fingerprint(apiToDeploy));
+        assertTrue(apiSynchronizationProcessor.processCheckSynchronization(deployedApi, apiToDeploy));
+    }
+
+    @Test
+    public void shouldIgnoreDescriptionsInComparison() {
+        apiToDeploy = api("/test", "Another description");
+
+        assertTrue(apiSynchronizationProcessor.processCheckSynchronization(deployedApi, apiToDeploy));
+    }
+
+    private ApiEntity api(String contextPath, String description) {
+        Proxy proxy = new Proxy();
+        proxy.setContextPath(contextPath);
+
+        Policy policy = new Policy();
+        policy.setName("mock");
+        policy.setConfiguration("{\"status\":200}");
+        Rule rule = new Rule();
+        rule.setMethods(Collections.singleton(HttpMethod.GET));
+        rule.setPolicy(policy);
+        rule.setDescription(description);
+
+        Path path = new Path();
+        path.setPath("/");
+        path.setRules(Collections.singletonList(rule));
+
+        ApiEntity api = new ApiEntity();
+        api.setProxy(proxy);
+        api.setPaths(Collections.singletonMap("/", path));
+        return api;
+    }
+}
@@ -0,0 +1,137 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.fge.jsonpatch.JsonPatch;
+import io.gravitee.definition.jackson.datatype.GraviteeMapper;
+import io.gravitee.management.service.impl.audit.ApiAuditDiffer;
+import io.gravitee.management.service.impl.audit.MembershipAuditDiffer;
+import io.gravitee.repository.management.model.*;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Spy;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class AuditService_DiffTest {
+
+    @InjectMocks
+    private ApiAuditDiffer apiAuditDiffer = new ApiAuditDiffer();
+
+    @InjectMocks
+    private MembershipAuditDiffer membershipAuditDiffer = new MembershipAuditDiffer();
+
+    @Spy
+    private ObjectMapper mapper = new GraviteeMapper();
+
+    @Test
+    public void shouldHandleOnlyExactType() {
+        assertTrue(apiAuditDiffer.handle(Api.class));
+        assertFalse(apiAuditDiffer.handle(Plan.class));
+        assertFalse(apiAuditDiffer.handle(new Api() {}.getClass()));
+    }
+
+    @Test
+    public void shouldNotEmitOperationForUnchangedApi() {
+        JsonNode patch = apiAuditDiffer.diff(api("my-definition"), api(new String("my-definition")));
+
+        assertEquals(0, patch.size());
+    }
+
+    @Test
+    public void shouldEmitOperationsForChangedFieldsOnly() throws Exception {
+        Api oldApi = api("my-definition");
+        Api newApi = api("my-new-definition");
+        newApi.setName("new-name");
+        newApi.setDescription(null);
+        newApi.setLabels(Arrays.asList("label1", "label3"));
+        newApi.setUpdatedAt(new Date());
+
+        JsonNode patch = apiAuditDiffer.diff(oldApi, newApi);
+
+        Set<String> paths = new HashSet<>();
+        patch.forEach(operation -> paths.add(operation.get("path").asText()));
+        assertTrue(paths.contains("/name"));
+        assertTrue(paths.contains("/description"));
+        assertTrue(paths.contains("/definition"));
+        assertTrue(paths.stream().anyMatch(path -> path.startsWith("/labels/")));
+        assertFalse(paths.contains("/updatedAt"));
+        assertEquals(node(newApi), JsonPatch.fromJson(patch).apply(node(oldApi)));
+    }
+
+    @Test
+    public void shouldAddAllFieldsOnCreation() throws Exception {
+        Api newApi = api("my-definition");
+
+        JsonNode patch = apiAuditDiffer.diff(null, newApi);
+
+        assertEquals(node(newApi), JsonPatch.fromJson(patch).apply(mapper.createObjectNode()));
+    }
+
+    @Test
+    public void shouldRemoveAllFieldsOnDeletion() throws Exception {
+        Api oldApi = api("my-definition");
+
+        JsonNode patch = apiAuditDiffer.diff(oldApi, null);
+
+        assertEquals(mapper.createObjectNode(), JsonPatch.fromJson(patch).apply(node(oldApi)));
+    }
+
+    @Test
+    public void shouldDiffMembershipRoles() throws Exception {
+        Membership oldMembership = new Membership("user", "api", MembershipReferenceType.API);
+        oldMembership.setRoles(Collections.singletonMap(3, "USER"));
+        Membership newMembership = new Membership("user", "api", MembershipReferenceType.API);
+        newMembership.setRoles(Collections.singletonMap(3, "OWNER"));
+
+        JsonNode patch = membershipAuditDiffer.diff(oldMembership, newMembership);
+
+        assertEquals(1, patch.size());
+        assertEquals("/roles/3", patch.get(0).get("path").asText());
+        assertEquals(node(newMembership), JsonPatch.fromJson(patch).apply(node(oldMembership)));
+    }
+
+    private Api api(String definition) {
+        Api api = new Api();
+        api.setId("api-id");
+        api.setName("name");
+        api.setVersion("1");
+        api.setDescription("description");
+        api.setVisibility(Visibility.PUBLIC);
+        api.setLifecycleState(LifecycleState.STARTED);
+        api.setDefinition(definition);
+        api.setGroups(new HashSet<>(Collections.singletonList("group")));
+        api.setLabels(Arrays.asList("label1", "label2"));
+        api.setCreatedAt(new Date(0));
+        api.setUpdatedAt(new Date(0));
+        return api;
+    }
+
+    private JsonNode node(Object value) {
+        return mapper.convertValue(value, ObjectNode.class).remove(Arrays.asList("updatedAt", "createdAt"));
+    }
+}
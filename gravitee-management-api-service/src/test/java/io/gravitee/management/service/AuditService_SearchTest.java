@@ -0,0 +1,153 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.service;
+
+import io.gravitee.common.data.domain.MetadataPage;
+import io.gravitee.common.data.domain.Page;
+import io.gravitee.management.model.UserEntity;
+import io.gravitee.management.model.audit.AuditEntity;
+import io.gravitee.management.model.audit.AuditQuery;
+import io.gravitee.management.service.impl.AuditServiceImpl;
+import io.gravitee.repository.exceptions.TechnicalException;
+import io.gravitee.repository.management.api.*;
+import io.gravitee.repository.management.api.search.AuditCriteria;
+import io.gravitee.repository.management.api.search.PageCriteria;
+import io.gravitee.repository.management.api.search.Pageable;
+import io.gravitee.repository.management.model.*;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.*;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class AuditService_SearchTest {
+
+    private static final String API_ID = "api-id";
+
+    @InjectMocks
+    private AuditServiceImpl auditService = new AuditServiceImpl();
+
+    @Mock
+    private AuditRepository auditRepository;
+
+    @Mock
+    private PageRepository pageRepository;
+
+    @Mock
+    private PlanRepository planRepository;
+
+    @Mock
+    private MetadataRepository metadataRepository;
+
+    @Mock
+    private GroupRepository groupRepository;
+
+    @Mock
+    private UserService userService;
+
+    @Test
+    public void shouldResolveMetadataWithOneQueryPerType() throws TechnicalException {
+        List<Audit> audits = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            audits.add(audit("user" + (i % 2), Audit.AuditProperties.PLAN, "plan" + (i % 3)));
+            audits.add(audit("user" + (i % 2), Audit.AuditProperties.PAGE, "page" + (i % 3)));
+            audits.add(audit("user" + (i % 2), Audit.AuditProperties.GROUP, "group" + (i % 3)));
+        }
+        when(auditRepository.search(any(AuditCriteria.class), any(Pageable.class)))
+                .thenReturn(new Page<>(audits, 0, audits.size(), audits.size()));
+
+        when(userService.findByIds(any())).thenReturn(new HashSet<>(Arrays.asList(user("user0"), user("user1"))));
+        when(planRepository.findByApi(API_ID)).thenReturn(new HashSet<>(Arrays.asList(plan("plan0"), plan("plan1"))));
+        when(pageRepository.search(any(PageCriteria.class))).thenReturn(Arrays.asList(page("page0"), page("page2")));
+        when(groupRepository.findByIds(any())).thenReturn(Collections.singleton(group("group1")));
+
+        AuditQuery query = new AuditQuery();
+        query.setApiIds(Collections.singletonList(API_ID));
+        query.setPage(1);
+        query.setSize(audits.size());
+
+        MetadataPage<AuditEntity> result = auditService.search(query);
+
+        Map<String, String> metadata = result.getMetadata();
+        assertEquals("user0 name", metadata.get("USER:user0:name"));
+        assertEquals("plan1 name", metadata.get("PLAN:plan1:name"));
+        assertEquals("plan2", metadata.get("PLAN:plan2:name"));
+        assertEquals("page2 name", metadata.get("PAGE:page2:name"));
+        assertEquals("page1", metadata.get("PAGE:page1:name"));
+        assertEquals("group1 name", metadata.get("GROUP:group1:name"));
+        assertEquals("group0", metadata.get("GROUP:group0:name"));
+
+        verify(userService, times(1)).findByIds(any());
+        verify(userService, never()).findById(anyString());
+        verify(planRepository, times(1)).findByApi(API_ID);
+        verify(planRepository, never()).findById(anyString());
+        verify(pageRepository, times(1)).search(any(PageCriteria.class));
+        verify(pageRepository, never()).findById(anyString());
+        verify(groupRepository, times(1)).findByIds(any());
+        verify(groupRepository, never()).findById(anyString());
+    }
+
+    private Audit audit(String user, Audit.AuditProperties property, String value) {
+        Audit audit = new Audit();
+        audit.setId(UUID.randomUUID().toString());
+        audit.setReferenceType(Audit.AuditReferenceType.API);
+        audit.setReferenceId(API_ID);
+        audit.setUser(user);
+        audit.setEvent("EVENT");
+        audit.setProperties(Collections.singletonMap(property.name(), value));
+        return audit;
+    }
+
+    private UserEntity user(String id) {
+        UserEntity user = new UserEntity();
+        user.setId(id);
+        user.setFirstname(id);
+        user.setLastname("name");
+        return user;
+    }
+
+    private Plan plan(String id) {
+        Plan plan = new Plan();
+        plan.setId(id);
+        plan.setName(id + " name");
+        return plan;
+    }
+
+    private io.gravitee.repository.management.model.Page page(String id) {
+        io.gravitee.repository.management.model.Page page = new io.gravitee.repository.management.model.Page();
+        page.setId(id);
+        page.setName(id + " name");
+        return page;
+    }
+
+    private Group group(String id) {
+        Group group = new Group();
+        group.setId(id);
+        group.setName(id + " name");
+        return group;
+    }
+}
@@ -0,0 +1,139 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.service;
+
+import freemarker.template.Configuration;
+import freemarker.template.Template;
+import io.gravitee.management.service.builder.EmailNotificationBuilder;
+import io.gravitee.management.service.exceptions.NotificationDeliveryException;
+import io.gravitee.management.service.impl.EmailServiceImpl;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+
+import javax.mail.MessagingException;
+import javax.mail.SendFailedException;
+import javax.mail.Session;
+import javax.mail.internet.MimeMessage;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class EmailService_SendTest {
+
+    @InjectMocks
+    private EmailServiceImpl emailService = new EmailServiceImpl();
+
+    @Mock
+    private JavaMailSender mailSender;
+    @Mock
+    private Configuration freemarkerConfiguration;
+    @Mock
+    private Template template;
+
+    @Before
+    public void init() throws Exception {
+        setField(emailService, "enabled", true);
+        setField(emailService, "subject", "[Gravitee.io] %s");
+        setField(emailService, "defaultFrom", "noreply@gravitee.io");
+        when(freemarkerConfiguration.getTemplate(anyString())).thenReturn(template);
+        when(mailSender.createMimeMessage()).thenAnswer(invocation -> new MimeMessage(Session.getInstance(new Properties())));
+    }
+
+    @Test
+    public void shouldRetryOnlyTheFailedMessages() {
+        final List<Object[]> calls = new ArrayList<>();
+        doAnswer(invocation -> {
+            calls.add(invocation.getArguments());
+            if (calls.size() == 1) {
+                Map<Object, Exception> failedMessages = new LinkedHashMap<>();
+                failedMessages.put(invocation.getArgument(1), new MessagingException("Connection reset"));
+                throw new MailSendException(failedMessages);
+            }
+            return null;
+        }).when(mailSender).send((MimeMessage[]) any());
+
+        try {
+            emailService.sendEmailNotifications(Arrays.asList(notification("a@gravitee.io"),
+                    notification("b@gravitee.io"), notification("c@gravitee.io")));
+            fail("The delivery should have failed");
+        } catch (NotificationDeliveryException nde) {
+            assertTrue(nde.isRetryable());
+            assertNotNull(nde.getRetry());
+            nde.getRetry().run();
+        }
+
+        assertEquals(2, calls.size());
+        assertEquals(3, calls.get(0).length);
+        assertEquals(1, calls.get(1).length);
+        assertSame(calls.get(0)[1], calls.get(1)[0]);
+    }
+
+    @Test
+    public void shouldNotRetryRejectedRecipients() {
+        doAnswer(invocation -> {
+            throw new MailSendException(Collections.singletonMap(invocation.getArgument(0), new SendFailedException("Invalid address")));
+        }).when(mailSender).send((MimeMessage[]) any());
+
+        try {
+            emailService.sendEmailNotifications(Collections.singletonList(notification("unknown")));
+            fail("The delivery should have failed");
+        } catch (NotificationDeliveryException nde) {
+            assertFalse(nde.isRetryable());
+        }
+    }
+
+    @Test
+    public void shouldNotRetryRenderingErrors() throws Exception {
+        doThrow(new IllegalStateException("Invalid template")).when(template).process(any(), any());
+
+        try {
+            emailService.sendEmailNotifications(Collections.singletonList(notification("a@gravitee.io")));
+            fail("The delivery should have failed");
+        } catch (NotificationDeliveryException nde) {
+            assertFalse(nde.isRetryable());
+        }
+        verify(mailSender, never()).send((MimeMessage[]) any());
+    }
+
+    private EmailNotification notification(String to) {
+        return new EmailNotificationBuilder()
+                .to(to)
+                .subject("Subject")
+                .template(EmailNotificationBuilder.EmailTemplate.NEW_SUBSCRIPTION)
+                .params(Collections.emptyMap())
+                .build();
+    }
+}
@@ -15,29 +15,36 @@
  */
 package io.gravitee.management.service;
 
+import io.gravitee.common.event.EventManager;
 import io.gravitee.management.model.MemberEntity;
 import io.gravitee.management.model.Visibility;
 import io.gravitee.management.model.api.ApiEntity;
 import io.gravitee.management.service.impl.GroupServiceImpl;
 import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.repository.management.api.GroupRepository;
-import io.gravitee.repository.management.model.Group;
+import io.gravitee.repository.management.api.MembershipRepository;
+import io.gravitee.repository.management.model.Membership;
 import io.gravitee.repository.management.model.MembershipReferenceType;
 import io.gravitee.repository.management.model.RoleScope;
+import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.beans.factory.InitializingBean;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
+import java.util.function.Predicate;
 
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
 
 /**
  * @author Nicolas GERAUD (nicolas.geraud at graviteesource.com)
@@ -55,9 +62,22 @@ public class GroupService_IsUserAuthorizedToAccessTest {
     @Mock
     private GroupRepository groupRepository;
 
+    @Mock
+    private MembershipRepository membershipRepository;
+
+    @Mock
+    private EventManager eventManager;
+
     @Mock
     private ApiEntity api;
 
+    @Before
+    public void init() throws Exception {
+        setField(groupService, "userGroupsCacheTtl", 60000L);
+        setField(groupService, "userGroupsCacheMaxSize", 100L);
+        ((InitializingBean) groupService).afterPropertiesSet();
+    }
+
     @Test
     public void shouldBeAuthorizedForAnonymousAndPublicApiWithoutRestrictions() throws TechnicalException {
         when(api.getVisibility()).thenReturn(Visibility.PUBLIC);
@@ -144,27 +164,19 @@ public class GroupService_IsUserAuthorizedToAccessTest {
                 "user",
                 RoleScope.API)).
                 thenReturn(null);
-        when(membershipService.getMember(
-                MembershipReferenceType.GROUP,
-                "grp2",
-                "user",
-                RoleScope.API)).
-                thenReturn(new MemberEntity());
+        when(membershipRepository.findByUserAndReferenceType("user", MembershipReferenceType.GROUP))
+                .thenReturn(new HashSet<>(Arrays.asList(groupMembership("grp1"), groupMembership("grp2"))));
 
         boolean userAuthorizedToAccess = groupService.isUserAuthorizedToAccessApiData(api, Collections.singletonList("grp1"), "user");
 
         assertTrue(userAuthorizedToAccess);
-        verify(membershipService, times(2)).getMember(any(), any(), any(), any());
+        verify(membershipService, times(1)).getMember(any(), any(), any(), any());
         verify(membershipService, times(1)).
                 getMember(MembershipReferenceType.API,
                         api.getId(),
                         "user",
                         RoleScope.API);
-        verify(membershipService, times(1)).
-                getMember(MembershipReferenceType.GROUP,
-                        "grp2",
-                        "user",
-                        RoleScope.API);
+        verify(membershipRepository, times(1)).findByUserAndReferenceType("user", MembershipReferenceType.GROUP);
         verify(api, atLeast(2)).getGroups();
         verify(groupRepository, never()).findAll();
     }
@@ -180,27 +192,19 @@ public class GroupService_IsUserAuthorizedToAccessTest {
                 "user",
                 RoleScope.API)).
                 thenReturn(null);
-        when(membershipService.getMember(
-                MembershipReferenceType.GROUP,
-                "grp2",
-                "user",
-                RoleScope.API)).
-                thenReturn(null);
+        when(membershipRepository.findByUserAndReferenceType("user", MembershipReferenceType.GROUP))
+                .thenReturn(Collections.singleton(groupMembership("grp1")));
 
         boolean userAuthorizedToAccess = groupService.isUserAuthorizedToAccessApiData(api, Collections.singletonList("grp1"), "user");
 
         assertFalse(userAuthorizedToAccess);
-        verify(membershipService, times(2)).getMember(any(), any(), any(), any());
+        verify(membershipService, times(1)).getMember(any(), any(), any(), any());
         verify(membershipService, times(1)).
                 getMember(MembershipReferenceType.API,
                         api.getId(),
                         "user",
                         RoleScope.API);
-        verify(membershipService, times(1)).
-                getMember(MembershipReferenceType.GROUP,
-                        "grp2",
-                        "user",
-                        RoleScope.API);
+        verify(membershipRepository, times(1)).findByUserAndReferenceType("user", MembershipReferenceType.GROUP);
         verify(api, atLeast(2)).getGroups();
         verify(groupRepository, never()).findAll();
     }
@@ -209,39 +213,53 @@ public class GroupService_IsUserAuthorizedToAccessTest {
     public void shouldNotBeAuthorizedForPublicApiIfMemberOfUnauthorizedGroups() throws TechnicalException {
         when(api.getVisibility()).thenReturn(Visibility.PUBLIC);
         when(api.getId()).thenReturn("apiId");
-        Group grp1 = new Group();
-        Group grp2 = new Group();
-        grp1.setId("grp1");
-        grp2.setId("grp2");
-        when(groupRepository.findAll()).thenReturn(new HashSet<>(Arrays.asList(grp1, grp2)));
         when(membershipService.getMember(
                 MembershipReferenceType.API,
                 api.getId(),
                 "user",
                 RoleScope.API)).
                 thenReturn(null);
-        when(membershipService.getMember(
-                MembershipReferenceType.GROUP,
-                "grp2",
-                "user",
-                RoleScope.API)).
-                thenReturn(null);
+        when(membershipRepository.findByUserAndReferenceType("user", MembershipReferenceType.GROUP))
+                .thenReturn(Collections.singleton(groupMembership("grp1")));
 
         boolean userAuthorizedToAccess = groupService.isUserAuthorizedToAccessApiData(api, Collections.singletonList("grp1"), "user");
 
         assertFalse(userAuthorizedToAccess);
-        verify(membershipService, times(2)).getMember(any(), any(), any(), any());
+        verify(membershipService, times(1)).getMember(any(), any(), any(), any());
         verify(membershipService, times(1)).
                 getMember(MembershipReferenceType.API,
                         api.getId(),
                         "user",
                         RoleScope.API);
-        verify(membershipService, times(1)).
-                getMember(MembershipReferenceType.GROUP,
-                        "grp2",
-                        "user",
-                        RoleScope.API);
+        verify(membershipRepository, times(1)).findByUserAndReferenceType("user", MembershipReferenceType.GROUP);
         verify(api, never()).getGroups();
-        verify(groupRepository, times(1)).findAll();
+        verify(groupRepository, never()).findAll();
+    }
+
+    @Test
+    public void shouldResolveUserGroupsOnceForManyData() throws TechnicalException {
+        when(api.getVisibility()).thenReturn(Visibility.PUBLIC);
+        when(api.getId()).thenReturn("apiId");
+        when(membershipRepository.findByUserAndReferenceType("user", MembershipReferenceType.GROUP))
+                .thenReturn(Collections.singleton(groupMembership("grp1")));
+
+        Predicate<List<String>> authorization = groupService.getApiDataAuthorization(api, "user");
+
+        assertTrue(authorization.test(Collections.emptyList()));
+        assertFalse(authorization.test(Collections.singletonList("grp1")));
+        assertTrue(authorization.test(Collections.singletonList("grp2")));
+        assertTrue(groupService.isUserAuthorizedToAccessPortalData(Collections.singletonList("grp2"), "user"));
+        verify(membershipService, times(1)).getMember(MembershipReferenceType.API, "apiId", "user", RoleScope.API);
+        verify(membershipRepository, times(1)).findByUserAndReferenceType("user", MembershipReferenceType.GROUP);
+        verify(groupRepository, never()).findAll();
+    }
+
+    private static Membership groupMembership(String groupId) {
+        Membership membership = new Membership();
+        membership.setUserId("user");
+        membership.setReferenceType(MembershipReferenceType.GROUP);
+        membership.setReferenceId(groupId);
+        membership.setRoles(Collections.singletonMap(RoleScope.API.getId(), "USER"));
+        return membership;
     }
 }
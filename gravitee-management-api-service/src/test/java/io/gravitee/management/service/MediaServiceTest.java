@@ -0,0 +1,183 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.service;
+
+import io.gravitee.management.model.MediaEntity;
+import io.gravitee.management.model.PortalConfigEntity;
+import io.gravitee.management.service.exceptions.UploadUnAuthorized;
+import io.gravitee.management.service.impl.MediaServiceImpl;
+import io.gravitee.management.service.impl.media.MediaFileCache;
+import io.gravitee.repository.media.api.MediaRepository;
+import io.gravitee.repository.media.model.Media;
+import org.apache.commons.io.IOUtils;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class MediaServiceTest {
+
+    private static final byte[] CONTENT = "GIF89a".getBytes(StandardCharsets.UTF_8);
+    private static final String HASH = "0E8A6B4CEEC2E4B21A9C4A5DB0F1E1CA";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @InjectMocks
+    private MediaServiceImpl mediaService = new MediaServiceImpl();
+
+    @Mock
+    private MediaRepository mediaRepository;
+
+    @Mock
+    private ConfigService configService;
+
+    @Spy
+    private MediaFileCache mediaFileCache = new MediaFileCache();
+
+    private File root;
+
+    private File directory;
+
+    @Before
+    public void init() throws Exception {
+        root = folder.newFolder("media");
+        directory = new File(root, "media-cache");
+        setField(mediaFileCache, "path", root.getAbsolutePath());
+        setField(mediaFileCache, "maxSize", 1024L * 1024);
+        mediaFileCache.afterPropertiesSet();
+
+        setField(mediaService, "metadataCacheMaxSize", 100L);
+        setField(mediaService, "metadataCacheTtl", 600L);
+        mediaService.afterPropertiesSet();
+
+        PortalConfigEntity portalConfig = new PortalConfigEntity();
+        portalConfig.getPortal().getUploadMedia().setMaxSizeInOctet(1024);
+        when(configService.getPortalConfig()).thenReturn(portalConfig);
+    }
+
+    @Test
+    public void shouldStoreMediaAndKeepItOnDisk() throws Exception {
+        when(mediaRepository.findByHash(anyString(), anyString())).thenReturn(Optional.empty());
+
+        final String hash = mediaService.savePortalMedia(media(CONTENT));
+
+        ArgumentCaptor<Media> media = ArgumentCaptor.forClass(Media.class);
+        verify(mediaRepository).save(media.capture());
+        assertEquals(hash, media.getValue().getHash());
+        assertEquals(Long.valueOf(CONTENT.length), media.getValue().getSize());
+        assertArrayEquals(CONTENT, media.getValue().getData());
+        assertArrayEquals(new String[]{"media-" + hash}, directory.list());
+    }
+
+    @Test
+    public void shouldNotStoreSameContentTwice() throws Exception {
+        Media existing = new Media();
+        existing.setHash(HASH);
+        when(mediaRepository.findByHash(anyString(), anyString())).thenReturn(Optional.of(existing));
+
+        assertEquals(HASH, mediaService.savePortalMedia(media(CONTENT)));
+        verify(mediaRepository, never()).save(any());
+        assertEquals(0, directory.list().length);
+    }
+
+    @Test(expected = UploadUnAuthorized.class)
+    public void shouldNotStoreTooLargeMedia() throws Exception {
+        try {
+            mediaService.savePortalMedia(media(new byte[2048]));
+        } finally {
+            verify(mediaRepository, never()).save(any());
+            assertEquals(0, directory.list().length);
+        }
+    }
+
+    @Test
+    public void shouldReadMediaFromDisk() throws Exception {
+        Media media = new Media("image", "gif", "logo.gif", CONTENT.length);
+        media.setHash(HASH);
+        media.setData(CONTENT);
+        when(mediaRepository.findByHash(HASH, "image")).thenReturn(Optional.of(media));
+
+        final MediaEntity first = mediaService.findby(HASH);
+        assertArrayEquals(CONTENT, IOUtils.toByteArray(first.getData()));
+        first.getData().close();
+
+        final MediaEntity second = mediaService.findby(HASH);
+        assertEquals("image/gif", second.getMimeType());
+        assertEquals(CONTENT.length, second.getSize());
+        assertArrayEquals(CONTENT, IOUtils.toByteArray(second.getData()));
+        second.getData().close();
+
+        verify(mediaRepository, times(1)).findByHash(HASH, "image");
+    }
+
+    @Test
+    public void shouldReplaceCachedDescriptionOnSave() throws Exception {
+        when(mediaRepository.findByHash(anyString(), anyString())).thenReturn(Optional.empty());
+        final String hash = mediaService.savePortalMedia(media(CONTENT));
+
+        final MediaEntity mediaEntity = mediaService.findby(hash);
+
+        assertEquals("logo.gif", mediaEntity.getFileName());
+        assertArrayEquals(CONTENT, IOUtils.toByteArray(mediaEntity.getData()));
+        mediaEntity.getData().close();
+        verify(mediaRepository, times(1)).findByHash(anyString(), anyString());
+    }
+
+    @Test
+    public void shouldOnlyRemoveItsOwnFilesOnStartup() throws Exception {
+        assertTrue(new File(root, "other.txt").createNewFile());
+        assertTrue(new File(directory, "other.txt").createNewFile());
+        assertTrue(new File(directory, "media-" + HASH).createNewFile());
+
+        mediaFileCache.afterPropertiesSet();
+
+        assertTrue(new File(root, "other.txt").exists());
+        assertArrayEquals(new String[]{"other.txt"}, directory.list());
+    }
+
+    @Test
+    public void shouldNotFindMedia() {
+        when(mediaRepository.findByHash(HASH, "api", "image")).thenReturn(Optional.empty());
+
+        assertNull(mediaService.findby(HASH, "api"));
+    }
+
+    private static MediaEntity media(byte[] content) {
+        return new MediaEntity(new ByteArrayInputStream(content), "image", "gif", "logo.gif", -1);
+    }
+}
@@ -15,6 +15,7 @@
  */
 package io.gravitee.management.service;
 
+import io.gravitee.common.event.EventManager;
 import io.gravitee.management.model.GroupEntity;
 import io.gravitee.management.model.MemberEntity;
 import io.gravitee.management.model.RoleEntity;
@@ -71,6 +72,8 @@ public class MembershipService_AddOrUpdateMemberTest {
     private IdentityService identityService;
     @Mock
     private NotifierService notifierService;
+    @Mock
+    private EventManager eventManager;
 
     @Test
     public void shouldAddApiGroupMembership() throws Exception {
@@ -97,8 +100,8 @@ public class MembershipService_AddOrUpdateMemberTest {
                 new MembershipService.MembershipUser(userEntity.getId(), null),
                 new MembershipService.MembershipRole(RoleScope.API, "OWNER"));
 
-        verify(userService, times(2)).findById(userEntity.getId());
-        verify(membershipRepository, times(2)).findById(userEntity.getId(), MembershipReferenceType.GROUP, GROUP_ID);
+        verify(userService, times(1)).findById(userEntity.getId());
+        verify(membershipRepository, times(1)).findById(userEntity.getId(), MembershipReferenceType.GROUP, GROUP_ID);
         verify(membershipRepository, times(1)).create(any());
         verify(membershipRepository, never()).update(any());
         verify(emailService, times(1)).sendAsyncEmailNotification(any());
@@ -132,8 +135,8 @@ public class MembershipService_AddOrUpdateMemberTest {
                 new MembershipService.MembershipUser(userEntity.getId(), null),
                 new MembershipService.MembershipRole(RoleScope.API, "OWNER"));
 
-        verify(userService, times(2)).findById(userEntity.getId());
-        verify(membershipRepository, times(2)).findById(userEntity.getId(), MembershipReferenceType.GROUP, GROUP_ID);
+        verify(userService, times(1)).findById(userEntity.getId());
+        verify(membershipRepository, times(1)).findById(userEntity.getId(), MembershipReferenceType.GROUP, GROUP_ID);
         verify(membershipRepository, never()).create(any());
         verify(membershipRepository, times(1)).update(any());
         verify(emailService, never()).sendAsyncEmailNotification(any());
@@ -210,8 +213,6 @@ public class MembershipService_AddOrUpdateMemberTest {
         Membership membership = mock(Membership.class);
         when(membership.getUserId()).thenReturn("userId");
         when(membership.getRoles()).thenReturn(Collections.singletonMap(RoleScope.API.getId(), SystemRole.PRIMARY_OWNER.name()));
-        when(membership.getReferenceId()).thenReturn("API_ID");
-        when(membership.getReferenceType()).thenReturn(MembershipReferenceType.API);
         when(membershipRepository.findById("userId", MembershipReferenceType.API, "API_ID")).thenReturn(of(membership));
         UserEntity userEntity = new UserEntity();
         userEntity.setId("userId");
@@ -101,8 +101,6 @@ public class MembershipService_GetMemberPermissionsTest {
         doReturn(API_ID).when(api).getId();
         Membership membership = mock(Membership.class);
         doReturn(Collections.singletonMap(RoleScope.API.getId(), ROLENAME)).when(membership).getRoles();
-        doReturn(MembershipReferenceType.API).when(membership).getReferenceType();
-        doReturn(API_ID).when(membership).getReferenceId();
         doReturn(USERNAME).when(membership).getUserId();
         GroupEntity group = mock(GroupEntity.class);
         doReturn(Collections.singleton(group)).when(api).getGroups();
@@ -119,7 +117,7 @@ public class MembershipService_GetMemberPermissionsTest {
 
         assertNotNull(permissions);
         assertPermissions(rolePerms, permissions);
-        verify(membershipRepository, times(2)).findById(USERNAME, MembershipReferenceType.API, API_ID);
+        verify(membershipRepository, times(1)).findById(USERNAME, MembershipReferenceType.API, API_ID);
         verify(membershipRepository, never()).findById(eq(USERNAME), eq(MembershipReferenceType.GROUP), anyString());
         verify(userService, times(1)).findById(USERNAME);
     }
@@ -133,8 +131,6 @@ public class MembershipService_GetMemberPermissionsTest {
 
         Membership membership = mock(Membership.class);
         doReturn(Collections.singletonMap(RoleScope.API.getId(), ROLENAME)).when(membership).getRoles();
-        doReturn(MembershipReferenceType.GROUP).when(membership).getReferenceType();
-        doReturn(GROUP_ID1).when(membership).getReferenceId();
         doReturn(USERNAME).when(membership).getUserId();
         doReturn(empty()).when(membershipRepository).findById(USERNAME, MembershipReferenceType.API, API_ID);
         doReturn(of(membership)).when(membershipRepository).findById(USERNAME, MembershipReferenceType.GROUP, GROUP_ID1);
@@ -153,7 +149,7 @@ public class MembershipService_GetMemberPermissionsTest {
         assertNotNull(permissions);
         assertPermissions(rolePerms, permissions);
         verify(membershipRepository, times(1)).findById(USERNAME, MembershipReferenceType.API, API_ID);
-        verify(membershipRepository, times(2)).findById(eq(USERNAME), eq(MembershipReferenceType.GROUP), anyString());
+        verify(membershipRepository, times(1)).findById(eq(USERNAME), eq(MembershipReferenceType.GROUP), anyString());
         verify(userService, times(1)).findById(USERNAME);
     }
 
@@ -166,15 +162,11 @@ public class MembershipService_GetMemberPermissionsTest {
 
         Membership membership1 = mock(Membership.class);
         doReturn(Collections.singletonMap(RoleScope.API.getId(), ROLENAME)).when(membership1).getRoles();
-        doReturn(MembershipReferenceType.GROUP).when(membership1).getReferenceType();
-        doReturn(GROUP_ID1).when(membership1).getReferenceId();
         doReturn(USERNAME).when(membership1).getUserId();
         doReturn(of(membership1)).when(membershipRepository).findById(USERNAME, MembershipReferenceType.GROUP, GROUP_ID1);
 
         Membership membership2 = mock(Membership.class);
         doReturn(Collections.singletonMap(RoleScope.API.getId(), ROLENAME2)).when(membership2).getRoles();
-        doReturn(MembershipReferenceType.GROUP).when(membership2).getReferenceType();
-        doReturn(GROUP_ID2).when(membership2).getReferenceId();
         doReturn(USERNAME).when(membership2).getUserId();
         doReturn(empty()).when(membershipRepository).findById(USERNAME, MembershipReferenceType.API, API_ID);
         doReturn(of(membership2)).when(membershipRepository).findById(USERNAME, MembershipReferenceType.GROUP, GROUP_ID2);
@@ -207,7 +199,7 @@ public class MembershipService_GetMemberPermissionsTest {
         expectedPermissions.put(ApiPermission.PLAN.getName(), new char[]{RolePermissionAction.READ.getId()});
         assertPermissions(expectedPermissions, permissions);
         verify(membershipRepository, times(1)).findById(USERNAME, MembershipReferenceType.API, API_ID);
-        verify(membershipRepository, times(4)).findById(eq(USERNAME), eq(MembershipReferenceType.GROUP), anyString());
+        verify(membershipRepository, times(2)).findById(eq(USERNAME), eq(MembershipReferenceType.GROUP), anyString());
         verify(userService, times(2)).findById(USERNAME);
     }
 
@@ -31,11 +31,10 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
-import java.util.Collections;
-import java.util.Date;
-import java.util.Set;
+import java.util.*;
+import java.util.stream.Collectors;
 
-import static java.util.Optional.of;
+import static java.util.Collections.singletonList;
 import static org.mockito.Mockito.*;
 
 /**
@@ -89,8 +88,7 @@ public class MembershipService_GetMembersTest {
         po.setName(SystemRole.PRIMARY_OWNER.name());
         when(membershipRepository.findByReferenceAndRole(MembershipReferenceType.API, API_ID, RoleScope.API, SystemRole.PRIMARY_OWNER.name()))
                 .thenReturn(Collections.singleton(membership));
-        when(userService.findById(membership.getUserId())).thenReturn(userEntity);
-        when(membershipRepository.findById(userEntity.getId(),MembershipReferenceType.API, API_ID)).thenReturn(of(membership));
+        when(userService.findByIds(singletonList(membership.getUserId()))).thenReturn(Collections.singleton(userEntity));
         when(roleService.findById(RoleScope.API, SystemRole.PRIMARY_OWNER.name())).thenReturn(po);
 
         Set<MemberEntity> members = membershipService.getMembers(MembershipReferenceType.API, API_ID, RoleScope.API, SystemRole.PRIMARY_OWNER.name());
@@ -98,7 +96,7 @@ public class MembershipService_GetMembersTest {
         Assert.assertNotNull(members);
         Assert.assertFalse("members must not be empty", members.isEmpty());
         verify(membershipRepository, times(1)).findByReferenceAndRole(MembershipReferenceType.API, API_ID, RoleScope.API, SystemRole.PRIMARY_OWNER.name());
-        verify(userService, times(1)).findById(membership.getUserId());
+        verify(userService, times(1)).findByIds(singletonList(membership.getUserId()));
     }
 
     @Test
@@ -119,8 +117,7 @@ public class MembershipService_GetMembersTest {
         po.setName(SystemRole.PRIMARY_OWNER.name());
         when(membershipRepository.findByReferenceAndRole(MembershipReferenceType.API, API_ID, RoleScope.API, null))
                 .thenReturn(Collections.singleton(membership));
-        when(userService.findById(membership.getUserId())).thenReturn(userEntity);
-        when(membershipRepository.findById(userEntity.getId(),MembershipReferenceType.API, API_ID)).thenReturn(of(membership));
+        when(userService.findByIds(singletonList(membership.getUserId()))).thenReturn(Collections.singleton(userEntity));
         when(roleService.findById(RoleScope.API, SystemRole.PRIMARY_OWNER.name())).thenReturn(po);
 
         Set<MemberEntity> members = membershipService.getMembers(MembershipReferenceType.API, API_ID, RoleScope.API);
@@ -128,7 +125,41 @@ public class MembershipService_GetMembersTest {
         Assert.assertNotNull(members);
         Assert.assertFalse("members must not be empty", members.isEmpty());
         verify(membershipRepository, times(1)).findByReferenceAndRole(MembershipReferenceType.API, API_ID, RoleScope.API, null);
-        verify(userService, times(1)).findById(membership.getUserId());
+        verify(userService, times(1)).findByIds(singletonList(membership.getUserId()));
     }
 
+    @Test
+    public void shouldGetMembersWithASingleUserQuery() throws Exception {
+        Membership membership1 = new Membership();
+        membership1.setReferenceId(API_ID);
+        membership1.setReferenceType(MembershipReferenceType.API);
+        membership1.setRoles(Collections.singletonMap(RoleScope.API.getId(), "USER"));
+        membership1.setUserId("user-1");
+        Membership membership2 = new Membership();
+        membership2.setReferenceId(API_ID);
+        membership2.setReferenceType(MembershipReferenceType.API);
+        membership2.setRoles(Collections.singletonMap(RoleScope.API.getId(), "USER"));
+        membership2.setUserId("user-2");
+        UserEntity user1 = new UserEntity();
+        user1.setId("user-1");
+        user1.setEmail("user1@gravitee.io");
+        UserEntity user2 = new UserEntity();
+        user2.setId("user-2");
+        user2.setEmail("user2@gravitee.io");
+        RoleEntity role = new RoleEntity();
+        role.setName("USER");
+        when(membershipRepository.findByReferenceAndRole(MembershipReferenceType.API, API_ID, RoleScope.API, null))
+                .thenReturn(new HashSet<>(Arrays.asList(membership1, membership2)));
+        when(userService.findByIds(anyList())).thenReturn(new HashSet<>(Arrays.asList(user1, user2)));
+        when(roleService.findById(RoleScope.API, "USER")).thenReturn(role);
+
+        Set<MemberEntity> members = membershipService.getMembers(MembershipReferenceType.API, API_ID, RoleScope.API);
+
+        Assert.assertEquals(2, members.size());
+        Set<String> emails = members.stream().map(MemberEntity::getEmail).collect(Collectors.toSet());
+        Assert.assertEquals(new HashSet<>(Arrays.asList("user1@gravitee.io", "user2@gravitee.io")), emails);
+        verify(userService, times(1)).findByIds(anyList());
+        verify(userService, never()).findById(anyString());
+        verify(membershipRepository, never()).findById(anyString(), any(), anyString());
+    }
 }
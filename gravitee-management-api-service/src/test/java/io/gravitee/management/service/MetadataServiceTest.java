@@ -0,0 +1,70 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.service;
+
+import io.gravitee.common.event.EventManager;
+import io.gravitee.management.service.impl.MetadataServiceImpl;
+import io.gravitee.repository.management.api.MetadataRepository;
+import io.gravitee.repository.management.model.Metadata;
+import io.gravitee.repository.management.model.MetadataFormat;
+import io.gravitee.repository.management.model.MetadataReferenceType;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class MetadataServiceTest {
+
+    @InjectMocks
+    private MetadataServiceImpl metadataService = new MetadataServiceImpl();
+
+    @Mock
+    private MetadataRepository metadataRepository;
+
+    @Mock
+    private EventManager eventManager;
+
+    @Before
+    public void init() {
+        setField(metadataService, "metadataCacheTtl", 60000L);
+        metadataService.afterPropertiesSet();
+    }
+
+    @Test
+    public void shouldCacheDefaultMetadata() throws Exception {
+        Metadata metadata = new Metadata();
+        metadata.setKey("email");
+        metadata.setName("Email");
+        metadata.setFormat(MetadataFormat.MAIL);
+        when(metadataRepository.findByReferenceType(MetadataReferenceType.DEFAULT)).thenReturn(singletonList(metadata));
+
+        assertEquals(1, metadataService.findAllDefault().size());
+        assertEquals("email", metadataService.findAllDefault().get(0).getKey());
+
+        verify(metadataRepository, times(1)).findByReferenceType(MetadataReferenceType.DEFAULT);
+    }
+}
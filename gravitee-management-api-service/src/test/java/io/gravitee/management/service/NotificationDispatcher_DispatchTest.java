@@ -0,0 +1,172 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.service;
+
+import io.gravitee.management.service.exceptions.NotificationDeliveryException;
+import io.gravitee.management.service.exceptions.TechnicalManagementException;
+import io.gravitee.management.service.notifiers.NotificationDispatcher;
+import io.gravitee.management.service.notifiers.impl.NotificationDispatcherImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class NotificationDispatcher_DispatchTest {
+
+    private final NotificationDispatcherImpl notificationDispatcher = new NotificationDispatcherImpl();
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Before
+    public void init() {
+        setField(notificationDispatcher, "environment", new MockEnvironment()
+                .withProperty("notifiers.webhook.workers", "1")
+                .withProperty("notifiers.webhook.queueCapacity", "1"));
+        setField(notificationDispatcher, "meterRegistry", meterRegistry);
+        setField(notificationDispatcher, "retryAttempts", 3);
+        setField(notificationDispatcher, "retryDelay", 1L);
+        notificationDispatcher.afterPropertiesSet();
+    }
+
+    @After
+    public void destroy() {
+        notificationDispatcher.destroy();
+    }
+
+    @Test
+    public void shouldRetryOnTechnicalError() throws Exception {
+        final AtomicInteger attempts = new AtomicInteger();
+        final CountDownLatch latch = new CountDownLatch(1);
+
+        notificationDispatcher.dispatch(NotificationDispatcher.Channel.EMAIL, "test", () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new TechnicalManagementException("SMTP server unavailable");
+            }
+            latch.countDown();
+        });
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals(3, attempts.get());
+        awaitCount("email", "success", 1);
+        assertEquals(2, count("email", "retry"), 0);
+    }
+
+    @Test
+    public void shouldGiveUpAfterMaxAttempts() throws Exception {
+        final AtomicInteger attempts = new AtomicInteger();
+
+        notificationDispatcher.dispatch(NotificationDispatcher.Channel.EMAIL, "test", () -> {
+            attempts.incrementAndGet();
+            throw new TechnicalManagementException("SMTP server unavailable");
+        });
+
+        awaitCount("email", "failure", 1);
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    public void shouldNotRetryOnFunctionalError() throws Exception {
+        final AtomicInteger attempts = new AtomicInteger();
+
+        notificationDispatcher.dispatch(NotificationDispatcher.Channel.DEFAULT, "test", () -> {
+            attempts.incrementAndGet();
+            throw new IllegalStateException();
+        });
+
+        awaitCount("default", "failure", 1);
+        assertEquals(1, attempts.get());
+        assertEquals(0, count("default", "retry"), 0);
+    }
+
+    @Test
+    public void shouldRetryOnlyWhatRemains() throws Exception {
+        final AtomicInteger attempts = new AtomicInteger();
+        final CountDownLatch latch = new CountDownLatch(1);
+
+        notificationDispatcher.dispatch(NotificationDispatcher.Channel.EMAIL, "test", () -> {
+            attempts.incrementAndGet();
+            throw new NotificationDeliveryException("Partial failure", null, latch::countDown);
+        });
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        awaitCount("email", "success", 1);
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    public void shouldNotRetryPermanentError() throws Exception {
+        final AtomicInteger attempts = new AtomicInteger();
+
+        notificationDispatcher.dispatch(NotificationDispatcher.Channel.EMAIL, "test", () -> {
+            attempts.incrementAndGet();
+            throw new NotificationDeliveryException("Invalid recipient", null, false);
+        });
+
+        awaitCount("email", "failure", 1);
+        assertEquals(1, attempts.get());
+        assertEquals(0, count("email", "retry"), 0);
+    }
+
+    @Test
+    public void shouldRejectWhenQueueIsFull() throws Exception {
+        final CountDownLatch running = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        // one worker busy, one task queued, the third one is dropped
+        notificationDispatcher.dispatch(NotificationDispatcher.Channel.WEBHOOK, "busy", () -> {
+            running.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+        notificationDispatcher.dispatch(NotificationDispatcher.Channel.WEBHOOK, "queued", () -> {});
+        notificationDispatcher.dispatch(NotificationDispatcher.Channel.WEBHOOK, "dropped", () -> {});
+
+        assertEquals(1, count("webhook", "rejected"), 0);
+        assertEquals(1, meterRegistry.get("notifier.queue.size").tag("channel", "webhook").gauge().value(), 0);
+
+        release.countDown();
+        awaitCount("webhook", "success", 2);
+    }
+
+    private double count(String channel, String result) {
+        return meterRegistry.get("notifier.tasks").tag("channel", channel).tag("result", result).counter().count();
+    }
+
+    private void awaitCount(String channel, String result, double expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (count(channel, result) < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(expected, count(channel, result), 0);
+    }
+}
@@ -17,6 +17,7 @@ package io.gravitee.management.service;
 
 import io.gravitee.management.service.exceptions.TechnicalManagementException;
 import io.gravitee.management.service.impl.PageServiceImpl;
+import io.gravitee.management.service.impl.swagger.SwaggerTransformationCache;
 import io.gravitee.management.service.search.SearchEngineService;
 import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.repository.management.api.PageRepository;
@@ -47,6 +48,9 @@ public class PageService_DeleteTest {
     @Mock
     private PageRepository pageRepository;
 
+    @Mock
+    private SwaggerTransformationCache swaggerTransformationCache;
+
     @Mock
     private AuditService auditService;
 
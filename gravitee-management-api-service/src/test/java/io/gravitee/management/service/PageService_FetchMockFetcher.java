@@ -0,0 +1,42 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.service;
+
+import io.gravitee.fetcher.api.Fetcher;
+import io.gravitee.fetcher.api.FetcherException;
+import io.gravitee.fetcher.api.Resource;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class PageService_FetchMockFetcher implements Fetcher {
+
+    private final PageService_FetchMockFetcherConfiguration configuration;
+
+    public PageService_FetchMockFetcher(PageService_FetchMockFetcherConfiguration configuration) {
+        this.configuration = configuration;
+    }
+
+    @Override
+    public Resource fetch() throws FetcherException {
+        Resource resource = new Resource();
+        resource.setContent(new ByteArrayInputStream(configuration.getContent().getBytes(StandardCharsets.UTF_8)));
+        return resource;
+    }
+}
@@ -0,0 +1,146 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.service;
+
+import io.gravitee.management.fetcher.FetcherConfigurationFactory;
+import io.gravitee.management.model.PageEntity;
+import io.gravitee.management.service.impl.PageServiceImpl;
+import io.gravitee.management.service.impl.swagger.SwaggerTransformationCache;
+import io.gravitee.management.service.search.SearchEngineService;
+import io.gravitee.plugin.core.api.PluginManager;
+import io.gravitee.plugin.fetcher.FetcherPlugin;
+import io.gravitee.repository.management.api.PageRepository;
+import io.gravitee.repository.management.model.Page;
+import io.gravitee.repository.management.model.PageSource;
+import io.gravitee.repository.management.model.PageType;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
+import org.springframework.context.ApplicationContext;
+
+import java.util.Optional;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class PageService_FetchTest {
+
+    private static final String PAGE_ID = "ba01aef0-e3da-4499-81ae-f0e3daa4995a";
+    private static final String SOURCE_TYPE = "http-fetcher";
+    private static final String SOURCE_CONFIGURATION = "{\"url\":\"http://localhost/readme.md\"}";
+
+    @InjectMocks
+    private PageServiceImpl pageService = new PageServiceImpl();
+
+    @Mock
+    private PageRepository pageRepository;
+
+    @Mock
+    private SwaggerTransformationCache swaggerTransformationCache;
+
+    @Mock
+    private AuditService auditService;
+
+    @Mock
+    private SearchEngineService searchEngineService;
+
+    @Mock
+    private PluginManager<FetcherPlugin> fetcherPluginManager;
+
+    @Mock
+    private FetcherConfigurationFactory fetcherConfigurationFactory;
+
+    @Mock
+    private ApplicationContext applicationContext;
+
+    private Page page;
+
+    @Before
+    public void init() throws Exception {
+        PageSource source = new PageSource();
+        source.setType(SOURCE_TYPE);
+        source.setConfiguration(SOURCE_CONFIGURATION);
+
+        page = new Page();
+        page.setId(PAGE_ID);
+        page.setType(PageType.MARKDOWN);
+        page.setContent("# Readme\n");
+        page.setPublished(true);
+        page.setSource(source);
+        when(pageRepository.findById(PAGE_ID)).thenReturn(Optional.of(page));
+
+        FetcherPlugin fetcherPlugin = mock(FetcherPlugin.class);
+        when(fetcherPlugin.clazz()).thenReturn(PageService_FetchMockFetcher.class.getName());
+        when(fetcherPlugin.configuration()).thenReturn(PageService_FetchMockFetcherConfiguration.class);
+        when(fetcherPlugin.fetcher()).thenReturn(PageService_FetchMockFetcher.class);
+        when(fetcherPluginManager.get(SOURCE_TYPE)).thenReturn(fetcherPlugin);
+        when(applicationContext.getAutowireCapableBeanFactory()).thenReturn(mock(AutowireCapableBeanFactory.class));
+    }
+
+    @Test
+    public void shouldNotUpdateUnchangedContent() throws Exception {
+        fetchedContent("# Readme\n");
+
+        final PageEntity pageEntity = pageService.fetch(PAGE_ID, "contributor");
+
+        assertEquals("# Readme\n", pageEntity.getContent());
+        verify(pageRepository, never()).update(any());
+        verify(searchEngineService, never()).index(any());
+        verify(auditService, never()).createApiAuditLog(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    public void shouldUpdateAndReindexChangedContent() throws Exception {
+        fetchedContent("# New readme\n");
+        when(pageRepository.update(any(Page.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        final PageEntity pageEntity = pageService.fetch(PAGE_ID, "contributor");
+
+        assertEquals("# New readme\n", pageEntity.getContent());
+        verify(pageRepository).update(argThat(updated -> "contributor".equals(updated.getLastContributor())));
+        verify(swaggerTransformationCache).evict(PAGE_ID);
+        verify(searchEngineService).index(any());
+    }
+
+    @Test
+    public void shouldCreateFetcherForEachFetch() throws Exception {
+        fetchedContent("# Readme\n");
+
+        pageService.fetch(PAGE_ID, "contributor");
+        pageService.fetch(PAGE_ID, "contributor");
+
+        verify(fetcherConfigurationFactory, times(2))
+                .create(PageService_FetchMockFetcherConfiguration.class, SOURCE_CONFIGURATION);
+    }
+
+    private void fetchedContent(String content) {
+        when(fetcherConfigurationFactory.create(PageService_FetchMockFetcherConfiguration.class, SOURCE_CONFIGURATION))
+                .thenAnswer(invocation -> {
+                    PageService_FetchMockFetcherConfiguration configuration = new PageService_FetchMockFetcherConfiguration();
+                    configuration.setContent(content);
+                    return configuration;
+                });
+    }
+}
@@ -23,6 +23,7 @@ import io.gravitee.management.model.PageEntity;
 import io.gravitee.management.model.PageSourceEntity;
 import io.gravitee.management.service.impl.GraviteeDescriptorServiceImpl;
 import io.gravitee.management.service.impl.PageServiceImpl;
+import io.gravitee.management.service.impl.swagger.SwaggerTransformationCache;
 import io.gravitee.management.service.search.SearchEngineService;
 import io.gravitee.plugin.core.api.PluginManager;
 import io.gravitee.plugin.fetcher.FetcherPlugin;
@@ -57,6 +58,9 @@ public class PageService_ImportDescriptorTest {
     @Mock
     private PageRepository pageRepository;
 
+    @Mock
+    private SwaggerTransformationCache swaggerTransformationCache;
+
     @Mock
     private AuditService auditService;
 
@@ -22,6 +22,7 @@ import io.gravitee.management.model.ImportPageEntity;
 import io.gravitee.management.model.PageEntity;
 import io.gravitee.management.model.PageSourceEntity;
 import io.gravitee.management.service.impl.PageServiceImpl;
+import io.gravitee.management.service.impl.swagger.SwaggerTransformationCache;
 import io.gravitee.management.service.search.SearchEngineService;
 import io.gravitee.plugin.core.api.PluginManager;
 import io.gravitee.plugin.fetcher.FetcherPlugin;
@@ -56,6 +57,9 @@ public class PageService_ImportDirectoryTest {
     @Mock
     private PageRepository pageRepository;
 
+    @Mock
+    private SwaggerTransformationCache swaggerTransformationCache;
+
     @Mock
     private AuditService auditService;
 
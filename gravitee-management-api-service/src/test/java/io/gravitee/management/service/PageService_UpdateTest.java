@@ -19,6 +19,7 @@ import io.gravitee.management.model.UpdatePageEntity;
 import io.gravitee.management.service.exceptions.PageNotFoundException;
 import io.gravitee.management.service.exceptions.TechnicalManagementException;
 import io.gravitee.management.service.impl.PageServiceImpl;
+import io.gravitee.management.service.impl.swagger.SwaggerTransformationCache;
 import io.gravitee.management.service.search.SearchEngineService;
 import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.repository.management.api.PageRepository;
@@ -53,6 +54,9 @@ public class PageService_UpdateTest {
     @Mock
     private PageRepository pageRepository;
 
+    @Mock
+    private SwaggerTransformationCache swaggerTransformationCache;
+
     @Mock
     private UpdatePageEntity existingPage;
 
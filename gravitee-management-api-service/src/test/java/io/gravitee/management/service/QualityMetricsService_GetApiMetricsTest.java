@@ -15,11 +15,16 @@
  */
 package io.gravitee.management.service;
 
+import io.gravitee.common.event.EventManager;
 import io.gravitee.management.model.ApiQualityMetricsEntity;
+import io.gravitee.management.model.PageEntity;
 import io.gravitee.management.model.api.ApiEntity;
+import io.gravitee.management.model.documentation.PageQuery;
 import io.gravitee.management.model.parameters.Key;
 import io.gravitee.management.service.exceptions.ApiQualityMetricsDisableException;
 import io.gravitee.management.service.impl.QualityMetricsServiceImpl;
+import io.gravitee.management.service.quality.ApiQualityMetricFunctionalDocumentation;
+import io.gravitee.management.service.quality.ApiQualityMetricInputs;
 import io.gravitee.management.service.quality.ApiQualityMetricLoader;
 import io.gravitee.management.service.quality.ApiQualityMetricLogo;
 import io.gravitee.management.service.quality.ApiQualityMetricViews;
@@ -29,6 +34,7 @@ import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.beans.factory.InitializingBean;
 
 import java.util.*;
 
@@ -36,8 +42,8 @@ import static java.util.Collections.singletonList;
 import static org.junit.Assert.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
 
 /**
  * @author Nicolas GERAUD (nicolas.geraud at graviteesource.com) 
@@ -61,8 +67,17 @@ public class QualityMetricsService_GetApiMetricsTest {
     @Mock
     ApiQualityMetricViews apiQualityMetricViews;
 
+    @Mock
+    PageService pageService;
+
+    @Mock
+    EventManager eventManager;
+
     @Before
-    public void setup() {
+    public void setup() throws Exception {
+        setField(srv, "metricsCacheTtl", 60000L);
+        setField(srv, "metricsCacheMaxSize", 100L);
+        ((InitializingBean) srv).afterPropertiesSet();
         when(apiQualityMetricLoader.getApiQualityMetrics()).thenReturn(Arrays.asList(apiQualityMetricLogo, apiQualityMetricViews));
         when(apiQualityMetricLogo.getWeightKey()).thenReturn(Key.API_QUALITY_METRICS_LOGO_WEIGHT);
         when(apiQualityMetricViews.getWeightKey()).thenReturn(Key.API_QUALITY_METRICS_VIEWS_WEIGHT);
@@ -98,8 +113,8 @@ public class QualityMetricsService_GetApiMetricsTest {
         map.put(Key.API_QUALITY_METRICS_VIEWS_WEIGHT.key(), singletonList(1));
         when(parameterService.findAll(anyList(), any())).thenReturn(map);
         ApiEntity api = mock(ApiEntity.class);
-        when(apiQualityMetricLogo.isValid(any())).thenReturn(Boolean.TRUE);
-        when(apiQualityMetricViews.isValid(any())).thenReturn(Boolean.FALSE);
+        when(apiQualityMetricLogo.isValid(any(), any())).thenReturn(Boolean.TRUE);
+        when(apiQualityMetricViews.isValid(any(), any())).thenReturn(Boolean.FALSE);
 
         ApiQualityMetricsEntity metrics = srv.getMetrics(api);
 
@@ -117,8 +132,8 @@ public class QualityMetricsService_GetApiMetricsTest {
         map.put(Key.API_QUALITY_METRICS_VIEWS_WEIGHT.key(), singletonList(1));
         when(parameterService.findAll(anyList(), any())).thenReturn(map);
         ApiEntity api = mock(ApiEntity.class);
-        when(apiQualityMetricLogo.isValid(any())).thenReturn(Boolean.TRUE);
-        when(apiQualityMetricViews.isValid(any())).thenReturn(Boolean.TRUE);
+        when(apiQualityMetricLogo.isValid(any(), any())).thenReturn(Boolean.TRUE);
+        when(apiQualityMetricViews.isValid(any(), any())).thenReturn(Boolean.TRUE);
 
         ApiQualityMetricsEntity metrics = srv.getMetrics(api);
 
@@ -136,8 +151,8 @@ public class QualityMetricsService_GetApiMetricsTest {
         map.put(Key.API_QUALITY_METRICS_VIEWS_WEIGHT.key(), singletonList(2));
         when(parameterService.findAll(anyList(), any())).thenReturn(map);
         ApiEntity api = mock(ApiEntity.class);
-        when(apiQualityMetricLogo.isValid(any())).thenReturn(Boolean.TRUE);
-        when(apiQualityMetricViews.isValid(any())).thenReturn(Boolean.FALSE);
+        when(apiQualityMetricLogo.isValid(any(), any())).thenReturn(Boolean.TRUE);
+        when(apiQualityMetricViews.isValid(any(), any())).thenReturn(Boolean.FALSE);
 
         ApiQualityMetricsEntity metrics = srv.getMetrics(api);
 
@@ -146,4 +161,62 @@ public class QualityMetricsService_GetApiMetricsTest {
         assertTrue(metrics.getMetricsPassed().get(Key.API_QUALITY_METRICS_LOGO_WEIGHT.key()));
         assertFalse(metrics.getMetricsPassed().get(Key.API_QUALITY_METRICS_VIEWS_WEIGHT.key()));
     }
+
+    @Test
+    public void shouldReuseScoreOfUnchangedApi() {
+        when(parameterService.findAsBoolean(Key.API_QUALITY_METRICS_ENABLED)).thenReturn(Boolean.TRUE);
+        Map<String, List<Object>> map = new HashMap<>();
+        map.put(Key.API_QUALITY_METRICS_LOGO_WEIGHT.key(), singletonList(1));
+        when(parameterService.findAll(anyList(), any())).thenReturn(map);
+        ApiEntity api = new ApiEntity();
+        api.setId("my-api");
+        api.setUpdatedAt(new Date(1));
+        when(apiQualityMetricLogo.isValid(any(), any())).thenReturn(Boolean.TRUE);
+
+        assertEquals(1, srv.getMetrics(api).getScore(), 0);
+        assertEquals(1, srv.getMetrics(api).getScore(), 0);
+
+        verify(apiQualityMetricLogo, times(1)).isValid(any(), any());
+        verify(parameterService, times(1)).findAll(anyList(), any());
+
+        api.setUpdatedAt(new Date(2));
+        when(apiQualityMetricLogo.isValid(any(), any())).thenReturn(Boolean.FALSE);
+
+        assertEquals(0, srv.getMetrics(api).getScore(), 0);
+        verify(apiQualityMetricLogo, times(2)).isValid(any(), any());
+    }
+
+    @Test
+    public void shouldScoreSeveralApis() {
+        when(parameterService.findAsBoolean(Key.API_QUALITY_METRICS_ENABLED)).thenReturn(Boolean.TRUE);
+        Map<String, List<Object>> map = new HashMap<>();
+        map.put(Key.API_QUALITY_METRICS_LOGO_WEIGHT.key(), singletonList(1));
+        when(parameterService.findAll(anyList(), any())).thenReturn(map);
+        ApiEntity api1 = new ApiEntity();
+        api1.setId("api1");
+        ApiEntity api2 = new ApiEntity();
+        api2.setId("api2");
+        when(apiQualityMetricLogo.isValid(eq(api1), any())).thenReturn(Boolean.TRUE);
+        when(apiQualityMetricLogo.isValid(eq(api2), any())).thenReturn(Boolean.FALSE);
+
+        Map<String, ApiQualityMetricsEntity> metrics = srv.getMetrics(Arrays.asList(api1, api2));
+
+        assertEquals(2, metrics.size());
+        assertEquals(1, metrics.get("api1").getScore(), 0);
+        assertEquals(0, metrics.get("api2").getScore(), 0);
+    }
+
+    @Test
+    public void shouldLoadPagesOnceForAllMetrics() {
+        ApiQualityMetricFunctionalDocumentation documentation = new ApiQualityMetricFunctionalDocumentation();
+        PageEntity page = new PageEntity();
+        page.setType("MARKDOWN");
+        when(pageService.search(any(PageQuery.class))).thenReturn(singletonList(page));
+        ApiQualityMetricInputs inputs = new ApiQualityMetricInputs(() -> pageService.search(new PageQuery.Builder().build()));
+
+        assertTrue(documentation.isValid(new ApiEntity(), inputs));
+        assertTrue(documentation.isValid(new ApiEntity(), inputs));
+
+        verify(pageService, times(1)).search(any(PageQuery.class));
+    }
 }
@@ -20,6 +20,7 @@ import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.repository.management.api.RoleRepository;
 import io.gravitee.repository.management.model.Role;
 import io.gravitee.repository.management.model.RoleScope;
+import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
@@ -32,6 +33,7 @@ import static java.util.Optional.empty;
 import static java.util.Optional.of;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
 
 /**
  * @author Nicolas GERAUD (nicolas.geraud at graviteesource.com)
@@ -67,6 +69,13 @@ public class RoleService_CreateOrUpdateSystemRolesTest {
             2515
     };
 
+    @Before
+    public void init() {
+        setField(roleService, "rolesCacheTtl", 60000L);
+        setField(roleService, "rolesCacheMaxSize", 100L);
+        roleService.afterPropertiesSet();
+    }
+
     @Test
     public void shouldCreateSystemRole() throws TechnicalException {
         when(mockRoleRepository.findById(any(), any())).thenReturn(empty());
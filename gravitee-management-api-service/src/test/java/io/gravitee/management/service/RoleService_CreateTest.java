@@ -24,6 +24,7 @@ import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.repository.management.api.RoleRepository;
 import io.gravitee.repository.management.model.Role;
 import io.gravitee.repository.management.model.RoleScope;
+import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
@@ -38,6 +39,7 @@ import static org.junit.Assert.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
 
 /**
  * @author Nicolas GERAUD (nicolas.geraud at graviteesource.com)
@@ -55,6 +57,12 @@ public class RoleService_CreateTest {
     @Mock
     private AuditService auditService;
 
+    @Before
+    public void init() {
+        setField(roleService, "rolesCacheTtl", 60000L);
+        setField(roleService, "rolesCacheMaxSize", 100L);
+        roleService.afterPropertiesSet();
+    }
 
     @Test
     public void shouldCreate() throws TechnicalException {
@@ -23,6 +23,7 @@ import io.gravitee.repository.management.api.RoleRepository;
 import io.gravitee.repository.management.model.Role;
 import io.gravitee.repository.management.model.RoleScope;
 import org.apache.commons.lang3.ArrayUtils;
+import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
@@ -34,8 +35,8 @@ import java.util.Optional;
 
 import static io.gravitee.management.model.permissions.PortalPermission.DOCUMENTATION;
 import static org.junit.Assert.*;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
 
 /**
  * @author Nicolas GERAUD (nicolas.geraud at graviteesource.com)
@@ -50,6 +51,13 @@ public class RoleService_FindByIdTest {
     @Mock
     private RoleRepository mockRoleRepository;
 
+    @Before
+    public void init() {
+        setField(roleService, "rolesCacheTtl", 60000L);
+        setField(roleService, "rolesCacheMaxSize", 100L);
+        roleService.afterPropertiesSet();
+    }
+
     @Test
     public void shouldFindById_C() throws TechnicalException {
         test_int_to_CRUD(1108, RolePermissionAction.CREATE);
@@ -94,4 +102,18 @@ public class RoleService_FindByIdTest {
             assertTrue("not the good permission", Arrays.asList(ArrayUtils.toObject(perms)).contains(rolePermissionAction.getId()));
         }
     }
+
+    @Test
+    public void shouldFindByIdOnlyOnce() throws TechnicalException {
+        Role roleMock = mock(Role.class);
+        when(roleMock.getScope()).thenReturn(RoleScope.PORTAL);
+        when(roleMock.getName()).thenReturn("name");
+        when(roleMock.getPermissions()).thenReturn(new int[]{1104});
+        when(mockRoleRepository.findById(RoleScope.PORTAL, "name")).thenReturn(Optional.of(roleMock));
+
+        RoleEntity entity = roleService.findById(RoleScope.PORTAL, "name");
+
+        assertSame(entity, roleService.findById(RoleScope.PORTAL, "name"));
+        verify(mockRoleRepository, times(1)).findById(RoleScope.PORTAL, "name");
+    }
 }
@@ -15,9 +15,11 @@
  */
 package io.gravitee.management.service;
 
+import io.gravitee.common.event.EventManager;
 import io.gravitee.management.idp.api.authentication.UserDetails;
 import io.gravitee.management.model.*;
 import io.gravitee.management.model.api.ApiEntity;
+import io.gravitee.management.model.pagedresult.Metadata;
 import io.gravitee.management.service.exceptions.*;
 import io.gravitee.management.service.impl.SubscriptionServiceImpl;
 import io.gravitee.management.service.notification.ApiHook;
@@ -43,9 +45,11 @@ import java.util.*;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
 
 /**
  * @author David BRASSELY (david.brassely at graviteesource.com)
@@ -91,6 +95,10 @@ public class SubscriptionServiceTest {
     private ConfigurableEnvironment environment;
     @Mock
     private NotifierService notifierService;
+    @Mock
+    private UserService userService;
+    @Mock
+    private EventManager eventManager;
 
     @Test
     public void shouldFindById() throws TechnicalException {
@@ -886,4 +894,110 @@ public class SubscriptionServiceTest {
         verify(subscription).setUpdatedAt(any());
 
     }
+
+    @Test
+    public void shouldGetMetadataInBulk() {
+        initMetadataCache();
+        mockMetadata();
+
+        Metadata metadata = subscriptionService.getMetadata(Arrays.asList(
+                subscription("subscription-1", APPLICATION_ID), subscription("subscription-2", "other-application")));
+
+        assertEquals("My application", metadata.getMetadata().get(APPLICATION_ID).get("name"));
+        assertEquals("Other application", metadata.getMetadata().get("other-application").get("name"));
+        assertEquals("My plan", metadata.getMetadata().get(PLAN_ID).get("name"));
+        assertEquals(API_ID, metadata.getMetadata().get(PLAN_ID).get("api"));
+        assertEquals("My API", metadata.getMetadata().get(API_ID).get("name"));
+        assertEquals("John Doe", metadata.getMetadata().get(USER_ID).get("name"));
+        verify(applicationService).findByIds(argThat(ids -> ids.size() == 2));
+        verify(planService).findByApi(API_ID);
+        verify(apiService).findByIdsLight(Collections.singletonList(API_ID));
+        verify(userService).findByIds(Collections.singletonList(USER_ID));
+        verify(applicationService, never()).findById(any());
+        verify(planService, never()).findById(any());
+        verify(apiService, never()).findById(any());
+    }
+
+    @Test
+    public void shouldGetMetadataFromCache() {
+        initMetadataCache();
+        mockMetadata();
+
+        List<SubscriptionEntity> subscriptions = Collections.singletonList(subscription("subscription-1", APPLICATION_ID));
+        subscriptionService.getMetadata(subscriptions);
+        Metadata metadata = subscriptionService.getMetadata(subscriptions);
+
+        assertEquals("My application", metadata.getMetadata().get(APPLICATION_ID).get("name"));
+        verify(applicationService, times(1)).findByIds(any());
+        verify(planService, times(1)).findByApi(API_ID);
+        verify(apiService, times(1)).findByIdsLight(any());
+        verify(userService, times(1)).findByIds(any());
+    }
+
+    @Test
+    public void shouldGetMetadataWithoutUsers() {
+        initMetadataCache();
+        mockMetadata();
+        when(userService.findByIds(any())).thenThrow(new UserNotFoundException(USER_ID));
+
+        Metadata metadata = subscriptionService.getMetadata(Collections.singletonList(subscription("subscription-1", APPLICATION_ID)));
+
+        assertEquals("My application", metadata.getMetadata().get(APPLICATION_ID).get("name"));
+        assertNull(metadata.getMetadata().get(USER_ID));
+    }
+
+    @Test
+    public void shouldNotMixCachedNamesOfDifferentTypes() {
+        initMetadataCache();
+        mockMetadata();
+
+        subscriptionService.getMetadata(Collections.singletonList(subscription("subscription-1", APPLICATION_ID)));
+        // an application having the id of the cached API
+        Metadata metadata = subscriptionService.getMetadata(Collections.singletonList(subscription("subscription-2", API_ID)));
+
+        assertEquals("My API", metadata.getMetadata().get(API_ID).get("name"));
+        verify(applicationService).findByIds(Collections.singletonList(API_ID));
+    }
+
+    private void initMetadataCache() {
+        setField(subscriptionService, "namesCacheTtl", 60000L);
+        setField(subscriptionService, "namesCacheMaxSize", 100L);
+        ((SubscriptionServiceImpl) subscriptionService).afterPropertiesSet();
+    }
+
+    private void mockMetadata() {
+        ApplicationEntity application = new ApplicationEntity();
+        application.setId(APPLICATION_ID);
+        application.setName("My application");
+        ApplicationEntity otherApplication = new ApplicationEntity();
+        otherApplication.setId("other-application");
+        otherApplication.setName("Other application");
+        when(applicationService.findByIds(any())).thenReturn(new HashSet<>(Arrays.asList(application, otherApplication)));
+
+        PlanEntity plan = new PlanEntity();
+        plan.setId(PLAN_ID);
+        plan.setName("My plan");
+        when(planService.findByApi(API_ID)).thenReturn(Collections.singleton(plan));
+
+        ApiEntity api = new ApiEntity();
+        api.setId(API_ID);
+        api.setName("My API");
+        when(apiService.findByIdsLight(any())).thenReturn(Collections.singleton(api));
+
+        UserEntity user = new UserEntity();
+        user.setId(USER_ID);
+        user.setFirstname("John");
+        user.setLastname("Doe");
+        when(userService.findByIds(any())).thenReturn(Collections.singleton(user));
+    }
+
+    private SubscriptionEntity subscription(String id, String application) {
+        SubscriptionEntity subscription = new SubscriptionEntity();
+        subscription.setId(id);
+        subscription.setApplication(application);
+        subscription.setPlan(PLAN_ID);
+        subscription.setApi(API_ID);
+        subscription.setSubscribedBy(USER_ID);
+        return subscription;
+    }
 }
@@ -0,0 +1,111 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.service;
+
+import io.gravitee.management.model.PageEntity;
+import io.gravitee.management.service.impl.swagger.SwaggerTransformationCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.Assert.assertEquals;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class SwaggerTransformationCacheTest {
+
+    private final SwaggerTransformationCache cache = new SwaggerTransformationCache();
+
+    private final AtomicInteger transformations = new AtomicInteger();
+
+    private final Consumer<PageEntity> transformer = page -> {
+        transformations.incrementAndGet();
+        page.setContent(page.getContent() + " transformed with " + page.getConfiguration().get("tryItURL"));
+    };
+
+    @Before
+    public void init() {
+        setField(cache, "maxSize", 1024 * 1024L);
+        setField(cache, "meterRegistry", new SimpleMeterRegistry());
+        cache.afterPropertiesSet();
+    }
+
+    @Test
+    public void shouldTransformOnce() {
+        PageEntity first = page("content", "https://my.domain.com/v1");
+        cache.transform(first, transformer);
+        PageEntity second = page("content", "https://my.domain.com/v1");
+        cache.transform(second, transformer);
+
+        assertEquals(1, transformations.get());
+        assertEquals("content transformed with https://my.domain.com/v1", first.getContent());
+        assertEquals(first.getContent(), second.getContent());
+    }
+
+    @Test
+    public void shouldTransformAgainWhenContentChanges() {
+        cache.transform(page("content", "https://my.domain.com/v1"), transformer);
+        PageEntity updated = page("new content", "https://my.domain.com/v1");
+        cache.transform(updated, transformer);
+
+        assertEquals(2, transformations.get());
+        assertEquals("new content transformed with https://my.domain.com/v1", updated.getContent());
+    }
+
+    @Test
+    public void shouldTransformAgainWhenConfigurationChanges() {
+        cache.transform(page("content", "https://my.domain.com/v1"), transformer);
+        PageEntity updated = page("content", "https://my.domain.com/v2");
+        cache.transform(updated, transformer);
+
+        assertEquals(2, transformations.get());
+        assertEquals("content transformed with https://my.domain.com/v2", updated.getContent());
+    }
+
+    @Test
+    public void shouldTransformAgainWhenEvicted() {
+        cache.transform(page("content", "https://my.domain.com/v1"), transformer);
+        cache.evict("page-id");
+        cache.transform(page("content", "https://my.domain.com/v1"), transformer);
+
+        assertEquals(2, transformations.get());
+    }
+
+    @Test
+    public void shouldKeepContentWhenNotTransformed() {
+        PageEntity page = page("content", "https://my.domain.com/v1");
+        cache.transform(page, p -> transformations.incrementAndGet());
+        cache.transform(page, p -> transformations.incrementAndGet());
+
+        assertEquals(1, transformations.get());
+        assertEquals("content", page.getContent());
+    }
+
+    private PageEntity page(String content, String tryItURL) {
+        PageEntity page = new PageEntity();
+        page.setId("page-id");
+        page.setContent(content);
+        page.setContentType("application/json");
+        page.setConfiguration(Collections.singletonMap("tryItURL", tryItURL));
+        return page;
+    }
+}
@@ -15,8 +15,12 @@
  */
 package io.gravitee.management.service;
 
+import io.gravitee.common.event.EventListener;
+import io.gravitee.common.event.EventManager;
+import io.gravitee.common.event.impl.SimpleEvent;
 import io.gravitee.management.model.RoleEntity;
 import io.gravitee.management.model.TaskEntity;
+import io.gravitee.management.service.event.TaskEvent;
 import io.gravitee.management.service.impl.TaskServiceImpl;
 import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.repository.management.api.ApiRepository;
@@ -24,8 +28,10 @@ import io.gravitee.repository.management.api.MembershipRepository;
 import io.gravitee.repository.management.model.Membership;
 import io.gravitee.repository.management.model.MembershipReferenceType;
 import io.gravitee.repository.management.model.RoleScope;
+import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
@@ -33,7 +39,9 @@ import org.mockito.junit.MockitoJUnitRunner;
 import java.util.*;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
 
 /**
  * @author David BRASSELY (david.brassely at graviteesource.com)
@@ -65,7 +73,21 @@ public class TaskServiceTest {
     private RoleService roleService;
     @Mock
     private PlanService planService;
+    @Mock
+    private EventManager eventManager;
+
+    private EventListener<TaskEvent, String> taskListener;
 
+    @Before
+    public void setUp() {
+        setField(taskService, "tasksCacheTtl", 60000L);
+        setField(taskService, "tasksCacheMaxSize", 100L);
+        ((TaskServiceImpl) taskService).afterPropertiesSet();
+
+        ArgumentCaptor<EventListener> listener = ArgumentCaptor.forClass(EventListener.class);
+        verify(eventManager).subscribeForEvents(listener.capture(), eq(TaskEvent.class));
+        taskListener = listener.getValue();
+    }
 
     @Test
     public void shouldFindAll() throws TechnicalException {
@@ -110,4 +132,58 @@ public class TaskServiceTest {
         verify(subscriptionService, times(1)).search(any());
 
     }
+
+    @Test
+    public void shouldFindAllFromCache() throws TechnicalException {
+        mockApiMembership("user", "api1");
+
+        taskService.findAll("user");
+        taskService.findAll("user");
+
+        verify(membershipRepository, times(2)).findByUserAndReferenceType(eq("user"), any());
+        verify(subscriptionService, times(1)).search(any());
+    }
+
+    @Test
+    public void shouldReloadOnSubscriptionOfUserApi() throws TechnicalException {
+        mockApiMembership("user", "api1");
+        taskService.findAll("user");
+
+        taskListener.onEvent(new SimpleEvent<>(TaskEvent.SUBSCRIPTION_UPDATE, "other-api"));
+        taskService.findAll("user");
+        verify(subscriptionService, times(1)).search(any());
+
+        taskListener.onEvent(new SimpleEvent<>(TaskEvent.SUBSCRIPTION_UPDATE, "api1"));
+        taskService.findAll("user");
+        verify(subscriptionService, times(2)).search(any());
+    }
+
+    @Test
+    public void shouldReloadOnMembershipUpdate() throws TechnicalException {
+        mockApiMembership("user", "api1");
+        taskService.findAll("user");
+
+        taskListener.onEvent(new SimpleEvent<>(TaskEvent.MEMBERSHIP_UPDATE, "other-user"));
+        taskService.findAll("user");
+        verify(subscriptionService, times(1)).search(any());
+
+        taskListener.onEvent(new SimpleEvent<>(TaskEvent.MEMBERSHIP_UPDATE, "user"));
+        taskService.findAll("user");
+        verify(subscriptionService, times(2)).search(any());
+    }
+
+    private void mockApiMembership(String userId, String apiId) throws TechnicalException {
+        Membership membership = new Membership(userId, apiId, MembershipReferenceType.API);
+        membership.setRoles(Collections.singletonMap(RoleScope.API.getId(), "PO"));
+
+        RoleEntity role = new RoleEntity();
+        role.setName("PO");
+        role.setPermissions(Collections.singletonMap("SUBSCRIPTION", new char[]{'R', 'U'}));
+        when(roleService.findById(RoleScope.API, "PO")).thenReturn(role);
+
+        when(membershipRepository.findByUserAndReferenceType(userId, MembershipReferenceType.GROUP))
+                .thenReturn(new HashSet<>());
+        when(membershipRepository.findByUserAndReferenceType(userId, MembershipReferenceType.API))
+                .thenReturn(Collections.singleton(membership));
+    }
 }
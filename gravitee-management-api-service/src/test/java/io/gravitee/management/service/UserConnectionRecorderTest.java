@@ -0,0 +1,137 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.service;
+
+import io.gravitee.management.service.impl.user.UserConnectionRecorder;
+import io.gravitee.repository.exceptions.TechnicalException;
+import io.gravitee.repository.management.api.UserRepository;
+import io.gravitee.repository.management.model.User;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Date;
+
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class UserConnectionRecorderTest {
+
+    private static final String USER_ID = "user-id";
+
+    private static final String AUDIT_USER = "admin";
+
+    @InjectMocks
+    private UserConnectionRecorder recorder = new UserConnectionRecorder();
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private AuditService auditService;
+
+    @Before
+    public void init() {
+        setField(recorder, "maxPending", 10000);
+    }
+
+    @Test
+    public void shouldCoalesceConnectionsOfTheSameUser() throws TechnicalException {
+        User user = new User();
+        user.setId(USER_ID);
+        user.setLastConnectionAt(new Date(1000));
+        when(userRepository.findById(USER_ID)).thenReturn(of(user));
+
+        recorder.record(USER_ID, AUDIT_USER, new Date(3000));
+        recorder.record(USER_ID, "other", new Date(2000));
+        recorder.flush();
+
+        ArgumentCaptor<User> updated = ArgumentCaptor.forClass(User.class);
+        verify(userRepository, times(1)).update(updated.capture());
+        assertEquals(new Date(3000), updated.getValue().getLastConnectionAt());
+        assertEquals(new Date(3000), updated.getValue().getUpdatedAt());
+        verify(auditService, times(1)).createPortalAuditLog(any(), eq(User.AuditEvent.USER_CONNECTED),
+                eq(AUDIT_USER), eq(new Date(3000)), any(), any());
+    }
+
+    @Test
+    public void shouldKeepProfileChanges() throws TechnicalException {
+        User user = new User();
+        user.setId(USER_ID);
+        user.setFirstname("John");
+        user.setLastConnectionAt(new Date(1000));
+        user.setUpdatedAt(new Date(4000));
+        when(userRepository.findById(USER_ID)).thenReturn(of(user));
+
+        recorder.record(USER_ID, AUDIT_USER, new Date(3000));
+        recorder.flush();
+
+        ArgumentCaptor<User> updated = ArgumentCaptor.forClass(User.class);
+        verify(userRepository, times(1)).update(updated.capture());
+        assertEquals("John", updated.getValue().getFirstname());
+        assertEquals(new Date(3000), updated.getValue().getLastConnectionAt());
+        assertEquals(new Date(4000), updated.getValue().getUpdatedAt());
+    }
+
+    @Test
+    public void shouldNotWriteOlderConnection() throws TechnicalException {
+        User user = new User();
+        user.setId(USER_ID);
+        user.setLastConnectionAt(new Date(5000));
+        when(userRepository.findById(USER_ID)).thenReturn(of(user));
+
+        recorder.record(USER_ID, AUDIT_USER, new Date(3000));
+        recorder.flush();
+
+        verify(userRepository, never()).update(any());
+        verifyZeroInteractions(auditService);
+    }
+
+    @Test
+    public void shouldIgnoreRemovedUser() throws TechnicalException {
+        when(userRepository.findById(USER_ID)).thenReturn(empty());
+
+        recorder.record(USER_ID, AUDIT_USER, new Date());
+        recorder.flush();
+
+        verify(userRepository, never()).update(any());
+        verifyZeroInteractions(auditService);
+    }
+
+    @Test
+    public void shouldFlushOnlyOnce() throws TechnicalException {
+        when(userRepository.findById(USER_ID)).thenReturn(empty());
+
+        recorder.record(USER_ID, AUDIT_USER, new Date());
+        recorder.flush();
+        recorder.flush();
+
+        verify(userRepository, times(1)).findById(USER_ID);
+    }
+}
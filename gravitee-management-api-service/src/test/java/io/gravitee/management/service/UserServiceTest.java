@@ -16,6 +16,7 @@
 package io.gravitee.management.service;
 
 import com.auth0.jwt.JWTSigner;
+import io.gravitee.management.idp.api.authentication.UserDetails;
 import io.gravitee.management.model.*;
 import io.gravitee.management.model.parameters.Key;
 import io.gravitee.management.service.common.JWTHelper;
@@ -24,6 +25,7 @@ import io.gravitee.management.service.exceptions.UserAlreadyExistsException;
 import io.gravitee.management.service.exceptions.UserNotFoundException;
 import io.gravitee.management.service.exceptions.UserNotInternallyManagedException;
 import io.gravitee.management.service.impl.UserServiceImpl;
+import io.gravitee.management.service.impl.user.UserConnectionRecorder;
 import io.gravitee.management.service.search.SearchEngineService;
 import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.repository.management.api.UserRepository;
@@ -37,6 +39,9 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.util.StringUtils;
 
 import java.util.*;
@@ -105,6 +110,8 @@ public class UserServiceTest {
     private SearchEngineService searchEngineService;
     @Mock
     private InvitationService invitationService;
+    @Mock
+    private UserConnectionRecorder userConnectionRecorder;
 
     @Test
     public void shouldFindByUsername() throws TechnicalException {
@@ -246,6 +253,40 @@ public class UserServiceTest {
         verify(applicationService, never()).create(any(), eq(USER_NAME));
     }
 
+    @Test
+    public void shouldRecordRoutineConnectionAsynchronously() throws TechnicalException {
+        when(user.getId()).thenReturn(USER_NAME);
+        when(user.getLastConnectionAt()).thenReturn(new Date());
+        when(userRepository.findById(USER_NAME)).thenReturn(of(user));
+
+        final UserEntity connectedUser = userService.connect(USER_NAME);
+
+        assertEquals(USER_NAME, connectedUser.getId());
+        verify(userConnectionRecorder, times(1)).record(eq(USER_NAME), eq("system"), any(Date.class));
+        verify(userRepository, never()).update(any());
+        verify(auditService, never()).createPortalAuditLog(any(), any(), any(), any(), any());
+        verify(searchEngineService, never()).index(any());
+    }
+
+    @Test
+    public void shouldAuditRoutineConnectionForAuthenticatedUser() throws TechnicalException {
+        when(user.getId()).thenReturn(USER_NAME);
+        when(user.getLastConnectionAt()).thenReturn(new Date());
+        when(userRepository.findById(USER_NAME)).thenReturn(of(user));
+        SecurityContext securityContext = SecurityContextHolder.createEmptyContext();
+        securityContext.setAuthentication(new UsernamePasswordAuthenticationToken(
+                new UserDetails(USER_NAME, "", Collections.emptyList()), null));
+        SecurityContextHolder.setContext(securityContext);
+
+        try {
+            userService.connect(USER_NAME);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+
+        verify(userConnectionRecorder, times(1)).record(eq(USER_NAME), eq(USER_NAME), any(Date.class));
+    }
+
     @Test(expected = TechnicalManagementException.class)
     public void shouldNotCreateUserIfRegistrationIsDisabled() {
         when(mockParameterService.findAsBoolean(Key.PORTAL_USERCREATION_ENABLED)).thenReturn(Boolean.FALSE);
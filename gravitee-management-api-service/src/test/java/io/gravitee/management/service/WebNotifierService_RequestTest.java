@@ -0,0 +1,142 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.service;
+
+import io.gravitee.common.http.HttpMethod;
+import io.gravitee.management.service.exceptions.NotificationDeliveryException;
+import io.gravitee.management.service.notifiers.impl.WebNotifierServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class WebNotifierService_RequestTest {
+
+    private final WebNotifierServiceImpl webNotifierService = new WebNotifierServiceImpl();
+
+    private Vertx vertx;
+
+    private HttpServer server;
+
+    @Before
+    public void init() throws Exception {
+        vertx = Vertx.vertx();
+        CompletableFuture<HttpServer> listening = new CompletableFuture<>();
+        vertx.createHttpServer()
+                .requestHandler(request -> {
+                    int status = Integer.parseInt(request.path().substring(1));
+                    String delay = request.getParam("delay");
+                    if (delay == null) {
+                        request.response().setStatusCode(status).end();
+                    } else {
+                        vertx.setTimer(Long.parseLong(delay), timer -> request.response().setStatusCode(status).end());
+                    }
+                })
+                .listen(0, "localhost", result -> listening.complete(result.result()));
+        server = listening.get(5, TimeUnit.SECONDS);
+
+        setField(webNotifierService, "vertx", vertx);
+        setField(webNotifierService, "meterRegistry", new SimpleMeterRegistry());
+        setField(webNotifierService, "httpClientTimeout", 5000);
+        setField(webNotifierService, "maxConnectionsPerHost", 5);
+        setField(webNotifierService, "maxWaitQueueSize", 100);
+        setField(webNotifierService, "idleTimeout", 60);
+        setField(webNotifierService, "clientsMaxSize", 10);
+        setField(webNotifierService, "clientsExpireAfterAccess", 60);
+        webNotifierService.afterPropertiesSet();
+    }
+
+    @After
+    public void destroy() {
+        webNotifierService.destroy();
+        vertx.close();
+    }
+
+    @Test
+    public void shouldAcceptAnySuccessfulStatus() {
+        request(204);
+    }
+
+    @Test
+    public void shouldNotRetryClientErrors() {
+        try {
+            request(404);
+            fail("The notification should have failed");
+        } catch (NotificationDeliveryException nde) {
+            assertFalse(nde.isRetryable());
+        }
+    }
+
+    @Test
+    public void shouldRetryServerErrors() {
+        try {
+            request(503);
+            fail("The notification should have failed");
+        } catch (NotificationDeliveryException nde) {
+            assertTrue(nde.isRetryable());
+        }
+    }
+
+    @Test
+    public void shouldRetryRateLimitedRequests() {
+        try {
+            request(429);
+            fail("The notification should have failed");
+        } catch (NotificationDeliveryException nde) {
+            assertTrue(nde.isRetryable());
+        }
+    }
+
+    @Test
+    public void shouldNotCloseEvictedClientWhileRequestIsSent() throws Exception {
+        setField(webNotifierService, "clientsMaxSize", 1);
+        webNotifierService.afterPropertiesSet();
+
+        CompletableFuture<Void> slowRequest = CompletableFuture.runAsync(() -> webNotifierService.request(HttpMethod.POST,
+                "http://localhost:" + server.actualPort() + "/204?delay=1000", Collections.emptyMap(), "{}", false));
+        Thread.sleep(300);
+
+        // another target evicts the client of the slow request
+        webNotifierService.request(HttpMethod.POST, "http://127.0.0.1:" + server.actualPort() + "/204",
+                Collections.emptyMap(), "{}", false);
+
+        try {
+            slowRequest.get(5, TimeUnit.SECONDS);
+        } catch (ExecutionException ee) {
+            fail("The slow request should have succeeded: " + ee.getCause());
+        }
+    }
+
+    private void request(int status) {
+        webNotifierService.request(HttpMethod.POST, "http://localhost:" + server.actualPort() + '/' + status,
+                Collections.emptyMap(), "{}", false);
+    }
+}
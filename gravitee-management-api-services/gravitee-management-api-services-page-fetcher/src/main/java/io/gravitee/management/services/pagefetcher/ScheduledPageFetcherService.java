@@ -0,0 +1,132 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.services.pagefetcher;
+
+import io.gravitee.common.service.AbstractService;
+import io.gravitee.management.model.PageEntity;
+import io.gravitee.management.service.PageService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.scheduling.support.CronTrigger;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Refreshes the content of the pages defined with a source.
+ * Pages are fetched concurrently, a page is saved (and reindexed) only if its content has changed.
+ *
+ * @author GraviteeSource Team
+ */
+public class ScheduledPageFetcherService extends AbstractService implements Runnable {
+
+    /**
+     * Contributor of the pages updated by the service.
+     */
+    static final String SYSTEM_CONTRIBUTOR = "system";
+
+    /**
+     * Logger.
+     */
+    private final Logger logger = LoggerFactory.getLogger(ScheduledPageFetcherService.class);
+
+    @Autowired
+    private TaskScheduler scheduler;
+
+    @Value("${services.pages.fetcher.cron:0 */5 * * * *}")
+    private String cronTrigger;
+
+    @Value("${services.pages.fetcher.enabled:false}")
+    private boolean enabled;
+
+    @Value("${services.pages.fetcher.workers:4}")
+    private int workers;
+
+    private final AtomicLong counter = new AtomicLong(0);
+
+    private ExecutorService executor;
+
+    private ScheduledFuture<?> scheduledFuture;
+
+    @Autowired
+    private PageService pageService;
+
+    @Override
+    protected String name() {
+        return "Page Fetcher Service";
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        if (enabled) {
+            super.doStart();
+            executor = Executors.newFixedThreadPool(workers, new CustomizableThreadFactory("page-fetcher-"));
+            logger.info("Page Fetcher service has been initialized with cron [{}]", cronTrigger);
+            scheduledFuture = scheduler.schedule(this, new CronTrigger(cronTrigger));
+        } else {
+            logger.warn("Page Fetcher service has been disabled");
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (scheduledFuture != null) {
+            scheduledFuture.cancel(false);
+        }
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+        super.doStop();
+    }
+
+    @Override
+    public void run() {
+        logger.debug("Fetch pages #{} started at {}", counter.incrementAndGet(), Instant.now().toString());
+
+        final List<Callable<PageEntity>> fetches = pageService.findFetchableIds().stream()
+                .map(pageId -> (Callable<PageEntity>) () -> fetch(pageId))
+                .collect(toList());
+
+        try {
+            // wait for all the pages, a run never overlaps the next one
+            executor.invokeAll(fetches);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+
+        logger.debug("Fetch pages #{} ended at {}", counter.get(), Instant.now().toString());
+    }
+
+    private PageEntity fetch(String pageId) {
+        try {
+            return pageService.fetch(pageId, SYSTEM_CONTRIBUTOR);
+        } catch (Exception ex) {
+            logger.error("Unable to fetch page {}", pageId, ex);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.services.pagefetcher;
+
+import io.gravitee.management.service.PageService;
+import io.gravitee.management.service.exceptions.TechnicalManagementException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.Trigger;
+
+import java.util.Arrays;
+import java.util.concurrent.ScheduledFuture;
+
+import static io.gravitee.management.services.pagefetcher.ScheduledPageFetcherService.SYSTEM_CONTRIBUTOR;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ScheduledPageFetcherServiceTest {
+
+    @InjectMocks
+    ScheduledPageFetcherService service = new ScheduledPageFetcherService();
+
+    @Mock
+    PageService pageService;
+
+    @Mock
+    TaskScheduler scheduler;
+
+    @Mock
+    ScheduledFuture scheduledFuture;
+
+    @Before
+    public void init() throws Exception {
+        setField(service, "enabled", true);
+        setField(service, "workers", 2);
+        setField(service, "cronTrigger", "0 */5 * * * *");
+        when(scheduler.schedule(eq(service), any(Trigger.class))).thenReturn(scheduledFuture);
+        service.start();
+    }
+
+    @After
+    public void destroy() throws Exception {
+        service.stop();
+        verify(scheduledFuture).cancel(false);
+    }
+
+    @Test
+    public void shouldFetchPagesWithSource() {
+        when(pageService.findFetchableIds()).thenReturn(Arrays.asList("markdown", "swagger"));
+
+        service.run();
+
+        verify(pageService).fetch("markdown", SYSTEM_CONTRIBUTOR);
+        verify(pageService).fetch("swagger", SYSTEM_CONTRIBUTOR);
+        verify(pageService, never()).search(any());
+    }
+
+    @Test
+    public void shouldFetchAllPagesEvenIfOneFails() {
+        when(pageService.findFetchableIds()).thenReturn(Arrays.asList("failing", "markdown"));
+        when(pageService.fetch("failing", SYSTEM_CONTRIBUTOR)).thenThrow(new TechnicalManagementException("unreachable"));
+
+        service.run();
+
+        verify(pageService).fetch("markdown", SYSTEM_CONTRIBUTOR);
+    }
+}
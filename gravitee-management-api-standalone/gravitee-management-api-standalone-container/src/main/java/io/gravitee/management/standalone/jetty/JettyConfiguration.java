@@ -77,6 +77,21 @@ public class JettyConfiguration {
     @Value("${jetty.ssl.truststore.password:#{null}}")
     private String trustStorePassword;
 
+    @Value("${jetty.http2.enabled:false}")
+    private boolean http2Enabled;
+
+    @Value("${jetty.compression.enabled:false}")
+    private boolean compressionEnabled;
+
+    @Value("${jetty.compression.minSize:1024}")
+    private int compressionMinSize;
+
+    @Value("${jetty.compression.level:-1}")
+    private int compressionLevel;
+
+    @Value("${jetty.compression.mimeTypes:application/json,application/yaml,application/xml,application/javascript,text/plain,text/html,text/css,text/yaml,text/xml,text/javascript}")
+    private String[] compressionMimeTypes;
+
     public String getHttpHost() {
       return httpHost;
     }
@@ -220,4 +235,44 @@ public class JettyConfiguration {
     public void setTrustStorePassword(String trustStorePassword) {
         this.trustStorePassword = trustStorePassword;
     }
+
+    public boolean isHttp2Enabled() {
+        return http2Enabled;
+    }
+
+    public void setHttp2Enabled(boolean http2Enabled) {
+        this.http2Enabled = http2Enabled;
+    }
+
+    public boolean isCompressionEnabled() {
+        return compressionEnabled;
+    }
+
+    public void setCompressionEnabled(boolean compressionEnabled) {
+        this.compressionEnabled = compressionEnabled;
+    }
+
+    public int getCompressionMinSize() {
+        return compressionMinSize;
+    }
+
+    public void setCompressionMinSize(int compressionMinSize) {
+        this.compressionMinSize = compressionMinSize;
+    }
+
+    public int getCompressionLevel() {
+        return compressionLevel;
+    }
+
+    public void setCompressionLevel(int compressionLevel) {
+        this.compressionLevel = compressionLevel;
+    }
+
+    public String[] getCompressionMimeTypes() {
+        return compressionMimeTypes;
+    }
+
+    public void setCompressionMimeTypes(String[] compressionMimeTypes) {
+        this.compressionMimeTypes = compressionMimeTypes;
+    }
 }
@@ -18,9 +18,11 @@ package io.gravitee.management.standalone.jetty;
 import io.gravitee.common.component.AbstractLifecycleComponent;
 import io.gravitee.management.rest.resource.GraviteeApplication;
 import io.gravitee.management.security.SecurityConfiguration;
+import io.gravitee.management.standalone.jetty.filter.RepositoryCallsFilter;
 import io.gravitee.management.standalone.jetty.handler.NoContentOutputErrorHandler;
 import org.eclipse.jetty.server.Server;
 import org.eclipse.jetty.server.handler.AbstractHandler;
+import org.eclipse.jetty.server.handler.gzip.GzipHandler;
 import org.eclipse.jetty.servlet.FilterHolder;
 import org.eclipse.jetty.servlet.ServletContextHandler;
 import org.eclipse.jetty.servlet.ServletHolder;
@@ -48,11 +50,17 @@ public final class JettyEmbeddedContainer extends AbstractLifecycleComponent<Jet
     @Autowired
     private Server server;
 
+    @Autowired
+    private JettyConfiguration jettyConfiguration;
+
     private ApplicationContext applicationContext;
 
     @Value("${http.api.entrypoint:/management}")
     private String entrypoint;
 
+    @Value("${repository.metrics.requestCallsThreshold:0}")
+    private int requestCallsThreshold;
+
     @Override
     protected void doStart() throws Exception {
         AbstractHandler noContentHandler = new NoContentOutputErrorHandler();
@@ -69,6 +77,15 @@ public final class JettyEmbeddedContainer extends AbstractLifecycleComponent<Jet
         servletHolder.setInitOrder(0);
         context.addServlet(servletHolder, "/*");
 
+        // Response compression
+        if (jettyConfiguration.isCompressionEnabled()) {
+            GzipHandler gzipHandler = new GzipHandler();
+            gzipHandler.setMinGzipSize(jettyConfiguration.getCompressionMinSize());
+            gzipHandler.setCompressionLevel(jettyConfiguration.getCompressionLevel());
+            gzipHandler.setIncludedMimeTypes(jettyConfiguration.getCompressionMimeTypes());
+            context.setGzipHandler(gzipHandler);
+        }
+
         // Spring configuration
         System.setProperty(AbstractEnvironment.ACTIVE_PROFILES_PROPERTY_NAME, "basic");
 
@@ -79,6 +96,11 @@ public final class JettyEmbeddedContainer extends AbstractLifecycleComponent<Jet
 
         context.addEventListener(new ContextLoaderListener(webApplicationContext));
 
+        // Repository calls made per request
+        if (requestCallsThreshold > 0) {
+            context.addFilter(new FilterHolder(new RepositoryCallsFilter(requestCallsThreshold)), "/*", EnumSet.of(DispatcherType.REQUEST));
+        }
+
         // Spring Security filter
         context.addFilter(new FilterHolder(new DelegatingFilterProxy("springSecurityFilterChain")),"/*", EnumSet.allOf(DispatcherType.class));
 
@@ -15,12 +15,18 @@
  */
 package io.gravitee.management.standalone.jetty;
 
+import org.eclipse.jetty.alpn.server.ALPNServerConnectionFactory;
 import org.eclipse.jetty.http.HttpVersion;
+import org.eclipse.jetty.http2.HTTP2Cipher;
+import org.eclipse.jetty.http2.server.HTTP2CServerConnectionFactory;
+import org.eclipse.jetty.http2.server.HTTP2ServerConnectionFactory;
 import org.eclipse.jetty.jmx.MBeanContainer;
 import org.eclipse.jetty.server.*;
 import org.eclipse.jetty.server.handler.StatisticsHandler;
 import org.eclipse.jetty.util.ssl.SslContextFactory;
 import org.eclipse.jetty.util.thread.QueuedThreadPool;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.FactoryBean;
 import org.springframework.beans.factory.annotation.Autowired;
 
@@ -33,6 +39,8 @@ import java.util.concurrent.ArrayBlockingQueue;
  */
 public class JettyServerFactory implements FactoryBean<Server> {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(JettyServerFactory.class);
+
     @Autowired
     private JettyConfiguration jettyConfiguration;
 
@@ -91,17 +99,33 @@ public class JettyServerFactory implements FactoryBean<Server> {
             HttpConfiguration httpsConfig = new HttpConfiguration(httpConfig);
             httpsConfig.addCustomizer(new SecureRequestCustomizer());
 
-            ServerConnector https = new ServerConnector(server,
-                    new SslConnectionFactory(sslContextFactory, HttpVersion.HTTP_1_1.asString()),
-                    new HttpConnectionFactory(httpsConfig));
+            ServerConnector https = null;
+            if (jettyConfiguration.isHttp2Enabled()) {
+                https = createHttp2Connector(server, sslContextFactory, httpsConfig);
+            }
+            if (https == null) {
+                https = new ServerConnector(server,
+                        new SslConnectionFactory(sslContextFactory, HttpVersion.HTTP_1_1.asString()),
+                        new HttpConnectionFactory(httpsConfig));
+            }
             https.setHost(jettyConfiguration.getHttpHost());
             https.setPort(jettyConfiguration.getHttpPort());
             server.addConnector(https);
         } else {
-            ServerConnector http = new ServerConnector(server,
-                    jettyConfiguration.getAcceptors(),
-                    jettyConfiguration.getSelectors(),
-                    new HttpConnectionFactory(httpConfig));
+            ServerConnector http;
+            if (jettyConfiguration.isHttp2Enabled()) {
+                // h2c, through an upgrade or with prior knowledge
+                http = new ServerConnector(server,
+                        jettyConfiguration.getAcceptors(),
+                        jettyConfiguration.getSelectors(),
+                        new HttpConnectionFactory(httpConfig),
+                        new HTTP2CServerConnectionFactory(httpConfig));
+            } else {
+                http = new ServerConnector(server,
+                        jettyConfiguration.getAcceptors(),
+                        jettyConfiguration.getSelectors(),
+                        new HttpConnectionFactory(httpConfig));
+            }
             http.setHost(jettyConfiguration.getHttpHost());
             http.setPort(jettyConfiguration.getHttpPort());
             http.setIdleTimeout(jettyConfiguration.getIdleTimeout());
@@ -127,6 +151,27 @@ public class JettyServerFactory implements FactoryBean<Server> {
         return server;
     }
 
+    private ServerConnector createHttp2Connector(Server server, SslContextFactory sslContextFactory, HttpConfiguration httpsConfig) {
+        ALPNServerConnectionFactory alpn;
+        try {
+            alpn = new ALPNServerConnectionFactory("h2", HttpVersion.HTTP_1_1.asString());
+        } catch (IllegalStateException ise) {
+            LOGGER.warn("No ALPN support available on this JVM, HTTP/2 is disabled on the secured connector");
+            return null;
+        }
+        alpn.setDefaultProtocol(HttpVersion.HTTP_1_1.asString());
+
+        // HTTP/2 forbids a set of ciphers (RFC 7540, appendix A)
+        sslContextFactory.setCipherComparator(HTTP2Cipher.COMPARATOR);
+        sslContextFactory.setUseCipherSuitesOrder(true);
+
+        return new ServerConnector(server,
+                new SslConnectionFactory(sslContextFactory, alpn.getProtocol()),
+                alpn,
+                new HTTP2ServerConnectionFactory(httpsConfig),
+                new HttpConnectionFactory(httpsConfig));
+    }
+
     @Override
     public Class<?> getObjectType() {
         return Server.class;
@@ -0,0 +1,73 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.management.standalone.jetty.filter;
+
+import io.gravitee.management.repository.metrics.RepositoryCallTracker;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.servlet.*;
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Logs the requests which make more repository calls than the configured threshold, along with the most
+ * called repository methods, to help spotting N+1 access patterns.
+ *
+ * @author GraviteeSource Team
+ */
+public class RepositoryCallsFilter implements Filter {
+
+    private final Logger LOGGER = LoggerFactory.getLogger(RepositoryCallsFilter.class);
+
+    private static final int MAX_REPORTED_METHODS = 5;
+
+    private final int threshold;
+
+    public RepositoryCallsFilter(int threshold) {
+        this.threshold = threshold;
+    }
+
+    @Override
+    public void init(FilterConfig filterConfig) {
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
+        RepositoryCallTracker.begin();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            Map<String, Integer> calls = RepositoryCallTracker.end();
+            int total = calls.values().stream().mapToInt(Integer::intValue).sum();
+            if (total > threshold) {
+                HttpServletRequest httpRequest = (HttpServletRequest) request;
+                LOGGER.warn("{} {} made {} repository calls: {}", httpRequest.getMethod(), httpRequest.getRequestURI(),
+                        total, calls.entrySet().stream()
+                                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                                .limit(MAX_REPORTED_METHODS)
+                                .map(entry -> entry.getKey() + '=' + entry.getValue())
+                                .collect(Collectors.joining(", ")));
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+    }
+}